@@ -0,0 +1,302 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * {@link ScheduledEntries} implemented using a bucketed index of primitive arrays, where entries are sorted by expiration bucket.
+ * Each entry occupies a slot within parallel arrays of keys, expirations (in epoch milliseconds), and bucket links,
+ * thus, unlike {@link SortedScheduledEntries}, this implementation creates no per-entry nodes or {@link Instant} instances.
+ * Entries of the same bucket iterate in insertion order, thus an entry may be reported up to the bucket resolution later than its expiration.
+ * Both {@link #add(Object, Instant)} and {@link #remove(Object)} run in O(log B) time, where B is the number of non-empty buckets.
+ */
+public class BucketedScheduledEntries<K> implements ScheduledEntries<K, Instant> {
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long resolution;
+    private final NavigableMap<Long, Bucket> buckets = new TreeMap<>();
+
+    // Slot arrays
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private long[] expirations = new long[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private int[] previous = new int[INITIAL_CAPACITY];
+    // Open addressing hash index of slot + 1, where 0 indicates an empty position
+    private int[] index = new int[INITIAL_CAPACITY * 2];
+    private int size = 0;
+    private int allocated = 0;
+    private int free = NIL;
+
+    /**
+     * Creates a new entries object whose expirations are grouped into buckets of the specified resolution.
+     * @param resolution the width of an expiration bucket
+     */
+    public BucketedScheduledEntries(Duration resolution) {
+        this.resolution = Math.max(resolution.toMillis(), 1L);
+    }
+
+    @Override
+    public boolean isSorted() {
+        return true;
+    }
+
+    @Override
+    public synchronized void add(K key, Instant value) {
+        int position = this.find(key);
+        int slot = this.index[position] - 1;
+        if (slot != NIL) {
+            this.unlink(slot);
+        } else {
+            slot = this.allocate();
+            this.keys[slot] = key;
+            this.index[position] = slot + 1;
+            this.size += 1;
+            if (this.size * 2 > this.index.length) {
+                this.rehash();
+            }
+        }
+        this.expirations[slot] = value.toEpochMilli();
+        this.link(slot);
+    }
+
+    @Override
+    public synchronized void remove(K key) {
+        int position = this.find(key);
+        int slot = this.index[position] - 1;
+        if (slot != NIL) {
+            this.unlink(slot);
+            this.delete(position);
+            this.keys[slot] = null;
+            this.next[slot] = this.free;
+            this.free = slot;
+            this.size -= 1;
+        }
+    }
+
+    @Override
+    public synchronized Map.Entry<K, Instant> peek() {
+        Map.Entry<Long, Bucket> first = this.buckets.firstEntry();
+        return (first != null) ? this.entry(first.getValue().head) : null;
+    }
+
+    /**
+     * Returns the number of scheduled entries.
+     * @return the number of scheduled entries
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, Instant>> iterator() {
+        return new EntryIterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    Map.Entry<K, Instant> entry(int slot) {
+        return new SimpleImmutableEntry<>((K) this.keys[slot], Instant.ofEpochMilli(this.expirations[slot]));
+    }
+
+    long bucket(int slot) {
+        return Math.floorDiv(this.expirations[slot], this.resolution);
+    }
+
+    private int allocate() {
+        if (this.free != NIL) {
+            int slot = this.free;
+            this.free = this.next[slot];
+            return slot;
+        }
+        if (this.allocated == this.keys.length) {
+            int capacity = this.keys.length * 2;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.expirations = Arrays.copyOf(this.expirations, capacity);
+            this.next = Arrays.copyOf(this.next, capacity);
+            this.previous = Arrays.copyOf(this.previous, capacity);
+        }
+        return this.allocated++;
+    }
+
+    private void link(int slot) {
+        Bucket bucket = this.buckets.computeIfAbsent(this.bucket(slot), key -> new Bucket());
+        this.next[slot] = NIL;
+        this.previous[slot] = bucket.tail;
+        if (bucket.tail == NIL) {
+            bucket.head = slot;
+        } else {
+            this.next[bucket.tail] = slot;
+        }
+        bucket.tail = slot;
+    }
+
+    private void unlink(int slot) {
+        long id = this.bucket(slot);
+        Bucket bucket = this.buckets.get(id);
+        int previous = this.previous[slot];
+        int next = this.next[slot];
+        if (previous == NIL) {
+            bucket.head = next;
+        } else {
+            this.next[previous] = next;
+        }
+        if (next == NIL) {
+            bucket.tail = previous;
+        } else {
+            this.previous[next] = previous;
+        }
+        if (bucket.head == NIL) {
+            this.buckets.remove(id);
+        }
+    }
+
+    /**
+     * Returns the index position of the specified key, or the empty position at which it would be inserted.
+     */
+    private int find(Object key) {
+        int mask = this.index.length - 1;
+        int position = spread(key.hashCode()) & mask;
+        while (true) {
+            int value = this.index[position];
+            if ((value == 0) || this.keys[value - 1].equals(key)) {
+                return position;
+            }
+            position = (position + 1) & mask;
+        }
+    }
+
+    /**
+     * Empties the specified index position, shifting back any subsequent entries of the same probe sequence.
+     */
+    private void delete(int position) {
+        int mask = this.index.length - 1;
+        int empty = position;
+        int current = position;
+        while (true) {
+            current = (current + 1) & mask;
+            int value = this.index[current];
+            if (value == 0) break;
+            int home = spread(this.keys[value - 1].hashCode()) & mask;
+            // Move entry into the empty position, unless its home position lies cyclically within (empty, current]
+            if ((current > empty) ? ((home <= empty) || (home > current)) : ((home <= empty) && (home > current))) {
+                this.index[empty] = value;
+                empty = current;
+            }
+        }
+        this.index[empty] = 0;
+    }
+
+    private void rehash() {
+        int[] index = new int[this.index.length * 2];
+        int mask = index.length - 1;
+        for (int value : this.index) {
+            if (value != 0) {
+                int position = spread(this.keys[value - 1].hashCode()) & mask;
+                while (index[position] != 0) {
+                    position = (position + 1) & mask;
+                }
+                index[position] = value;
+            }
+        }
+        this.index = index;
+    }
+
+    private static int spread(int hash) {
+        int result = hash * 0x9E3779B9;
+        return result ^ (result >>> 16);
+    }
+
+    private static class Bucket {
+        int head = NIL;
+        int tail = NIL;
+    }
+
+    /**
+     * Weakly consistent iterator that prefetches the next entry.
+     * If the next entry was rescheduled or removed since it was prefetched, iteration resumes with the subsequent bucket.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<K, Instant>> {
+        private Map.Entry<K, Instant> next;
+        private int slot;
+        private long bucket;
+        private K current = null;
+
+        EntryIterator() {
+            synchronized (BucketedScheduledEntries.this) {
+                this.moveTo(BucketedScheduledEntries.this.buckets.firstEntry());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public Map.Entry<K, Instant> next() {
+            Map.Entry<K, Instant> result = this.next;
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            this.current = result.getKey();
+            BucketedScheduledEntries<K> entries = BucketedScheduledEntries.this;
+            synchronized (entries) {
+                int successor = ((entries.keys[this.slot] == this.current) && (entries.bucket(this.slot) == this.bucket)) ? entries.next[this.slot] : NIL;
+                if (successor != NIL) {
+                    this.slot = successor;
+                    this.next = entries.entry(successor);
+                } else {
+                    this.moveTo(entries.buckets.higherEntry(this.bucket));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (this.current == null) {
+                throw new IllegalStateException();
+            }
+            BucketedScheduledEntries.this.remove(this.current);
+            this.current = null;
+        }
+
+        private void moveTo(Map.Entry<Long, Bucket> bucket) {
+            if (bucket != null) {
+                this.bucket = bucket.getKey();
+                this.slot = bucket.getValue().head;
+                this.next = BucketedScheduledEntries.this.entry(this.slot);
+            } else {
+                this.next = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BucketedScheduledEntries}
+ */
+public class BucketedScheduledEntriesTestCase {
+
+    @Test
+    public void test() {
+        BucketedScheduledEntries<UUID> entries = new BucketedScheduledEntries<>(Duration.ofSeconds(1));
+
+        // Verify empty
+        Assert.assertFalse(entries.iterator().hasNext());
+        Assert.assertNull(entries.peek());
+
+        Instant now = Instant.ofEpochSecond(Instant.now().getEpochSecond());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UUID fourth = UUID.randomUUID();
+
+        entries.add(first, now.plusSeconds(2));
+        entries.add(second, now.plusMillis(500));
+        entries.add(third, now);
+        entries.add(fourth, now.minusSeconds(1));
+
+        Assert.assertEquals(4, entries.size());
+        Assert.assertEquals(fourth, entries.peek().getKey());
+        Assert.assertEquals(now.minusSeconds(1), entries.peek().getValue());
+
+        // Entries within the same bucket iterate in insertion order
+        assertIteration(entries, fourth, second, third, first);
+
+        // Reschedule
+        entries.add(fourth, now.plusSeconds(3));
+        Assert.assertEquals(4, entries.size());
+        assertIteration(entries, second, third, first, fourth);
+
+        // Remove middle entry
+        entries.remove(first);
+        assertIteration(entries, second, third, fourth);
+
+        // Remove via iterator
+        Iterator<Map.Entry<UUID, Instant>> iterator = entries.iterator();
+        Assert.assertEquals(second, iterator.next().getKey());
+        iterator.remove();
+        Assert.assertEquals(third, iterator.next().getKey());
+        Assert.assertEquals(fourth, iterator.next().getKey());
+        Assert.assertFalse(iterator.hasNext());
+        assertIteration(entries, third, fourth);
+
+        // Verify removal of non-existent entry
+        entries.remove(UUID.randomUUID());
+        Assert.assertEquals(2, entries.size());
+    }
+
+    @Test
+    public void bulk() {
+        BucketedScheduledEntries<UUID> entries = new BucketedScheduledEntries<>(Duration.ofMillis(100));
+        Map<UUID, Instant> expected = new HashMap<>();
+        Instant now = Instant.now();
+        for (int i = 0; i < 10000; ++i) {
+            UUID id = UUID.randomUUID();
+            Instant expiration = now.plusMillis(ThreadLocalRandom.current().nextInt(60000));
+            entries.add(id, expiration);
+            expected.put(id, Instant.ofEpochMilli(expiration.toEpochMilli()));
+        }
+        Iterator<UUID> ids = expected.keySet().iterator();
+        while (ids.hasNext()) {
+            UUID id = ids.next();
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                entries.remove(id);
+                ids.remove();
+            }
+        }
+        // Reuse freed slots
+        for (int i = 0; i < 1000; ++i) {
+            UUID id = UUID.randomUUID();
+            Instant expiration = now.plusMillis(ThreadLocalRandom.current().nextInt(60000));
+            entries.add(id, expiration);
+            expected.put(id, Instant.ofEpochMilli(expiration.toEpochMilli()));
+        }
+        Assert.assertEquals(expected.size(), entries.size());
+
+        long bucket = Long.MIN_VALUE;
+        int count = 0;
+        for (Map.Entry<UUID, Instant> entry : entries) {
+            Assert.assertEquals(expected.get(entry.getKey()), entry.getValue());
+            long current = entry.getValue().toEpochMilli() / 100;
+            Assert.assertTrue(current >= bucket);
+            bucket = current;
+            count += 1;
+        }
+        Assert.assertEquals(expected.size(), count);
+
+        for (UUID id : expected.keySet()) {
+            entries.remove(id);
+        }
+        Assert.assertEquals(0, entries.size());
+        Assert.assertNull(entries.peek());
+    }
+
+    private static void assertIteration(ScheduledEntries<UUID, Instant> entries, UUID... expected) {
+        Iterator<Map.Entry<UUID, Instant>> iterator = entries.iterator();
+        for (UUID id : expected) {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(id, iterator.next().getKey());
+        }
+        Assert.assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.ee.infinispan;
+
+import java.util.Map;
+
+import org.infinispan.Cache;
+import org.infinispan.context.Flag;
+import org.wildfly.clustering.ee.Mutator;
+
+/**
+ * Mutates a set of cache entries using a single cache operation.
+ * Unlike {@link CacheEntryMutator}, instances are created for a single mutation, e.g. on close of a batch, so mutation is not guarded.
+ */
+public class CacheEntriesMutator<K, V> implements Mutator {
+
+    private final Cache<K, V> cache;
+    private final Map<K, V> entries;
+
+    public CacheEntriesMutator(Cache<K, V> cache, Map<K, V> entries) {
+        this.cache = cache;
+        this.entries = entries;
+    }
+
+    @Override
+    public void mutate() {
+        if (!this.entries.isEmpty()) {
+            // Use FAIL_SILENTLY to prevent mutation from failing locally due to remote exceptions
+            this.cache.getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES, Flag.FAIL_SILENTLY).putAll(this.entries);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.wildfly.clustering.ee.infinispan;
 
+import java.util.Map;
+
 import org.infinispan.Cache;
 import org.wildfly.clustering.ee.Mutator;
 import org.wildfly.clustering.ee.MutatorFactory;
@@ -27,4 +29,9 @@ public class InfinispanMutatorFactory<K, V> implements MutatorFactory<K, V> {
     public Mutator createMutator(K key, V value) {
         return this.properties.isPersistent() ? new CacheEntryMutator<>(this.cache, key, value) : Mutator.PASSIVE;
     }
+
+    @Override
+    public Mutator createMutator(Map<K, V> entries) {
+        return this.properties.isPersistent() ? new CacheEntriesMutator<>(this.cache, entries) : Mutator.PASSIVE;
+    }
 }
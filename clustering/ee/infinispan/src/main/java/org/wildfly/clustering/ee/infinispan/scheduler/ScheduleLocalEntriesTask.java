@@ -24,11 +24,12 @@ package org.wildfly.clustering.ee.infinispan.scheduler;
 
 import java.util.Iterator;
 import java.util.Map;
-import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.commons.util.IntSet;
 import org.infinispan.context.Flag;
 import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.infinispan.distribution.Locality;
@@ -40,7 +41,7 @@ import org.wildfly.clustering.infinispan.distribution.Locality;
  * @param <K> cache key type
  * @param <V> cache value type
  */
-public class ScheduleLocalEntriesTask<I, M, K extends Key<I>, V extends M> implements BiConsumer<Locality, Locality> {
+public class ScheduleLocalEntriesTask<I, M, K extends Key<I>, V extends M> implements ScheduleTask {
     private final Cache<K, V> cache;
     private final Predicate<Map.Entry<? super K, ? super V>> filter;
     private final Scheduler<I, M> scheduler;
@@ -54,7 +55,17 @@ public class ScheduleLocalEntriesTask<I, M, K extends Key<I>, V extends M> imple
     @Override
     public void accept(Locality oldLocality, Locality newLocality) {
         // Iterate over local entries, including any cache stores to include entries that may be passivated/invalidated
-        try (Stream<Map.Entry<K, V>> stream = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).entrySet().stream().filter(this.filter)) {
+        this.accept(oldLocality, newLocality, this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).entrySet().stream());
+    }
+
+    @Override
+    public void accept(Locality oldLocality, Locality newLocality, IntSet segments) {
+        // Iterate over local entries of the specified segments only
+        this.accept(oldLocality, newLocality, this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).entrySet().stream().filterKeySegments(segments));
+    }
+
+    private void accept(Locality oldLocality, Locality newLocality, CacheStream<Map.Entry<K, V>> entryStream) {
+        try (Stream<Map.Entry<K, V>> stream = entryStream.filter(this.filter)) {
             Iterator<Map.Entry<K, V>> entries = stream.iterator();
             while (entries.hasNext()) {
                 if (Thread.currentThread().isInterrupted()) break;
@@ -23,11 +23,12 @@
 package org.wildfly.clustering.ee.infinispan.scheduler;
 
 import java.util.Iterator;
-import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.commons.util.IntSet;
 import org.infinispan.context.Flag;
 import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.infinispan.distribution.Locality;
@@ -38,7 +39,7 @@ import org.wildfly.clustering.infinispan.distribution.Locality;
  * @param <I> identifier type
  * @param <K> cache key type
  */
-public class ScheduleLocalKeysTask<I, K extends Key<I>> implements BiConsumer<Locality, Locality> {
+public class ScheduleLocalKeysTask<I, K extends Key<I>> implements ScheduleTask {
     private final Cache<K, ?> cache;
     private final Predicate<? super K> filter;
     private final Scheduler<I, ?> scheduler;
@@ -52,7 +53,17 @@ public class ScheduleLocalKeysTask<I, K extends Key<I>> implements BiConsumer<Lo
     @Override
     public void accept(Locality oldLocality, Locality newLocality) {
         // Iterate over local keys, including any cache stores to include entries that may be passivated/invalidated
-        try (Stream<K> stream = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).keySet().stream().filter(this.filter)) {
+        this.accept(oldLocality, newLocality, this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).keySet().stream());
+    }
+
+    @Override
+    public void accept(Locality oldLocality, Locality newLocality, IntSet segments) {
+        // Iterate over local keys of the specified segments only
+        this.accept(oldLocality, newLocality, this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).keySet().stream().filterKeySegments(segments));
+    }
+
+    private void accept(Locality oldLocality, Locality newLocality, CacheStream<K> keyStream) {
+        try (Stream<K> stream = keyStream.filter(this.filter)) {
             Iterator<K> keys = stream.iterator();
             while (keys.hasNext()) {
                 if (Thread.currentThread().isInterrupted()) break;
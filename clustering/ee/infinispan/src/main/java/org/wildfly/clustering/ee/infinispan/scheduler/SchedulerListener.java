@@ -27,6 +27,11 @@ package org.wildfly.clustering.ee.infinispan.scheduler;
  */
 public interface SchedulerListener extends AutoCloseable {
 
+    /**
+     * @return the time, in milliseconds, spent rescheduling newly owned items following the most recent topology change, or 0, if no items were rescheduled
+     */
+    long getRescheduleTime();
+
     @Override
     void close();
 }
@@ -22,20 +22,26 @@
 
 package org.wildfly.clustering.ee.infinispan.scheduler;
 
-import java.util.Collections;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.infinispan.Cache;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.notifications.Listener;
 import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
@@ -50,34 +56,51 @@ import org.wildfly.clustering.infinispan.distribution.Locality;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
+ * Schedules/cancels local items whenever the primary ownership of cache segments changes.
+ * Only the keys of those segments whose primary ownership moved to the local member are rescheduled, in parallel across segments.
  * @author Paul Ferraro
  */
 @Listener
 public class SchedulerTopologyChangeListener<I, K extends Key<I>, V> implements SchedulerListener {
 
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
     private final Cache<K, V> cache;
     private final ExecutorService executor = Executors.newSingleThreadExecutor(new DefaultThreadFactory(SchedulerTopologyChangeListener.class));
+    // Bounded by the number of available processors; idle threads time out
+    private final ThreadPoolExecutor segmentExecutor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new DefaultThreadFactory(SchedulerTopologyChangeListener.class));
     private final AtomicReference<Future<?>> scheduleTaskFuture = new AtomicReference<>();
     private final Consumer<Locality> cancelTask;
-    private final BiConsumer<Locality, Locality> scheduleTask;
+    private final ScheduleTask scheduleTask;
+    private volatile long rescheduleTime = 0;
 
-    public SchedulerTopologyChangeListener(Cache<K, V> cache, Scheduler<I, ?> scheduler, BiConsumer<Locality, Locality> scheduleTask) {
+    public SchedulerTopologyChangeListener(Cache<K, V> cache, Scheduler<I, ?> scheduler, ScheduleTask scheduleTask) {
         this(cache, scheduler::cancel, scheduleTask);
     }
 
-    public SchedulerTopologyChangeListener(Cache<K, V> cache, Consumer<Locality> cancelTask, BiConsumer<Locality, Locality> scheduleTask) {
+    public SchedulerTopologyChangeListener(Cache<K, V> cache, Consumer<Locality> cancelTask, ScheduleTask scheduleTask) {
         this.cache = cache;
         this.cancelTask = cancelTask;
         this.scheduleTask = scheduleTask;
+        this.segmentExecutor.allowCoreThreadTimeOut(true);
         this.cache.addListener(this);
     }
 
+    @Override
+    public long getRescheduleTime() {
+        return this.rescheduleTime;
+    }
+
     @Override
     public void close() {
         this.cache.removeListener(this);
+        // Interrupting a running schedule task cancels its per-segment tasks
         WildFlySecurityManager.doUnchecked(this.executor, DefaultExecutorService.SHUTDOWN_NOW_ACTION);
+        WildFlySecurityManager.doUnchecked(this.segmentExecutor, DefaultExecutorService.SHUTDOWN_NOW_ACTION);
+        long timeout = this.cache.getCacheConfiguration().transaction().cacheStopTimeout();
         try {
-            this.executor.awaitTermination(this.cache.getCacheConfiguration().transaction().cacheStopTimeout(), TimeUnit.MILLISECONDS);
+            this.executor.awaitTermination(timeout, TimeUnit.MILLISECONDS);
+            this.segmentExecutor.awaitTermination(timeout, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -88,12 +111,10 @@ public class SchedulerTopologyChangeListener<I, K extends Key<I>, V> implements
         Cache<K, V> cache = event.getCache();
         Address address = cache.getCacheManager().getAddress();
         ConsistentHash oldHash = event.getWriteConsistentHashAtStart();
-        Set<Integer> oldSegments = oldHash.getMembers().contains(address) ? oldHash.getPrimarySegmentsForOwner(address) : Collections.emptySet();
         ConsistentHash newHash = event.getWriteConsistentHashAtEnd();
-        Set<Integer> newSegments = newHash.getMembers().contains(address) ? newHash.getPrimarySegmentsForOwner(address) : Collections.emptySet();
         if (event.isPre()) {
             // If there are segments that we no longer own, then run cancellation task
-            if (!newSegments.containsAll(oldSegments)) {
+            if (!primarySegmentsDifference(oldHash, newHash, address).isEmpty()) {
                 Future<?> future = this.scheduleTaskFuture.getAndSet(null);
                 if (future != null) {
                     future.cancel(true);
@@ -101,12 +122,14 @@ public class SchedulerTopologyChangeListener<I, K extends Key<I>, V> implements
                 return CompletableFuture.runAsync(() -> this.cancelTask.accept(new ConsistentHashLocality(cache, newHash)), this.executor);
             }
         } else {
+            // Only segments whose primary ownership moved to this member can contain newly owned keys
+            IntSet segments = primarySegmentsDifference(newHash, oldHash, address);
             // If we have newly owned segments, then run schedule task
-            if (!oldSegments.containsAll(newSegments)) {
+            if (!segments.isEmpty()) {
                 Locality oldLocality = new ConsistentHashLocality(cache, oldHash);
                 Locality newLocality = new ConsistentHashLocality(cache, newHash);
                 try {
-                    Future<?> future = this.scheduleTaskFuture.getAndSet(this.executor.submit(() -> this.scheduleTask.accept(oldLocality, newLocality)));
+                    Future<?> future = this.scheduleTaskFuture.getAndSet(this.executor.submit(() -> this.schedule(oldLocality, newLocality, segments)));
                     if (future != null) {
                         future.cancel(true);
                     }
@@ -117,4 +140,63 @@ public class SchedulerTopologyChangeListener<I, K extends Key<I>, V> implements
         }
         return CompletableFutures.completedNull();
     }
+
+    private void schedule(Locality oldLocality, Locality newLocality, IntSet segments) {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (IntSet partition : partition(segments, PARALLELISM)) {
+                futures.add(this.segmentExecutor.submit(() -> this.scheduleTask.accept(oldLocality, newLocality, partition)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (CancellationException | RejectedExecutionException e) {
+            // Executor was shutdown
+        } finally {
+            // Abort any remaining tasks if we were interrupted or failed
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            this.rescheduleTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the segments for which the specified member is the primary owner according to the specified hash, but not according to the other hash.
+     * @param hash a consistent hash
+     * @param otherHash another consistent hash
+     * @param address a cluster member
+     * @return a mutable set of segments
+     */
+    static IntSet primarySegmentsDifference(ConsistentHash hash, ConsistentHash otherHash, Address address) {
+        IntSet segments = hash.getMembers().contains(address) ? IntSets.mutableCopyFrom(hash.getPrimarySegmentsForOwner(address)) : IntSets.mutableEmptySet();
+        if (!segments.isEmpty() && otherHash.getMembers().contains(address)) {
+            segments.removeAll(otherHash.getPrimarySegmentsForOwner(address));
+        }
+        return segments;
+    }
+
+    /**
+     * Distributes the specified segments round-robin across at most the specified number of non-empty partitions.
+     * @param segments a set of segments
+     * @param parallelism the maximum number of partitions
+     * @return a list of segment partitions
+     */
+    static List<IntSet> partition(IntSet segments, int parallelism) {
+        int size = Math.min(parallelism, segments.size());
+        List<IntSet> partitions = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            partitions.add(IntSets.mutableEmptySet());
+        }
+        PrimitiveIterator.OfInt iterator = segments.iterator();
+        for (int i = 0; iterator.hasNext(); ++i) {
+            partitions.get(i % size).set(iterator.nextInt());
+        }
+        return partitions;
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.ee.infinispan.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
+import org.infinispan.context.Flag;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.infinispan.distribution.Locality;
+
+/**
+ * Unit test for {@link ScheduleLocalKeysTask}.
+ */
+public class ScheduleLocalKeysTaskTestCase {
+
+    @Test
+    public void test() {
+        Cache<Key<String>, Object> cache = mock(Cache.class);
+        AdvancedCache<Key<String>, Object> advancedCache = mock(AdvancedCache.class);
+        CacheSet<Key<String>> keySet = mock(CacheSet.class);
+        CacheStream<Key<String>> stream = mock(CacheStream.class);
+        CacheStream<Key<String>> segmentStream = mock(CacheStream.class);
+        CacheStream<Key<String>> filteredStream = mock(CacheStream.class);
+        Scheduler<String, Object> scheduler = mock(Scheduler.class);
+        Locality oldLocality = mock(Locality.class);
+        Locality newLocality = mock(Locality.class);
+        Key<String> newlyOwnedKey = mock(Key.class);
+        Key<String> previouslyOwnedKey = mock(Key.class);
+        Key<String> remoteKey = mock(Key.class);
+        IntSet segments = IntSets.from(Set.of(1, 2));
+
+        when(cache.getAdvancedCache()).thenReturn(advancedCache);
+        when(advancedCache.withFlags(Flag.CACHE_MODE_LOCAL)).thenReturn(advancedCache);
+        when(advancedCache.keySet()).thenReturn(keySet);
+        when(keySet.stream()).thenReturn(stream);
+        when(stream.filterKeySegments(segments)).thenReturn(segmentStream);
+        when(segmentStream.filter(any(Predicate.class))).thenReturn(filteredStream);
+        when(filteredStream.iterator()).thenReturn(List.of(newlyOwnedKey, previouslyOwnedKey, remoteKey).iterator());
+        when(newlyOwnedKey.getId()).thenReturn("new");
+        when(previouslyOwnedKey.getId()).thenReturn("old");
+        when(remoteKey.getId()).thenReturn("remote");
+        when(oldLocality.isLocal(newlyOwnedKey)).thenReturn(false);
+        when(newLocality.isLocal(newlyOwnedKey)).thenReturn(true);
+        when(oldLocality.isLocal(previouslyOwnedKey)).thenReturn(true);
+        when(newLocality.isLocal(previouslyOwnedKey)).thenReturn(true);
+        when(oldLocality.isLocal(remoteKey)).thenReturn(false);
+        when(newLocality.isLocal(remoteKey)).thenReturn(false);
+
+        new ScheduleLocalKeysTask<>(cache, key -> true, scheduler).accept(oldLocality, newLocality, segments);
+
+        // Only the keys of the specified segments are streamed
+        verify(stream).filterKeySegments(segments);
+        verify(filteredStream).close();
+
+        verify(scheduler).schedule("new");
+        verify(scheduler, never()).schedule("old");
+        verify(scheduler, never()).schedule("remote");
+    }
+}
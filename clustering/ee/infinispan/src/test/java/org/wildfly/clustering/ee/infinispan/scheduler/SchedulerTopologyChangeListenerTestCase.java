@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.ee.infinispan.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.remoting.transport.Address;
+import org.junit.Test;
+
+/**
+ * Unit test for the segment computations of {@link SchedulerTopologyChangeListener}.
+ */
+public class SchedulerTopologyChangeListenerTestCase {
+
+    private final Address local = mock(Address.class);
+    private final Address remote = mock(Address.class);
+
+    @Test
+    public void primarySegmentsDifference() {
+        ConsistentHash oldHash = mock(ConsistentHash.class);
+        ConsistentHash newHash = mock(ConsistentHash.class);
+        when(oldHash.getMembers()).thenReturn(List.of(this.local, this.remote));
+        when(newHash.getMembers()).thenReturn(List.of(this.local, this.remote));
+        when(oldHash.getPrimarySegmentsForOwner(this.local)).thenReturn(Set.of(0, 1, 2));
+        when(newHash.getPrimarySegmentsForOwner(this.local)).thenReturn(Set.of(1, 2, 3, 4));
+
+        // Newly owned segments
+        assertEquals(IntSets.from(Set.of(3, 4)), SchedulerTopologyChangeListener.primarySegmentsDifference(newHash, oldHash, this.local));
+        // Segments no longer owned
+        assertEquals(IntSets.from(Set.of(0)), SchedulerTopologyChangeListener.primarySegmentsDifference(oldHash, newHash, this.local));
+
+        // Unchanged ownership
+        assertTrue(SchedulerTopologyChangeListener.primarySegmentsDifference(oldHash, oldHash, this.local).isEmpty());
+    }
+
+    @Test
+    public void primarySegmentsDifferenceOfJoiningMember() {
+        ConsistentHash oldHash = mock(ConsistentHash.class);
+        ConsistentHash newHash = mock(ConsistentHash.class);
+        when(oldHash.getMembers()).thenReturn(List.of(this.remote));
+        when(newHash.getMembers()).thenReturn(List.of(this.local, this.remote));
+        when(newHash.getPrimarySegmentsForOwner(this.local)).thenReturn(Set.of(0, 1));
+
+        // All segments of a joining member are newly owned
+        assertEquals(IntSets.from(Set.of(0, 1)), SchedulerTopologyChangeListener.primarySegmentsDifference(newHash, oldHash, this.local));
+        // A joining member lost no segments
+        assertTrue(SchedulerTopologyChangeListener.primarySegmentsDifference(oldHash, newHash, this.local).isEmpty());
+    }
+
+    @Test
+    public void partition() {
+        IntSet segments = IntSets.from(Set.of(0, 1, 2, 3, 4, 5, 6));
+
+        List<IntSet> partitions = SchedulerTopologyChangeListener.partition(segments, 3);
+        assertEquals(3, partitions.size());
+        assertEquals(IntSets.from(Set.of(0, 3, 6)), partitions.get(0));
+        assertEquals(IntSets.from(Set.of(1, 4)), partitions.get(1));
+        assertEquals(IntSets.from(Set.of(2, 5)), partitions.get(2));
+
+        // Never create empty partitions
+        partitions = SchedulerTopologyChangeListener.partition(IntSets.from(Set.of(7)), 3);
+        assertEquals(1, partitions.size());
+        assertEquals(IntSets.from(Set.of(7)), partitions.get(0));
+
+        assertTrue(SchedulerTopologyChangeListener.partition(IntSets.immutableEmptySet(), 3).isEmpty());
+        for (IntSet partition : SchedulerTopologyChangeListener.partition(segments, 16)) {
+            assertFalse(partition.isEmpty());
+        }
+    }
+}
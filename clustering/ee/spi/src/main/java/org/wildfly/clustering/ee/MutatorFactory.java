@@ -21,6 +21,8 @@
  */
 package org.wildfly.clustering.ee;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,4 +46,25 @@ public interface MutatorFactory<K, V> {
      * @return a mutator
      */
     Mutator createMutator(K key, V value);
+
+    /**
+     * Creates a mutator for the specified cache entries.
+     * By default, the returned mutator mutates each entry individually.
+     * @param entries a map of cache entries
+     * @return a mutator
+     */
+    default Mutator createMutator(Map<K, V> entries) {
+        List<Mutator> mutators = new ArrayList<>(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            mutators.add(this.createMutator(entry));
+        }
+        return new Mutator() {
+            @Override
+            public void mutate() {
+                for (Mutator mutator : mutators) {
+                    mutator.mutate();
+                }
+            }
+        };
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.ee;
+
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the default bulk mutator of a {@link MutatorFactory}.
+ */
+public class MutatorFactoryTestCase {
+
+    @Test
+    public void createMutator() {
+        MutatorFactory<String, String> factory = mock(MutatorFactory.class, CALLS_REAL_METHODS);
+        Mutator mutator1 = mock(Mutator.class);
+        Mutator mutator2 = mock(Mutator.class);
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("foo", "a");
+        entries.put("bar", "b");
+
+        doReturn(mutator1).when(factory).createMutator("foo", "a");
+        doReturn(mutator2).when(factory).createMutator("bar", "b");
+
+        Mutator mutator = factory.createMutator(entries);
+
+        // Entries are not mutated until requested
+        verifyNoInteractions(mutator1, mutator2);
+
+        mutator.mutate();
+
+        // Each entry is mutated individually
+        verify(mutator1).mutate();
+        verify(mutator2).mutate();
+    }
+}
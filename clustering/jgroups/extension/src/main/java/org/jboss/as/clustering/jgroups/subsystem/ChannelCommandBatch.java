@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.dmr.ModelNode;
+import org.wildfly.clustering.jgroups.spi.CommandBatchConfiguration;
+
+/**
+ * The command batch configuration of a channel, which counts sent batches in buckets of power of 2 sizes.
+ */
+public class ChannelCommandBatch implements CommandBatchConfiguration {
+
+    private final Duration window;
+    private final int maxSize;
+    // Number of sent batches, indexed by the base 2 logarithm of the batch size
+    private final LongAdder[] histogram;
+
+    public ChannelCommandBatch(Duration window, int maxSize) {
+        this.window = window;
+        this.maxSize = maxSize;
+        this.histogram = new LongAdder[Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(maxSize, 1))];
+        for (int i = 0; i < this.histogram.length; ++i) {
+            this.histogram[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public Duration getWindow() {
+        return this.window;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    @Override
+    public void recordBatchSize(int size) {
+        this.histogram[Math.min(Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(size, 1)) - 1, this.histogram.length - 1)].increment();
+    }
+
+    /**
+     * Returns the number of sent batches per bucket, where the bucket at index i counts batches of size 2^i, inclusive, to 2^(i+1), exclusive.
+     * @return a list of batch counts
+     */
+    public ModelNode getBatchSizeHistogram() {
+        ModelNode result = new ModelNode();
+        for (LongAdder count : this.histogram) {
+            result.add(count.sum());
+        }
+        return result;
+    }
+}
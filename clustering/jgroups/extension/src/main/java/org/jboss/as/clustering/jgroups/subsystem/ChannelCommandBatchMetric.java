@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PrimitiveListAttributeDefinition;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Enumerates management metrics for the command batches of a channel.
+ */
+public enum ChannelCommandBatchMetric implements Metric<ChannelCommandBatch> {
+
+    COMMAND_BATCH_SIZE_HISTOGRAM("command-batch-size-histogram") {
+        @Override
+        public ModelNode execute(ChannelCommandBatch batch) {
+            return batch.getBatchSizeHistogram();
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    ChannelCommandBatchMetric(String name) {
+        this.definition = new PrimitiveListAttributeDefinition.Builder(name, ModelType.LONG).setRequired(false).setStorageRuntime().build();
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.function.Function;
+
+import org.jboss.as.clustering.controller.FunctionExecutor;
+import org.jboss.as.clustering.controller.FunctionExecutorRegistry;
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.controller.MetricExecutor;
+import org.jboss.as.clustering.controller.MetricFunction;
+import org.jboss.as.clustering.controller.UnaryCapabilityNameResolver;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.jgroups.spi.JGroupsRequirement;
+
+/**
+ * Handler for reading run-time only attributes from the command batch service of a channel.
+ */
+public class ChannelCommandBatchMetricExecutor implements MetricExecutor<ChannelCommandBatch> {
+
+    private final FunctionExecutorRegistry<ChannelCommandBatch> executors;
+
+    public ChannelCommandBatchMetricExecutor(FunctionExecutorRegistry<ChannelCommandBatch> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, Metric<ChannelCommandBatch> metric) throws OperationFailedException {
+        ServiceName name = JGroupsRequirement.CHANNEL_COMMAND_BATCH.getServiceName(context, UnaryCapabilityNameResolver.DEFAULT);
+        FunctionExecutor<ChannelCommandBatch> executor = this.executors.get(name);
+        return (executor != null) ? executor.execute(new MetricFunction<>(Function.identity(), metric)) : null;
+    }
+}
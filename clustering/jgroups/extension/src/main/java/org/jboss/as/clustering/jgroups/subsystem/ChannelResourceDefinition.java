@@ -35,6 +35,8 @@ import org.jboss.as.clustering.controller.ResourceServiceHandler;
 import org.jboss.as.clustering.controller.ServiceValueExecutorRegistry;
 import org.jboss.as.clustering.controller.SimpleResourceRegistration;
 import org.jboss.as.clustering.controller.UnaryRequirementCapability;
+import org.jboss.as.clustering.controller.validation.IntRangeValidatorBuilder;
+import org.jboss.as.clustering.controller.validation.LongRangeValidatorBuilder;
 import org.jboss.as.clustering.controller.validation.ModuleIdentifierValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -43,6 +45,7 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -70,6 +73,7 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
         JCHANNEL_FACTORY(JGroupsRequirement.CHANNEL_SOURCE),
         JCHANNEL_MODULE(JGroupsRequirement.CHANNEL_MODULE),
         JCHANNEL_CLUSTER(JGroupsRequirement.CHANNEL_CLUSTER),
+        JCHANNEL_COMMAND_BATCH(JGroupsRequirement.CHANNEL_COMMAND_BATCH),
         ;
         private org.jboss.as.clustering.controller.Capability capability;
 
@@ -102,6 +106,23 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
             }
         },
         CLUSTER("cluster", ModelType.STRING),
+        COMMAND_BATCH_SIZE("command-batch-size", ModelType.INT) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(new ModelNode(64))
+                        .setValidator(new IntRangeValidatorBuilder().min(2).configure(builder).build())
+                        ;
+            }
+        },
+        COMMAND_BATCH_WINDOW("command-batch-window", ModelType.LONG) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(ModelNode.ZERO_LONG)
+                        .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                        .setValidator(new LongRangeValidatorBuilder().min(0).configure(builder).build())
+                        ;
+            }
+        },
         STATISTICS_ENABLED(ModelDescriptionConstants.STATISTICS_ENABLED, ModelType.BOOLEAN) {
             @Override
             public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
@@ -175,6 +196,7 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
         ManagementResourceRegistration registration = parent.registerSubModel(this);
 
         ServiceValueExecutorRegistry<JChannel> executors = new ServiceValueExecutorRegistry<>();
+        ServiceValueExecutorRegistry<ChannelCommandBatch> batchExecutors = new ServiceValueExecutorRegistry<>();
         ResourceDescriptor descriptor = new ResourceDescriptor(this.getResourceDescriptionResolver())
                 .addAttributes(Attribute.class)
                 .addCapabilities(Capability.class)
@@ -183,11 +205,12 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
                 .setAddOperationTransformation(new AddOperationTransformation())
                 .addRuntimeResourceRegistration(new ChannelRuntimeResourceRegistration(executors))
                 ;
-        ResourceServiceHandler handler = new ChannelServiceHandler(executors);
+        ResourceServiceHandler handler = new ChannelServiceHandler(executors, batchExecutors);
         new SimpleResourceRegistration(descriptor, handler).register(registration);
 
         if (registration.isRuntimeOnlyRegistrationValid()) {
             new MetricHandler<>(new ChannelMetricExecutor(executors), ChannelMetric.class).register(registration);
+            new MetricHandler<>(new ChannelCommandBatchMetricExecutor(batchExecutors), ChannelCommandBatchMetric.class).register(registration);
         }
 
         new ForkResourceDefinition(executors).register(registration);
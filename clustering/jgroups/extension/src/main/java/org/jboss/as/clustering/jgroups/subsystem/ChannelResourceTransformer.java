@@ -27,8 +27,10 @@ import java.util.function.Consumer;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.transform.TransformationContext;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
 import org.jboss.as.controller.transform.description.DiscardPolicy;
 import org.jboss.as.controller.transform.description.DynamicDiscardPolicy;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.dmr.ModelNode;
 
@@ -55,6 +57,13 @@ public class ChannelResourceTransformer implements Consumer<ModelVersion> {
 
     @Override
     public void accept(ModelVersion version) {
+        if (JGroupsModel.VERSION_9_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE.getDefinition(), ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW.getDefinition())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE.getDefinition(), ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW.getDefinition())
+                    .end();
+        }
+
         new ForkResourceTransformer(this.builder).accept(version);
     }
 }
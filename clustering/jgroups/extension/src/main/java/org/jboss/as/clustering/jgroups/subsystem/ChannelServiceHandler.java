@@ -27,6 +27,7 @@ import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinitio
 import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Attribute.STATISTICS_ENABLED;
 import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Capability.FORK_CHANNEL_FACTORY;
 import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Capability.JCHANNEL;
+import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Capability.JCHANNEL_COMMAND_BATCH;
 import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Capability.JCHANNEL_FACTORY;
 import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Capability.JCHANNEL_MODULE;
 
@@ -56,9 +57,11 @@ import org.wildfly.clustering.service.IdentityServiceConfigurator;
 public class ChannelServiceHandler implements ResourceServiceHandler {
 
     private final ServiceValueRegistry<JChannel> registry;
+    private final ServiceValueRegistry<ChannelCommandBatch> batchRegistry;
 
-    public ChannelServiceHandler(ServiceValueRegistry<JChannel> registry) {
+    public ChannelServiceHandler(ServiceValueRegistry<JChannel> registry, ServiceValueRegistry<ChannelCommandBatch> batchRegistry) {
         this.registry = registry;
+        this.batchRegistry = batchRegistry;
     }
 
     @Override
@@ -70,6 +73,8 @@ public class ChannelServiceHandler implements ResourceServiceHandler {
         ServiceTarget target = context.getServiceTarget();
 
         new ChannelClusterServiceConfigurator(address).configure(context, model).build(target).install();
+        ChannelCommandBatchServiceConfigurator batchBuilder = new ChannelCommandBatchServiceConfigurator(address);
+        batchBuilder.configure(context, model).build(target).install();
         ChannelServiceConfigurator channelBuilder = new ChannelServiceConfigurator(JCHANNEL, address).statisticsEnabled(STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
         channelBuilder.configure(context, model).build(target).install();
         new IdentityServiceConfigurator<>(JCHANNEL_FACTORY.getServiceName(address), JGroupsRequirement.CHANNEL_FACTORY.getServiceName(context, stack)).build(target).install();
@@ -77,6 +82,7 @@ public class ChannelServiceHandler implements ResourceServiceHandler {
         new ModuleServiceConfigurator(JCHANNEL_MODULE.getServiceName(address), MODULE).configure(context, model).build(target).setInitialMode(ServiceController.Mode.PASSIVE).install();
 
         new ServiceValueCaptorServiceConfigurator<>(this.registry.add(channelBuilder.getServiceName())).build(target).install();
+        new ServiceValueCaptorServiceConfigurator<>(this.batchRegistry.add(batchBuilder.getServiceName())).build(target).install();
 
         new BinderServiceConfigurator(JGroupsBindingFactory.createChannelBinding(name), JGroupsRequirement.CHANNEL.getServiceName(context, name)).build(target).install();
         new BinderServiceConfigurator(JGroupsBindingFactory.createChannelFactoryBinding(name), JGroupsRequirement.CHANNEL_FACTORY.getServiceName(context, name)).build(target).install();
@@ -101,5 +107,6 @@ public class ChannelServiceHandler implements ResourceServiceHandler {
         new ProvidedGroupServiceConfigurator<>(DistributedGroupServiceConfiguratorProvider.class, name).remove(context);
 
         context.removeService(new ServiceValueCaptorServiceConfigurator<>(this.registry.remove(JCHANNEL.getServiceName(address))).getServiceName());
+        context.removeService(new ServiceValueCaptorServiceConfigurator<>(this.batchRegistry.remove(JCHANNEL_COMMAND_BATCH.getServiceName(address))).getServiceName());
     }
 }
@@ -159,6 +159,11 @@ public class JGroupsTransformersTestCase extends OperationTestCaseBase {
                     FailedOperationTransformationConfig.REJECTED_RESOURCE);
         }
 
+        if (JGroupsModel.VERSION_9_0_0.requiresTransformation(version)) {
+            config.addFailedAttribute(subsystemAddress.append(ChannelResourceDefinition.pathElement("bridge")),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE.getDefinition(), ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW.getDefinition()));
+        }
+
         return config;
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.jgroups.spi;
+
+import java.time.Duration;
+
+/**
+ * Configures the batching of commands sent by the command dispatchers of a channel, and collects the sizes of the batches sent.
+ */
+public interface CommandBatchConfiguration {
+
+    /**
+     * Returns the window within which commands destined for the same member are sent as a single batch.
+     * @return a duration, or {@link Duration#ZERO}, if commands are not batched
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of commands per batch.
+     * @return the maximum batch size
+     */
+    int getMaxSize();
+
+    /**
+     * Records the size of a sent batch.
+     * @param size the number of commands in a sent batch
+     */
+    void recordBatchSize(int size);
+}
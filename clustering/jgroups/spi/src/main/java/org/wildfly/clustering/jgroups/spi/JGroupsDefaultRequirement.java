@@ -34,6 +34,7 @@ import org.wildfly.clustering.service.Requirement;
 public enum JGroupsDefaultRequirement implements Requirement, ServiceNameFactoryProvider {
     CHANNEL("org.wildfly.clustering.jgroups.default-channel", JChannel.class),
     CHANNEL_CLUSTER("org.wildfly.clustering.jgroups.default-channel-cluster", String.class),
+    CHANNEL_COMMAND_BATCH("org.wildfly.clustering.jgroups.default-channel-command-batch", CommandBatchConfiguration.class),
     CHANNEL_FACTORY("org.wildfly.clustering.jgroups.default-channel-factory", ChannelFactory.class),
     CHANNEL_MODULE("org.wildfly.clustering.jgroups.default-channel-module", Module.class),
     CHANNEL_SOURCE("org.wildfly.clustering.jgroups.default-channel-source", ChannelFactory.class),
@@ -28,11 +28,9 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 
@@ -50,8 +48,8 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  */
 public class ExternalizerObjectTable implements ObjectTable {
 
-    private final List<Externalizer<Object>> externalizers;
-    private final Map<Class<?>, Integer> indexes = new IdentityHashMap<>();
+    private final IdentityClassIndex indexes;
+    private final ExternalizerWriter[] writers;
     private final IntSerializer indexSerializer;
 
     public ExternalizerObjectTable(ClassLoader... loader) {
@@ -96,10 +94,14 @@ public class ExternalizerObjectTable implements ObjectTable {
 
     private ExternalizerObjectTable(IntSerializer indexSerializer, List<Externalizer<Object>> externalizers) {
         this.indexSerializer = indexSerializer;
-        this.externalizers = externalizers;
+        this.indexes = new IdentityClassIndex(externalizers, Externalizer::getTargetClass);
+        // Writers are stateless, so create them up front
+        this.writers = new ExternalizerWriter[externalizers.size()];
         ListIterator<Externalizer<Object>> iterator = externalizers.listIterator();
         while (iterator.hasNext()) {
-            this.indexes.putIfAbsent(iterator.next().getTargetClass(), iterator.previousIndex());
+            Externalizer<Object> externalizer = iterator.next();
+            int index = iterator.previousIndex();
+            this.writers[index] = new ExternalizerWriter(index, indexSerializer, externalizer);
         }
     }
 
@@ -108,21 +110,22 @@ public class ExternalizerObjectTable implements ObjectTable {
         Class<?> targetClass = object.getClass().isEnum() ? ((Enum<?>) object).getDeclaringClass() : object.getClass();
         Class<?> superClass = targetClass.getSuperclass();
         // If implementation class has no externalizer, search any abstract superclasses
-        while (!this.indexes.containsKey(targetClass) && (superClass != null) && Modifier.isAbstract(superClass.getModifiers())) {
+        int index = this.indexes.indexOf(targetClass);
+        while ((index == IdentityClassIndex.NOT_FOUND) && (superClass != null) && Modifier.isAbstract(superClass.getModifiers())) {
             targetClass = superClass;
             superClass = targetClass.getSuperclass();
+            index = this.indexes.indexOf(targetClass);
         }
-        Integer index = this.indexes.get(targetClass);
-        return (index != null) ? new ExternalizerWriter(index, this.indexSerializer, this.externalizers.get(index)) : null;
+        return (index != IdentityClassIndex.NOT_FOUND) ? this.writers[index] : null;
     }
 
     @Override
     public Object readObject(Unmarshaller unmarshaller) throws IOException, ClassNotFoundException {
         int index = this.indexSerializer.readInt(unmarshaller);
-        if (index >= this.externalizers.size()) {
+        if (index >= this.writers.length) {
             throw new IllegalStateException();
         }
-        return this.externalizers.get(index).readObject(unmarshaller);
+        return this.writers[index].externalizer.readObject(unmarshaller);
     }
 
     private static class ExternalizerWriter implements ObjectTable.Writer {
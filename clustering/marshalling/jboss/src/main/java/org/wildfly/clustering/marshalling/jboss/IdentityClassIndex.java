@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.jboss;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Function;
+
+/**
+ * Immutable mapping of classes to the index of their first occurrence within a list, using identity hashing and open addressing.
+ * Unlike an {@link java.util.IdentityHashMap}, lookups neither box indexes nor allocate entries.
+ */
+class IdentityClassIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private final Class<?>[] keys;
+    private final int[] indexes;
+    private final int mask;
+
+    /**
+     * Creates an index of the specified classes.
+     * @param classes a list of classes
+     */
+    IdentityClassIndex(List<Class<?>> classes) {
+        this(classes, Function.identity());
+    }
+
+    /**
+     * Creates an index of the classes of the specified list of values.
+     * @param values a list of values
+     * @param classifier returns the class of a given value
+     */
+    <T> IdentityClassIndex(List<T> values, Function<T, Class<?>> classifier) {
+        // Use a power of 2 capacity with a load factor of at most 0.5
+        int capacity = Integer.highestOneBit(Math.max(1, values.size()) << 1);
+        if (capacity < (values.size() << 1)) {
+            capacity <<= 1;
+        }
+        this.keys = new Class<?>[capacity];
+        this.indexes = new int[capacity];
+        this.mask = capacity - 1;
+        ListIterator<T> iterator = values.listIterator();
+        while (iterator.hasNext()) {
+            Class<?> key = classifier.apply(iterator.next());
+            int slot = this.slot(key);
+            // Retain the index of the first occurrence
+            if (this.keys[slot] == null) {
+                this.keys[slot] = key;
+                this.indexes[slot] = iterator.previousIndex();
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the specified class.
+     * @param targetClass a class
+     * @return the index of the specified class, or {@link #NOT_FOUND} if the class is not indexed.
+     */
+    int indexOf(Class<?> targetClass) {
+        int slot = this.slot(targetClass);
+        return (this.keys[slot] != null) ? this.indexes[slot] : NOT_FOUND;
+    }
+
+    /**
+     * Returns the slot containing the specified class, or the empty slot at which it would be inserted.
+     */
+    private int slot(Class<?> targetClass) {
+        int hash = System.identityHashCode(targetClass);
+        // Mix high bits into the low bits used to select a slot
+        int slot = (hash ^ (hash >>> 16)) & this.mask;
+        Class<?> key = this.keys[slot];
+        while ((key != null) && (key != targetClass)) {
+            slot = (slot + 1) & this.mask;
+            key = this.keys[slot];
+        }
+        return slot;
+    }
+}
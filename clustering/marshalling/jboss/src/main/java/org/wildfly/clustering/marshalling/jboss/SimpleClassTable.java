@@ -23,10 +23,7 @@ package org.wildfly.clustering.marshalling.jboss;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.ListIterator;
-import java.util.Map;
 
 import org.jboss.marshalling.ClassTable;
 import org.jboss.marshalling.Marshaller;
@@ -40,8 +37,9 @@ import org.wildfly.clustering.marshalling.spi.IntSerializer;
  */
 public class SimpleClassTable implements ClassTable {
 
-    private final List<Class<?>> classes;
-    private final Map<Class<?>, Integer> indexes = new IdentityHashMap<>();
+    private final Class<?>[] classes;
+    private final IdentityClassIndex indexes;
+    private final ClassTable.Writer[] writers;
     private final IntSerializer indexSerializer;
 
     public SimpleClassTable(Class<?>... classes) {
@@ -54,22 +52,24 @@ public class SimpleClassTable implements ClassTable {
 
     private SimpleClassTable(IntSerializer indexSerializer, List<Class<?>> classes) {
         this.indexSerializer = indexSerializer;
-        this.classes = classes;
-        ListIterator<Class<?>> iterator = classes.listIterator();
-        while (iterator.hasNext()) {
-            this.indexes.putIfAbsent(iterator.next(), iterator.previousIndex());
+        this.classes = classes.toArray(new Class<?>[0]);
+        this.indexes = new IdentityClassIndex(classes);
+        // Writers are stateless, so create them up front
+        this.writers = new ClassTable.Writer[this.classes.length];
+        for (int i = 0; i < this.writers.length; ++i) {
+            this.writers[i] = new ClassTableWriter(i, indexSerializer);
         }
     }
 
     @Override
     public Writer getClassWriter(Class<?> targetClass) {
-        Integer index = this.indexes.get(targetClass);
-        return (index != null) ? new ClassTableWriter(index, this.indexSerializer) : null;
+        int index = this.indexes.indexOf(targetClass);
+        return (index != IdentityClassIndex.NOT_FOUND) ? this.writers[index] : null;
     }
 
     @Override
     public Class<?> readClass(Unmarshaller input) throws IOException {
-        return this.classes.get(this.indexSerializer.readInt(input));
+        return this.classes[this.indexSerializer.readInt(input)];
     }
 
     private static class ClassTableWriter implements ClassTable.Writer {
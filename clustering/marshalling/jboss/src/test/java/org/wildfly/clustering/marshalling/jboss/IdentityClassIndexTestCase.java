@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.jboss;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link IdentityClassIndex}.
+ */
+public class IdentityClassIndexTestCase {
+
+    @Test
+    public void test() {
+        List<Class<?>> classes = Arrays.asList(String.class, Integer.class, UUID.class, String.class, List.class, ArrayList.class);
+        IdentityClassIndex index = new IdentityClassIndex(classes);
+
+        assertEquals(0, index.indexOf(String.class));
+        assertEquals(1, index.indexOf(Integer.class));
+        assertEquals(2, index.indexOf(UUID.class));
+        assertEquals(4, index.indexOf(List.class));
+        assertEquals(5, index.indexOf(ArrayList.class));
+        assertEquals(IdentityClassIndex.NOT_FOUND, index.indexOf(Object.class));
+        assertEquals(IdentityClassIndex.NOT_FOUND, index.indexOf(Long.class));
+    }
+
+    @Test
+    public void empty() {
+        IdentityClassIndex index = new IdentityClassIndex(Collections.emptyList());
+
+        assertEquals(IdentityClassIndex.NOT_FOUND, index.indexOf(Object.class));
+    }
+
+    @Test
+    public void classifier() {
+        List<Object> values = Arrays.asList("foo", 1, 2L, "bar");
+        IdentityClassIndex index = new IdentityClassIndex(values, Object::getClass);
+
+        assertEquals(0, index.indexOf(String.class));
+        assertEquals(1, index.indexOf(Integer.class));
+        assertEquals(2, index.indexOf(Long.class));
+        assertEquals(IdentityClassIndex.NOT_FOUND, index.indexOf(Object.class));
+    }
+}
@@ -22,6 +22,7 @@
 
 package org.wildfly.clustering.marshalling.protostream;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.OptionalInt;
@@ -37,12 +38,45 @@ import org.wildfly.clustering.marshalling.spi.ByteBufferOutputStream;
  */
 public class DefaultProtoStreamWriter extends AbstractProtoStreamWriter {
 
+    private final ProtoStreamWritePlan plan;
+    private final ByteArrayOutputStream output;
+
     public DefaultProtoStreamWriter(WriteContext context) {
+        this(context, null, null);
+    }
+
+    /**
+     * Creates a writer that writes nested messages directly, using the sizes recorded by the specified plan.
+     * @param context the write context of a {@link TagWriterImpl} that writes to the specified output stream
+     * @param plan a plan computed for the object graph to be written
+     * @param output the output stream of the specified write context, used to verify the size of each nested message
+     */
+    DefaultProtoStreamWriter(WriteContext context, ProtoStreamWritePlan plan, ByteArrayOutputStream output) {
         super(context);
+        this.plan = plan;
+        this.output = output;
+    }
+
+    @Override
+    public <T, V extends T> ProtoStreamMarshaller<T> findMarshaller(Class<V> javaClass) {
+        return (this.plan != null) ? this.plan.findMarshaller(javaClass) : super.findMarshaller(javaClass);
     }
 
     @Override
     public void writeObjectNoTag(Object value) throws IOException {
+        if (this.plan != null) {
+            ProtoStreamMarshaller<Object> marshaller = this.findMarshaller(value.getClass());
+            int size = this.plan.nextSize();
+            this.writeVarint32(size);
+            this.flush();
+            int start = this.output.size();
+            marshaller.writeTo(this, value);
+            this.flush();
+            if (this.output.size() - start != size) {
+                throw new ProtoStreamWritePlan.MismatchException();
+            }
+            return;
+        }
         ImmutableSerializationContext context = this.getSerializationContext();
         ProtoStreamMarshaller<Object> marshaller = this.findMarshaller(value.getClass());
         OptionalInt size = this.size(marshaller, value);
@@ -27,23 +27,71 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Array;
 import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.infinispan.protostream.ImmutableSerializationContext;
 import org.infinispan.protostream.ProtobufUtil;
+import org.infinispan.protostream.impl.TagWriterImpl;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferOutputStream;
 
 /**
  * @author Paul Ferraro
  */
 public class ProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
 
+    // Upper bound of the intermediate buffer used by the tag writer, since nested messages are flushed to the output stream as they complete
+    private static final int MAX_WRITER_BUFFER_SIZE = 1024;
+
     private final ImmutableSerializationContext context;
+    private final Map<Class<?>, ProtoStreamMarshaller<?>> marshallers = new ConcurrentHashMap<>();
 
     public ProtoStreamByteBufferMarshaller(ImmutableSerializationContext context) {
         this.context = context;
     }
 
+    /**
+     * Computes a plan for the specified object, whose nested message sizes are reused while writing to a buffer of the exact size.
+     * This avoids the re-computation of the sizes of nested messages, and their buffering, performed by {@link #writeTo(OutputStream, Object)}.
+     * Reverts to {@link ByteBufferMarshaller#write(Object)} if the written object does not match the computed plan.
+     */
+    @Override
+    public ByteBuffer write(Object object) throws IOException {
+        try (ProtoStreamWriterContext.Factory factory = ProtoStreamWriterContext.FACTORY.get()) {
+            ProtoStreamMarshaller<Any> marshaller = (ProtoStreamMarshaller<Any>) this.context.getMarshaller(Any.class);
+            Any any = new Any(object);
+            ProtoStreamWritePlan plan = new ProtoStreamWritePlan(this.context, this.marshallers);
+            SizeComputingProtoStreamWriter sizer = new SizeComputingProtoStreamWriter(plan);
+            OptionalInt size = OptionalInt.empty();
+            try {
+                marshaller.writeTo(sizer, any);
+                size = sizer.get();
+            } catch (IOException e) {
+                // Fall through
+            }
+            if (size.isPresent()) {
+                int length = size.getAsInt();
+                try (ByteBufferOutputStream output = new ByteBufferOutputStream(length)) {
+                    if (length > 0) {
+                        TagWriterImpl writer = TagWriterImpl.newInstance(this.context, output, Math.min(length, MAX_WRITER_BUFFER_SIZE));
+                        marshaller.writeTo(new DefaultProtoStreamWriter(writer, plan, output), any);
+                        writer.flush();
+                    }
+                    if (output.size() == length) {
+                        return output.getBuffer();
+                    }
+                } catch (ProtoStreamWritePlan.MismatchException e) {
+                    // Fall through
+                }
+                LOGGER.debugf("Computed plan does not match marshalled form of %s (%s)", object, (object != null) ? object.getClass().getCanonicalName() : null);
+            }
+        }
+        return ByteBufferMarshaller.super.write(object);
+    }
+
     @Override
     public OptionalInt size(Object value) {
         try (ProtoStreamWriterContext.Factory factory = ProtoStreamWriterContext.FACTORY.get()) {
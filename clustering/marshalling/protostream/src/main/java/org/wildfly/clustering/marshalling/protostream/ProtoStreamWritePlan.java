@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.protostream;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.infinispan.protostream.ImmutableSerializationContext;
+
+/**
+ * Records the sizes of the nested messages of an object graph, as computed by a {@link SizeComputingProtoStreamWriter},
+ * such that a subsequent {@link DefaultProtoStreamWriter} can write each nested message directly, without re-computing its size or buffering it.
+ * Sizes are recorded in the order in which nested messages are started, which is the order in which they are written.
+ * Marshallers resolved for a given class are cached in a map shared by all plans of a given marshaller.
+ */
+class ProtoStreamWritePlan implements ProtoStreamOperation {
+
+    private final ImmutableSerializationContext context;
+    private final Map<Class<?>, ProtoStreamMarshaller<?>> marshallers;
+    private int[] sizes = new int[16];
+    private int count = 0;
+    private int position = 0;
+
+    ProtoStreamWritePlan(ImmutableSerializationContext context, Map<Class<?>, ProtoStreamMarshaller<?>> marshallers) {
+        this.context = context;
+        this.marshallers = marshallers;
+    }
+
+    @Override
+    public ImmutableSerializationContext getSerializationContext() {
+        return this.context;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T, V extends T> ProtoStreamMarshaller<T> findMarshaller(Class<V> javaClass) {
+        ProtoStreamMarshaller<?> marshaller = this.marshallers.get(javaClass);
+        if (marshaller == null) {
+            marshaller = ProtoStreamOperation.super.findMarshaller(javaClass);
+            this.marshallers.putIfAbsent(javaClass, marshaller);
+        }
+        return (ProtoStreamMarshaller<T>) marshaller;
+    }
+
+    /**
+     * Reserves a slot for the size of a nested message whose size is not yet known.
+     * @return the index of the reserved slot
+     */
+    int reserve() {
+        if (this.count == this.sizes.length) {
+            this.sizes = Arrays.copyOf(this.sizes, this.count << 1);
+        }
+        return this.count++;
+    }
+
+    /**
+     * Records the computed size of the nested message at the specified slot.
+     * @param index the index of a reserved slot
+     * @param size the size of a nested message
+     */
+    void setSize(int index, int size) {
+        this.sizes[index] = size;
+    }
+
+    /**
+     * Returns the size of the next nested message to be written.
+     * @return the size of a nested message
+     * @throws MismatchException if the object graph contains more nested messages than were sized
+     */
+    int nextSize() throws MismatchException {
+        if (this.position == this.count) {
+            throw new MismatchException();
+        }
+        return this.sizes[this.position++];
+    }
+
+    /**
+     * Indicates that the written object graph does not match the object graph that was sized, e.g. due to concurrent modification.
+     */
+    static class MismatchException extends IOException {
+        private static final long serialVersionUID = -5512462233420616011L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            // Stack trace is never interesting, since the caller always reverts to buffered writes
+            return this;
+        }
+    }
+}
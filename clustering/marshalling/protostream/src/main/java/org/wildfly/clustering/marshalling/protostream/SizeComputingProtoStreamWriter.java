@@ -35,15 +35,30 @@ import org.infinispan.protostream.impl.TagWriterImpl;
 public class SizeComputingProtoStreamWriter extends AbstractProtoStreamWriter implements Supplier<OptionalInt> {
 
     private final TagWriterImpl writer;
+    private final ProtoStreamWritePlan plan;
     private boolean present = true;
 
     public SizeComputingProtoStreamWriter(ImmutableSerializationContext context) {
-        this(TagWriterImpl.newInstance(context));
+        this(TagWriterImpl.newInstance(context), null);
     }
 
-    private SizeComputingProtoStreamWriter(TagWriterImpl writer) {
+    /**
+     * Creates a writer that additionally records the size of each nested message into the specified plan.
+     * @param plan a write plan
+     */
+    SizeComputingProtoStreamWriter(ProtoStreamWritePlan plan) {
+        this(TagWriterImpl.newInstance(plan.getSerializationContext()), plan);
+    }
+
+    private SizeComputingProtoStreamWriter(TagWriterImpl writer, ProtoStreamWritePlan plan) {
         super(writer);
         this.writer = writer;
+        this.plan = plan;
+    }
+
+    @Override
+    public <T, V extends T> ProtoStreamMarshaller<T> findMarshaller(Class<V> javaClass) {
+        return (this.plan != null) ? this.plan.findMarshaller(javaClass) : super.findMarshaller(javaClass);
     }
 
     @Override
@@ -55,11 +70,16 @@ public class SizeComputingProtoStreamWriter extends AbstractProtoStreamWriter im
     public void writeObjectNoTag(Object value) throws IOException {
         if (this.present) {
             ProtoStreamMarshaller<Object> marshaller = this.findMarshaller(value.getClass());
-            SizeComputingProtoStreamWriter sizer = new SizeComputingProtoStreamWriter(this.getSerializationContext());
+            // Reserve slot before sizing, so that sizes are recorded in the order that nested messages will be written
+            int index = (this.plan != null) ? this.plan.reserve() : -1;
+            SizeComputingProtoStreamWriter sizer = (this.plan != null) ? new SizeComputingProtoStreamWriter(this.plan) : new SizeComputingProtoStreamWriter(this.getSerializationContext());
             marshaller.writeTo(sizer, value);
             OptionalInt size = sizer.get();
             if (size.isPresent()) {
                 int length = size.getAsInt();
+                if (this.plan != null) {
+                    this.plan.setSize(index, length);
+                }
                 this.writeVarint32(length);
                 this.writeRawBytes(null, 0, length);
             } else {
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.protostream;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.Person;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Validates that the planned write of {@link ProtoStreamByteBufferMarshaller#write(Object)} produces the same marshalled form as {@link ProtoStreamByteBufferMarshaller#writeTo(java.io.OutputStream, Object)}.
+ */
+public class ProtoStreamByteBufferMarshallerTestCase {
+
+    private final ByteBufferMarshaller marshaller = TestProtoStreamByteBufferMarshaller.INSTANCE;
+
+    @Test
+    public void test() throws IOException {
+        this.test(null);
+        this.test("foo");
+        this.test(UUID.randomUUID());
+        this.test(Collections.emptyList());
+        this.test(Arrays.asList(UUID.randomUUID(), null, "bar", UUID.randomUUID()));
+
+        Map<String, List<UUID>> map = new HashMap<>();
+        for (int i = 0; i < 10; ++i) {
+            map.put(Integer.toString(i), Arrays.asList(UUID.randomUUID(), UUID.randomUUID()));
+        }
+        this.test(map);
+
+        // Nested messages containing references
+        UUID shared = UUID.randomUUID();
+        this.test(Arrays.asList(shared, Collections.singletonMap("shared", shared), Arrays.asList(shared, shared)));
+
+        Person parent = Person.create("parent");
+        Person self = Person.create("self");
+        parent.addChild(self);
+        Person child1 = Person.create("child1");
+        Person child2 = Person.create("child2");
+        self.addChild(child1);
+        self.addChild(child2);
+        this.test(self);
+    }
+
+    private void test(Object value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.marshaller.writeTo(output, value);
+        byte[] expected = output.toByteArray();
+
+        ByteBuffer buffer = this.marshaller.write(value);
+        byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+
+        assertArrayEquals(expected, result);
+
+        OptionalInt size = this.marshaller.size(value);
+        assertTrue(size.isPresent());
+        assertEquals(expected.length, size.getAsInt());
+    }
+}
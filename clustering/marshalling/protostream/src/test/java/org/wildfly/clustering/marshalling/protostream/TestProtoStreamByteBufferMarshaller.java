@@ -25,6 +25,7 @@ package org.wildfly.clustering.marshalling.protostream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.OptionalInt;
 
 import org.infinispan.protostream.ImmutableSerializationContext;
@@ -54,6 +55,11 @@ public enum TestProtoStreamByteBufferMarshaller implements ByteBufferMarshaller
         return this.marshaller.readFrom(input);
     }
 
+    @Override
+    public ByteBuffer write(Object object) throws IOException {
+        return this.marshaller.write(object);
+    }
+
     @Override
     public void writeTo(OutputStream output, Object object) throws IOException {
         this.marshaller.writeTo(output, object);
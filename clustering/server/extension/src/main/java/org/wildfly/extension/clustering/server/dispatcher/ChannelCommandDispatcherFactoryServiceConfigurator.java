@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -49,6 +50,7 @@ import org.jboss.msc.service.ServiceTarget;
 import org.jgroups.JChannel;
 import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 import org.wildfly.clustering.jgroups.spi.ChannelFactory;
+import org.wildfly.clustering.jgroups.spi.CommandBatchConfiguration;
 import org.wildfly.clustering.jgroups.spi.JGroupsRequirement;
 import org.wildfly.clustering.marshalling.jboss.DynamicClassTable;
 import org.wildfly.clustering.marshalling.jboss.ExternalizerObjectTable;
@@ -99,6 +101,7 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
     private volatile SupplierDependency<ChannelFactory> channelFactory;
     private volatile SupplierDependency<JChannel> channel;
     private volatile SupplierDependency<Module> module;
+    private volatile SupplierDependency<CommandBatchConfiguration> batch;
     private volatile Supplier<ModuleLoader> loader;
     private volatile Duration timeout = Duration.ofMinutes(1);
 
@@ -117,6 +120,7 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
         this.channel = new ServiceSupplierDependency<>(JGroupsRequirement.CHANNEL.getServiceName(support, this.group));
         this.channelFactory = new ServiceSupplierDependency<>(JGroupsRequirement.CHANNEL_SOURCE.getServiceName(support, this.group));
         this.module = new ServiceSupplierDependency<>(JGroupsRequirement.CHANNEL_MODULE.getServiceName(support, this.group));
+        this.batch = new ServiceSupplierDependency<>(JGroupsRequirement.CHANNEL_COMMAND_BATCH.getServiceName(support, this.group));
         return this;
     }
 
@@ -124,7 +128,7 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceBuilder<?> builder = new AsyncServiceConfigurator(this.getServiceName()).build(target);
         this.loader = builder.requires(Services.JBOSS_SERVICE_MODULE_LOADER);
-        Consumer<CommandDispatcherFactory> factory = new CompositeDependency(this.channel, this.channelFactory, this.module).register(builder).provides(this.getServiceName());
+        Consumer<CommandDispatcherFactory> factory = new CompositeDependency(this.channel, this.channelFactory, this.module, this.batch).register(builder).provides(this.getServiceName());
         Service service = new FunctionalService<>(factory, Functions.identity(), this, Consumers.close());
         return builder.setInstance(service).setInitialMode(ServiceController.Mode.PASSIVE);
     }
@@ -164,6 +168,21 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
         return this.timeout;
     }
 
+    @Override
+    public Duration getBatchWindow() {
+        return this.batch.get().getWindow();
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return this.batch.get().getMaxSize();
+    }
+
+    @Override
+    public IntConsumer getBatchSizeRecorder() {
+        return this.batch.get()::recordBatchSize;
+    }
+
     @Override
     public Predicate<ByteBuffer> getUnknownForkPredicate() {
         return this;
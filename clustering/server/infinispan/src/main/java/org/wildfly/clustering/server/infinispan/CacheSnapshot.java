@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Local snapshot of the contents of a cache, maintained by cache events, and resynchronized with the cache on topology change.
+ * Neither events nor resynchronization hold a lock beyond the per-key atomicity of a {@link ConcurrentHashMap},
+ * so that synchronous cache listeners never block behind a resynchronization.
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class CacheSnapshot<K, V> {
+
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final Map<K, V> unmodifiableEntries = Collections.unmodifiableMap(this.entries);
+    // Keys modified by events since the current resynchronization started, or null, if no resynchronization is in progress
+    private volatile Set<K> modifiedKeys = null;
+
+    /**
+     * Returns an unmodifiable view of the entries of this snapshot.
+     * @return a map of entries
+     */
+    public Map<K, V> getEntries() {
+        return this.unmodifiableEntries;
+    }
+
+    /**
+     * Applies the creation or modification of a cache entry to this snapshot.
+     * @param key a cache key
+     * @param value the new value
+     */
+    public void put(K key, V value) {
+        this.entries.compute(key, (k, v) -> this.modified(k, value));
+    }
+
+    /**
+     * Applies the removal of a cache entry to this snapshot.
+     * @param key a cache key
+     */
+    public void remove(K key) {
+        this.entries.compute(key, (k, v) -> this.modified(k, null));
+    }
+
+    private V modified(K key, V value) {
+        Set<K> modifiedKeys = this.modifiedKeys;
+        if (modifiedKeys != null) {
+            modifiedKeys.add(key);
+        }
+        return value;
+    }
+
+    /**
+     * Resynchronizes this snapshot with the current contents of the cache.
+     * Entries modified by concurrent events retain the value of their most recent event.
+     * @param reader reads the current contents of the cache
+     */
+    public synchronized void reset(Supplier<Map<K, V>> reader) {
+        Set<K> modifiedKeys = ConcurrentHashMap.newKeySet();
+        this.modifiedKeys = modifiedKeys;
+        try {
+            Map<K, V> current = reader.get();
+            for (Map.Entry<K, V> entry : current.entrySet()) {
+                V value = entry.getValue();
+                this.entries.compute(entry.getKey(), (k, v) -> modifiedKeys.contains(k) ? v : value);
+            }
+            for (K key : this.entries.keySet()) {
+                if (!current.containsKey(key)) {
+                    this.entries.compute(key, (k, v) -> modifiedKeys.contains(k) ? v : null);
+                }
+            }
+        } finally {
+            this.modifiedKeys = null;
+        }
+    }
+}
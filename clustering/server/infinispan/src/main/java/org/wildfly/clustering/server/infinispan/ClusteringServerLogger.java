@@ -69,6 +69,10 @@ public interface ClusteringServerLogger extends BasicLogger {
     @Message(id = 22, value = "Failed to restore local %s/%s registry entry following network partititon merge")
     void failedToRestoreLocalRegistryEntry(@Cause Throwable cause, String containerName, String cacheName);
 
+    @LogMessage(level = WARN)
+    @Message(id = 23, value = "Invalid read consistency '%s' specified via %s system property, using %s")
+    void invalidReadConsistency(String value, String property, ReadConsistency defaultConsistency);
+
     /* Service provider registry messages */
 
     @LogMessage(level = WARN)
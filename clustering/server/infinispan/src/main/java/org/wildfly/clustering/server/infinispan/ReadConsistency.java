@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan;
+
+import java.util.Locale;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Enumerates the read consistency modes of cache-based registries.
+ * The read consistency of the registries of a given cache is configured via the jboss.clustering.registry.read-consistency.&lt;container&gt;.&lt;cache&gt; system property.
+ */
+public enum ReadConsistency {
+    /**
+     * Reads are performed against the cache.
+     */
+    STRONG,
+    /**
+     * Reads are performed against a local snapshot of the cache, maintained by cache events.
+     * Reads may not yet reflect writes from other members whose events are not yet processed locally,
+     * nor entries received via state transfer, until the snapshot is resynchronized following the topology change.
+     */
+    EVENTUAL,
+    ;
+
+    // Read consistency of the registries of a given cache container and cache, i.e. "strong" or "eventual"
+    private static final String PROPERTY_PREFIX = "jboss.clustering.registry.read-consistency.";
+
+    /**
+     * Returns the read consistency to use for the registries of the specified cache.
+     * Eventual consistency is only supported by caches whose entries are all stored locally, i.e. local or replicated caches.
+     * @param cache a cache
+     * @return the read consistency configured for the specified cache, if supported, otherwise {@link #STRONG}.
+     */
+    public static ReadConsistency forCache(Cache<?, ?> cache) {
+        CacheMode mode = cache.getCacheConfiguration().clustering().cacheMode();
+        if (mode.isClustered() && !mode.isReplicated()) {
+            return STRONG;
+        }
+        String property = property(cache.getCacheManager().getCacheManagerConfiguration().cacheManagerName(), cache.getName());
+        String value = WildFlySecurityManager.getPropertyPrivileged(property, null);
+        return (value != null) ? parse(value, property) : STRONG;
+    }
+
+    /**
+     * Returns the name of the system property configuring the read consistency of the registries of the specified cache.
+     * @param containerName a cache container name
+     * @param cacheName a cache name
+     * @return a system property name
+     */
+    static String property(String containerName, String cacheName) {
+        return PROPERTY_PREFIX + containerName + "." + cacheName;
+    }
+
+    /**
+     * Parses the specified read consistency, logging a warning and falling back to {@link #STRONG} if invalid.
+     * @param value a case-insensitive read consistency name
+     * @param property the system property from which the value was read
+     * @return a read consistency
+     */
+    static ReadConsistency parse(String value, String property) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            ClusteringServerLogger.ROOT_LOGGER.invalidReadConsistency(value, property, STRONG);
+            return STRONG;
+        }
+    }
+}
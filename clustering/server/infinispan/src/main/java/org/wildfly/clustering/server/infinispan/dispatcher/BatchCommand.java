@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.util.List;
+
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * A command that executes a batch of commands, in order, within a single remote invocation.
+ * The outcome of each command, whether a result or an exception, is reported independently.
+ * @param <C> the command context type
+ */
+public class BatchCommand<C> implements Command<BatchCommandResults, C> {
+    private static final long serialVersionUID = -3391024516328549311L;
+
+    private final List<Command<?, ? super C>> commands;
+
+    public BatchCommand(List<Command<?, ? super C>> commands) {
+        this.commands = commands;
+    }
+
+    List<Command<?, ? super C>> getCommands() {
+        return this.commands;
+    }
+
+    @Override
+    public BatchCommandResults execute(C context) {
+        BatchCommandResults results = new BatchCommandResults(this.commands.size());
+        for (Command<?, ? super C> command : this.commands) {
+            try {
+                results.addResult(command.execute(context));
+            } catch (Exception e) {
+                results.addException(e);
+            }
+        }
+        return results;
+    }
+}
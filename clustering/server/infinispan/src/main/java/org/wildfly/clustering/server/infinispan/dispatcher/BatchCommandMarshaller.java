@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * Marshaller for a {@link BatchCommand}.
+ */
+public class BatchCommandMarshaller implements ProtoStreamMarshaller<BatchCommand<Object>> {
+
+    private static final int COMMAND_INDEX = 1;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public BatchCommand<Object> readFrom(ProtoStreamReader reader) throws IOException {
+        List<Command<?, ? super Object>> commands = new ArrayList<>();
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case COMMAND_INDEX:
+                    commands.add(reader.readAny(Command.class));
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        return new BatchCommand<>(commands);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, BatchCommand<Object> command) throws IOException {
+        for (Command<?, ? super Object> subCommand : command.getCommands()) {
+            writer.writeAny(COMMAND_INDEX, subCommand);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<? extends BatchCommand<Object>> getJavaClass() {
+        return (Class<BatchCommand<Object>>) (Class<?>) BatchCommand.class;
+    }
+}
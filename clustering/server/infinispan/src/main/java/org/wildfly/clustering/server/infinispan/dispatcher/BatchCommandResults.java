@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The outcomes of the commands of a {@link BatchCommand}, in command order.
+ * Each outcome is either a result, which may be null, or an exception.
+ */
+public class BatchCommandResults implements Serializable {
+    private static final long serialVersionUID = 5014370419741634215L;
+
+    private final List<Object> results;
+    private final List<Throwable> exceptions;
+
+    BatchCommandResults() {
+        this(4);
+    }
+
+    BatchCommandResults(int size) {
+        this.results = new ArrayList<>(size);
+        this.exceptions = new ArrayList<>(size);
+    }
+
+    void addResult(Object result) {
+        this.results.add(result);
+        this.exceptions.add(null);
+    }
+
+    void addException(Throwable exception) {
+        this.results.add(null);
+        this.exceptions.add(exception);
+    }
+
+    int size() {
+        return this.results.size();
+    }
+
+    Object getResult(int index) {
+        return this.results.get(index);
+    }
+
+    Throwable getException(int index) {
+        return this.exceptions.get(index);
+    }
+
+    /**
+     * Completes the specified future using the outcome of the command with the specified index.
+     * @param index the index of a command within the batch
+     * @param future the future of that command
+     */
+    @SuppressWarnings("unchecked")
+    <R> void complete(int index, CompletableFuture<R> future) {
+        Throwable exception = this.exceptions.get(index);
+        if (exception != null) {
+            future.completeExceptionally(exception);
+        } else {
+            future.complete((R) this.results.get(index));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.io.IOException;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * Marshaller for {@link BatchCommandResults}.
+ * Outcomes are written in command order, where a null result is written as a boolean marker field.
+ */
+public class BatchCommandResultsMarshaller implements ProtoStreamMarshaller<BatchCommandResults> {
+
+    private static final int RESULT_INDEX = 1;
+    private static final int NULL_RESULT_INDEX = 2;
+    private static final int EXCEPTION_INDEX = 3;
+
+    @Override
+    public BatchCommandResults readFrom(ProtoStreamReader reader) throws IOException {
+        BatchCommandResults results = new BatchCommandResults();
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case RESULT_INDEX:
+                    results.addResult(reader.readAny());
+                    break;
+                case NULL_RESULT_INDEX:
+                    reader.readBool();
+                    results.addResult(null);
+                    break;
+                case EXCEPTION_INDEX:
+                    results.addException(reader.readAny(Throwable.class));
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, BatchCommandResults results) throws IOException {
+        for (int i = 0; i < results.size(); ++i) {
+            Throwable exception = results.getException(i);
+            if (exception != null) {
+                writer.writeAny(EXCEPTION_INDEX, exception);
+            } else {
+                Object result = results.getResult(i);
+                if (result != null) {
+                    writer.writeAny(RESULT_INDEX, result);
+                } else {
+                    writer.writeBool(NULL_RESULT_INDEX, true);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Class<? extends BatchCommandResults> getJavaClass() {
+        return BatchCommandResults.class;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * {@link CommandDispatcher} decorator that coalesces commands destined for the same remote member into a single {@link BatchCommand}.
+ * A batch is sent once it reaches its maximum size, or once its window elapses, whichever comes first.
+ * Since a batch is sent asynchronously, failure to send a command is reported via its completion stage, rather than thrown.
+ * Commands destined for the local member, and commands executed on the whole group, are not batched.
+ * @param <C> the command context type
+ */
+public class BatchingCommandDispatcher<C> implements CommandDispatcher<C> {
+
+    private final CommandDispatcher<C> dispatcher;
+    private final Node localMember;
+    private final long window;
+    private final int maxSize;
+    private final ScheduledExecutorService scheduler;
+    private final IntConsumer batchSizeRecorder;
+    private final Map<Node, Batch<C>> batches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a batching command dispatcher.
+     * @param dispatcher the decorated dispatcher
+     * @param localMember the local member
+     * @param scheduler a scheduler, shared by the dispatchers of a factory, for sending batches whose window elapsed
+     * @param window the window within which commands destined for the same member are sent as a single batch
+     * @param maxSize the maximum number of commands per batch
+     * @param batchSizeRecorder records the size of each sent batch
+     */
+    public BatchingCommandDispatcher(CommandDispatcher<C> dispatcher, Node localMember, ScheduledExecutorService scheduler, Duration window, int maxSize, IntConsumer batchSizeRecorder) {
+        this.dispatcher = dispatcher;
+        this.localMember = localMember;
+        this.scheduler = scheduler;
+        this.window = window.toNanos();
+        this.maxSize = maxSize;
+        this.batchSizeRecorder = batchSizeRecorder;
+    }
+
+    @Override
+    public C getContext() {
+        return this.dispatcher.getContext();
+    }
+
+    @Override
+    public <R> CompletionStage<R> executeOnMember(Command<R, ? super C> command, Node member) throws CommandDispatcherException {
+        if (member.equals(this.localMember)) {
+            return this.dispatcher.executeOnMember(command, member);
+        }
+        CompletableFuture<R> future = new CompletableFuture<>();
+        List<Batch<C>> full = new ArrayList<>(1);
+        this.batches.compute(member, (key, batch) -> {
+            Batch<C> result = (batch != null) ? batch : new Batch<>();
+            result.add(command, future);
+            if (result.size() >= this.maxSize) {
+                full.add(result);
+                return null;
+            }
+            if (batch == null) {
+                try {
+                    this.scheduler.schedule(() -> this.flush(key, result), this.window, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // Dispatcher factory was closed, send immediately
+                    full.add(result);
+                    return null;
+                }
+            }
+            return result;
+        });
+        for (Batch<C> batch : full) {
+            this.send(member, batch);
+        }
+        return future;
+    }
+
+    @Override
+    public <R> Map<Node, CompletionStage<R>> executeOnGroup(Command<R, ? super C> command, Node... excludedMembers) throws CommandDispatcherException {
+        return this.dispatcher.executeOnGroup(command, excludedMembers);
+    }
+
+    @Override
+    public void close() {
+        // Send any pending batches
+        for (Node member : this.batches.keySet()) {
+            Batch<C> batch = this.batches.remove(member);
+            if (batch != null) {
+                this.send(member, batch);
+            }
+        }
+        this.dispatcher.close();
+    }
+
+    private void flush(Node member, Batch<C> batch) {
+        if (this.batches.remove(member, batch)) {
+            this.send(member, batch);
+        }
+    }
+
+    private void send(Node member, Batch<C> batch) {
+        int size = batch.size();
+        this.batchSizeRecorder.accept(size);
+        try {
+            if (size == 1) {
+                // No need to wrap a single command
+                batch.sendSingle(this.dispatcher, member);
+            } else {
+                this.dispatcher.executeOnMember(new BatchCommand<>(batch.commands), member).whenComplete(batch);
+            }
+        } catch (CommandDispatcherException | RuntimeException e) {
+            batch.accept(null, e);
+        }
+    }
+
+    private static class Batch<C> implements BiConsumer<BatchCommandResults, Throwable> {
+        final List<Command<?, ? super C>> commands = new ArrayList<>();
+        final List<CompletableFuture<Object>> futures = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        <R> void add(Command<R, ? super C> command, CompletableFuture<R> future) {
+            this.commands.add(command);
+            this.futures.add((CompletableFuture<Object>) future);
+        }
+
+        int size() {
+            return this.commands.size();
+        }
+
+        @SuppressWarnings("unchecked")
+        void sendSingle(CommandDispatcher<C> dispatcher, Node member) throws CommandDispatcherException {
+            CompletableFuture<Object> future = this.futures.get(0);
+            dispatcher.executeOnMember((Command<Object, ? super C>) this.commands.get(0), member).whenComplete((result, exception) -> {
+                if (exception != null) {
+                    future.completeExceptionally(exception);
+                } else {
+                    future.complete(result);
+                }
+            });
+        }
+
+        @Override
+        public void accept(BatchCommandResults results, Throwable exception) {
+            for (int i = 0; i < this.futures.size(); ++i) {
+                CompletableFuture<Object> future = this.futures.get(i);
+                if (exception != null) {
+                    future.completeExceptionally(exception);
+                } else {
+                    results.complete(i, future);
+                }
+            }
+        }
+    }
+}
@@ -33,9 +33,11 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 import org.jgroups.Address;
 import org.jgroups.Event;
@@ -95,12 +97,21 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
     private final MessageDispatcher dispatcher;
     private final Duration timeout;
     private final Function<ClassLoader, ByteBufferMarshaller> marshallerFactory;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final IntConsumer batchSizeRecorder;
+    // Schedules the sending of batches for all dispatchers of this factory, or null, if commands are not batched
+    private final ScheduledThreadPoolExecutor batchScheduler;
 
     @SuppressWarnings("resource")
     public ChannelCommandDispatcherFactory(ChannelCommandDispatcherFactoryConfiguration config) {
         this.marshaller = config.getMarshaller();
         this.timeout = config.getTimeout();
         this.marshallerFactory = config.getMarshallerFactory();
+        this.batchWindow = config.getBatchWindow();
+        this.maxBatchSize = config.getMaxBatchSize();
+        this.batchSizeRecorder = config.getBatchSizeRecorder();
+        this.batchScheduler = !this.batchWindow.isZero() && !this.batchWindow.isNegative() && (this.maxBatchSize > 1) ? createBatchScheduler() : null;
         JChannel channel = config.getChannel();
         RequestCorrelator correlator = new RequestCorrelator(channel.getProtocolStack(), this, channel.getAddress()).setMarshaller(new CommandResponseMarshaller(config));
         this.dispatcher = new MessageDispatcher()
@@ -114,8 +125,20 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
         this.view.compareAndSet(null, channel.getView());
     }
 
+    private static ScheduledThreadPoolExecutor createBatchScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory(BatchingCommandDispatcher.class));
+        scheduler.setRemoveOnCancelPolicy(true);
+        // Do not retain an idle thread
+        scheduler.setKeepAliveTime(1L, TimeUnit.MINUTES);
+        scheduler.allowCoreThreadTimeOut(true);
+        return scheduler;
+    }
+
     @Override
     public void run() {
+        if (this.batchScheduler != null) {
+            this.shutdown(this.batchScheduler);
+        }
         this.shutdown(this.executorService);
         this.dispatcher.stop();
         this.dispatcher.getChannel().setUpHandler(null);
@@ -222,10 +245,11 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
         }
         CommandMarshaller<C> marshaller = new CommandDispatcherMarshaller<>(this.marshaller, id, factory);
         CommandDispatcher<C> localDispatcher = new LocalCommandDispatcher<>(this.getLocalMember(), commandContext);
-        return new ChannelCommandDispatcher<>(this.dispatcher, marshaller, dispatcherMarshaller, this, this.timeout, localDispatcher, () -> {
+        CommandDispatcher<C> dispatcher = new ChannelCommandDispatcher<>(this.dispatcher, marshaller, dispatcherMarshaller, this, this.timeout, localDispatcher, () -> {
             localDispatcher.close();
             this.contexts.remove(id);
         });
+        return (this.batchScheduler != null) ? new BatchingCommandDispatcher<>(dispatcher, this.getLocalMember(), this.batchScheduler, this.batchWindow, this.maxBatchSize, this.batchSizeRecorder) : dispatcher;
     }
 
     @Override
@@ -24,6 +24,7 @@ package org.wildfly.clustering.server.infinispan.dispatcher;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 import org.jgroups.JChannel;
@@ -39,4 +40,11 @@ public interface ChannelCommandDispatcherFactoryConfiguration {
     ByteBufferMarshaller getMarshaller();
     Duration getTimeout();
     Function<ClassLoader, ByteBufferMarshaller> getMarshallerFactory();
+    /**
+     * Returns the window within which commands destined for the same member are sent as a single batch.
+     * @return a duration, or {@link Duration#ZERO}, if commands are not batched
+     */
+    Duration getBatchWindow();
+    int getMaxBatchSize();
+    IntConsumer getBatchSizeRecorder();
 }
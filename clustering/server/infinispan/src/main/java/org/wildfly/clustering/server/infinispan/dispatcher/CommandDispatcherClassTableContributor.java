@@ -38,6 +38,6 @@ public class CommandDispatcherClassTableContributor implements ClassTableContrib
 
     @Override
     public List<Class<?>> getKnownClasses() {
-        return Arrays.<Class<?>>asList(Command.class, NoSuchService.class, ExecutionException.class);
+        return Arrays.<Class<?>>asList(Command.class, NoSuchService.class, ExecutionException.class, BatchCommand.class, BatchCommandResults.class);
     }
 }
@@ -35,5 +35,7 @@ public class CommandDispatcherSerializationContextInitializer extends AbstractSe
     @Override
     public void registerMarshallers(SerializationContext context) {
         context.registerMarshaller(new EnumMarshaller<>(NoSuchService.class));
+        context.registerMarshaller(new BatchCommandMarshaller());
+        context.registerMarshaller(new BatchCommandResultsMarshaller());
     }
 }
@@ -23,6 +23,7 @@ package org.wildfly.clustering.server.infinispan.provider;
 
 import java.util.AbstractMap;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -44,8 +45,10 @@ import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
 import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
 import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
 import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
 import org.infinispan.remoting.transport.Address;
 import org.infinispan.util.concurrent.CompletableFutures;
@@ -65,7 +68,9 @@ import org.wildfly.clustering.provider.ServiceProviderRegistration;
 import org.wildfly.clustering.provider.ServiceProviderRegistration.Listener;
 import org.wildfly.clustering.provider.ServiceProviderRegistry;
 import org.wildfly.clustering.server.group.Group;
+import org.wildfly.clustering.server.infinispan.CacheSnapshot;
 import org.wildfly.clustering.server.infinispan.ClusteringServerLogger;
+import org.wildfly.clustering.server.infinispan.ReadConsistency;
 import org.wildfly.common.function.ExceptionRunnable;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -86,14 +91,40 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
     private final Group<Address> group;
     private final Invoker invoker;
     private final CacheProperties properties;
+    private final boolean eventual;
+    // Local snapshot of the providers per service, only maintained if eventually consistent
+    private final CacheSnapshot<T, Set<Node>> snapshot = new CacheSnapshot<>();
 
     public CacheServiceProviderRegistry(CacheServiceProviderRegistryConfiguration<T> config) {
         this.group = config.getGroup();
         this.cache = config.getCache();
         this.batcher = config.getBatcher();
+        this.eventual = ReadConsistency.forCache(this.cache) == ReadConsistency.EVENTUAL;
         this.cache.addListener(this);
         this.invoker = new RetryingInvoker(this.cache);
         this.properties = new InfinispanCacheProperties(this.cache.getCacheConfiguration());
+        if (this.eventual) {
+            this.snapshot.reset(this::readSnapshot);
+        }
+    }
+
+    private Map<T, Set<Node>> readSnapshot() {
+        Map<T, Set<Node>> snapshot = new HashMap<>();
+        try (CloseableIterator<Map.Entry<T, Set<Address>>> entries = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD).entrySet().iterator()) {
+            while (entries.hasNext()) {
+                Map.Entry<T, Set<Address>> entry = entries.next();
+                snapshot.put(entry.getKey(), this.createProviders(entry.getValue()));
+            }
+        }
+        return snapshot;
+    }
+
+    private Set<Node> createProviders(Set<Address> addresses) {
+        Set<Node> members = new TreeSet<>();
+        for (Address address : addresses) {
+            members.add(this.group.createNode(address));
+        }
+        return Collections.unmodifiableSet(members);
     }
 
     @Override
@@ -171,18 +202,17 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
 
     @Override
     public Set<Node> getProviders(final T service) {
+        if (this.eventual) {
+            return this.snapshot.getEntries().getOrDefault(service, Collections.emptySet());
+        }
         Set<Address> addresses = this.cache.get(service);
         if (addresses == null) return Collections.emptySet();
-        Set<Node> members = new TreeSet<>();
-        for (Address address : addresses) {
-            members.add(this.group.createNode(address));
-        }
-        return Collections.unmodifiableSet(members);
+        return this.createProviders(addresses);
     }
 
     @Override
     public Set<T> getServices() {
-        return this.cache.keySet();
+        return this.eventual ? this.snapshot.getEntries().keySet() : this.cache.keySet();
     }
 
     @TopologyChanged
@@ -215,6 +245,15 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
                 // If this is a merge after cluster split: Re-assert services for local member
                 Set<T> localServices = !previousMembers.contains(localAddress) ? this.listeners.keySet() : Collections.emptySet();
 
+                if (this.eventual) {
+                    try {
+                        // Resynchronize local snapshot with any entries received via state transfer
+                        this.topologyChangeExecutor.submit(() -> this.snapshot.reset(this::readSnapshot));
+                    } catch (RejectedExecutionException e) {
+                        // Executor is shutdown
+                    }
+                }
+
                 if (!leftMembers.isEmpty() || !localServices.isEmpty()) {
                     Batcher<? extends Batch> batcher = this.batcher;
                     Invoker invoker = this.invoker;
@@ -254,6 +293,14 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
     @CacheEntryModified
     public CompletionStage<Void> modified(CacheEntryEvent<T, Set<Address>> event) {
         if (!event.isPre()) {
+            if (this.eventual) {
+                Set<Address> addresses = event.getValue();
+                if (addresses != null) {
+                    this.snapshot.put(event.getKey(), this.createProviders(addresses));
+                } else {
+                    this.snapshot.remove(event.getKey());
+                }
+            }
             Map.Entry<Listener, ExecutorService> entry = this.listeners.get(event.getKey());
             if (entry != null) {
                 Listener listener = entry.getKey();
@@ -280,6 +327,14 @@ public class CacheServiceProviderRegistry<T> implements ServiceProviderRegistry<
         return CompletableFutures.completedNull();
     }
 
+    @CacheEntryRemoved
+    public CompletionStage<Void> removed(CacheEntryRemovedEvent<T, Set<Address>> event) {
+        if (!event.isPre() && this.eventual) {
+            this.snapshot.remove(event.getKey());
+        }
+        return CompletableFutures.completedNull();
+    }
+
     private class RegisterLocalServiceTask implements ExceptionRunnable<CacheException> {
         private final T localService;
 
@@ -40,6 +40,7 @@ import java.util.function.Function;
 
 import org.infinispan.Cache;
 import org.infinispan.commons.CacheException;
+import org.infinispan.commons.util.CloseableIterator;
 import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.metadata.Metadata;
@@ -69,7 +70,9 @@ import org.wildfly.clustering.infinispan.distribution.Locality;
 import org.wildfly.clustering.registry.Registry;
 import org.wildfly.clustering.registry.RegistryListener;
 import org.wildfly.clustering.server.group.Group;
+import org.wildfly.clustering.server.infinispan.CacheSnapshot;
 import org.wildfly.clustering.server.infinispan.ClusteringServerLogger;
+import org.wildfly.clustering.server.infinispan.ReadConsistency;
 import org.wildfly.common.function.ExceptionRunnable;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -90,6 +93,9 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
     private final Runnable closeTask;
     private final Map.Entry<K, V> entry;
     private final Invoker invoker;
+    private final boolean eventual;
+    // Local snapshot of the registry entries per address, only maintained if eventually consistent
+    private final CacheSnapshot<Address, Map.Entry<K, V>> snapshot = new CacheSnapshot<>();
 
     public CacheRegistry(CacheRegistryConfiguration<K, V> config, Map.Entry<K, V> entry, Runnable closeTask) {
         this.cache = config.getCache();
@@ -99,7 +105,22 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
         this.entry = new AbstractMap.SimpleImmutableEntry<>(entry);
         this.invoker = new RetryingInvoker(this.cache);
         this.invoker.invoke(this);
+        this.eventual = ReadConsistency.forCache(this.cache) == ReadConsistency.EVENTUAL;
         this.cache.addListener(this, CacheRegistryFilter.INSTANCE, null);
+        if (this.eventual) {
+            this.snapshot.reset(this::readSnapshot);
+        }
+    }
+
+    private Map<Address, Map.Entry<K, V>> readSnapshot() {
+        Map<Address, Map.Entry<K, V>> snapshot = new HashMap<>();
+        try (CloseableIterator<Map.Entry<Address, Map.Entry<K, V>>> entries = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD).entrySet().iterator()) {
+            while (entries.hasNext()) {
+                Map.Entry<Address, Map.Entry<K, V>> entry = entries.next();
+                snapshot.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return snapshot;
     }
 
     @Override
@@ -158,6 +179,17 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
 
     @Override
     public Map<K, V> getEntries() {
+        if (this.eventual) {
+            Map<Address, Map.Entry<K, V>> snapshot = this.snapshot.getEntries();
+            Map<K, V> result = new HashMap<>();
+            for (Node member : this.group.getMembership().getMembers()) {
+                Map.Entry<K, V> entry = snapshot.get(this.group.getAddress(member));
+                if (entry != null) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return result;
+        }
         Set<Address> addresses = new TreeSet<>();
         for (Node member : this.group.getMembership().getMembers()) {
             addresses.add(this.group.getAddress(member));
@@ -174,7 +206,7 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
     @Override
     public Map.Entry<K, V> getEntry(Node node) {
         Address address = this.group.getAddress(node);
-        return this.cache.get(address);
+        return this.eventual ? this.snapshot.getEntries().get(address) : this.cache.get(address);
     }
 
     @TopologyChanged
@@ -207,6 +239,15 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
                 // If this is a merge after cluster split: re-populate the cache registry with lost registry entries
                 boolean restoreLocalEntry = !previousMembers.contains(localAddress);
 
+                if (this.eventual) {
+                    try {
+                        // Resynchronize local snapshot with any entries received via state transfer
+                        this.topologyChangeExecutor.submit(() -> this.snapshot.reset(this::readSnapshot));
+                    } catch (RejectedExecutionException e) {
+                        // Executor was shutdown
+                    }
+                }
+
                 if (!leftMembers.isEmpty() || restoreLocalEntry) {
                     try {
                         this.topologyChangeExecutor.submit(() -> {
@@ -250,10 +291,15 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
     @CacheEntryCreated
     @CacheEntryModified
     public CompletionStage<Void> event(CacheEntryEvent<Address, Map.Entry<K, V>> event) {
-        if (!event.isOriginLocal() && !event.isPre()) {
+        if (!event.isPre()) {
             Map.Entry<K, V> entry = event.getValue();
             if (entry != null) {
-                this.notifyListeners(event.getType(), entry);
+                if (this.eventual) {
+                    this.snapshot.put(event.getKey(), entry);
+                }
+                if (!event.isOriginLocal()) {
+                    this.notifyListeners(event.getType(), entry);
+                }
             }
         }
         return CompletableFutures.completedNull();
@@ -261,11 +307,16 @@ public class CacheRegistry<K, V> implements Registry<K, V>, CacheEventFilter<Obj
 
     @CacheEntryRemoved
     public CompletionStage<Void> removed(CacheEntryRemovedEvent<Address, Map.Entry<K, V>> event) {
-        if (!event.isOriginLocal() && !event.isPre()) {
-            Map.Entry<K, V> entry = event.getOldValue();
-            // WFLY-4938 For some reason, the old value can be null
-            if (entry != null) {
-                this.notifyListeners(event.getType(), entry);
+        if (!event.isPre()) {
+            if (this.eventual) {
+                this.snapshot.remove(event.getKey());
+            }
+            if (!event.isOriginLocal()) {
+                Map.Entry<K, V> entry = event.getOldValue();
+                // WFLY-4938 For some reason, the old value can be null
+                if (entry != null) {
+                    this.notifyListeners(event.getType(), entry);
+                }
             }
         }
         return CompletableFutures.completedNull();
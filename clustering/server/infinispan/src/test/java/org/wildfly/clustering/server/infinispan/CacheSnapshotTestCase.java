@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CacheSnapshot}.
+ */
+public class CacheSnapshotTestCase {
+
+    @Test
+    public void put() {
+        CacheSnapshot<String, String> snapshot = new CacheSnapshot<>();
+
+        snapshot.put("foo", "a");
+        Assert.assertEquals("a", snapshot.getEntries().get("foo"));
+
+        // Modification replaces previous value
+        snapshot.put("foo", "b");
+        Assert.assertEquals("b", snapshot.getEntries().get("foo"));
+        Assert.assertEquals(1, snapshot.getEntries().size());
+    }
+
+    @Test
+    public void remove() {
+        CacheSnapshot<String, String> snapshot = new CacheSnapshot<>();
+
+        snapshot.put("foo", "a");
+        snapshot.put("bar", "b");
+        snapshot.remove("foo");
+
+        Assert.assertNull(snapshot.getEntries().get("foo"));
+        Assert.assertEquals("b", snapshot.getEntries().get("bar"));
+
+        // Removal of an absent entry is a no-op
+        snapshot.remove("foo");
+        Assert.assertEquals(1, snapshot.getEntries().size());
+    }
+
+    @Test
+    public void reset() {
+        CacheSnapshot<String, String> snapshot = new CacheSnapshot<>();
+
+        snapshot.put("foo", "a");
+        snapshot.put("bar", "b");
+
+        // e.g. following topology change, cache contains entries received via state transfer
+        Map<String, String> cache = new HashMap<>();
+        cache.put("bar", "c");
+        cache.put("baz", "d");
+        snapshot.reset(() -> cache);
+
+        Assert.assertEquals(cache, snapshot.getEntries());
+    }
+
+    @Test
+    public void resetConcurrentWithEvents() {
+        CacheSnapshot<String, String> snapshot = new CacheSnapshot<>();
+
+        snapshot.put("foo", "a");
+        snapshot.put("bar", "b");
+
+        Map<String, String> cache = new HashMap<>();
+        cache.put("foo", "a");
+        cache.put("bar", "b");
+        snapshot.reset(() -> {
+            Map<String, String> contents = new HashMap<>(cache);
+            // Events received after the cache was read must not be overwritten by the reset
+            snapshot.put("bar", "c");
+            snapshot.remove("foo");
+            snapshot.put("baz", "d");
+            return contents;
+        });
+
+        Assert.assertNull(snapshot.getEntries().get("foo"));
+        Assert.assertEquals("c", snapshot.getEntries().get("bar"));
+        Assert.assertEquals("d", snapshot.getEntries().get("baz"));
+        Assert.assertEquals(2, snapshot.getEntries().size());
+
+        // Events following reset are applied
+        snapshot.put("foo", "e");
+        snapshot.remove("baz");
+        Assert.assertEquals("e", snapshot.getEntries().get("foo"));
+        Assert.assertNull(snapshot.getEntries().get("baz"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void unmodifiable() {
+        new CacheSnapshot<String, String>().getEntries().put("foo", "a");
+    }
+}
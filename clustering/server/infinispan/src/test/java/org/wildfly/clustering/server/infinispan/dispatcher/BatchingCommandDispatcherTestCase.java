@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Unit test for {@link BatchingCommandDispatcher}.
+ */
+public class BatchingCommandDispatcherTestCase {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    @After
+    public void destroy() {
+        this.scheduler.shutdownNow();
+    }
+
+    @Test
+    public void batch() throws Exception {
+        CommandDispatcher<String> dispatcher = mock(CommandDispatcher.class);
+        Node localMember = mock(Node.class);
+        Node member = mock(Node.class);
+        ArgumentCaptor<Command<BatchCommandResults, String>> capturedCommand = ArgumentCaptor.forClass(Command.class);
+
+        doAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Command<BatchCommandResults, String>>getArgument(0).execute("context"))).when(dispatcher).executeOnMember(capturedCommand.capture(), same(member));
+
+        try (BatchingCommandDispatcher<String> subject = new BatchingCommandDispatcher<>(dispatcher, localMember, this.scheduler, Duration.ofMinutes(1), 3, this.batchSizes::add)) {
+            CompletionStage<String> result1 = subject.executeOnMember(context -> context + "1", member);
+            CompletionStage<Object> result2 = subject.executeOnMember(context -> null, member);
+
+            // Batch is not yet full
+            verify(dispatcher, never()).executeOnMember(any(), any());
+
+            CompletionStage<String> result3 = subject.executeOnMember(context -> {
+                throw new IllegalStateException();
+            }, member);
+
+            // Verify that all commands were sent via a single batch command
+            verify(dispatcher).executeOnMember(any(), same(member));
+            Assert.assertTrue(capturedCommand.getValue() instanceof BatchCommand);
+
+            Assert.assertEquals("context1", result1.toCompletableFuture().get());
+            Assert.assertNull(result2.toCompletableFuture().get());
+            try {
+                result3.toCompletableFuture().get();
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+
+            Assert.assertEquals(Collections.singletonList(3), this.batchSizes);
+        }
+    }
+
+    @Test
+    public void window() throws Exception {
+        CommandDispatcher<String> dispatcher = mock(CommandDispatcher.class);
+        Node localMember = mock(Node.class);
+        Node member = mock(Node.class);
+
+        doAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Command<Object, String>>getArgument(0).execute("context"))).when(dispatcher).executeOnMember(any(), same(member));
+
+        try (BatchingCommandDispatcher<String> subject = new BatchingCommandDispatcher<>(dispatcher, localMember, this.scheduler, Duration.ofMillis(10), 100, this.batchSizes::add)) {
+            CompletionStage<String> result = subject.executeOnMember(context -> context, member);
+
+            // Single command is sent, unwrapped, once window elapses
+            Assert.assertEquals("context", result.toCompletableFuture().get(1, TimeUnit.MINUTES));
+            verify(dispatcher).executeOnMember(any(), same(member));
+
+            Assert.assertEquals(Collections.singletonList(1), this.batchSizes);
+        }
+        verify(dispatcher).close();
+    }
+
+    @Test
+    public void local() throws Exception {
+        CommandDispatcher<String> dispatcher = mock(CommandDispatcher.class);
+        Node localMember = mock(Node.class);
+        Command<String, String> command = context -> context;
+        CompletionStage<String> expected = CompletableFuture.completedFuture("context");
+
+        doReturn(expected).when(dispatcher).executeOnMember(command, localMember);
+
+        try (BatchingCommandDispatcher<String> subject = new BatchingCommandDispatcher<>(dispatcher, localMember, this.scheduler, Duration.ofMinutes(1), 100, this.batchSizes::add)) {
+            // Commands for the local member are never batched
+            Assert.assertSame(expected, subject.executeOnMember(command, localMember));
+            Assert.assertTrue(this.batchSizes.isEmpty());
+        }
+    }
+}
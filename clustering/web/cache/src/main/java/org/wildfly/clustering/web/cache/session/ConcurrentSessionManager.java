@@ -112,6 +112,31 @@ public class ConcurrentSessionManager<L, B extends Batch> implements SessionMana
         return this.manager.getActiveSessionCount();
     }
 
+    @Override
+    public int getExpirationBacklogSize() {
+        return this.manager.getExpirationBacklogSize();
+    }
+
+    @Override
+    public double getExpirationDrainRate() {
+        return this.manager.getExpirationDrainRate();
+    }
+
+    @Override
+    public long getExpirationRescheduleTime() {
+        return this.manager.getExpirationRescheduleTime();
+    }
+
+    @Override
+    public long getAvoidedRemoteReadCount() {
+        return this.manager.getAvoidedRemoteReadCount();
+    }
+
+    @Override
+    public long getCoalescedRemoteWriteCount() {
+        return this.manager.getCoalescedRemoteWriteCount();
+    }
+
     @Override
     public Duration getDefaultMaxInactiveInterval() {
         return this.manager.getDefaultMaxInactiveInterval();
@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.coarse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+
+/**
+ * The loaded form of a coarse session attributes cache entry whose attributes are marshalled separately.
+ * Holds the deserialized attributes, along with the digest of the marshalled form of each attribute as it was stored in the cache.
+ */
+public class DeltaSessionAttributesEntry {
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Map<String, Long> digests = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the specified attribute to this entry.
+     * @param name an attribute name
+     * @param attribute the deserialized attribute
+     * @param digest the digest of the marshalled attribute, or null, if the marshalled form was not accessible
+     */
+    public void put(String name, Object attribute, Long digest) {
+        this.attributes.put(name, attribute);
+        if (digest != null) {
+            this.digests.put(name, digest);
+        }
+    }
+
+    /**
+     * Returns the deserialized attributes of this entry.
+     * @return a map of attribute name to attribute
+     */
+    public Map<String, Object> getAttributes() {
+        return this.attributes;
+    }
+
+    /**
+     * Returns the digests of the marshalled attributes of this entry, as they were stored in the cache.
+     * @return a map of attribute name to digest
+     */
+    public Map<String, Long> getDigests() {
+        return this.digests;
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a digest of the marshalled form of the specified value.
+     * This must be called before the value is deserialized, while its buffer is still available,
+     * otherwise the value would need to be marshalled again.
+     * @param value a marshalled value
+     * @return a digest, or null, if the marshalled form of this value is not accessible
+     */
+    public static Long digest(Object value) {
+        if (!(value instanceof ByteBufferMarshalledValue)) return null;
+        try {
+            ByteBuffer buffer = ((ByteBufferMarshalledValue<?>) value).getBuffer();
+            if (buffer == null) return null;
+            long digest = 0xcbf29ce484222325L;
+            for (int i = buffer.position(); i < buffer.limit(); ++i) {
+                digest ^= buffer.get(i) & 0xff;
+                digest *= 0x100000001b3L;
+            }
+            return digest;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.coarse;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+
+/**
+ * Mutator for coarse session attributes that replicates only those attributes whose marshalled form changed.
+ * The marshalled form of every attribute is digested when the session is loaded, before it is deserialized, and again when the session is closed.
+ * Only the attributes with a different digest, and the names of removed attributes, are sent to the cache via a map merge function,
+ * while all attributes of a session remain within a single cache entry.
+ * Attributes whose marshalled form cannot be digested are always considered changed.
+ * @param <K> the cache key type
+ * @param <V> the marshalled attribute value type
+ */
+public class DeltaSessionAttributesMutator<K, V> implements Mutator {
+
+    private final K key;
+    private final Map<K, Map<String, V>> cache;
+    private final Map<String, Object> attributes;
+    private final Marshaller<Object, V> marshaller;
+    private final CacheProperties properties;
+    private final Set<String> names;
+    private final Map<String, Long> digests;
+
+    public DeltaSessionAttributesMutator(K key, Map<K, Map<String, V>> cache, DeltaSessionAttributesEntry entry, Marshaller<Object, V> marshaller, CacheProperties properties) {
+        this.key = key;
+        this.cache = cache;
+        this.attributes = entry.getAttributes();
+        this.marshaller = marshaller;
+        this.properties = properties;
+        this.names = new HashSet<>(this.attributes.keySet());
+        this.digests = new HashMap<>(entry.getDigests());
+    }
+
+    @Override
+    public synchronized void mutate() {
+        Map<String, V> updates = new HashMap<>();
+        for (Map.Entry<String, Object> entry : this.attributes.entrySet()) {
+            String name = entry.getKey();
+            V value = this.write(entry.getValue());
+            Long digest = DeltaSessionAttributesEntry.digest(value);
+            if ((digest == null) || !digest.equals(this.digests.get(name))) {
+                updates.put(name, value);
+            }
+            if (digest != null) {
+                this.digests.put(name, digest);
+            } else {
+                this.digests.remove(name);
+            }
+        }
+        Set<String> removals = new HashSet<>(this.names);
+        removals.removeAll(this.attributes.keySet());
+        this.digests.keySet().removeAll(removals);
+        this.names.removeAll(removals);
+        this.names.addAll(updates.keySet());
+
+        if (!updates.isEmpty() || !removals.isEmpty()) {
+            this.cache.compute(this.key, this.properties.isTransactional() ? new CopyOnWriteSessionAttributeMapComputeFunction<>(updates, removals) : new ConcurrentSessionAttributeMapComputeFunction<>(updates, removals));
+        }
+    }
+
+    private V write(Object value) {
+        try {
+            return this.marshaller.write(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.coarse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.wildfly.clustering.ee.cache.function.Operations;
+
+/**
+ * Function that merges the changed entries of a session attributes map into the cache entry containing the marshalled values of all attributes of a session.
+ * Unlike {@link org.wildfly.clustering.ee.cache.function.MapFunction}, this function retains an empty map, since the existence of the cache entry implies a valid session.
+ * @param <V> the marshalled attribute value type
+ */
+public class SessionAttributeMapComputeFunction<V> implements BiFunction<Object, Map<String, V>, Map<String, V>> {
+
+    private final Map<String, V> updates;
+    private final Set<String> removals;
+    private final Operations<Map<String, V>> operations;
+
+    public SessionAttributeMapComputeFunction(Map<String, V> updates, Set<String> removals, Operations<Map<String, V>> operations) {
+        this.updates = updates;
+        this.removals = removals;
+        this.operations = operations;
+    }
+
+    @Override
+    public Map<String, V> apply(Object key, Map<String, V> values) {
+        // Transactional caches must operate on a copy of the map
+        Map<String, V> result = (values != null) ? this.operations.apply(values) : this.operations.get();
+        result.putAll(this.updates);
+        result.keySet().removeAll(this.removals);
+        return result;
+    }
+
+    public Map<String, V> getUpdates() {
+        return this.updates;
+    }
+
+    public Set<String> getRemovals() {
+        return this.removals;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.coarse;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * {@link ProtoStreamMarshaller} for a {@link SessionAttributeMapComputeFunction}.
+ * @param <F> the function type
+ */
+public class SessionAttributeMapComputeFunctionMarshaller<F extends SessionAttributeMapComputeFunction<Object>> implements ProtoStreamMarshaller<F> {
+
+    private static final int UPDATED_NAME_INDEX = 1;
+    private static final int UPDATED_VALUE_INDEX = 2;
+    private static final int REMOVED_NAME_INDEX = 3;
+
+    private final Class<F> targetClass;
+    private final BiFunction<Map<String, Object>, Set<String>, F> factory;
+
+    public SessionAttributeMapComputeFunctionMarshaller(Class<F> targetClass, BiFunction<Map<String, Object>, Set<String>, F> factory) {
+        this.targetClass = targetClass;
+        this.factory = factory;
+    }
+
+    @Override
+    public F readFrom(ProtoStreamReader reader) throws IOException {
+        List<String> names = new LinkedList<>();
+        List<Object> values = new LinkedList<>();
+        Set<String> removals = new HashSet<>();
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case UPDATED_NAME_INDEX:
+                    names.add(reader.readString());
+                    break;
+                case UPDATED_VALUE_INDEX:
+                    values.add(reader.readAny());
+                    break;
+                case REMOVED_NAME_INDEX:
+                    removals.add(reader.readString());
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        Map<String, Object> updates = new HashMap<>();
+        Iterator<String> nameIterator = names.iterator();
+        Iterator<Object> valueIterator = values.iterator();
+        while (nameIterator.hasNext() || valueIterator.hasNext()) {
+            updates.put(nameIterator.next(), valueIterator.next());
+        }
+        return this.factory.apply(updates, removals);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, F function) throws IOException {
+        for (Map.Entry<String, Object> entry : function.getUpdates().entrySet()) {
+            writer.writeString(UPDATED_NAME_INDEX, entry.getKey());
+            writer.writeAny(UPDATED_VALUE_INDEX, entry.getValue());
+        }
+        for (String name : function.getRemovals()) {
+            writer.writeString(REMOVED_NAME_INDEX, name);
+        }
+    }
+
+    @Override
+    public Class<? extends F> getJavaClass() {
+        return this.targetClass;
+    }
+}
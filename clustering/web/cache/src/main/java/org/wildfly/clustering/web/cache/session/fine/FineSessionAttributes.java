@@ -56,9 +56,19 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
     private final CacheProperties properties;
     private final SessionAttributeActivationNotifier notifier;
     private final AtomicReference<Map<String, UUID>> names;
+    private final Map<K, Object> snapshot;
 
     public FineSessionAttributes(NK key, AtomicReference<Map<String, UUID>> names, Map<NK, Map<String, UUID>> namesCache, Function<UUID, K> keyFactory, Map<K, V> attributeCache, Marshaller<Object, V> marshaller, MutatorFactory<K, V> mutatorFactory, Immutability immutability, CacheProperties properties, SessionAttributeActivationNotifier notifier) {
+        this(key, names, new HashMap<>(), namesCache, keyFactory, attributeCache, marshaller, mutatorFactory, immutability, properties, notifier);
+    }
+
+    /**
+     * Creates session attributes using a snapshot of attribute values already read from the cache, e.g. while validating the session, such that reads of these attributes do not require another cache read.
+     * @param snapshot a mutable map of unmarshalled attribute values per attribute key, whose ownership is transferred to this object
+     */
+    public FineSessionAttributes(NK key, AtomicReference<Map<String, UUID>> names, Map<K, Object> snapshot, Map<NK, Map<String, UUID>> namesCache, Function<UUID, K> keyFactory, Map<K, V> attributeCache, Marshaller<Object, V> marshaller, MutatorFactory<K, V> mutatorFactory, Immutability immutability, CacheProperties properties, SessionAttributeActivationNotifier notifier) {
         this.key = key;
+        this.snapshot = snapshot;
         this.names = names;
         this.namesCache = namesCache;
         this.keyFactory = keyFactory;
@@ -79,6 +89,7 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
             this.setNames(this.namesCache.compute(this.key, this.properties.isTransactional() ? new CopyOnWriteSessionAttributeMapRemoveFunction(name) : new ConcurrentSessionAttributeMapRemoveFunction(name)));
 
             K key = this.keyFactory.apply(attributeId);
+            this.snapshot.remove(key);
 
             Object result = this.read(this.attributeCache.remove(key));
             if (result != null) {
@@ -112,6 +123,7 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
 
             K key = this.keyFactory.apply(attributeId);
             V value = this.write(attribute);
+            this.snapshot.remove(key);
 
             if (this.properties.isPersistent()) {
                 this.notifier.prePassivate(attribute);
@@ -157,7 +169,11 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
                 return mutableValue.get();
             }
 
-            Object result = this.read(this.attributeCache.get(key));
+            // Use value from snapshot, if present, otherwise read from cache
+            Object result = this.snapshot.get(key);
+            if (result == null) {
+                result = this.read(this.attributeCache.get(key));
+            }
             if (result != null) {
                 if (this.properties.isPersistent()) {
                     this.notifier.postActivate(result);
@@ -181,15 +197,19 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
     public void close() {
         synchronized (this.mutations) {
             this.notifier.close();
+            // Write all mutated attributes via a single mutator
+            Map<K, V> entries = new HashMap<>();
             for (Map.Entry<K, Optional<Object>> entry : this.mutations.entrySet()) {
                 Optional<Object> optional = entry.getValue();
                 if (optional.isPresent()) {
-                    K key = entry.getKey();
-                    V value = this.write(optional.get());
-                    this.mutatorFactory.createMutator(key, value).mutate();
+                    entries.put(entry.getKey(), this.write(optional.get()));
                 }
             }
+            if (!entries.isEmpty()) {
+                this.mutatorFactory.createMutator(entries).mutate();
+            }
             this.mutations.clear();
+            this.snapshot.clear();
         }
     }
 
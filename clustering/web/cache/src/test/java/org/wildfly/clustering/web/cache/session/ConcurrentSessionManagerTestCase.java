@@ -224,6 +224,28 @@ public class ConcurrentSessionManagerTestCase {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void getExpirationRescheduleTime() {
+        SessionManager<Void, Batch> manager = mock(SessionManager.class);
+        SessionManager<Void, Batch> subject = new ConcurrentSessionManager<>(manager, SimpleManager::new);
+
+        when(manager.getExpirationRescheduleTime()).thenReturn(100L);
+
+        assertEquals(100L, subject.getExpirationRescheduleTime());
+    }
+
+    @Test
+    public void getRemoteAccessStatistics() {
+        SessionManager<Void, Batch> manager = mock(SessionManager.class);
+        SessionManager<Void, Batch> subject = new ConcurrentSessionManager<>(manager, SimpleManager::new);
+
+        when(manager.getAvoidedRemoteReadCount()).thenReturn(10L);
+        when(manager.getCoalescedRemoteWriteCount()).thenReturn(20L);
+
+        assertEquals(10L, subject.getAvoidedRemoteReadCount());
+        assertEquals(20L, subject.getCoalescedRemoteWriteCount());
+    }
+
     @Test
     public void getDefaultMaxInactiveInterval() {
         SessionManager<Void, Batch> manager = mock(SessionManager.class);
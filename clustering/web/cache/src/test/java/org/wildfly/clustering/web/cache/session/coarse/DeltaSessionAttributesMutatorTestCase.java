@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.coarse;
+
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValueFactory;
+import org.wildfly.clustering.marshalling.spi.JavaByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+import org.wildfly.clustering.marshalling.spi.MarshalledValueMarshaller;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+
+/**
+ * Unit test for {@link DeltaSessionAttributesMutator}.
+ */
+public class DeltaSessionAttributesMutatorTestCase {
+
+    private final Marshaller<Object, MarshalledValue<Object, ByteBufferMarshaller>> marshaller = new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(JavaByteBufferMarshaller.INSTANCE));
+
+    @Test
+    public void test() throws IOException {
+        CacheProperties properties = mock(CacheProperties.class);
+        Map<String, Map<String, MarshalledValue<Object, ByteBufferMarshaller>>> cache = spy(new HashMap<>());
+        Map<String, MarshalledValue<Object, ByteBufferMarshaller>> values = new ConcurrentHashMap<>();
+        List<String> list = new ArrayList<>();
+        // Simulate values as stored in the cache, i.e. holding only their marshalled form
+        values.put("immutable", new ByteBufferMarshalledValue<>(JavaByteBufferMarshaller.INSTANCE.write("foo")));
+        values.put("mutable", new ByteBufferMarshalledValue<>(JavaByteBufferMarshaller.INSTANCE.write(list)));
+        values.put("removed", new ByteBufferMarshalledValue<>(JavaByteBufferMarshaller.INSTANCE.write(1)));
+        cache.put("session", new ConcurrentHashMap<>(values));
+
+        DeltaSessionAttributesEntry entry = new DeltaSessionAttributesEntry();
+        for (Map.Entry<String, MarshalledValue<Object, ByteBufferMarshaller>> value : values.entrySet()) {
+            Long digest = DeltaSessionAttributesEntry.digest(value.getValue());
+            Assert.assertNotNull(digest);
+            entry.put(value.getKey(), this.marshaller.read(value.getValue()), digest);
+        }
+        Map<String, Object> attributes = entry.getAttributes();
+        Assert.assertEquals(3, entry.getDigests().size());
+
+        when(properties.isTransactional()).thenReturn(false);
+
+        Mutator mutator = new DeltaSessionAttributesMutator<>("session", cache, entry, this.marshaller, properties);
+
+        // Nothing changed, so the digests of the re-marshalled attributes match those of the stored buffers
+        mutator.mutate();
+        verify(cache, never()).compute(any(), any());
+
+        // Mutate an attribute, remove an attribute, add an attribute
+        @SuppressWarnings("unchecked")
+        List<String> mutable = (List<String>) attributes.get("mutable");
+        mutable.add("bar");
+        attributes.remove("removed");
+        attributes.put("added", "baz");
+
+        mutator.mutate();
+
+        verify(cache).compute(eq("session"), any(ConcurrentSessionAttributeMapComputeFunction.class));
+        Map<String, MarshalledValue<Object, ByteBufferMarshaller>> result = cache.get("session");
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals("foo", this.marshaller.read(result.get("immutable")));
+        Assert.assertEquals(List.of("bar"), this.marshaller.read(result.get("mutable")));
+        Assert.assertEquals("baz", this.marshaller.read(result.get("added")));
+        Assert.assertFalse(result.containsKey("removed"));
+
+        // Subsequent mutation without changes does not replicate anything
+        mutator.mutate();
+        verify(cache, times(1)).compute(any(), any());
+
+        // An empty map must not remove the cache entry
+        attributes.clear();
+        mutator.mutate();
+        Assert.assertNotNull(cache.get("session"));
+        Assert.assertTrue(cache.get("session").isEmpty());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.coarse;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.Tester;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamTesterFactory;
+
+/**
+ * Unit test for {@link SessionAttributeMapComputeFunctionMarshaller}.
+ */
+public class SessionAttributeMapComputeFunctionMarshallerTestCase {
+
+    @Test
+    public void test() throws IOException {
+        Tester<SessionAttributeMapComputeFunction<Object>> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
+        Map<String, Object> updates = Map.of("foo", "bar", "qux", 1);
+        tester.test(new ConcurrentSessionAttributeMapComputeFunction<>(updates, Collections.singleton("baz")), SessionAttributeMapComputeFunctionMarshallerTestCase::assertEquals);
+        tester.test(new CopyOnWriteSessionAttributeMapComputeFunction<>(updates, Collections.singleton("baz")), SessionAttributeMapComputeFunctionMarshallerTestCase::assertEquals);
+        tester.test(new ConcurrentSessionAttributeMapComputeFunction<>(Collections.emptyMap(), Collections.emptySet()), SessionAttributeMapComputeFunctionMarshallerTestCase::assertEquals);
+    }
+
+    static <V> void assertEquals(SessionAttributeMapComputeFunction<V> function1, SessionAttributeMapComputeFunction<V> function2) {
+        Assert.assertEquals(function1.getUpdates(), function2.getUpdates());
+        Assert.assertEquals(function1.getRemovals(), function2.getRemovals());
+    }
+}
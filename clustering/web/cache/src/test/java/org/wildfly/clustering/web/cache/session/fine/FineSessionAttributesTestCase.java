@@ -0,0 +1,157 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.fine;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.cache.session.SessionAttributeActivationNotifier;
+
+/**
+ * Unit test for {@link FineSessionAttributes}, verifying the use of its attribute snapshot and its bulk mutation on close.
+ */
+public class FineSessionAttributesTestCase {
+
+    private static final String SESSION_ID = "session";
+
+    private final Map<String, Map<String, UUID>> namesCache = new HashMap<>();
+    private final Map<UUID, Object> attributeCache = mock(Map.class);
+    private final Marshaller<Object, Object> marshaller = mock(Marshaller.class);
+    private final MutatorFactory<UUID, Object> mutatorFactory = mock(MutatorFactory.class);
+    private final Immutability immutability = mock(Immutability.class);
+    private final CacheProperties properties = mock(CacheProperties.class);
+    private final SessionAttributeActivationNotifier notifier = mock(SessionAttributeActivationNotifier.class);
+    private final UUID fooId = UUID.randomUUID();
+    private final UUID barId = UUID.randomUUID();
+    private final Map<UUID, Object> snapshot = new HashMap<>();
+
+    private FineSessionAttributes<String, UUID, Object> attributes;
+
+    @Before
+    public void init() throws Exception {
+        Map<String, UUID> names = new HashMap<>();
+        names.put("foo", this.fooId);
+        names.put("bar", this.barId);
+        this.namesCache.put(SESSION_ID, new HashMap<>(names));
+
+        this.snapshot.put(this.fooId, "foo");
+        this.snapshot.put(this.barId, "bar");
+
+        when(this.marshaller.read(any())).then(invocation -> invocation.getArgument(0));
+        when(this.marshaller.write(any())).then(invocation -> invocation.getArgument(0));
+        when(this.immutability.test(any())).thenReturn(true);
+
+        this.attributes = new FineSessionAttributes<>(SESSION_ID, new AtomicReference<>(Collections.unmodifiableMap(names)), this.snapshot, this.namesCache, Function.identity(), this.attributeCache, this.marshaller, this.mutatorFactory, this.immutability, this.properties, this.notifier);
+    }
+
+    @Test
+    public void getAttributeFromSnapshot() {
+        assertEquals("foo", this.attributes.getAttribute("foo"));
+        assertEquals("bar", this.attributes.getAttribute("bar"));
+
+        // Attributes were read from the snapshot, not the cache
+        verify(this.attributeCache, never()).get(any());
+    }
+
+    @Test
+    public void setAttributeInvalidatesSnapshot() {
+        when(this.attributeCache.put(this.fooId, "baz")).thenReturn("foo");
+        when(this.attributeCache.get(this.fooId)).thenReturn("baz");
+
+        assertEquals("foo", this.attributes.setAttribute("foo", "baz"));
+
+        // Subsequent read must not return stale value from snapshot
+        assertEquals("baz", this.attributes.getAttribute("foo"));
+        verify(this.attributeCache).get(this.fooId);
+
+        // Other attributes are still read from the snapshot
+        assertEquals("bar", this.attributes.getAttribute("bar"));
+        verify(this.attributeCache, never()).get(this.barId);
+    }
+
+    @Test
+    public void removeAttributeInvalidatesSnapshot() {
+        when(this.attributeCache.remove(this.fooId)).thenReturn("foo");
+
+        assertEquals("foo", this.attributes.removeAttribute("foo"));
+
+        assertNull(this.attributes.getAttribute("foo"));
+        assertFalse(this.snapshot.containsKey(this.fooId));
+        verify(this.attributeCache, never()).get(any());
+    }
+
+    @Test
+    public void closeMutatesInBulk() {
+        Mutator mutator = mock(Mutator.class);
+        Object foo = new Object();
+        Object bar = new Object();
+        this.snapshot.put(this.fooId, foo);
+        this.snapshot.put(this.barId, bar);
+        Map<UUID, Object> expected = new HashMap<>();
+        expected.put(this.fooId, foo);
+        expected.put(this.barId, bar);
+
+        // Treat snapshot values as mutable
+        when(this.immutability.test(any())).thenReturn(false);
+        when(this.mutatorFactory.createMutator(anyMap())).thenReturn(mutator);
+
+        assertSame(foo, this.attributes.getAttribute("foo"));
+        assertSame(bar, this.attributes.getAttribute("bar"));
+
+        this.attributes.close();
+
+        // All mutable attributes are mutated via a single mutator
+        verify(this.mutatorFactory).createMutator(eq(expected));
+        verify(mutator).mutate();
+        verify(this.mutatorFactory, never()).createMutator(any(UUID.class), any());
+
+        // Snapshot is discarded on close
+        assertTrue(this.snapshot.isEmpty());
+    }
+
+    @Test
+    public void closeWithoutMutations() {
+        assertEquals("foo", this.attributes.getAttribute("foo"));
+
+        this.attributes.close();
+
+        // Immutable attributes require no mutation
+        verify(this.mutatorFactory, never()).createMutator(anyMap());
+        verify(this.mutatorFactory, never()).createMutator(any(UUID.class), any());
+    }
+}
@@ -30,8 +30,10 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.clustering.service.ServiceConfigurator;
+import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.service.session.DistributableSessionManagementProvider;
 import org.wildfly.clustering.web.session.DistributableSessionManagementConfiguration;
+import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
 import org.wildfly.extension.clustering.web.session.hotrod.HotRodSessionManagementConfiguration;
 import org.wildfly.extension.clustering.web.session.hotrod.HotRodSessionManagementProvider;
 
@@ -51,7 +53,13 @@ public class HotRodSessionManagementServiceConfigurator extends SessionManagemen
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.containerName = REMOTE_CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.configurationName = CACHE_CONFIGURATION.resolveModelAttribute(context, model).asStringOrNull();
-        return super.configure(context, model);
+        super.configure(context, model);
+        // A remote cache cannot apply attribute deltas
+        SessionAttributePersistenceStrategy strategy = this.getAttributePersistenceStrategy();
+        if (strategy == SessionAttributePersistenceStrategy.DELTA) {
+            throw new OperationFailedException(Logger.ROOT_LOGGER.unsupportedAttributePersistenceStrategy(strategy));
+        }
+        return this;
     }
 
     @Override
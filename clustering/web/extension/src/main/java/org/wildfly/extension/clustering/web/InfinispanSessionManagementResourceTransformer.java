@@ -25,7 +25,9 @@ package org.wildfly.extension.clustering.web;
 import java.util.function.Consumer;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
 
 /**
  * @author Paul Ferraro
@@ -42,6 +44,12 @@ public class InfinispanSessionManagementResourceTransformer implements Consumer<
     public void accept(ModelVersion version) {
         ResourceTransformationDescriptionBuilder builder = this.parent.addChildResource(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH);
 
+        if (DistributableWebModel.VERSION_3_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(SessionGranularity.SESSION_DELTA.name())), SessionManagementResourceDefinition.Attribute.GRANULARITY.getDefinition())
+                    .end();
+        }
+
         new RankedAffinityResourceTransformer(builder).accept(version);
     }
 }
@@ -47,7 +47,12 @@ public class MutableSessionManagementConfiguration implements DistributableSessi
     }
 
     public void setSessionGranularity(String value) {
-        this.granularity = SessionGranularity.valueOf(this.replacer.apply(value));
+        SessionGranularity granularity = SessionGranularity.valueOf(this.replacer.apply(value));
+        // Delta granularity is only configurable via the distributable-web subsystem
+        if (granularity == SessionGranularity.SESSION_DELTA) {
+            throw new IllegalArgumentException(value);
+        }
+        this.granularity = granularity;
     }
 
     @Override
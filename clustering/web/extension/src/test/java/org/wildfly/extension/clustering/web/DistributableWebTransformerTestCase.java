@@ -26,7 +26,9 @@ import java.util.EnumSet;
 import java.util.List;
 
 import org.jboss.as.clustering.subsystem.AdditionalInitialization;
+import org.jboss.as.clustering.subsystem.RejectedValueConfig;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.model.test.FailedOperationTransformationConfig;
 import org.jboss.as.model.test.ModelTestControllerVersion;
 import org.jboss.as.model.test.ModelTestUtils;
@@ -164,6 +166,17 @@ public class DistributableWebTransformerTestCase extends AbstractSubsystemTest {
         Assert.assertTrue(legacyServices.isSuccessfulBoot());
 
         List<ModelNode> operations = builder.parseXmlResource("wildfly-distributable-web-transform-reject.xml");
-        ModelTestUtils.checkFailedTransformedBootOperations(services, this.version, operations, new FailedOperationTransformationConfig());
+        ModelTestUtils.checkFailedTransformedBootOperations(services, this.version, operations, createFailedOperationTransformationConfig(this.version));
+    }
+
+    private static FailedOperationTransformationConfig createFailedOperationTransformationConfig(ModelVersion version) {
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        PathAddress subsystemAddress = PathAddress.pathAddress(DistributableWebResourceDefinition.PATH);
+
+        if (DistributableWebModel.VERSION_3_0_0.requiresTransformation(version)) {
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH), new RejectedValueConfig(SessionManagementResourceDefinition.Attribute.GRANULARITY, value -> value.asString().equals(SessionGranularity.SESSION_DELTA.name()), value -> new ModelNode(SessionGranularity.SESSION.name())));
+        }
+
+        return config;
     }
 }
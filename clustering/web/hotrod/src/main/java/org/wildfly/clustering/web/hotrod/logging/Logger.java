@@ -29,6 +29,7 @@ import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
+import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
 
 /**
  * @author Paul Ferraro
@@ -64,4 +65,15 @@ public interface Logger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 11, value = "Session %s is missing cache entry for attribute %s")
     void missingSessionAttributeCacheEntry(String sessionId, String attribute);
+
+    @LogMessage(level = WARN)
+    @Message(id = 12, value = "Failed to write access meta data of session %s")
+    void failedToWriteSessionAccessMetaData(@Cause Throwable cause, String sessionId);
+
+    @Message(id = 13, value = "%s session attribute persistence is not supported by a remote cache")
+    String unsupportedAttributePersistenceStrategy(SessionAttributePersistenceStrategy strategy);
+
+    @LogMessage(level = WARN)
+    @Message(id = 14, value = "Invalid access meta data flush interval '%s' specified via %s system property, access meta data will not be coalesced")
+    void invalidAccessFlushInterval(String value, String property);
 }
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.wildfly.clustering.ee.Key;
+
+/**
+ * Locates the value of a session from cache entries that were retrieved via a bulk read.
+ * Allows the entries needed by multiple factories to be read from the remote cache via a single round trip.
+ * @param <V> the value type
+ */
+public interface BulkLocator<V> {
+
+    /**
+     * Returns the keys of the cache entries needed to locate the value of the specified session.
+     * @param id a session identifier
+     * @return a set of cache keys
+     */
+    Set<Key<String>> getKeys(String id);
+
+    /**
+     * Locates the value of the specified session from the specified cache entries.
+     * @param id a session identifier
+     * @param entries the cache entries returned by a bulk read containing at least the keys returned by {@link #getKeys(String)}
+     * @return the value of the session, or null, if the session was not found
+     */
+    V findValue(String id, Map<Key<String>, Object> entries);
+}
@@ -0,0 +1,185 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.wildfly.clustering.context.DefaultExecutorService;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.web.cache.session.SessionAccessMetaData;
+import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Coalesces writes of session access meta data to the remote cache.
+ * Rather than writing the last access time of a session to the remote cache on every request, the most recent access meta data of a session
+ * is retained locally and written to the remote cache in batches.
+ * A pending write is flushed once the flush interval has elapsed, or earlier, if other members of the cluster, which only see the previously written access meta data,
+ * might otherwise consider the session to be expired.
+ */
+public class CoalescingSessionAccessMetaDataWriter implements AutoCloseable {
+
+    private final RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaData> cache;
+    private final Duration interval;
+    private final Map<SessionAccessMetaDataKey, PendingWrite> writes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory(this.getClass()));
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final Duration period;
+
+    public CoalescingSessionAccessMetaDataWriter(RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaData> cache, Duration interval) {
+        this.cache = cache;
+        this.interval = interval;
+        this.period = Duration.ofMillis(Math.max(interval.toMillis() / 2, 1));
+        this.executor.scheduleWithFixedDelay(this::flush, this.period.toMillis(), this.period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a mutator that defers the write of the specified access meta data.
+     * @param key the cache key of the access meta data
+     * @param metaData the access meta data of a session
+     * @param expiration the time at which the session expires, according to the access meta data already written to the remote cache, or null if the session does not expire
+     * @return a mutator
+     */
+    public Mutator createMutator(SessionAccessMetaDataKey key, SessionAccessMetaData metaData, Instant expiration) {
+        return () -> this.write(key, metaData, expiration);
+    }
+
+    /**
+     * Returns the access meta data pending a write to the remote cache, if any.
+     * @param key the cache key of the access meta data
+     * @return the pending access meta data, or null, if no write is pending
+     */
+    public SessionAccessMetaData find(SessionAccessMetaDataKey key) {
+        PendingWrite write = this.writes.get(key);
+        return (write != null) ? write.getMetaData() : null;
+    }
+
+    /**
+     * Discards any pending write of the specified access meta data.
+     * @param key the cache key of the access meta data
+     */
+    public void discard(SessionAccessMetaDataKey key) {
+        this.writes.remove(key);
+    }
+
+    /**
+     * Returns the number of remote writes avoided by coalescing access meta data writes.
+     * @return a number of remote operations
+     */
+    public long getCoalescedWriteCount() {
+        return this.deferred.sum() - this.flushed.sum() - this.writes.size();
+    }
+
+    @Override
+    public void close() {
+        WildFlySecurityManager.doUnchecked(this.executor, DefaultExecutorService.SHUTDOWN_ACTION);
+        try {
+            this.executor.awaitTermination(this.interval.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.flush(Instant.MAX);
+    }
+
+    private void write(SessionAccessMetaDataKey key, SessionAccessMetaData metaData, Instant expiration) {
+        Instant now = Instant.now();
+        Instant deadline = now.plus(this.interval);
+        if (expiration != null) {
+            // Leave enough time for the scheduled flush to complete
+            Instant latest = expiration.minus(this.interval);
+            if (latest.isBefore(deadline)) {
+                deadline = latest;
+            }
+        }
+        if (deadline.isAfter(now.plus(this.period))) {
+            this.deferred.increment();
+            this.writes.merge(key, new PendingWrite(metaData, deadline), PendingWrite::merge);
+        } else {
+            this.writes.remove(key);
+            this.cache.put(key, metaData, 0, TimeUnit.SECONDS, 0, TimeUnit.SECONDS);
+        }
+    }
+
+    private void flush() {
+        this.flush(Instant.now().plus(this.period));
+    }
+
+    private void flush(Instant horizon) {
+        List<Map.Entry<SessionAccessMetaDataKey, CompletableFuture<SessionAccessMetaData>>> futures = new LinkedList<>();
+        for (Map.Entry<SessionAccessMetaDataKey, PendingWrite> entry : this.writes.entrySet()) {
+            SessionAccessMetaDataKey key = entry.getKey();
+            PendingWrite write = entry.getValue();
+            if (!write.getDeadline().isAfter(horizon) && this.writes.remove(key, write)) {
+                // Use replace, so as not to resurrect the meta data of a session that was since removed
+                futures.add(Map.entry(key, this.cache.replaceAsync(key, write.getMetaData(), 0, TimeUnit.SECONDS, 0, TimeUnit.SECONDS)));
+            }
+        }
+        for (Map.Entry<SessionAccessMetaDataKey, CompletableFuture<SessionAccessMetaData>> entry : futures) {
+            try {
+                entry.getValue().get();
+                this.flushed.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                Logger.ROOT_LOGGER.failedToWriteSessionAccessMetaData(e.getCause(), entry.getKey().getId());
+            }
+        }
+    }
+
+    private static class PendingWrite {
+        private final SessionAccessMetaData metaData;
+        private final Instant deadline;
+
+        PendingWrite(SessionAccessMetaData metaData, Instant deadline) {
+            this.metaData = metaData;
+            this.deadline = deadline;
+        }
+
+        SessionAccessMetaData getMetaData() {
+            return this.metaData;
+        }
+
+        Instant getDeadline() {
+            return this.deadline;
+        }
+
+        PendingWrite merge(PendingWrite write) {
+            // Retain the earliest deadline, which was computed relative to the last written access meta data
+            return new PendingWrite(write.metaData, this.deadline.isBefore(write.deadline) ? this.deadline : write.deadline);
+        }
+    }
+}
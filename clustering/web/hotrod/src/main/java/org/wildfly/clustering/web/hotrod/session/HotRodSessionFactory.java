@@ -25,11 +25,16 @@ package org.wildfly.clustering.web.hotrod.session;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.RemoteCache;
@@ -42,6 +47,7 @@ import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.context.DefaultExecutorService;
 import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.ee.hotrod.HotRodConfiguration;
 import org.wildfly.clustering.web.LocalContextFactory;
@@ -58,6 +64,7 @@ import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.RemoteSessionAccessStatistics;
 import org.wildfly.clustering.web.session.SessionExpirationListener;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -65,7 +72,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @author Paul Ferraro
  */
 @ClientListener(converterFactoryName = "___eager-key-value-version-converter", useRawData = true) // References org.infinispan.server.hotrod.KeyValueVersionConverterFactory
-public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V, L> implements Registrar<SessionExpirationListener> {
+public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V, L> implements Registrar<SessionExpirationListener>, RemoteSessionAccessStatistics {
 
     private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<L>> creationMetaDataCache;
     private final RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataCache;
@@ -75,6 +82,10 @@ public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V,
     private final Collection<SessionExpirationListener> listeners = new CopyOnWriteArraySet<>();
     private final ExecutorService executor = Executors.newCachedThreadPool(new DefaultThreadFactory(this.getClass()));
     private final boolean nearCacheEnabled;
+    private final RemoteCache<Key<String>, Object> cache;
+    private final BulkLocator<CompositeSessionMetaDataEntry<L>> metaDataLocator;
+    private final BulkLocator<V> attributesLocator;
+    private final LongAdder bulkReads = new LongAdder();
 
     /**
      * Constructs a new session factory
@@ -83,11 +94,15 @@ public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V,
      * @param attributesFactory
      * @param localContextFactory
      */
+    @SuppressWarnings("unchecked")
     public HotRodSessionFactory(HotRodConfiguration config, SessionMetaDataFactory<CompositeSessionMetaDataEntry<L>> metaDataFactory, SessionAttributesFactory<C, V> attributesFactory, LocalContextFactory<L> localContextFactory) {
         super(metaDataFactory, attributesFactory, localContextFactory);
         this.metaDataFactory = metaDataFactory;
         this.attributesFactory = attributesFactory;
         this.attributesRemover = attributesFactory;
+        this.cache = config.getCache();
+        this.metaDataLocator = (metaDataFactory instanceof BulkLocator) ? (BulkLocator<CompositeSessionMetaDataEntry<L>>) metaDataFactory : null;
+        this.attributesLocator = (attributesFactory instanceof BulkLocator) ? (BulkLocator<V>) attributesFactory : null;
         this.creationMetaDataCache = config.getCache();
         this.accessMetaDataCache= config.getCache();
         this.creationMetaDataCache.addClientListener(this, null, new Object[] { Boolean.TRUE });
@@ -103,6 +118,39 @@ public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V,
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        super.close();
+    }
+
+    @Override
+    public Map.Entry<CompositeSessionMetaDataEntry<L>, V> findValue(String id) {
+        if ((this.metaDataLocator == null) || (this.attributesLocator == null)) {
+            return super.findValue(id);
+        }
+        Set<Key<String>> keys = new HashSet<>(this.metaDataLocator.getKeys(id));
+        keys.addAll(this.attributesLocator.getKeys(id));
+        // Read the entries of the meta data and attributes of the session via a single remote operation
+        Map<Key<String>, Object> entries = this.cache.getAll(keys);
+        CompositeSessionMetaDataEntry<L> metaDataValue = this.metaDataLocator.findValue(id, entries);
+        if (metaDataValue != null) {
+            this.bulkReads.increment();
+            V attributesValue = this.attributesLocator.findValue(id, entries);
+            if (attributesValue != null) {
+                return new SimpleImmutableEntry<>(metaDataValue, attributesValue);
+            }
+            // Purge obsolete meta data
+            this.getMetaDataFactory().purge(id);
+        }
+        return null;
+    }
+
+    @Override
+    public long getAvoidedRemoteReadCount() {
+        return this.bulkReads.sum();
+    }
+
+    @Override
+    public long getCoalescedRemoteWriteCount() {
+        return (this.metaDataFactory instanceof HotRodSessionMetaDataFactory) ? ((HotRodSessionMetaDataFactory<?>) this.metaDataFactory).getCoalescedWriteCount() : 0L;
     }
 
     @ClientCacheEntryExpired
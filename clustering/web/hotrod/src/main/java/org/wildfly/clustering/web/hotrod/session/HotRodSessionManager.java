@@ -37,6 +37,7 @@ import org.wildfly.clustering.web.cache.session.SimpleImmutableSession;
 import org.wildfly.clustering.web.cache.session.ValidSession;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.session.ImmutableSession;
+import org.wildfly.clustering.web.session.RemoteSessionAccessStatistics;
 import org.wildfly.clustering.web.session.Session;
 import org.wildfly.clustering.web.session.SessionExpirationListener;
 import org.wildfly.clustering.web.session.SessionManager;
@@ -58,6 +59,7 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     private final SC context;
     private final Batcher<TransactionBatch> batcher;
     private final Duration stopTimeout;
+    private final RemoteSessionAccessStatistics remoteAccessStatistics;
     private final Consumer<ImmutableSession> closeTask = Functions.discardingConsumer();
 
     private volatile Duration defaultMaxInactiveInterval = Duration.ofMinutes(30L);
@@ -71,6 +73,7 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
         this.identifierFactory = configuration.getIdentifierFactory();
         this.batcher = configuration.getBatcher();
         this.stopTimeout = configuration.getStopTimeout();
+        this.remoteAccessStatistics = configuration.getRemoteAccessStatistics();
     }
 
     @Override
@@ -154,4 +157,31 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     public long getActiveSessionCount() {
         return this.getActiveSessions().size();
     }
+
+    @Override
+    public int getExpirationBacklogSize() {
+        // Sessions are expired sequentially
+        return 0;
+    }
+
+    @Override
+    public double getExpirationDrainRate() {
+        return 0;
+    }
+
+    @Override
+    public long getExpirationRescheduleTime() {
+        // Expiration is not rescheduled on topology change
+        return 0;
+    }
+
+    @Override
+    public long getAvoidedRemoteReadCount() {
+        return this.remoteAccessStatistics.getAvoidedRemoteReadCount();
+    }
+
+    @Override
+    public long getCoalescedRemoteWriteCount() {
+        return this.remoteAccessStatistics.getCoalescedRemoteWriteCount();
+    }
 }
@@ -27,6 +27,7 @@ import java.util.function.Supplier;
 import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.ee.Batcher;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
+import org.wildfly.clustering.web.session.RemoteSessionAccessStatistics;
 import org.wildfly.clustering.web.session.SessionExpirationListener;
 
 /**
@@ -41,4 +42,5 @@ public interface HotRodSessionManagerConfiguration<C> {
     Supplier<String> getIdentifierFactory();
     Batcher<TransactionBatch> getBatcher();
     Duration getStopTimeout();
+    RemoteSessionAccessStatistics getRemoteAccessStatistics();
 }
@@ -38,11 +38,14 @@ import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.SessionFactory;
 import org.wildfly.clustering.web.cache.session.SessionMetaDataFactory;
 import org.wildfly.clustering.web.hotrod.session.coarse.CoarseSessionAttributesFactory;
+import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.hotrod.session.fine.FineSessionAttributesFactory;
+import org.wildfly.clustering.web.session.RemoteSessionAccessStatistics;
 import org.wildfly.clustering.web.session.SessionExpirationListener;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Factory for creating session managers.
@@ -54,17 +57,22 @@ import org.wildfly.clustering.web.session.SessionManagerFactory;
  * @author Paul Ferraro
  */
 public class HotRodSessionManagerFactory<S, SC, AL, MC, LC> implements SessionManagerFactory<SC, LC, TransactionBatch> {
+    // Interval, in milliseconds, at which coalesced access meta data writes are flushed to the remote cache
+    private static final String ACCESS_FLUSH_INTERVAL_PROPERTY = "jboss.web.hotrod.access-flush-interval";
 
     private final Registrar<SessionExpirationListener> expirationRegistrar;
     private final Batcher<TransactionBatch> batcher;
     private final Duration transactionTimeout;
     private final SessionFactory<SC, CompositeSessionMetaDataEntry<LC>, ?, LC> factory;
+    private final RemoteSessionAccessStatistics remoteAccessStatistics;
 
     public HotRodSessionManagerFactory(HotRodSessionManagerFactoryConfiguration<S, SC, AL, MC, LC> config) {
-        SessionMetaDataFactory<CompositeSessionMetaDataEntry<LC>> metaDataFactory = new HotRodSessionMetaDataFactory<>(config);
+        Duration accessFlushInterval = parseAccessFlushInterval(WildFlySecurityManager.getPropertyPrivileged(ACCESS_FLUSH_INTERVAL_PROPERTY, "0"));
+        SessionMetaDataFactory<CompositeSessionMetaDataEntry<LC>> metaDataFactory = new HotRodSessionMetaDataFactory<>(config, accessFlushInterval);
         HotRodSessionFactory<SC, ?, LC> sessionFactory = new HotRodSessionFactory<>(config, metaDataFactory, this.createSessionAttributesFactory(config), config.getLocalContextFactory());
         this.factory = sessionFactory;
         this.expirationRegistrar = sessionFactory;
+        this.remoteAccessStatistics = sessionFactory;
         this.batcher = new HotRodBatcher(config.getCache());
         this.transactionTimeout = Duration.ofMillis(config.getCache().getRemoteCacheManager().getConfiguration().transactionTimeout());
     }
@@ -74,6 +82,7 @@ public class HotRodSessionManagerFactory<S, SC, AL, MC, LC> implements SessionMa
         Registrar<SessionExpirationListener> expirationRegistrar = this.expirationRegistrar;
         Batcher<TransactionBatch> batcher = this.batcher;
         Duration transactionTimeout = this.transactionTimeout;
+        RemoteSessionAccessStatistics remoteAccessStatistics = this.remoteAccessStatistics;
         HotRodSessionManagerConfiguration<SC> config = new HotRodSessionManagerConfiguration<SC>() {
             @Override
             public SessionExpirationListener getExpirationListener() {
@@ -104,6 +113,11 @@ public class HotRodSessionManagerFactory<S, SC, AL, MC, LC> implements SessionMa
             public Duration getStopTimeout() {
                 return transactionTimeout;
             }
+
+            @Override
+            public RemoteSessionAccessStatistics getRemoteAccessStatistics() {
+                return remoteAccessStatistics;
+            }
         };
         return new ConcurrentSessionManager<>(new HotRodSessionManager<>(this.factory, config), ConcurrentManager::new);
     }
@@ -113,6 +127,24 @@ public class HotRodSessionManagerFactory<S, SC, AL, MC, LC> implements SessionMa
         this.factory.close();
     }
 
+    /**
+     * Parses the interval at which coalesced access meta data writes are flushed, logging a warning and disabling coalescing if invalid.
+     * @param value a number of milliseconds
+     * @return a flush interval, where zero disables coalescing
+     */
+    static Duration parseAccessFlushInterval(String value) {
+        try {
+            long interval = Long.parseLong(value.trim());
+            if (interval >= 0) {
+                return Duration.ofMillis(interval);
+            }
+        } catch (NumberFormatException e) {
+            // Fall through
+        }
+        Logger.ROOT_LOGGER.invalidAccessFlushInterval(value, ACCESS_FLUSH_INTERVAL_PROPERTY);
+        return Duration.ZERO;
+    }
+
     private SessionAttributesFactory<SC, ?> createSessionAttributesFactory(HotRodSessionManagerFactoryConfiguration<S, SC, AL, MC, LC> configuration) {
         switch (configuration.getAttributePersistenceStrategy()) {
             case FINE: {
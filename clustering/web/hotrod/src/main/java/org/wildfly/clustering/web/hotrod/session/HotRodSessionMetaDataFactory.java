@@ -23,6 +23,7 @@
 package org.wildfly.clustering.web.hotrod.session;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -51,7 +52,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 /**
  * @author Paul Ferraro
  */
-public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<CompositeSessionMetaDataEntry<L>> {
+public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<CompositeSessionMetaDataEntry<L>>, BulkLocator<CompositeSessionMetaDataEntry<L>> {
 
     private final RemoteCache<Key<String>, Object> cache;
     private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<L>> creationMetaDataCache;
@@ -59,8 +60,18 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
     private final RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataCache;
     private final MutatorFactory<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataMutatorFactory;
     private final CacheProperties properties;
+    private final CoalescingSessionAccessMetaDataWriter accessMetaDataWriter;
 
     public HotRodSessionMetaDataFactory(HotRodConfiguration configuration) {
+        this(configuration, Duration.ZERO);
+    }
+
+    /**
+     * Constructs a new session meta data factory
+     * @param configuration the configuration of this factory
+     * @param accessMetaDataFlushInterval the interval at which access meta data writes are flushed to the remote cache, or zero, to write access meta data on every request
+     */
+    public HotRodSessionMetaDataFactory(HotRodConfiguration configuration, Duration accessMetaDataFlushInterval) {
         this.cache = configuration.getCache();
         this.creationMetaDataCache = configuration.getCache();
         this.creationMetaDataMutatorFactory = new RemoteCacheMutatorFactory<>(this.creationMetaDataCache, new Function<SessionCreationMetaDataEntry<L>, Duration>() {
@@ -72,6 +83,23 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
         this.accessMetaDataCache = configuration.getCache();
         this.accessMetaDataMutatorFactory = new RemoteCacheMutatorFactory<>(this.accessMetaDataCache);
         this.properties = configuration.getCacheProperties();
+        // Writes cannot be deferred beyond the scope of a transaction
+        this.accessMetaDataWriter = !this.properties.isTransactional() && !accessMetaDataFlushInterval.isNegative() && !accessMetaDataFlushInterval.isZero() ? new CoalescingSessionAccessMetaDataWriter(this.accessMetaDataCache, accessMetaDataFlushInterval) : null;
+    }
+
+    @Override
+    public void close() {
+        if (this.accessMetaDataWriter != null) {
+            this.accessMetaDataWriter.close();
+        }
+    }
+
+    /**
+     * Returns the number of remote writes avoided by coalescing access meta data writes.
+     * @return a number of remote operations
+     */
+    public long getCoalescedWriteCount() {
+        return (this.accessMetaDataWriter != null) ? this.accessMetaDataWriter.getCoalescedWriteCount() : 0L;
     }
 
     @Override
@@ -85,17 +113,32 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
 
     @Override
     public CompositeSessionMetaDataEntry<L> findValue(String id) {
-        SessionCreationMetaDataKey creationMetaDataKey = new SessionCreationMetaDataKey(id);
-        SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
-        Set<Key<String>> keys = new HashSet<>(3);
-        keys.add(creationMetaDataKey);
-        keys.add(accessMetaDataKey);
         // Use bulk read
-        Map<Key<String>, Object> entries = this.cache.getAll(keys);
+        return this.findValue(id, this.cache.getAll(this.getKeys(id)));
+    }
+
+    @Override
+    public Set<Key<String>> getKeys(String id) {
+        Set<Key<String>> keys = new HashSet<>(3);
+        keys.add(new SessionCreationMetaDataKey(id));
+        keys.add(new SessionAccessMetaDataKey(id));
+        return keys;
+    }
+
+    @Override
+    public CompositeSessionMetaDataEntry<L> findValue(String id, Map<Key<String>, Object> entries) {
+        SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
         @SuppressWarnings("unchecked")
-        SessionCreationMetaDataEntry<L> creationMetaDataEntry = (SessionCreationMetaDataEntry<L>) entries.get(creationMetaDataKey);
+        SessionCreationMetaDataEntry<L> creationMetaDataEntry = (SessionCreationMetaDataEntry<L>) entries.get(new SessionCreationMetaDataKey(id));
         SessionAccessMetaData accessMetaData = (SessionAccessMetaData) entries.get(accessMetaDataKey);
         if ((creationMetaDataEntry != null) && (accessMetaData != null)) {
+            if (this.accessMetaDataWriter != null) {
+                // Prefer any more recent access meta data not yet written to the remote cache
+                SessionAccessMetaData pendingAccessMetaData = this.accessMetaDataWriter.find(accessMetaDataKey);
+                if (pendingAccessMetaData != null) {
+                    accessMetaData = pendingAccessMetaData;
+                }
+            }
             return new CompositeSessionMetaDataEntry<>(creationMetaDataEntry, accessMetaData);
         }
         return null;
@@ -110,7 +153,7 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
         SessionCreationMetaData creationMetaData = new MutableSessionCreationMetaData(entry.getCreationMetaData(), creationMutator);
 
         SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
-        Mutator accessMutator = this.properties.isTransactional() && newSession ? Mutator.PASSIVE : this.accessMetaDataMutatorFactory.createMutator(accessMetaDataKey, entry.getAccessMetaData());
+        Mutator accessMutator = this.properties.isTransactional() && newSession ? Mutator.PASSIVE : (this.accessMetaDataWriter != null) && !newSession ? this.accessMetaDataWriter.createMutator(accessMetaDataKey, entry.getAccessMetaData(), getExpiration(entry)) : this.accessMetaDataMutatorFactory.createMutator(accessMetaDataKey, entry.getAccessMetaData());
         SessionAccessMetaData accessMetaData = new MutableSessionAccessMetaData(entry.getAccessMetaData(), accessMutator);
 
         return new CompositeSessionMetaData(creationMetaData, accessMetaData);
@@ -123,8 +166,19 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
 
     @Override
     public boolean remove(String id) {
-        this.accessMetaDataCache.remove(new SessionAccessMetaDataKey(id));
+        SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
+        if (this.accessMetaDataWriter != null) {
+            this.accessMetaDataWriter.discard(accessMetaDataKey);
+        }
+        this.accessMetaDataCache.remove(accessMetaDataKey);
         this.creationMetaDataCache.remove(new SessionCreationMetaDataKey(id));
         return true;
     }
+
+    private static <L> Instant getExpiration(CompositeSessionMetaDataEntry<L> entry) {
+        // Computed before the access meta data of the current request is applied
+        ImmutableSessionMetaData metaData = new CompositeSessionMetaData(entry.getCreationMetaData(), entry.getAccessMetaData());
+        Duration maxInactiveInterval = metaData.getMaxInactiveInterval();
+        return !maxInactiveInterval.isZero() ? metaData.getLastAccessEndTime().plus(maxInactiveInterval) : null;
+    }
 }
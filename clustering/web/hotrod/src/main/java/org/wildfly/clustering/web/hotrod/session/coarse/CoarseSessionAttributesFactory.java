@@ -23,11 +23,14 @@
 package org.wildfly.clustering.web.hotrod.session.coarse;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Mutator;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
@@ -41,6 +44,7 @@ import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.coarse.CoarseImmutableSessionAttributes;
 import org.wildfly.clustering.web.cache.session.coarse.CoarseSessionAttributes;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.BulkLocator;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
@@ -49,7 +53,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 /**
  * @author Paul Ferraro
  */
-public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>>, BulkLocator<Map<String, Object>> {
 
     private final RemoteCache<SessionAttributesKey, V> cache;
     private final Marshaller<Map<String, Object>, V> marshaller;
@@ -81,7 +85,21 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
 
     @Override
     public Map<String, Object> findValue(String id) {
-        V value = this.cache.get(new SessionAttributesKey(id));
+        return this.getValue(id, this.cache.get(new SessionAttributesKey(id)));
+    }
+
+    @Override
+    public Set<Key<String>> getKeys(String id) {
+        return Collections.singleton(new SessionAttributesKey(id));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Object> findValue(String id, Map<Key<String>, Object> entries) {
+        return this.getValue(id, (V) entries.get(new SessionAttributesKey(id)));
+    }
+
+    private Map<String, Object> getValue(String id, V value) {
         if (value != null) {
             try {
                 return this.marshaller.read(value);
@@ -26,12 +26,14 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.hotrod.RemoteCacheMap;
@@ -45,6 +47,7 @@ import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.fine.FineImmutableSessionAttributes;
 import org.wildfly.clustering.web.cache.session.fine.FineSessionAttributes;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.BulkLocator;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
@@ -56,7 +59,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
  * A separate cache entry stores the activate attribute names for the session.
  * @author Paul Ferraro
  */
-public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, AtomicReference<Map<String, UUID>>> {
+public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, AtomicReference<Map<String, UUID>>>, BulkLocator<AtomicReference<Map<String, UUID>>> {
 
     private final RemoteCache<SessionAttributeNamesKey, Map<String, UUID>> namesCache;
     private final RemoteCache<SessionAttributeKey, V> attributeCache;
@@ -91,8 +94,22 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         return this.getValue(id, false);
     }
 
+    @Override
+    public Set<Key<String>> getKeys(String id) {
+        return Collections.singleton(new SessionAttributeNamesKey(id));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public AtomicReference<Map<String, UUID>> findValue(String id, Map<Key<String>, Object> entries) {
+        return this.getValue(id, (Map<String, UUID>) entries.get(new SessionAttributeNamesKey(id)), true);
+    }
+
     private AtomicReference<Map<String, UUID>> getValue(String id, boolean purgeIfInvalid) {
-        Map<String, UUID> names = this.namesCache.get(new SessionAttributeNamesKey(id));
+        return this.getValue(id, this.namesCache.get(new SessionAttributeNamesKey(id)), purgeIfInvalid);
+    }
+
+    private AtomicReference<Map<String, UUID>> getValue(String id, Map<String, UUID> names, boolean purgeIfInvalid) {
         if (names != null) {
             // Validate all attributes
             Map<SessionAttributeKey, String> attributes = new HashMap<>();
@@ -0,0 +1,80 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.web.cache.session.SessionAccessMetaData;
+import org.wildfly.clustering.web.cache.session.SimpleSessionAccessMetaData;
+
+/**
+ * Unit test for {@link CoalescingSessionAccessMetaDataWriter}.
+ */
+public class CoalescingSessionAccessMetaDataWriterTestCase {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void test() {
+        RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaData> cache = mock(RemoteCache.class);
+        when(cache.replaceAsync(any(), any(), anyLong(), any(), anyLong(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        SessionAccessMetaDataKey key = new SessionAccessMetaDataKey("deferred");
+        SessionAccessMetaData metaData = new SimpleSessionAccessMetaData();
+        SessionAccessMetaDataKey urgentKey = new SessionAccessMetaDataKey("urgent");
+        SessionAccessMetaData urgentMetaData = new SimpleSessionAccessMetaData();
+
+        try (CoalescingSessionAccessMetaDataWriter writer = new CoalescingSessionAccessMetaDataWriter(cache, Duration.ofMinutes(1))) {
+            // Session that does not expire
+            writer.createMutator(key, metaData, null).mutate();
+            writer.createMutator(key, metaData, Instant.now().plus(Duration.ofHours(1))).mutate();
+
+            verifyNoInteractions(cache);
+            Assert.assertSame(metaData, writer.find(key));
+            Assert.assertEquals(1L, writer.getCoalescedWriteCount());
+
+            // Session that would otherwise appear expired to other members before the next flush
+            writer.createMutator(urgentKey, urgentMetaData, Instant.now().plus(Duration.ofSeconds(30))).mutate();
+
+            verify(cache).put(urgentKey, urgentMetaData, 0, TimeUnit.SECONDS, 0, TimeUnit.SECONDS);
+            Assert.assertNull(writer.find(urgentKey));
+
+            // Removed sessions are never written
+            writer.createMutator(urgentKey, urgentMetaData, null).mutate();
+            writer.discard(urgentKey);
+            Assert.assertNull(writer.find(urgentKey));
+        }
+
+        // Pending writes are flushed on close
+        verify(cache).replaceAsync(key, metaData, 0, TimeUnit.SECONDS, 0, TimeUnit.SECONDS);
+        verify(cache, never()).replaceAsync(eq(urgentKey), any(), anyLong(), any(), anyLong(), any());
+    }
+}
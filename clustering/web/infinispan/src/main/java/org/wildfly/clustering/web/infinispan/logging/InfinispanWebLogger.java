@@ -93,4 +93,8 @@ public interface InfinispanWebLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 13, value = "Disabling expiration for cache '%s'. Web session expiration should be configured per \u00A77.5 of the servlet specification.")
     void expirationDisabled(String cacheName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 14, value = "Ignoring invalid value '%s' specified via %s system property, using %d instead")
+    void invalidSystemProperty(String value, String property, long defaultValue);
 }
@@ -0,0 +1,205 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.infinispan.session;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.wildfly.clustering.context.DefaultExecutorService;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Expires sessions in parallel using a bounded number of threads.
+ * Sessions are partitioned into batches of sessions sharing the same segment, each of which is processed by a single thread.
+ * Each session is still expired via its own batch, so that the failure to expire one session does not affect the others, and expiration listeners are notified exactly as they would be otherwise.
+ * Sessions that could not be expired are passed to a retry handler.
+ */
+public class ExpiredSessionSweeper implements Consumer<String>, AutoCloseable {
+
+    private final Predicate<String> task;
+    private final Consumer<String> retry;
+    private final ToIntFunction<String> segmenter;
+    private final int batchSize;
+    private final Duration closeTimeout;
+    private final ThreadPoolExecutor executor;
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicInteger backlog = new AtomicInteger(0);
+    private final LongAdder expired = new LongAdder();
+    // Start time, and number of sessions processed, since the backlog was last empty
+    private final AtomicLong cycleStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger cycleCount = new AtomicInteger(0);
+    private volatile double drainRate = 0;
+
+    /**
+     * Creates a new sweeper.
+     * @param task expires a given session, returning true if successful
+     * @param retry handles a session that could not be expired
+     * @param segmenter returns the segment of a given session
+     * @param concurrency the maximum number of threads used to expire sessions
+     * @param batchSize the maximum number of sessions processed by a single task
+     * @param closeTimeout the duration to wait for in-progress expiration on close
+     * @throws IllegalArgumentException if the concurrency or batch size is not positive
+     */
+    public ExpiredSessionSweeper(Predicate<String> task, Consumer<String> retry, ToIntFunction<String> segmenter, int concurrency, int batchSize, Duration closeTimeout) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(Integer.toString(batchSize));
+        }
+        this.task = task;
+        this.retry = retry;
+        this.segmenter = segmenter;
+        this.batchSize = batchSize;
+        this.closeTimeout = closeTimeout;
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new DefaultThreadFactory(this.getClass()));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Enqueues the specified expired session.
+     * @param id a session identifier
+     */
+    @Override
+    public void accept(String id) {
+        if (this.backlog.getAndIncrement() == 0) {
+            this.cycleStart.set(System.nanoTime());
+            this.cycleCount.set(0);
+        }
+        this.pending.add(id);
+        if (this.draining.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Sweeper was closed, sessions will be expired by the next primary owner
+                for (String pending = this.pending.poll(); pending != null; pending = this.pending.poll()) {
+                    this.backlog.decrementAndGet();
+                }
+                this.draining.set(false);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        WildFlySecurityManager.doPrivilegedWithParameter(this.executor, DefaultExecutorService.SHUTDOWN_ACTION);
+        if (!this.closeTimeout.isNegative() && !this.closeTimeout.isZero()) {
+            try {
+                this.executor.awaitTermination(this.closeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sessions pending expiration.
+     * @return the number of enqueued, or in-progress, session expirations
+     */
+    public int getBacklogSize() {
+        return this.backlog.get();
+    }
+
+    /**
+     * Returns the number of sessions expired by this sweeper.
+     * @return the number of expired sessions
+     */
+    public long getExpiredCount() {
+        return this.expired.sum();
+    }
+
+    /**
+     * Returns the rate at which the most recent backlog was drained.
+     * @return the number of sessions processed per second
+     */
+    public double getDrainRate() {
+        return this.drainRate;
+    }
+
+    private void drain() {
+        do {
+            // Partition pending sessions by segment
+            Map<Integer, List<String>> batches = new HashMap<>();
+            for (String id = this.pending.poll(); id != null; id = this.pending.poll()) {
+                Integer segment = this.segmenter.applyAsInt(id);
+                List<String> batch = batches.computeIfAbsent(segment, key -> new ArrayList<>(this.batchSize));
+                batch.add(id);
+                if (batch.size() == this.batchSize) {
+                    this.submit(batches.remove(segment));
+                }
+            }
+            for (List<String> batch : batches.values()) {
+                this.submit(batch);
+            }
+            this.draining.set(false);
+            // Handle any sessions enqueued since our last poll, unless another drain task is already in progress
+        } while (!this.pending.isEmpty() && this.draining.compareAndSet(false, true));
+    }
+
+    private void submit(List<String> batch) {
+        try {
+            this.executor.execute(() -> this.expire(batch));
+        } catch (RejectedExecutionException e) {
+            // Sweeper was closed, sessions will be expired by the next primary owner
+            this.backlog.addAndGet(-batch.size());
+        }
+    }
+
+    private void expire(List<String> batch) {
+        int processed = 0;
+        for (String id : batch) {
+            // Abandon remaining sessions if sweeper was closed
+            if (this.executor.isShutdown()) break;
+            if (this.task.test(id)) {
+                this.expired.increment();
+            } else {
+                this.retry.accept(id);
+            }
+            processed += 1;
+        }
+        int count = this.cycleCount.addAndGet(processed);
+        if (this.backlog.addAndGet(-batch.size()) == 0) {
+            long nanos = System.nanoTime() - this.cycleStart.get();
+            if (nanos > 0) {
+                this.drainRate = (double) count * TimeUnit.SECONDS.toNanos(1) / nanos;
+            }
+            InfinispanWebLogger.ROOT_LOGGER.debugf("Processed %d expired sessions in %d ms", count, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+}
@@ -61,6 +61,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.web.session.Session;
 import org.wildfly.clustering.web.session.SessionExpirationListener;
 import org.wildfly.clustering.web.session.SessionExpirationMetaData;
+import org.wildfly.clustering.web.session.SessionExpirationStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 
 /**
@@ -82,6 +83,7 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
     private final SessionFactory<SC, MV, AV, LC> factory;
     private final IdentifierFactory<String> identifierFactory;
     private final Scheduler<String, SessionExpirationMetaData> expirationScheduler;
+    private final SessionExpirationStatistics expirationStatistics;
     private final Recordable<ImmutableSessionMetaData> recorder;
     private final SC context;
     private final Runnable startTask;
@@ -101,6 +103,7 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
         this.identifierFactory = configuration.getIdentifierFactory();
         this.batcher = configuration.getBatcher();
         this.expirationScheduler = configuration.getExpirationScheduler();
+        this.expirationStatistics = configuration.getExpirationStatistics();
         this.recorder = configuration.getInactiveSessionRecorder();
         this.context = configuration.getServletContext();
         this.contextRegistrar = configuration.getContextRegistrar();
@@ -229,6 +232,32 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
         return this.getActiveSessions().size();
     }
 
+    @Override
+    public int getExpirationBacklogSize() {
+        return this.expirationStatistics.getExpirationBacklogSize();
+    }
+
+    @Override
+    public double getExpirationDrainRate() {
+        return this.expirationStatistics.getExpirationDrainRate();
+    }
+
+    @Override
+    public long getExpirationRescheduleTime() {
+        return this.expirationStatistics.getExpirationRescheduleTime();
+    }
+
+    @Override
+    public long getAvoidedRemoteReadCount() {
+        // Sessions are not stored remotely
+        return 0;
+    }
+
+    @Override
+    public long getCoalescedRemoteWriteCount() {
+        return 0;
+    }
+
     @CacheEntryRemoved
     public CompletionStage<Void> removed(CacheEntryRemovedEvent<SessionCreationMetaDataKey, ?> event) {
         if (event.isPre()) {
@@ -35,6 +35,7 @@ import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.web.session.SessionExpirationListener;
 import org.wildfly.clustering.web.session.SessionExpirationMetaData;
+import org.wildfly.clustering.web.session.SessionExpirationStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 
 /**
@@ -51,6 +52,7 @@ public interface InfinispanSessionManagerConfiguration<SC, LC> {
     IdentifierFactory<String> getIdentifierFactory();
     Batcher<TransactionBatch> getBatcher();
     Scheduler<String, SessionExpirationMetaData> getExpirationScheduler();
+    SessionExpirationStatistics getExpirationStatistics();
     Recordable<ImmutableSessionMetaData> getInactiveSessionRecorder();
     Registrar<SessionExpirationListener> getExpirationRegistar();
     Runnable getStartTask();
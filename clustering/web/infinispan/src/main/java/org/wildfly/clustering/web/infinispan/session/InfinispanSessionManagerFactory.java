@@ -27,10 +27,10 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.infinispan.Cache;
+import org.infinispan.distribution.ch.KeyPartitioner;
 import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.context.DefaultExecutorService;
 import org.wildfly.clustering.context.DefaultThreadFactory;
@@ -42,19 +42,19 @@ import org.wildfly.clustering.ee.cache.ConcurrentManager;
 import org.wildfly.clustering.ee.cache.IdentifierFactory;
 import org.wildfly.clustering.ee.cache.SimpleManager;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
+import org.wildfly.clustering.ee.infinispan.GroupedKey;
 import org.wildfly.clustering.ee.infinispan.PrimaryOwnerLocator;
 import org.wildfly.clustering.ee.infinispan.affinity.AffinityIdentifierFactory;
 import org.wildfly.clustering.ee.infinispan.scheduler.PrimaryOwnerScheduler;
 import org.wildfly.clustering.ee.infinispan.scheduler.ScheduleLocalKeysTask;
+import org.wildfly.clustering.ee.infinispan.scheduler.ScheduleTask;
 import org.wildfly.clustering.ee.infinispan.scheduler.ScheduleWithMetaDataCommand;
 import org.wildfly.clustering.ee.infinispan.scheduler.ScheduleWithTransientMetaDataCommand;
-import org.wildfly.clustering.ee.infinispan.scheduler.Scheduler;
 import org.wildfly.clustering.ee.infinispan.scheduler.SchedulerListener;
 import org.wildfly.clustering.ee.infinispan.scheduler.SchedulerTopologyChangeListener;
 import org.wildfly.clustering.group.Group;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
 import org.wildfly.clustering.infinispan.distribution.CacheLocality;
-import org.wildfly.clustering.infinispan.distribution.Locality;
 import org.wildfly.clustering.infinispan.distribution.SimpleLocality;
 import org.wildfly.clustering.marshalling.spi.MarshalledValue;
 import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
@@ -67,10 +67,12 @@ import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.SessionFactory;
 import org.wildfly.clustering.web.cache.session.SessionMetaDataFactory;
 import org.wildfly.clustering.web.infinispan.session.coarse.CoarseSessionAttributesFactory;
+import org.wildfly.clustering.web.infinispan.session.coarse.DeltaCoarseSessionAttributesFactory;
 import org.wildfly.clustering.web.infinispan.session.fine.FineSessionAttributesFactory;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.web.session.SessionExpirationListener;
 import org.wildfly.clustering.web.session.SessionExpirationMetaData;
+import org.wildfly.clustering.web.session.SessionExpirationStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
@@ -87,19 +89,19 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @author Paul Ferraro
  */
 public class InfinispanSessionManagerFactory<S, SC, AL, MC, LC> implements SessionManagerFactory<SC, LC, TransactionBatch>, Runnable {
-
     final Batcher<TransactionBatch> batcher;
     final Registrar<SessionExpirationListener> expirationRegistrar;
     final CacheProperties properties;
     final Cache<Key<String>, ?> cache;
     final org.wildfly.clustering.ee.Scheduler<String, SessionExpirationMetaData> scheduler;
+    final SessionExpirationStatistics expirationStatistics;
     final SpecificationProvider<S, SC, AL> provider;
     final ExecutorService executor = Executors.newCachedThreadPool(new DefaultThreadFactory(this.getClass()));
     final SessionAttributeActivationNotifierFactory<S, SC, AL, LC, TransactionBatch> notifierFactory;
 
     private final KeyAffinityServiceFactory affinityFactory;
     private final SessionFactory<SC, CompositeSessionMetaDataEntry<LC>, ?, LC> factory;
-    private final BiConsumer<Locality, Locality> scheduleTask;
+    private final ScheduleTask scheduleTask;
     private final SchedulerListener listener;
 
     public InfinispanSessionManagerFactory(InfinispanSessionManagerFactoryConfiguration<S, SC, AL, MC, LC> config) {
@@ -124,13 +126,31 @@ public class InfinispanSessionManagerFactory<S, SC, AL, MC, LC> implements Sessi
         this.factory = new CompositeSessionFactory<>(metaDataFactory, this.createSessionAttributesFactory(config), config.getLocalContextFactory());
         ExpiredSessionRemover<SC, ?, ?, LC> remover = new ExpiredSessionRemover<>(this.factory);
         this.expirationRegistrar = remover;
-        Scheduler<String, SessionExpirationMetaData> localScheduler = new SessionExpirationScheduler<>(this.batcher, this.factory.getMetaDataFactory(), remover, Duration.ofMillis(this.cache.getCacheConfiguration().transaction().cacheStopTimeout()));
+        @SuppressWarnings("deprecation")
+        KeyPartitioner partitioner = this.cache.getAdvancedCache().getComponentRegistry().getLocalComponent(KeyPartitioner.class);
+        SessionExpirationScheduler<CompositeSessionMetaDataEntry<LC>> localScheduler = new SessionExpirationScheduler<>(this.batcher, this.factory.getMetaDataFactory(), remover, Duration.ofMillis(this.cache.getCacheConfiguration().transaction().cacheStopTimeout()), id -> (partitioner != null) ? partitioner.getSegment(new GroupedKey<>(id)) : 0);
         CommandDispatcherFactory dispatcherFactory = config.getCommandDispatcherFactory();
         Group group = dispatcherFactory.getGroup();
         this.scheduler = group.isSingleton() ? localScheduler : new PrimaryOwnerScheduler<>(dispatcherFactory, this.cache.getName(), localScheduler, new PrimaryOwnerLocator<>(this.cache, config.getMemberFactory()), SessionCreationMetaDataKey::new, this.properties.isTransactional() ? ScheduleWithMetaDataCommand::new : ScheduleWithTransientMetaDataCommand::new);
 
         this.scheduleTask = new ScheduleLocalKeysTask<>(this.cache, SessionCreationMetaDataKeyFilter.INSTANCE, localScheduler);
         this.listener = new SchedulerTopologyChangeListener<>(this.cache, localScheduler, this.scheduleTask);
+        this.expirationStatistics = new SessionExpirationStatistics() {
+            @Override
+            public int getExpirationBacklogSize() {
+                return localScheduler.getExpirationBacklogSize();
+            }
+
+            @Override
+            public double getExpirationDrainRate() {
+                return localScheduler.getExpirationDrainRate();
+            }
+
+            @Override
+            public long getExpirationRescheduleTime() {
+                return InfinispanSessionManagerFactory.this.listener.getRescheduleTime();
+            }
+        };
     }
 
     @Override
@@ -187,6 +207,11 @@ public class InfinispanSessionManagerFactory<S, SC, AL, MC, LC> implements Sessi
                 return InfinispanSessionManagerFactory.this.scheduler;
             }
 
+            @Override
+            public SessionExpirationStatistics getExpirationStatistics() {
+                return InfinispanSessionManagerFactory.this.expirationStatistics;
+            }
+
             @Override
             public Runnable getStartTask() {
                 return InfinispanSessionManagerFactory.this;
@@ -205,6 +230,13 @@ public class InfinispanSessionManagerFactory<S, SC, AL, MC, LC> implements Sessi
             case FINE: {
                 return new FineSessionAttributesFactory<>(new InfinispanMarshalledValueSessionAttributesFactoryConfiguration<>(configuration, this.notifierFactory, this.executor));
             }
+            case DELTA: {
+                // Attribute deltas are only meaningful if the cache entry is ever marshalled
+                if (this.properties.isMarshalling()) {
+                    return new DeltaCoarseSessionAttributesFactory<>(new InfinispanMarshalledValueSessionAttributesFactoryConfiguration<>(configuration, this.notifierFactory, this.executor));
+                }
+                return new CoarseSessionAttributesFactory<>(new InfinispanMarshalledValueSessionAttributesFactoryConfiguration<>(configuration, this.notifierFactory, this.executor));
+            }
             case COARSE: {
                 return new CoarseSessionAttributesFactory<>(new InfinispanMarshalledValueSessionAttributesFactoryConfiguration<>(configuration, this.notifierFactory, this.executor));
             }
@@ -22,12 +22,16 @@
 package org.wildfly.clustering.web.infinispan.session;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.ee.Batcher;
 import org.wildfly.clustering.ee.Remover;
+import org.wildfly.clustering.ee.cache.scheduler.BucketedScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.ee.cache.scheduler.ScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.SortedScheduledEntries;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.infinispan.GroupedKey;
@@ -37,6 +41,7 @@ import org.wildfly.clustering.web.cache.session.ImmutableSessionMetaDataFactory;
 import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.web.session.SessionExpirationMetaData;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Session expiration scheduler that eagerly expires sessions as soon as they are eligible.
@@ -44,17 +49,78 @@ import org.wildfly.clustering.web.session.SessionExpirationMetaData;
  * @author Paul Ferraro
  */
 public class SessionExpirationScheduler<MV> implements Scheduler<String, SessionExpirationMetaData>, Predicate<String> {
+    // Resolution, in milliseconds, of the bucketed expiration index, or 0 to use sorted entries
+    private static final String EXPIRATION_RESOLUTION_PROPERTY = "jboss.web.session-expiration-resolution";
+    // Maximum number of threads used to expire sessions, or 0 to expire sessions sequentially via the scheduler thread
+    private static final String EXPIRATION_CONCURRENCY_PROPERTY = "jboss.web.session-expiration-concurrency";
+    // Maximum number of sessions of the same segment expired by a single expiration task
+    private static final String EXPIRATION_BATCH_SIZE_PROPERTY = "jboss.web.session-expiration-batch-size";
+
+    private static final int DEFAULT_EXPIRATION_BATCH_SIZE = 16;
 
     private final LocalScheduler<String> scheduler;
     private final Batcher<TransactionBatch> batcher;
     private final Remover<String> remover;
     private final ImmutableSessionMetaDataFactory<MV> metaDataFactory;
+    private final ExpiredSessionSweeper sweeper;
 
     public SessionExpirationScheduler(Batcher<TransactionBatch> batcher, ImmutableSessionMetaDataFactory<MV> metaDataFactory, Remover<String> remover, Duration closeTimeout) {
-        this.scheduler = new LocalScheduler<>(new SortedScheduledEntries<>(), this, closeTimeout);
+        this(batcher, metaDataFactory, remover, closeTimeout, id -> 0);
+    }
+
+    public SessionExpirationScheduler(Batcher<TransactionBatch> batcher, ImmutableSessionMetaDataFactory<MV> metaDataFactory, Remover<String> remover, Duration closeTimeout, ToIntFunction<String> segmenter) {
+        this(batcher, metaDataFactory, remover, closeTimeout, segmenter, (int) getProperty(EXPIRATION_CONCURRENCY_PROPERTY, 0, Integer.MAX_VALUE, 0), (int) getProperty(EXPIRATION_BATCH_SIZE_PROPERTY, 1, Integer.MAX_VALUE, DEFAULT_EXPIRATION_BATCH_SIZE));
+    }
+
+    SessionExpirationScheduler(Batcher<TransactionBatch> batcher, ImmutableSessionMetaDataFactory<MV> metaDataFactory, Remover<String> remover, Duration closeTimeout, ToIntFunction<String> segmenter, int concurrency, int batchSize) {
+        Duration resolution = Duration.ofMillis(getProperty(EXPIRATION_RESOLUTION_PROPERTY, 0, Long.MAX_VALUE, 0));
+        ScheduledEntries<String, Instant> entries = !resolution.isZero() ? new BucketedScheduledEntries<>(resolution) : new SortedScheduledEntries<>();
+        this.scheduler = new LocalScheduler<>(entries, this, closeTimeout);
         this.batcher = batcher;
         this.metaDataFactory = metaDataFactory;
         this.remover = remover;
+        this.sweeper = (concurrency > 0) ? new ExpiredSessionSweeper(this::expire, this::schedule, segmenter, concurrency, batchSize, closeTimeout) : null;
+    }
+
+    private static long getProperty(String property, long minimum, long maximum, long defaultValue) {
+        String value = WildFlySecurityManager.getPropertyPrivileged(property, null);
+        return (value != null) ? parse(property, value, minimum, maximum, defaultValue) : defaultValue;
+    }
+
+    /**
+     * Parses the value of the specified system property, logging a warning and falling back to the specified default if malformed or out of range.
+     * @param property a system property name
+     * @param value a system property value
+     * @param minimum the minimum valid value
+     * @param maximum the maximum valid value
+     * @param defaultValue the value to use if the specified value is invalid
+     * @return the parsed value, or the default value if invalid
+     */
+    static long parse(String property, String value, long minimum, long maximum, long defaultValue) {
+        try {
+            long result = Long.parseLong(value.trim());
+            if ((result >= minimum) && (result <= maximum)) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through
+        }
+        InfinispanWebLogger.ROOT_LOGGER.invalidSystemProperty(value, property, defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * @return The number of sessions whose expiration is pending, or 0, if sessions are expired sequentially
+     */
+    public int getExpirationBacklogSize() {
+        return (this.sweeper != null) ? this.sweeper.getBacklogSize() : 0;
+    }
+
+    /**
+     * @return The number of sessions expired per second while draining the most recent expiration backlog, or 0, if sessions are expired sequentially
+     */
+    public double getExpirationDrainRate() {
+        return (this.sweeper != null) ? this.sweeper.getDrainRate() : 0;
     }
 
     @Override
@@ -92,10 +158,22 @@ public class SessionExpirationScheduler<MV> implements Scheduler<String, Session
     @Override
     public void close() {
         this.scheduler.close();
+        if (this.sweeper != null) {
+            this.sweeper.close();
+        }
     }
 
     @Override
     public boolean test(String sessionId) {
+        if (this.sweeper != null) {
+            // Hand off to sweeper, which reschedules the session if it could not be expired
+            this.sweeper.accept(sessionId);
+            return true;
+        }
+        return this.expire(sessionId);
+    }
+
+    private boolean expire(String sessionId) {
         InfinispanWebLogger.ROOT_LOGGER.debugf("Expiring web session %s", sessionId);
         try (Batch batch = this.batcher.createBatch()) {
             try {
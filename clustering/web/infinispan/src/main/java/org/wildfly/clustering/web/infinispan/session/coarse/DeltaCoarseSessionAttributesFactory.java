@@ -0,0 +1,195 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.infinispan.session.coarse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.infinispan.Cache;
+import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.infinispan.listener.PostActivateListener;
+import org.wildfly.clustering.infinispan.listener.PrePassivateListener;
+import org.wildfly.clustering.infinispan.notifications.PredicateKeyFilter;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.cache.session.CompositeImmutableSession;
+import org.wildfly.clustering.web.cache.session.ImmutableSessionActivationNotifier;
+import org.wildfly.clustering.web.cache.session.SessionActivationNotifier;
+import org.wildfly.clustering.web.cache.session.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.web.cache.session.SessionAttributes;
+import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
+import org.wildfly.clustering.web.cache.session.coarse.CoarseImmutableSessionAttributes;
+import org.wildfly.clustering.web.cache.session.coarse.CoarseSessionAttributes;
+import org.wildfly.clustering.web.cache.session.coarse.DeltaSessionAttributesEntry;
+import org.wildfly.clustering.web.cache.session.coarse.DeltaSessionAttributesMutator;
+import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
+import org.wildfly.clustering.web.infinispan.session.InfinispanSessionAttributesFactoryConfiguration;
+import org.wildfly.clustering.web.infinispan.session.SessionCreationMetaDataKey;
+import org.wildfly.clustering.web.infinispan.session.SessionCreationMetaDataKeyFilter;
+import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
+import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
+import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+
+/**
+ * {@link SessionAttributesFactory} for coarse granularity sessions, where all session attributes are stored in a single cache entry,
+ * but where each attribute is marshalled separately, such that a mutation need only replicate those attributes that changed.
+ * Each attribute is deserialized exactly once per request, after its stored buffer was digested.
+ * The cache entry uses a distinct key type, since its layout is incompatible with {@link CoarseSessionAttributesFactory}.
+ */
+public class DeltaCoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, DeltaSessionAttributesEntry> {
+
+    private final Cache<DeltaSessionAttributesKey, Map<String, V>> cache;
+    private final Cache<DeltaSessionAttributesKey, Map<String, V>> writeCache;
+    private final Cache<DeltaSessionAttributesKey, Map<String, V>> silentCache;
+    private final Marshaller<Object, V> marshaller;
+    private final CacheProperties properties;
+    private final Immutability immutability;
+    private final HttpSessionActivationListenerProvider<S, C, L> provider;
+    private final Function<String, SessionAttributeActivationNotifier> notifierFactory;
+    private final Object evictListener;
+    private final Object prePassivateListener;
+    private final Object postActivateListener;
+
+    public DeltaCoarseSessionAttributesFactory(InfinispanSessionAttributesFactoryConfiguration<S, C, L, Object, V> configuration) {
+        this.cache = configuration.getCache();
+        this.writeCache = configuration.getWriteOnlyCache();
+        this.silentCache = configuration.getSilentWriteCache();
+        this.marshaller = configuration.getMarshaller();
+        this.immutability = configuration.getImmutability();
+        this.properties = configuration.getCacheProperties();
+        this.provider = configuration.getHttpSessionActivationListenerProvider();
+        this.notifierFactory = configuration.getActivationNotifierFactory();
+        this.prePassivateListener = !this.properties.isPersistent() ? new PrePassivateListener<>(this::prePassivate, configuration.getExecutor()) : null;
+        this.postActivateListener = !this.properties.isPersistent() ? new PostActivateListener<>(this::postActivate, configuration.getExecutor()) : null;
+        if (this.prePassivateListener != null) {
+            this.cache.addListener(this.prePassivateListener, new PredicateKeyFilter<>(DeltaSessionAttributesKeyFilter.INSTANCE), null);
+        }
+        if (this.postActivateListener != null) {
+            this.cache.addListener(this.postActivateListener, new PredicateKeyFilter<>(DeltaSessionAttributesKeyFilter.INSTANCE), null);
+        }
+        this.evictListener = new PrePassivateListener<>(this::cascadeEvict, configuration.getExecutor());
+        this.cache.addListener(this.evictListener, new PredicateKeyFilter<>(SessionCreationMetaDataKeyFilter.INSTANCE), null);
+    }
+
+    @Override
+    public void close() {
+        this.cache.removeListener(this.evictListener);
+        if (this.prePassivateListener != null) {
+            this.cache.removeListener(this.prePassivateListener);
+        }
+        if (this.postActivateListener != null) {
+            this.cache.removeListener(this.postActivateListener);
+        }
+    }
+
+    @Override
+    public DeltaSessionAttributesEntry createValue(String id, Void context) {
+        this.writeCache.put(new DeltaSessionAttributesKey(id), new ConcurrentHashMap<>());
+        return new DeltaSessionAttributesEntry();
+    }
+
+    @Override
+    public DeltaSessionAttributesEntry findValue(String id) {
+        return this.getValue(id, true);
+    }
+
+    @Override
+    public DeltaSessionAttributesEntry tryValue(String id) {
+        return this.getValue(id, false);
+    }
+
+    private DeltaSessionAttributesEntry getValue(String id, boolean purgeIfInvalid) {
+        Map<String, V> values = this.cache.get(new DeltaSessionAttributesKey(id));
+        if (values == null) return null;
+        DeltaSessionAttributesEntry entry = new DeltaSessionAttributesEntry();
+        for (Map.Entry<String, V> value : values.entrySet()) {
+            // Digest the stored buffer before deserialization releases it
+            Long digest = DeltaSessionAttributesEntry.digest(value.getValue());
+            try {
+                entry.put(value.getKey(), this.marshaller.read(value.getValue()), digest);
+            } catch (IOException e) {
+                InfinispanWebLogger.ROOT_LOGGER.failedToActivateSessionAttribute(e, id, value.getKey());
+                if (purgeIfInvalid) {
+                    this.purge(id);
+                }
+                return null;
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public boolean remove(String id) {
+        return this.delete(this.writeCache, id);
+    }
+
+    @Override
+    public boolean purge(String id) {
+        return this.delete(this.silentCache, id);
+    }
+
+    private boolean delete(Cache<DeltaSessionAttributesKey, Map<String, V>> cache, String id) {
+        cache.remove(new DeltaSessionAttributesKey(id));
+        return true;
+    }
+
+    @Override
+    public SessionAttributes createSessionAttributes(String id, DeltaSessionAttributesEntry entry, ImmutableSessionMetaData metaData, C context) {
+        Map<String, Object> attributes = entry.getAttributes();
+        Mutator mutator = new DeltaSessionAttributesMutator<>(new DeltaSessionAttributesKey(id), this.cache, entry, this.marshaller, this.properties);
+        SessionActivationNotifier notifier = this.properties.isPersistent() ? new ImmutableSessionActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, new CoarseImmutableSessionAttributes(attributes)), context) : null;
+        return new CoarseSessionAttributes(attributes, mutator, this.marshaller, this.immutability, this.properties, notifier);
+    }
+
+    @Override
+    public ImmutableSessionAttributes createImmutableSessionAttributes(String id, DeltaSessionAttributesEntry entry) {
+        return new CoarseImmutableSessionAttributes(entry.getAttributes());
+    }
+
+    private void cascadeEvict(SessionCreationMetaDataKey key, Object value) {
+        this.cache.evict(new DeltaSessionAttributesKey(key.getId()));
+    }
+
+    private void prePassivate(DeltaSessionAttributesKey key, Map<String, V> values) {
+        this.notify(key, values, SessionAttributeActivationNotifier.PRE_PASSIVATE);
+    }
+
+    private void postActivate(DeltaSessionAttributesKey key, Map<String, V> values) {
+        this.notify(key, values, SessionAttributeActivationNotifier.POST_ACTIVATE);
+    }
+
+    private void notify(DeltaSessionAttributesKey key, Map<String, V> values, BiConsumer<SessionAttributeActivationNotifier, Object> notification) {
+        String sessionId = key.getId();
+        try (SessionAttributeActivationNotifier notifier = this.notifierFactory.apply(sessionId)) {
+            for (V value : values.values()) {
+                notification.accept(notifier, this.marshaller.read(value));
+            }
+        } catch (IOException e) {
+            InfinispanWebLogger.ROOT_LOGGER.failedToActivateSession(e, sessionId);
+        }
+    }
+}
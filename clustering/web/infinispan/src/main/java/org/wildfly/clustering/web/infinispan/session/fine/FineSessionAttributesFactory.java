@@ -24,6 +24,7 @@ package org.wildfly.clustering.web.infinispan.session.fine;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.UUID;
@@ -140,11 +141,13 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
                 attributes.put(new SessionAttributeKey(id, entry.getValue()), entry.getKey());
             }
             Map<SessionAttributeKey, V> entries = this.attributeCache.getAdvancedCache().getAll(attributes.keySet());
+            // Retain validated attribute values, so that subsequent reads of these attributes need not read from the cache again
+            Map<SessionAttributeKey, Object> values = new HashMap<>();
             for (Map.Entry<SessionAttributeKey, String> attribute : attributes.entrySet()) {
                 V value = entries.get(attribute.getKey());
                 if (value != null) {
                     try {
-                        this.marshaller.read(value);
+                        values.put(attribute.getKey(), this.marshaller.read(value));
                         continue;
                     } catch (IOException e) {
                         InfinispanWebLogger.ROOT_LOGGER.failedToActivateSessionAttribute(e, id, attribute.getValue());
@@ -157,7 +160,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
                 }
                 return null;
             }
-            return new AtomicReference<>(names);
+            return new SessionAttributeNamesReference(names, values);
         }
         return new AtomicReference<>(Collections.emptyMap());
     }
@@ -187,7 +190,8 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     @Override
     public SessionAttributes createSessionAttributes(String id, AtomicReference<Map<String, UUID>> names, ImmutableSessionMetaData metaData, C context) {
         SessionAttributeActivationNotifier notifier = new ImmutableSessionAttributeActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, names)), context);
-        return new FineSessionAttributes<>(new SessionAttributeNamesKey(id), names, this.namesCache, getKeyFactory(id), this.attributeCache, this.marshaller, this.mutatorFactory, this.immutability, this.properties, notifier);
+        Map<SessionAttributeKey, Object> values = (names instanceof SessionAttributeNamesReference) ? ((SessionAttributeNamesReference) names).takeValues() : new HashMap<>();
+        return new FineSessionAttributes<>(new SessionAttributeNamesKey(id), names, values, this.namesCache, getKeyFactory(id), this.attributeCache, this.marshaller, this.mutatorFactory, this.immutability, this.properties, notifier);
     }
 
     @Override
@@ -231,4 +235,28 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
             InfinispanWebLogger.ROOT_LOGGER.failedToActivateSessionAttribute(e, sessionId, key.getAttributeId().toString());
         }
     }
+
+    /**
+     * Reference to the attribute names of a session that additionally retains the attribute values read while validating the session.
+     */
+    private static class SessionAttributeNamesReference extends AtomicReference<Map<String, UUID>> {
+        private static final long serialVersionUID = 1466221497575227532L;
+
+        private transient Map<SessionAttributeKey, Object> values;
+
+        SessionAttributeNamesReference(Map<String, UUID> names, Map<SessionAttributeKey, Object> values) {
+            super(names);
+            this.values = values;
+        }
+
+        /**
+         * Transfers ownership of the retained attribute values to the caller.
+         * @return a mutable map of attribute values, empty if already taken
+         */
+        synchronized Map<SessionAttributeKey, Object> takeValues() {
+            Map<SessionAttributeKey, Object> values = this.values;
+            this.values = null;
+            return (values != null) ? values : new HashMap<>();
+        }
+    }
 }
@@ -28,6 +28,7 @@ import org.junit.Test;
 import org.wildfly.clustering.infinispan.persistence.KeyMapperTester;
 import org.wildfly.clustering.web.infinispan.session.SessionAccessMetaDataKey;
 import org.wildfly.clustering.web.infinispan.session.SessionCreationMetaDataKey;
+import org.wildfly.clustering.web.infinispan.session.coarse.DeltaSessionAttributesKey;
 import org.wildfly.clustering.web.infinispan.session.coarse.SessionAttributesKey;
 import org.wildfly.clustering.web.infinispan.session.fine.SessionAttributeKey;
 import org.wildfly.clustering.web.infinispan.session.fine.SessionAttributeNamesKey;
@@ -47,6 +48,7 @@ public class KeyMapperTestCase {
         tester.test(new SessionCreationMetaDataKey(id));
         tester.test(new SessionAccessMetaDataKey(id));
         tester.test(new SessionAttributesKey(id));
+        tester.test(new DeltaSessionAttributesKey(id));
         tester.test(new SessionAttributeNamesKey(id));
         tester.test(new SessionAttributeKey(id, UUID.randomUUID()));
 
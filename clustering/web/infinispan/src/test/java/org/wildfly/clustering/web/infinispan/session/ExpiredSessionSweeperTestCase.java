@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.infinispan.session;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ExpiredSessionSweeper}.
+ */
+public class ExpiredSessionSweeperTestCase {
+
+    @Test
+    public void test() throws InterruptedException {
+        int count = 100;
+        Map<String, AtomicInteger> expirations = new ConcurrentHashMap<>();
+        Set<String> retries = ConcurrentHashMap.newKeySet();
+
+        Predicate<String> task = id -> {
+            expirations.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+            // Fail to expire every 10th session
+            return Integer.parseInt(id) % 10 != 0;
+        };
+
+        try (ExpiredSessionSweeper sweeper = new ExpiredSessionSweeper(task, retries::add, id -> Integer.parseInt(id) % 4, 4, 8, Duration.ofSeconds(1))) {
+            for (int i = 0; i < count; ++i) {
+                sweeper.accept(Integer.toString(i));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while ((sweeper.getBacklogSize() > 0) && (System.nanoTime() < deadline)) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+
+            assertEquals(0, sweeper.getBacklogSize());
+            assertEquals(count - (count / 10), sweeper.getExpiredCount());
+            assertTrue(sweeper.getDrainRate() > 0);
+        }
+
+        assertEquals(count, expirations.size());
+        for (AtomicInteger expiration : expirations.values()) {
+            assertEquals(1, expiration.get());
+        }
+        assertEquals(count / 10, retries.size());
+        for (String id : retries) {
+            assertEquals(0, Integer.parseInt(id) % 10);
+        }
+    }
+
+    @Test
+    public void drain() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, AtomicInteger> expirations = new ConcurrentHashMap<>();
+
+        Predicate<String> task = id -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            expirations.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+            return true;
+        };
+
+        try (ExpiredSessionSweeper sweeper = new ExpiredSessionSweeper(task, id -> fail(), id -> 0, 2, 2, Duration.ofSeconds(1))) {
+            sweeper.accept("0");
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // Sessions enqueued while expiration is in progress are counted in the backlog
+            for (int i = 1; i < 10; ++i) {
+                sweeper.accept(Integer.toString(i));
+            }
+            assertEquals(10, sweeper.getBacklogSize());
+            assertEquals(0, sweeper.getExpiredCount());
+
+            release.countDown();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while ((sweeper.getBacklogSize() > 0) && (System.nanoTime() < deadline)) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+
+            assertEquals(0, sweeper.getBacklogSize());
+            assertEquals(10, sweeper.getExpiredCount());
+            assertTrue(sweeper.getDrainRate() > 0);
+        }
+
+        assertEquals(10, expirations.size());
+        for (AtomicInteger expiration : expirations.values()) {
+            assertEquals(1, expiration.get());
+        }
+    }
+
+    @Test
+    public void closed() {
+        Set<String> expired = ConcurrentHashMap.newKeySet();
+        ExpiredSessionSweeper sweeper = new ExpiredSessionSweeper(expired::add, id -> fail(), id -> 0, 1, 1, Duration.ofSeconds(1));
+        sweeper.close();
+
+        // Sessions enqueued following close are left for the next primary owner
+        sweeper.accept("0");
+
+        assertEquals(0, sweeper.getBacklogSize());
+        assertEquals(0, sweeper.getExpiredCount());
+        assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    public void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiredSessionSweeper(id -> true, id -> fail(), id -> 0, 0, 1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiredSessionSweeper(id -> true, id -> fail(), id -> 0, 1, 0, Duration.ZERO));
+    }
+}
@@ -21,6 +21,8 @@
  */
 package org.wildfly.clustering.web.infinispan.session;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -28,6 +30,8 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
@@ -84,4 +88,75 @@ public class SessionExpirationSchedulerTestCase {
         verify(batch).close();
     }
 
+    @Test
+    public void handOff() throws InterruptedException {
+        Batcher<TransactionBatch> batcher = mock(Batcher.class);
+        TransactionBatch batch = mock(TransactionBatch.class);
+        Remover<String> remover = mock(Remover.class);
+        ImmutableSessionMetaDataFactory<Object> metaDataFactory = mock(ImmutableSessionMetaDataFactory.class);
+        ImmutableSessionMetaData expiringSessionMetaData = mock(ImmutableSessionMetaData.class);
+        ImmutableSessionMetaData failingSessionMetaData = mock(ImmutableSessionMetaData.class);
+        String expiringSessionId = "expiring";
+        String failingSessionId = "failing";
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        when(batcher.createBatch()).thenReturn(batch);
+
+        Instant now = Instant.now();
+        when(expiringSessionMetaData.getMaxInactiveInterval()).thenReturn(Duration.ofMillis(1L));
+        when(expiringSessionMetaData.getLastAccessEndTime()).thenReturn(now);
+        when(failingSessionMetaData.getMaxInactiveInterval()).thenReturn(Duration.ofMillis(1L));
+        when(failingSessionMetaData.getLastAccessEndTime()).thenReturn(now);
+        when(remover.remove(expiringSessionId)).then(invocation -> threads.add(Thread.currentThread()));
+        when(remover.remove(failingSessionId)).thenThrow(new IllegalStateException());
+        // Session no longer exists when rescheduled
+        when(metaDataFactory.findValue(failingSessionId)).thenReturn(null);
+
+        try (SessionExpirationScheduler<Object> scheduler = new SessionExpirationScheduler<>(batcher, metaDataFactory, remover, Duration.ofSeconds(1), id -> 0, 2, 4)) {
+            scheduler.schedule(expiringSessionId, expiringSessionMetaData);
+            scheduler.schedule(failingSessionId, failingSessionMetaData);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            do {
+                TimeUnit.MILLISECONDS.sleep(50);
+            } while ((threads.isEmpty() || (scheduler.getExpirationBacklogSize() > 0)) && (System.nanoTime() < deadline));
+
+            assertEquals(0, scheduler.getExpirationBacklogSize());
+            assertTrue(scheduler.getExpirationDrainRate() > 0);
+        }
+
+        // Sessions are expired via sweeper threads, rather than the scheduler thread
+        assertEquals(1, threads.size());
+        assertTrue(threads.iterator().next().getName().contains(ExpiredSessionSweeper.class.getSimpleName()));
+        verify(remover).remove(expiringSessionId);
+        verify(batch).discard();
+        // Session that failed to expire was rescheduled
+        verify(metaDataFactory).findValue(failingSessionId);
+    }
+
+    @Test
+    public void sequential() {
+        Batcher<TransactionBatch> batcher = mock(Batcher.class);
+        Remover<String> remover = mock(Remover.class);
+        ImmutableSessionMetaDataFactory<Object> metaDataFactory = mock(ImmutableSessionMetaDataFactory.class);
+
+        try (SessionExpirationScheduler<Object> scheduler = new SessionExpirationScheduler<>(batcher, metaDataFactory, remover, Duration.ZERO, id -> 0, 0, 4)) {
+            assertEquals(0, scheduler.getExpirationBacklogSize());
+            assertEquals(0, scheduler.getExpirationDrainRate(), 0);
+        }
+    }
+
+    @Test
+    public void parse() {
+        assertEquals(100L, SessionExpirationScheduler.parse("foo", "100", 0, Long.MAX_VALUE, 0));
+        assertEquals(0L, SessionExpirationScheduler.parse("foo", "0", 0, Long.MAX_VALUE, 10));
+        assertEquals(100L, SessionExpirationScheduler.parse("foo", " 100 ", 0, Long.MAX_VALUE, 0));
+
+        // Invalid values fall back to the default
+        assertEquals(10L, SessionExpirationScheduler.parse("foo", "-1", 0, Long.MAX_VALUE, 10));
+        assertEquals(10L, SessionExpirationScheduler.parse("foo", "1s", 0, Long.MAX_VALUE, 10));
+        assertEquals(10L, SessionExpirationScheduler.parse("foo", "", 0, Long.MAX_VALUE, 10));
+        assertEquals(16L, SessionExpirationScheduler.parse("foo", "0", 1, Integer.MAX_VALUE, 16));
+        assertEquals(0L, SessionExpirationScheduler.parse("foo", "2147483648", 0, Integer.MAX_VALUE, 0));
+    }
 }
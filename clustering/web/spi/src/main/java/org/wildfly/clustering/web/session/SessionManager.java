@@ -35,7 +35,7 @@ import org.wildfly.clustering.ee.Restartable;
  * @param <B> the batch type
  * @author Paul Ferraro
  */
-public interface SessionManager<L, B extends Batch> extends Restartable, ActiveSessionStatistics {
+public interface SessionManager<L, B extends Batch> extends Restartable, ActiveSessionStatistics, SessionExpirationStatistics, RemoteSessionAccessStatistics {
 
     /**
      * Returns the session with the specified identifier, or null if none exists.
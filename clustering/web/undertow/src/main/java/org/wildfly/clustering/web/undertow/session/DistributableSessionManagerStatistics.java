@@ -24,25 +24,33 @@ package org.wildfly.clustering.web.undertow.session;
 
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.wildfly.clustering.web.container.SessionManagerExpirationStatistics;
+import org.wildfly.clustering.web.container.SessionManagerRemoteAccessStatistics;
 import org.wildfly.clustering.web.session.ActiveSessionStatistics;
 import org.wildfly.clustering.web.session.InactiveSessionStatistics;
+import org.wildfly.clustering.web.session.RemoteSessionAccessStatistics;
+import org.wildfly.clustering.web.session.SessionExpirationStatistics;
 
 import io.undertow.server.session.Session;
 
 /**
  * @author Paul Ferraro
  */
-public class DistributableSessionManagerStatistics implements RecordableSessionManagerStatistics {
+public class DistributableSessionManagerStatistics implements RecordableSessionManagerStatistics, SessionManagerExpirationStatistics, SessionManagerRemoteAccessStatistics {
 
     private final InactiveSessionStatistics inactiveSessionStatistics;
     private final ActiveSessionStatistics activeSessionStatistics;
+    private final SessionExpirationStatistics expirationStatistics;
+    private final RemoteSessionAccessStatistics remoteAccessStatistics;
     private final Integer maxActiveSessions;
     private volatile long startTime = System.currentTimeMillis();
     private final AtomicLong createdSessionCount = new AtomicLong();
 
-    public DistributableSessionManagerStatistics(ActiveSessionStatistics activeSessionStatistics, InactiveSessionStatistics inactiveSessionStatistics, Integer maxActiveSessions) {
+    public DistributableSessionManagerStatistics(ActiveSessionStatistics activeSessionStatistics, InactiveSessionStatistics inactiveSessionStatistics, SessionExpirationStatistics expirationStatistics, RemoteSessionAccessStatistics remoteAccessStatistics, Integer maxActiveSessions) {
         this.activeSessionStatistics = activeSessionStatistics;
         this.inactiveSessionStatistics = inactiveSessionStatistics;
+        this.expirationStatistics = expirationStatistics;
+        this.remoteAccessStatistics = remoteAccessStatistics;
         this.maxActiveSessions = maxActiveSessions;
         this.reset();
     }
@@ -98,4 +106,29 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
     public long getStartTime() {
         return this.startTime;
     }
+
+    @Override
+    public int getExpirationBacklogSize() {
+        return this.expirationStatistics.getExpirationBacklogSize();
+    }
+
+    @Override
+    public double getExpirationDrainRate() {
+        return this.expirationStatistics.getExpirationDrainRate();
+    }
+
+    @Override
+    public long getExpirationRescheduleTime() {
+        return this.expirationStatistics.getExpirationRescheduleTime();
+    }
+
+    @Override
+    public long getAvoidedRemoteReadCount() {
+        return this.remoteAccessStatistics.getAvoidedRemoteReadCount();
+    }
+
+    @Override
+    public long getCoalescedRemoteWriteCount() {
+        return this.remoteAccessStatistics.getCoalescedRemoteWriteCount();
+    }
 }
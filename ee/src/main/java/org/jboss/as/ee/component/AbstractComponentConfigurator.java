@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.jboss.as.ee.component.interceptors.PassThroughInterceptor;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
@@ -40,6 +41,9 @@ public class AbstractComponentConfigurator {
         return new InterceptorFactory() {
             @Override
             public Interceptor create(InterceptorFactoryContext context) {
+                if (interceptorFactories.isEmpty()) {
+                    return PassThroughInterceptor.INSTANCE;
+                }
                 final Interceptor[] interceptors = new Interceptor[interceptorFactories.size()];
                 final Iterator<InterceptorFactory> factories = interceptorFactories.iterator();
                 for (int i = 0; i < interceptors.length; i++) {
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.as.ee.component.interceptors.ElidingInterceptorFactory;
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.ee.utils.DescriptorUtils;
 import org.jboss.as.naming.ManagedReference;
@@ -85,8 +86,9 @@ public final class ViewService implements Service<ComponentView> {
             if (method.getName().equals("finalize") && method.getParameterCount() == 0) {
                 viewInterceptorFactories.put(method, Interceptors.getTerminalInterceptorFactory());
             } else {
-                viewInterceptorFactories.put(method, Interceptors.getChainedInterceptorFactory(viewConfiguration.getViewInterceptors(method)));
-                clientInterceptorFactories.put(method, Interceptors.getChainedInterceptorFactory(viewConfiguration.getClientInterceptors(method)));
+                // Omit pass-through interceptors from view and client chains
+                viewInterceptorFactories.put(method, new ElidingInterceptorFactory(viewConfiguration.getViewInterceptors(method)));
+                clientInterceptorFactories.put(method, new ElidingInterceptorFactory(viewConfiguration.getClientInterceptors(method)));
             }
         }
         this.viewInterceptorFactories = viewInterceptorFactories;
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.component.interceptors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorFactory;
+import org.jboss.invocation.InterceptorFactoryContext;
+import org.jboss.invocation.Interceptors;
+
+/**
+ * A chained interceptor factory that omits pass-through interceptors, i.e. {@link ElidableInterceptor}s reporting themselves as elidable,
+ * from the chains it creates.
+ * <p/>
+ * The remaining interceptors are chained with {@link Interceptors#getChainedInterceptor(List)}, exactly as by
+ * {@link Interceptors#getChainedInterceptorFactory(List)}, which saves one call per elided interceptor on every invocation.
+ *
+ * @see ElidableInterceptor
+ */
+public final class ElidingInterceptorFactory implements InterceptorFactory {
+
+    private final List<InterceptorFactory> factories;
+
+    /**
+     * Creates a new eliding interceptor factory.
+     * @param factories the interceptor factories, in invocation order
+     */
+    public ElidingInterceptorFactory(final List<InterceptorFactory> factories) {
+        this.factories = factories;
+    }
+
+    /**
+     * Creates the interceptors of this chain, and chains the ones which may not be elided.
+     * @param context the interceptor factory context, shared by all factories
+     * @return a chained interceptor
+     */
+    @Override
+    public Interceptor create(final InterceptorFactoryContext context) {
+        final List<Interceptor> interceptors = new ArrayList<>(this.factories.size());
+        for (InterceptorFactory factory : this.factories) {
+            final Interceptor interceptor = factory.create(context);
+            if (!isElidable(interceptor)) {
+                interceptors.add(interceptor);
+            }
+        }
+        return Interceptors.getChainedInterceptor(interceptors);
+    }
+
+    /**
+     * Indicates whether the specified interceptor only proceeds with the invocation.
+     * @param interceptor an interceptor, possibly null
+     * @return true, if the interceptor may be omitted from its chain, false otherwise
+     */
+    public static boolean isElidable(final Interceptor interceptor) {
+        return (interceptor instanceof ElidableInterceptor) && ((ElidableInterceptor) interceptor).isElidable();
+    }
+}
@@ -53,17 +53,32 @@ public class UserInterceptorFactory implements InterceptorFactory {
         } else {
             aroundTimeout = null;
         }
-        return new Interceptor() {
-            @Override
-            public Object processInvocation(final InterceptorContext context) throws Exception {
-                final InvocationType marker = context.getPrivateData(InvocationType.class);
-                if (marker == InvocationType.TIMER) {
-                    return aroundTimeout.processInvocation(context);
-                } else {
-                    return aroundInvoke.processInvocation(context);
-                }
+        return new UserInterceptor(aroundInvoke, aroundTimeout);
+
+    }
+
+    private static class UserInterceptor implements ElidableInterceptor {
+        private final Interceptor aroundInvoke;
+        private final Interceptor aroundTimeout;
+
+        UserInterceptor(final Interceptor aroundInvoke, final Interceptor aroundTimeout) {
+            this.aroundInvoke = aroundInvoke;
+            this.aroundTimeout = aroundTimeout;
+        }
+
+        @Override
+        public Object processInvocation(final InterceptorContext context) throws Exception {
+            final InvocationType marker = context.getPrivateData(InvocationType.class);
+            if (marker == InvocationType.TIMER) {
+                return aroundTimeout.processInvocation(context);
+            } else {
+                return aroundInvoke.processInvocation(context);
             }
-        };
+        }
 
+        @Override
+        public boolean isElidable() {
+            return ElidingInterceptorFactory.isElidable(aroundInvoke) && (aroundTimeout == null || ElidingInterceptorFactory.isElidable(aroundTimeout));
+        }
     }
 }
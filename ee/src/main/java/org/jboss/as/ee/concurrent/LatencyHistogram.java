@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, with log-linear buckets similar to HdrHistogram.
+ * <p/>
+ * Values below {@value #SUB_BUCKET_COUNT} are recorded exactly, while greater values are recorded in one of {@value #SUB_BUCKET_COUNT}
+ * linear sub-buckets of their power of 2 magnitude, thus reported values have a relative error of at most 1/{@value #SUB_BUCKET_COUNT}.
+ * Recording a value is wait-free, and reads are weakly consistent with concurrent recordings.
+ * <p/>
+ * The histogram is cumulative: recorded values are never discarded, so all statistics cover every value recorded since the
+ * histogram was created, e.g. since the executor which owns it started, rather than a recent time window.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Values with magnitude (i.e. index of highest one bit) in [SUB_BUCKET_BITS, Long.SIZE - 2] need (Long.SIZE - 1 - SUB_BUCKET_BITS) sets of sub-buckets
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + ((Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the specified value. Negative values are recorded as 0.
+     * @param value a latency value
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(0L, value);
+        this.counts.incrementAndGet(index(recordedValue));
+        this.count.increment();
+        this.sum.add(recordedValue);
+        if (recordedValue > this.max.get()) {
+            this.max.accumulateAndGet(recordedValue, Math::max);
+        }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return the mean of the recorded values, or 0 if no values were recorded
+     */
+    public long getMean() {
+        long count = this.count.sum();
+        return (count > 0) ? this.sum.sum() / count : 0L;
+    }
+
+    /**
+     * @return the maximum recorded value, or 0 if no values were recorded
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns the value below which the specified percentage of recorded values fall.
+     * @param percentile a percentile, between 0 and 100
+     * @return the highest value equivalent to the recorded value at the specified percentile, or 0 if no values were recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            counts[i] = this.counts.get(i);
+            total += counts[i];
+        }
+        if (total == 0L) return 0L;
+        long target = Math.max(1L, (long) Math.ceil(Math.min(Math.max(percentile, 0d), 100d) * total / 100d));
+        long cumulative = 0L;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        // The SUB_BUCKET_BITS bits following the highest one bit select the sub-bucket
+        return SUB_BUCKET_COUNT + (shift << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) >>> SUB_BUCKET_BITS;
+        long subBucket = SUB_BUCKET_COUNT + ((index - SUB_BUCKET_COUNT) & (SUB_BUCKET_COUNT - 1));
+        long upperBound = (subBucket + 1) << shift;
+        // The upper bound of the highest bucket overflows
+        return (upperBound > 0L) ? upperBound - 1 : Long.MAX_VALUE;
+    }
+}
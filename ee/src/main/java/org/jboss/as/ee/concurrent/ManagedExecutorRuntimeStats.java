@@ -64,4 +64,16 @@ public interface ManagedExecutorRuntimeStats {
      * @return the current number of executor threads
      */
     int getThreadsCount();
+
+    /**
+     *
+     * @return the cumulative histogram of the time, in nanoseconds, that tasks submitted for immediate execution waited before being executed, since the executor started
+     */
+    LatencyHistogram getQueueWaitTimes();
+
+    /**
+     *
+     * @return the cumulative histogram of the execution time of tasks, in nanoseconds, since the executor started
+     */
+    LatencyHistogram getExecutionTimes();
 }
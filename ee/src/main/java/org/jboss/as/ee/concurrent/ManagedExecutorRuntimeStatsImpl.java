@@ -30,10 +30,12 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
 
     private final AbstractManagedExecutorService abstractManagedExecutorService;
     private final ThreadPoolExecutor threadPoolExecutor;
+    private final LatencyHistogram queueWaitTimes = new LatencyHistogram();
+    private final LatencyHistogram executionTimes = new LatencyHistogram();
 
     ManagedExecutorRuntimeStatsImpl(ManagedExecutorServiceImpl executorService) {
         this.abstractManagedExecutorService = executorService;
-        this.threadPoolExecutor = executorService.getThreadPoolExecutor();
+        this.threadPoolExecutor = (ThreadPoolExecutor) executorService.getThreadPoolExecutor();
     }
 
     ManagedExecutorRuntimeStatsImpl(ManagedScheduledExecutorServiceImpl executorService) {
@@ -76,4 +78,14 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
     public int getQueueSize() {
         return threadPoolExecutor.getQueue().size();
     }
+
+    @Override
+    public LatencyHistogram getQueueWaitTimes() {
+        return queueWaitTimes;
+    }
+
+    @Override
+    public LatencyHistogram getExecutionTimes() {
+        return executionTimes;
+    }
 }
@@ -24,16 +24,23 @@ package org.jboss.as.ee.concurrent;
 
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedThreadFactoryImpl;
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
+import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doWrap;
 import static org.jboss.as.ee.concurrent.SecurityIdentityUtils.doIdentityWrap;
+import static org.jboss.as.ee.concurrent.TaskTimingUtils.doTimingWrap;
 
 /**
  * @author Stuart Douglas
@@ -43,24 +50,53 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
 
     private final ControlPoint controlPoint;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    private final ManagedVirtualThreadExecutor virtualThreadExecutor;
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, ContextServiceImpl contextService, RejectPolicy rejectPolicy, BlockingQueue<Runnable> queue, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy, queue);
         this.controlPoint = controlPoint;
+        this.virtualThreadExecutor = null;
         this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
     }
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
+        this(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy, controlPoint, null);
+    }
+
+    /**
+     * Creates an executor which, if a virtual thread factory is specified, executes each task on a new virtual thread, instead of using a thread pool.
+     * In such mode the max pool size limits the number of concurrently executing tasks, and the queue capacity limits the number of tasks waiting for execution.
+     * @param virtualThreadFactory a factory of virtual threads, or null to execute tasks using a thread pool
+     * @see ManagedVirtualThreadExecutor#createThreadFactory(String)
+     */
+    public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint, ThreadFactory virtualThreadFactory) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        this.virtualThreadExecutor = (virtualThreadFactory != null) ? new ManagedVirtualThreadExecutor(virtualThreadFactory, maxPoolSize, queueCapacity, hungTaskThreshold, longRunningTasks) : null;
+        this.runtimeStats = (this.virtualThreadExecutor != null) ? this.virtualThreadExecutor : new ManagedExecutorRuntimeStatsImpl(this);
+    }
+
+    /**
+     * Creates a factory of virtual threads for the specified executor, if supported by the current JVM.
+     * @param name the name of the executor
+     * @return a factory of virtual threads, or null, if virtual threads are not supported
+     */
+    public static ThreadFactory createVirtualThreadFactory(String name) {
+        ThreadFactory factory = ManagedVirtualThreadExecutor.createThreadFactory("EE-ManagedExecutorService-" + name + "-virtual-");
+        if (factory == null) {
+            EeLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+        }
+        return factory;
     }
 
     @Override
     public <T> Future<T> submit(Callable<T> task) {
         final Callable<T> callable = doWrap(task, controlPoint);
         try {
-            return super.submit(doIdentityWrap(callable));
+            if (this.virtualThreadExecutor != null) {
+                return this.executeVirtual(getNewTaskFor(doTimingWrap(doIdentityWrap(callable), runtimeStats)));
+            }
+            return super.submit(doTimingWrap(doIdentityWrap(callable), runtimeStats));
         } catch (Exception e) {
             controlPoint.requestComplete();
             throw e;
@@ -71,7 +107,10 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     public <T> Future<T> submit(Runnable task, T result) {
         final Runnable runnable = doWrap(task, controlPoint);
         try {
-            return super.submit(doIdentityWrap(runnable), result);
+            if (this.virtualThreadExecutor != null) {
+                return this.executeVirtual(getNewTaskFor(doTimingWrap(doIdentityWrap(runnable), runtimeStats), result));
+            }
+            return super.submit(doTimingWrap(doIdentityWrap(runnable), runtimeStats), result);
         } catch (Exception e) {
             controlPoint.requestComplete();
             throw e;
@@ -82,7 +121,10 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     public Future<?> submit(Runnable task) {
         final Runnable runnable = doWrap(task, controlPoint);
         try {
-            return super.submit(doIdentityWrap(runnable));
+            if (this.virtualThreadExecutor != null) {
+                return this.executeVirtual(getNewTaskFor(doTimingWrap(doIdentityWrap(runnable), runtimeStats), null));
+            }
+            return super.submit(doTimingWrap(doIdentityWrap(runnable), runtimeStats));
         } catch (Exception e) {
             controlPoint.requestComplete();
             throw e;
@@ -93,16 +135,85 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     public void execute(Runnable command) {
         final Runnable runnable = doWrap(command, controlPoint);
         try {
-            super.execute(doIdentityWrap(runnable));
+            if (this.virtualThreadExecutor != null) {
+                this.executeVirtual(getNewTaskFor(doTimingWrap(doIdentityWrap(runnable), runtimeStats), null));
+                return;
+            }
+            super.execute(doTimingWrap(doIdentityWrap(runnable), runtimeStats));
         } catch (Exception e) {
             controlPoint.requestComplete();
             throw e;
         }
     }
 
+    private <T> ManagedFutureTask<T> executeVirtual(ManagedFutureTask<T> task) {
+        task.submitted();
+        this.virtualThreadExecutor.execute(task);
+        return task;
+    }
+
+    @Override
+    protected ExecutorService getThreadPoolExecutor() {
+        return (this.virtualThreadExecutor != null) ? this.virtualThreadExecutor : super.getThreadPoolExecutor();
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        if (this.virtualThreadExecutor != null) {
+            // Shutdown both the virtual thread executor and the unused thread pool
+            this.virtualThreadExecutor.shutdown();
+            super.getThreadPoolExecutor().shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        if (this.virtualThreadExecutor != null) {
+            tasks = new ArrayList<>(tasks);
+            tasks.addAll(this.virtualThreadExecutor.shutdownNow());
+            tasks.addAll(super.getThreadPoolExecutor().shutdownNow());
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return (this.virtualThreadExecutor != null) ? this.virtualThreadExecutor.isShutdown() : super.isShutdown();
+    }
+
     @Override
-    protected ThreadPoolExecutor getThreadPoolExecutor() {
-        return (ThreadPoolExecutor) super.getThreadPoolExecutor();
+    public boolean isTerminated() {
+        return (this.virtualThreadExecutor != null) ? this.virtualThreadExecutor.isTerminated() : super.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return (this.virtualThreadExecutor != null) ? this.virtualThreadExecutor.awaitTermination(timeout, unit) : super.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public void terminateHungTasks() {
+        if (this.virtualThreadExecutor == null) {
+            ManagedExecutorWithHungThreads.super.terminateHungTasks();
+            return;
+        }
+        // Virtual threads are not managed threads, thus cancel the hung tasks tracked by the virtual thread executor
+        final String executorName = getClass().getSimpleName() + ":" + getName();
+        EeLogger.ROOT_LOGGER.debugf("Cancelling %s hung tasks...", executorName);
+        for (Map.Entry<String, Future<?>> entry : this.virtualThreadExecutor.getHungTasks().entrySet()) {
+            final String taskIdentityName = entry.getKey();
+            try {
+                if (entry.getValue().cancel(true)) {
+                    EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                } else {
+                    EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                }
+            } catch (Throwable throwable) {
+                EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+            }
+        }
     }
 
     /**
@@ -36,6 +36,8 @@ import java.util.concurrent.TimeUnit;
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doScheduledWrap;
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doWrap;
 import static org.jboss.as.ee.concurrent.SecurityIdentityUtils.doIdentityWrap;
+import static org.jboss.as.ee.concurrent.TaskTimingUtils.doScheduledTimingWrap;
+import static org.jboss.as.ee.concurrent.TaskTimingUtils.doTimingWrap;
 
 /**
  * WildFly's extension of {@link org.glassfish.enterprise.concurrent.ManagedScheduledExecutorServiceImpl}.
@@ -55,56 +57,56 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
 
     @Override
     public void execute(Runnable command) {
-        super.execute(doIdentityWrap(doWrap(command, controlPoint)));
+        super.execute(doTimingWrap(doIdentityWrap(doWrap(command, controlPoint)), runtimeStats));
     }
 
     @Override
     public Future<?> submit(Runnable task) {
-        return super.submit(doIdentityWrap(doWrap(task, controlPoint)));
+        return super.submit(doTimingWrap(doIdentityWrap(doWrap(task, controlPoint)), runtimeStats));
     }
 
     @Override
     public <T> Future<T> submit(Runnable task, T result) {
-        return super.submit(doIdentityWrap(doWrap(task, controlPoint)), result);
+        return super.submit(doTimingWrap(doIdentityWrap(doWrap(task, controlPoint)), runtimeStats), result);
     }
 
     @Override
     public <T> Future<T> submit(Callable<T> task) {
-        return super.submit(doIdentityWrap(doWrap(task, controlPoint)));
+        return super.submit(doTimingWrap(doIdentityWrap(doWrap(task, controlPoint)), runtimeStats));
     }
 
     @Override
     public ScheduledFuture<?> schedule(Runnable command, Trigger trigger) {
         final CancellableTrigger ctrigger = new CancellableTrigger(trigger);
-        ctrigger.future = super.schedule(doIdentityWrap(doScheduledWrap(command, controlPoint)), ctrigger);
+        ctrigger.future = super.schedule(doScheduledTimingWrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), runtimeStats), ctrigger);
         return ctrigger.future;
     }
 
     @Override
     public <V> ScheduledFuture<V> schedule(Callable<V> callable, Trigger trigger) {
         final CancellableTrigger ctrigger = new CancellableTrigger(trigger);
-        ctrigger.future = super.schedule(doIdentityWrap(doScheduledWrap(callable, controlPoint)), ctrigger);
+        ctrigger.future = super.schedule(doScheduledTimingWrap(doIdentityWrap(doScheduledWrap(callable, controlPoint)), runtimeStats), ctrigger);
         return ctrigger.future;
     }
 
     @Override
     public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-        return super.schedule(doIdentityWrap(doScheduledWrap(command, controlPoint)), delay, unit);
+        return super.schedule(doScheduledTimingWrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), runtimeStats), delay, unit);
     }
 
     @Override
     public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-        return super.schedule(doIdentityWrap(doScheduledWrap(callable, controlPoint)), delay, unit);
+        return super.schedule(doScheduledTimingWrap(doIdentityWrap(doScheduledWrap(callable, controlPoint)), runtimeStats), delay, unit);
     }
 
     @Override
     public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
-        return super.scheduleAtFixedRate(doIdentityWrap(doScheduledWrap(command, controlPoint)), initialDelay, period, unit);
+        return super.scheduleAtFixedRate(doScheduledTimingWrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), runtimeStats), initialDelay, period, unit);
     }
 
     @Override
     public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
-        return super.scheduleWithFixedDelay(doIdentityWrap(doScheduledWrap(command, controlPoint)), initialDelay, delay, unit);
+        return super.scheduleWithFixedDelay(doScheduledTimingWrap(doIdentityWrap(doScheduledWrap(command, controlPoint)), runtimeStats), initialDelay, delay, unit);
     }
 
     @Override
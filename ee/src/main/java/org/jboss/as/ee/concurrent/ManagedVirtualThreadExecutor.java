@@ -0,0 +1,338 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.concurrent;
+
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
+import org.jboss.as.ee.logging.EeLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * An executor which runs each task on a new virtual thread, instead of on a pooled platform thread.
+ * <p/>
+ * The number of concurrently executing tasks is bounded by a concurrency limiter, and tasks submitted while the limit is reached wait
+ * for a permit on their own (parked) virtual thread, up to the configured queue capacity.
+ * Managed tasks go through the same context setup and lifecycle notifications as with the managed thread pool executor,
+ * and the executor keeps track of the start time of each running task, so that hung tasks may still be detected and cancelled.
+ */
+class ManagedVirtualThreadExecutor extends AbstractExecutorService implements ManagedExecutorRuntimeStats {
+
+    private static final long WAITING = 0L;
+    private static final long CANCELLED = -1L;
+
+    private final ThreadFactory threadFactory;
+    private final AccessControlContext accessControlContext;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final long hungTaskThreshold;
+    private final boolean longRunningTasks;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger threads = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final Map<Thread, Execution> executions = new ConcurrentHashMap<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final LatencyHistogram queueWaitTimes = new LatencyHistogram();
+    private final LatencyHistogram executionTimes = new LatencyHistogram();
+    private volatile boolean shutdown = false;
+
+    /**
+     * @param threadFactory a factory of virtual threads
+     * @param maxConcurrency the maximum number of concurrently executing tasks
+     * @param queueCapacity the maximum number of tasks waiting for execution
+     * @param hungTaskThreshold the time, in milliseconds, after which a running task is considered hung, or 0 to disable hung task detection
+     * @param longRunningTasks indicates whether tasks are long running, in which case these are never considered hung
+     */
+    ManagedVirtualThreadExecutor(ThreadFactory threadFactory, int maxConcurrency, int queueCapacity, long hungTaskThreshold, boolean longRunningTasks) {
+        this.threadFactory = threadFactory;
+        this.accessControlContext = AccessController.getContext();
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.hungTaskThreshold = hungTaskThreshold;
+        this.longRunningTasks = longRunningTasks;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Creates a factory of virtual threads, if supported by the current JVM.
+     * Virtual threads are only available through reflection, since the server still targets JVMs that do not support them.
+     * @param namePrefix the prefix of the names of the created threads
+     * @return a factory of virtual threads, or null, if virtual threads are not supported
+     */
+    static ThreadFactory createThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // Either an older JVM, or a JVM on which virtual threads are a disabled preview feature
+            EeLogger.ROOT_LOGGER.debugf(e, "Virtual threads are not supported");
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.threads.incrementAndGet();
+        if (this.shutdown) {
+            this.threadDone();
+            throw new RejectedExecutionException();
+        }
+        boolean acquired = this.permits.tryAcquire();
+        if (!acquired && (this.waiting.incrementAndGet() > this.queueCapacity)) {
+            this.waiting.decrementAndGet();
+            this.threadDone();
+            throw new RejectedExecutionException();
+        }
+        Execution execution = new Execution(task);
+        try {
+            Thread thread = this.newThread(() -> this.run(execution, acquired));
+            this.executions.put(thread, execution);
+            this.taskCount.increment();
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            this.executions.values().remove(execution);
+            if (acquired) {
+                this.permits.release();
+            } else {
+                this.waiting.decrementAndGet();
+            }
+            this.threadDone();
+            throw e;
+        }
+    }
+
+    private Thread newThread(Runnable task) {
+        // use the executor's acc as privileged, otherwise the new thread inherits current thread's acc
+        Thread thread = AccessController.doPrivileged((PrivilegedAction<Thread>) () -> this.threadFactory.newThread(task), this.accessControlContext);
+        // reset thread classloader to prevent leaks
+        if (!WildFlySecurityManager.isChecking()) {
+            thread.setContextClassLoader(null);
+        } else {
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                thread.setContextClassLoader(null);
+                return null;
+            });
+        }
+        return thread;
+    }
+
+    private void run(Execution execution, boolean acquired) {
+        Thread thread = Thread.currentThread();
+        try {
+            if (!acquired) {
+                try {
+                    this.permits.acquire();
+                } catch (InterruptedException e) {
+                    // Task was never started
+                    return;
+                } finally {
+                    this.waiting.decrementAndGet();
+                }
+            }
+            try {
+                if (execution.start()) {
+                    this.maxActive.accumulateAndGet(this.maxConcurrency - this.permits.availablePermits(), Math::max);
+                    run(thread, execution.task);
+                    this.completedTaskCount.increment();
+                }
+            } finally {
+                this.permits.release();
+            }
+        } finally {
+            this.executions.remove(thread);
+            this.threadDone();
+        }
+    }
+
+    /**
+     * Runs the specified task, with the same context setup and lifecycle notifications as the managed thread pool executor.
+     */
+    private static void run(Thread thread, Runnable task) {
+        if (task instanceof ManagedFutureTask) {
+            ManagedFutureTask<?> managedTask = (ManagedFutureTask<?>) task;
+            managedTask.setupContext();
+            managedTask.starting(thread);
+            Throwable exception = null;
+            try {
+                managedTask.run();
+            } catch (RuntimeException | Error e) {
+                exception = e;
+                throw e;
+            } finally {
+                try {
+                    managedTask.done((exception != null) ? exception : managedTask.getTaskRunException());
+                } finally {
+                    managedTask.resetContext();
+                }
+            }
+        } else {
+            task.run();
+        }
+    }
+
+    private void threadDone() {
+        if ((this.threads.decrementAndGet() == 0) && this.shutdown) {
+            this.terminated.countDown();
+        }
+    }
+
+    /**
+     * Returns the tasks which are running for longer than the hung task threshold, mapped by the name of their thread.
+     * @return a map of thread name to hung task
+     */
+    Map<String, Future<?>> getHungTasks() {
+        if (this.longRunningTasks || (this.hungTaskThreshold <= 0)) return Collections.emptyMap();
+        long now = System.currentTimeMillis();
+        Map<String, Future<?>> tasks = new HashMap<>();
+        for (Map.Entry<Thread, Execution> entry : this.executions.entrySet()) {
+            Execution execution = entry.getValue();
+            long start = execution.startTime.get();
+            if ((start > WAITING) && (now - start > this.hungTaskThreshold) && (execution.task instanceof Future)) {
+                tasks.put(entry.getKey().getName(), (Future<?>) execution.task);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        if (this.threads.get() == 0) {
+            this.terminated.countDown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown();
+        List<Runnable> tasks = new LinkedList<>();
+        for (Map.Entry<Thread, Execution> entry : this.executions.entrySet()) {
+            Execution execution = entry.getValue();
+            if (execution.cancel()) {
+                tasks.add(execution.task);
+            }
+            entry.getKey().interrupt();
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.terminated.await(timeout, unit);
+    }
+
+    @Override
+    public int getActiveThreadsCount() {
+        return this.maxConcurrency - this.permits.availablePermits();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return this.completedTaskCount.sum();
+    }
+
+    @Override
+    public int getHungThreadsCount() {
+        return this.getHungTasks().size();
+    }
+
+    @Override
+    public int getMaxThreadsCount() {
+        return this.maxActive.get();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return this.waiting.get();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return this.taskCount.sum();
+    }
+
+    @Override
+    public int getThreadsCount() {
+        return this.executions.size();
+    }
+
+    @Override
+    public LatencyHistogram getQueueWaitTimes() {
+        return this.queueWaitTimes;
+    }
+
+    @Override
+    public LatencyHistogram getExecutionTimes() {
+        return this.executionTimes;
+    }
+
+    private static class Execution {
+        final Runnable task;
+        // The time at which the task started, or WAITING if the task has not yet started, or CANCELLED if it will never start
+        final AtomicLong startTime = new AtomicLong(WAITING);
+
+        Execution(Runnable task) {
+            this.task = task;
+        }
+
+        boolean start() {
+            return this.startTime.compareAndSet(WAITING, System.currentTimeMillis());
+        }
+
+        boolean cancel() {
+            return this.startTime.compareAndSet(WAITING, CANCELLED);
+        }
+    }
+}
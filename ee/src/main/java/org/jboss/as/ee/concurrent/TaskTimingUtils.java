@@ -0,0 +1,209 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.concurrent.ManagedTask;
+import javax.enterprise.concurrent.ManagedTaskListener;
+
+/**
+ * Utilities for wrapping tasks, to record the time these wait in the executor's queue, and the time of their execution.
+ */
+class TaskTimingUtils {
+
+    private TaskTimingUtils() {
+    }
+
+    /**
+     * Wraps a task submitted for immediate execution.
+     * @param callable a task
+     * @param stats the runtime stats of the executor
+     * @return a task recording its queue wait and execution times
+     */
+    static <T> Callable<T> doTimingWrap(final Callable<T> callable, final ManagedExecutorRuntimeStats stats) {
+        return doTimingWrap(callable, stats, System.nanoTime());
+    }
+
+    /**
+     * Wraps a task submitted for immediate execution.
+     * @param runnable a task
+     * @param stats the runtime stats of the executor
+     * @return a task recording its queue wait and execution times
+     */
+    static Runnable doTimingWrap(final Runnable runnable, final ManagedExecutorRuntimeStats stats) {
+        return doTimingWrap(runnable, stats, System.nanoTime());
+    }
+
+    /**
+     * Wraps a scheduled task, for which the queue wait time is not recorded, since it would include the scheduling delay.
+     * @param callable a task
+     * @param stats the runtime stats of the executor
+     * @return a task recording its execution time
+     */
+    static <T> Callable<T> doScheduledTimingWrap(final Callable<T> callable, final ManagedExecutorRuntimeStats stats) {
+        return doTimingWrap(callable, stats, null);
+    }
+
+    /**
+     * Wraps a scheduled task, for which the queue wait time is not recorded, since it would include the scheduling delay.
+     * @param runnable a task
+     * @param stats the runtime stats of the executor
+     * @return a task recording its execution time
+     */
+    static Runnable doScheduledTimingWrap(final Runnable runnable, final ManagedExecutorRuntimeStats stats) {
+        return doTimingWrap(runnable, stats, null);
+    }
+
+    private static <T> Callable<T> doTimingWrap(final Callable<T> callable, final ManagedExecutorRuntimeStats stats, final Long submitTime) {
+        if (callable == null) {
+            return null;
+        }
+        Callable<T> timedCallable = () -> {
+            long start = started(stats, submitTime);
+            try {
+                return callable.call();
+            } finally {
+                stats.getExecutionTimes().record(System.nanoTime() - start);
+            }
+        };
+        return callable instanceof ManagedTask ? new TimedManagedCallable<>(timedCallable, (ManagedTask) callable) : timedCallable;
+    }
+
+    private static Runnable doTimingWrap(final Runnable runnable, final ManagedExecutorRuntimeStats stats, final Long submitTime) {
+        if (runnable == null) {
+            return null;
+        }
+        Runnable timedRunnable = () -> {
+            long start = started(stats, submitTime);
+            try {
+                runnable.run();
+            } finally {
+                stats.getExecutionTimes().record(System.nanoTime() - start);
+            }
+        };
+        return runnable instanceof ManagedTask ? new TimedManagedRunnable(timedRunnable, (ManagedTask) runnable) : timedRunnable;
+    }
+
+    private static long started(ManagedExecutorRuntimeStats stats, Long submitTime) {
+        long start = System.nanoTime();
+        if (submitTime != null) {
+            stats.getQueueWaitTimes().record(start - submitTime);
+        }
+        return start;
+    }
+
+    /**
+     * A managed timed task.
+     */
+    static class TimedManagedTask implements ManagedTask {
+
+        private final ManagedTask managedTask;
+        private final TimedManagedTaskListener managedTaskListenerWrapper;
+
+        TimedManagedTask(ManagedTask managedTask) {
+            this.managedTask = managedTask;
+            this.managedTaskListenerWrapper = managedTask.getManagedTaskListener() != null ? new TimedManagedTaskListener(managedTask.getManagedTaskListener()) : null;
+        }
+
+        @Override
+        public Map<String, String> getExecutionProperties() {
+            return managedTask.getExecutionProperties();
+        }
+
+        @Override
+        public ManagedTaskListener getManagedTaskListener() {
+            return managedTaskListenerWrapper;
+        }
+    }
+
+    /**
+     * A managed timed task which is a runnable.
+     */
+    static class TimedManagedRunnable extends TimedManagedTask implements Runnable {
+
+        private final Runnable runnable;
+
+        TimedManagedRunnable(Runnable timedTask, ManagedTask managedTask) {
+            super(managedTask);
+            this.runnable = timedTask;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+    }
+
+    /**
+     * A managed timed task which is a callable.
+     */
+    static class TimedManagedCallable<T> extends TimedManagedTask implements Callable<T> {
+
+        private final Callable<T> callable;
+
+        TimedManagedCallable(Callable<T> timedTask, ManagedTask managedTask) {
+            super(managedTask);
+            this.callable = timedTask;
+        }
+
+        @Override
+        public T call() throws Exception {
+            return callable.call();
+        }
+    }
+
+    /**
+     * A managed task listener for managed timed tasks.
+     */
+    static class TimedManagedTaskListener implements ManagedTaskListener {
+
+        private final ManagedTaskListener managedTaskListener;
+
+        TimedManagedTaskListener(ManagedTaskListener managedTaskListener) {
+            this.managedTaskListener = managedTaskListener;
+        }
+
+        @Override
+        public void taskAborted(Future<?> future, ManagedExecutorService executor, Object task, Throwable exception) {
+            managedTaskListener.taskAborted(future, executor, ((TimedManagedTask) task).managedTask, exception);
+        }
+
+        @Override
+        public void taskDone(Future<?> future, ManagedExecutorService executor, Object task, Throwable exception) {
+            managedTaskListener.taskDone(future, executor, ((TimedManagedTask) task).managedTask, exception);
+        }
+
+        @Override
+        public void taskStarting(Future<?> future, ManagedExecutorService executor, Object task) {
+            managedTaskListener.taskStarting(future, executor, ((TimedManagedTask) task).managedTask);
+        }
+
+        @Override
+        public void taskSubmitted(Future<?> future, ManagedExecutorService executor, Object task) {
+            managedTaskListener.taskSubmitted(future, executor, ((TimedManagedTask) task).managedTask);
+        }
+    }
+}
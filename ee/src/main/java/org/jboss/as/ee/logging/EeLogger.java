@@ -1210,4 +1210,12 @@ public interface EeLogger extends BasicLogger {
 
     @Message(id = 132, value = "ManagedReference was null and injection is not optional for injection into method %s")
     RuntimeException managedReferenceMethodWasNull(Method method);
+
+    /**
+     * Logs a message indicating that virtual threads were requested for an executor, but are not supported by the JVM.
+     * @param executorName the name of the executor.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 133, value = "Virtual threads are not supported by this JVM, %s will execute tasks using its thread pool")
+    void virtualThreadsNotSupported(String executorName);
 }
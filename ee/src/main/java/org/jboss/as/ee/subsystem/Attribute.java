@@ -55,6 +55,7 @@ enum Attribute {
     KEEPALIVE_TIME(ManagedExecutorServiceResourceDefinition.KEEPALIVE_TIME),
     QUEUE_LENGTH(ManagedExecutorServiceResourceDefinition.QUEUE_LENGTH),
     REJECT_POLICY(ManagedExecutorServiceResourceDefinition.REJECT_POLICY),
+    VIRTUAL_THREADS(ManagedExecutorServiceResourceDefinition.VIRTUAL_THREADS),
 
     DATASOURCE(DefaultBindingsResourceDefinition.DATASOURCE),
     JMS_CONNECTION_FACTORY(DefaultBindingsResourceDefinition.JMS_CONNECTION_FACTORY),
@@ -19,6 +19,7 @@ package org.jboss.as.ee.subsystem;
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -29,16 +30,32 @@ import org.jboss.dmr.ModelType;
 public interface ManagedExecutorServiceMetricsAttributes {
 
     String ACTIVE_THREAD_COUNT = "active-thread-count";
+    String AVERAGE_EXECUTION_TIME = "average-execution-time";
+    String AVERAGE_QUEUE_WAIT_TIME = "average-queue-wait-time";
     String COMPLETED_TASK_COUNT = "completed-task-count";
     String CURRENT_QUEUE_SIZE = "current-queue-size";
     String HUNG_THREAD_COUNT = "hung-thread-count";
+    String MAX_EXECUTION_TIME = "max-execution-time";
+    String MAX_QUEUE_WAIT_TIME = "max-queue-wait-time";
     String MAX_THREAD_COUNT = "max-thread-count";
+    String MEDIAN_EXECUTION_TIME = "median-execution-time";
+    String MEDIAN_QUEUE_WAIT_TIME = "median-queue-wait-time";
+    String P99_EXECUTION_TIME = "p99-execution-time";
+    String P99_QUEUE_WAIT_TIME = "p99-queue-wait-time";
     String TASK_COUNT = "task-count";
     String THREAD_COUNT = "thread-count";
 
     AttributeDefinition ACTIVE_THREAD_COUNT_AD = new SimpleAttributeDefinitionBuilder(ACTIVE_THREAD_COUNT, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
+    AttributeDefinition AVERAGE_EXECUTION_TIME_AD = new SimpleAttributeDefinitionBuilder(AVERAGE_EXECUTION_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+    AttributeDefinition AVERAGE_QUEUE_WAIT_TIME_AD = new SimpleAttributeDefinitionBuilder(AVERAGE_QUEUE_WAIT_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
     AttributeDefinition COMPLETED_TASK_COUNT_AD = new SimpleAttributeDefinitionBuilder(COMPLETED_TASK_COUNT, ModelType.LONG)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
@@ -48,9 +65,33 @@ public interface ManagedExecutorServiceMetricsAttributes {
     AttributeDefinition HUNG_THREAD_COUNT_AD = new SimpleAttributeDefinitionBuilder(HUNG_THREAD_COUNT, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
+    AttributeDefinition MAX_EXECUTION_TIME_AD = new SimpleAttributeDefinitionBuilder(MAX_EXECUTION_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+    AttributeDefinition MAX_QUEUE_WAIT_TIME_AD = new SimpleAttributeDefinitionBuilder(MAX_QUEUE_WAIT_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
     AttributeDefinition MAX_THREAD_COUNT_AD = new SimpleAttributeDefinitionBuilder(MAX_THREAD_COUNT, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
+    AttributeDefinition MEDIAN_EXECUTION_TIME_AD = new SimpleAttributeDefinitionBuilder(MEDIAN_EXECUTION_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+    AttributeDefinition MEDIAN_QUEUE_WAIT_TIME_AD = new SimpleAttributeDefinitionBuilder(MEDIAN_QUEUE_WAIT_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+    AttributeDefinition P99_EXECUTION_TIME_AD = new SimpleAttributeDefinitionBuilder(P99_EXECUTION_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
+    AttributeDefinition P99_QUEUE_WAIT_TIME_AD = new SimpleAttributeDefinitionBuilder(P99_QUEUE_WAIT_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .build();
     AttributeDefinition TASK_COUNT_AD = new SimpleAttributeDefinitionBuilder(TASK_COUNT, ModelType.LONG)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
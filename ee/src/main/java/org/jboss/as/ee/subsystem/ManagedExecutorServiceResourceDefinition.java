@@ -75,6 +75,7 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
     public static final String KEEPALIVE_TIME = "keepalive-time";
     public static final String QUEUE_LENGTH = "queue-length";
     public static final String REJECT_POLICY = "reject-policy";
+    public static final String VIRTUAL_THREADS = "virtual-threads";
 
     public static final SimpleAttributeDefinition JNDI_NAME_AD =
             new SimpleAttributeDefinitionBuilder(JNDI_NAME, ModelType.STRING, false)
@@ -171,7 +172,14 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
                     .setValidator(EnumValidator.create(AbstractManagedExecutorService.RejectPolicy.class))
                     .build();
 
-    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, MAX_THREADS_AD, KEEPALIVE_TIME_AD, QUEUE_LENGTH_AD, REJECT_POLICY_AD};
+    public static final SimpleAttributeDefinition VIRTUAL_THREADS_AD =
+            new SimpleAttributeDefinitionBuilder(VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition[] ATTRIBUTES = {JNDI_NAME_AD, CONTEXT_SERVICE_AD, THREAD_FACTORY_AD, THREAD_PRIORITY_AD, HUNG_TASK_TERMINATION_PERIOD_AD, HUNG_TASK_THRESHOLD_AD, LONG_RUNNING_TASKS_AD, CORE_THREADS_AD, MAX_THREADS_AD, KEEPALIVE_TIME_AD, QUEUE_LENGTH_AD, REJECT_POLICY_AD, VIRTUAL_THREADS_AD};
 
     public static final PathElement PATH_ELEMENT = PathElement.pathElement(EESubsystemModel.MANAGED_EXECUTOR_SERVICE);
 
@@ -188,6 +196,14 @@ public class ManagedExecutorServiceResourceDefinition extends SimpleResourceDefi
             .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getMaxThreadsCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.TASK_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getTaskCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getThreadsCount()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.AVERAGE_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getMean()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.AVERAGE_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getMean()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getMax()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getMax()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MEDIAN_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getValueAtPercentile(50)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MEDIAN_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getValueAtPercentile(50)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.P99_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getValueAtPercentile(99)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.P99_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getValueAtPercentile(99)))
             .build();
 
     /**
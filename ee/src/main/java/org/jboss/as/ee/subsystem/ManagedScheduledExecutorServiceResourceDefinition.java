@@ -168,6 +168,14 @@ public class ManagedScheduledExecutorServiceResourceDefinition extends SimpleRes
             .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getMaxThreadsCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.TASK_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getTaskCount()))
             .addMetric(ManagedExecutorServiceMetricsAttributes.THREAD_COUNT_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getThreadsCount()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.AVERAGE_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getMean()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.AVERAGE_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getMean()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getMax()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MAX_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getMax()))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MEDIAN_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getValueAtPercentile(50)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.MEDIAN_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getValueAtPercentile(50)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.P99_EXECUTION_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getExecutionTimes().getValueAtPercentile(99)))
+            .addMetric(ManagedExecutorServiceMetricsAttributes.P99_QUEUE_WAIT_TIME_AD, (context, service) -> context.getResult().set(service.getExecutorService().getRuntimeStats().getQueueWaitTimes().getValueAtPercentile(99)))
             .build();
 
     /**
@@ -0,0 +1,97 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.component.interceptors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.invocation.ImmediateInterceptorFactory;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.SimpleInterceptorFactoryContext;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ElidingInterceptorFactory}.
+ */
+public class ElidingInterceptorFactoryTestCase {
+
+    @Test
+    public void create() throws Exception {
+        List<String> invoked = new ArrayList<>();
+        Interceptor first = new RecordingInterceptor("first", invoked, false);
+        Interceptor elidable = new RecordingInterceptor("elidable", invoked, true);
+        Interceptor notElidable = new RecordingInterceptor("not-elidable", invoked, false);
+        Interceptor terminal = context -> {
+            invoked.add("terminal");
+            return "result";
+        };
+
+        Interceptor chain = new ElidingInterceptorFactory(Arrays.asList(
+                new ImmediateInterceptorFactory(first),
+                PassThroughInterceptor.FACTORY,
+                new ImmediateInterceptorFactory(elidable),
+                new UserInterceptorFactory(PassThroughInterceptor.FACTORY, PassThroughInterceptor.FACTORY),
+                new ImmediateInterceptorFactory(notElidable),
+                new ImmediateInterceptorFactory(terminal))).create(new SimpleInterceptorFactoryContext());
+
+        assertEquals("result", chain.processInvocation(new InterceptorContext()));
+        assertEquals(Arrays.asList("first", "not-elidable", "terminal"), invoked);
+    }
+
+    @Test
+    public void isElidable() {
+        assertTrue(ElidingInterceptorFactory.isElidable(PassThroughInterceptor.INSTANCE));
+        assertTrue(ElidingInterceptorFactory.isElidable(new UserInterceptorFactory(PassThroughInterceptor.FACTORY, null).create(new SimpleInterceptorFactoryContext())));
+        assertFalse(ElidingInterceptorFactory.isElidable(new UserInterceptorFactory(PassThroughInterceptor.FACTORY, new ImmediateInterceptorFactory(InterceptorContext::proceed)).create(new SimpleInterceptorFactoryContext())));
+        assertFalse(ElidingInterceptorFactory.isElidable(InterceptorContext::proceed));
+        assertFalse(ElidingInterceptorFactory.isElidable(null));
+    }
+
+    private static class RecordingInterceptor implements ElidableInterceptor {
+        private final String name;
+        private final List<String> invoked;
+        private final boolean elidable;
+
+        RecordingInterceptor(String name, List<String> invoked, boolean elidable) {
+            this.name = name;
+            this.invoked = invoked;
+            this.elidable = elidable;
+        }
+
+        @Override
+        public Object processInvocation(InterceptorContext context) throws Exception {
+            this.invoked.add(this.name);
+            return context.proceed();
+        }
+
+        @Override
+        public boolean isElidable() {
+            return this.elidable;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void exactBuckets() {
+        for (long value = 0L; value < 32L; ++value) {
+            int index = LatencyHistogram.index(value);
+            assertEquals(value, index);
+            assertEquals(value, LatencyHistogram.highestEquivalentValue(index));
+        }
+    }
+
+    @Test
+    public void logLinearBuckets() {
+        // 64 is the first magnitude whose sub-buckets hold more than one value
+        assertEquals(63, LatencyHistogram.index(63L));
+        assertEquals(64, LatencyHistogram.index(64L));
+        assertEquals(64, LatencyHistogram.index(65L));
+        assertEquals(65, LatencyHistogram.index(66L));
+        assertEquals(65L, LatencyHistogram.highestEquivalentValue(64));
+        assertEquals(95, LatencyHistogram.index(127L));
+        assertEquals(96, LatencyHistogram.index(128L));
+        assertEquals(127L, LatencyHistogram.highestEquivalentValue(95));
+
+        // Buckets are contiguous up to the highest bucket, whose upper bound is Long.MAX_VALUE
+        int last = LatencyHistogram.index(Long.MAX_VALUE);
+        for (int index = 0; index < last; ++index) {
+            long highest = LatencyHistogram.highestEquivalentValue(index);
+            assertEquals(index, LatencyHistogram.index(highest));
+            assertEquals(index + 1, LatencyHistogram.index(highest + 1));
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValue(last));
+    }
+
+    @Test
+    public void relativeError() {
+        for (long value = 1L; value > 0L; value = value * 3 + 1) {
+            long highest = LatencyHistogram.highestEquivalentValue(LatencyHistogram.index(value));
+            assertTrue(highest >= value);
+            assertTrue((double) (highest - value) / value <= 1d / 32);
+        }
+    }
+
+    @Test
+    public void empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMean());
+        assertEquals(0L, histogram.getMax());
+        assertEquals(0L, histogram.getValueAtPercentile(50));
+        assertEquals(0L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1L; value <= 100L; ++value) {
+            histogram.record(value);
+        }
+        assertEquals(100L, histogram.getCount());
+        assertEquals(50L, histogram.getMean());
+        assertEquals(100L, histogram.getMax());
+        assertEquals(1L, histogram.getValueAtPercentile(0));
+        assertEquals(1L, histogram.getValueAtPercentile(1));
+        assertEquals(50L, histogram.getValueAtPercentile(50));
+        // 98 and 99 share a bucket
+        assertEquals(99L, histogram.getValueAtPercentile(98));
+        assertEquals(99L, histogram.getValueAtPercentile(99));
+        // 100 shares a bucket with 101, but values never exceed the recorded maximum
+        assertEquals(100L, histogram.getValueAtPercentile(100));
+        // Out of range percentiles are clamped
+        assertEquals(1L, histogram.getValueAtPercentile(-1));
+        assertEquals(100L, histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    public void largeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000L);
+        histogram.record(1_000_000L);
+        histogram.record(1_000_000_000L);
+        assertEquals(1_000_000_000L, histogram.getMax());
+        assertEquals(333_667_000L, histogram.getMean());
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 1_000_000L);
+        assertTrue(median <= 1_000_000L + 1_000_000L / 32);
+        assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void negativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-10L);
+        assertEquals(1L, histogram.getCount());
+        assertEquals(0L, histogram.getMax());
+        assertEquals(0L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void cumulative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000L);
+        for (int i = 0; i < 99; ++i) {
+            histogram.record(1L);
+        }
+        // Earlier values still count towards later statistics
+        assertEquals(100L, histogram.getCount());
+        assertEquals(1_000L, histogram.getMax());
+        assertEquals(1L, histogram.getValueAtPercentile(99));
+        histogram.record(1L);
+        assertEquals(101L, histogram.getCount());
+        assertTrue(histogram.getValueAtPercentile(100) >= 1_000L);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ManagedVirtualThreadExecutor}.
+ * Uses platform threads, so that the executor's limiter, queue and lifecycle can be verified on any JVM.
+ */
+public class ManagedVirtualThreadExecutorTestCase {
+
+    private static final long TIMEOUT = 10L;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ThreadFactory threadFactory = task -> new Thread(task, "test-" + this.threadCount.incrementAndGet());
+
+    @Test
+    public void limiter() throws InterruptedException {
+        ManagedVirtualThreadExecutor executor = new ManagedVirtualThreadExecutor(this.threadFactory, 2, 10, 0L, false);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 4; ++i) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    completed.countDown();
+                }
+            });
+        }
+        assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(4, executor.getTaskCount());
+        assertEquals(2, executor.getActiveThreadsCount());
+        assertEquals(2, executor.getQueueSize());
+
+        release.countDown();
+        assertTrue(completed.await(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(4, executor.getCompletedTaskCount());
+        assertEquals(2, executor.getMaxThreadsCount());
+        assertEquals(0, executor.getActiveThreadsCount());
+        assertEquals(0, executor.getQueueSize());
+        assertEquals(0, executor.getThreadsCount());
+    }
+
+    @Test
+    public void queueCapacity() throws InterruptedException {
+        ManagedVirtualThreadExecutor executor = new ManagedVirtualThreadExecutor(this.threadFactory, 1, 1, 0L, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(2);
+        Runnable task = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                completed.countDown();
+            }
+        };
+        executor.execute(task);
+        assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+        // Waits for a permit
+        executor.execute(task);
+        assertEquals(1, executor.getQueueSize());
+        try {
+            executor.execute(task);
+            fail("Task should have been rejected");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        // Rejected task must not consume queue capacity
+        assertEquals(1, executor.getQueueSize());
+        assertEquals(2, executor.getTaskCount());
+
+        release.countDown();
+        assertTrue(completed.await(TIMEOUT, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(2, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void shutdown() throws InterruptedException {
+        ManagedVirtualThreadExecutor executor = new ManagedVirtualThreadExecutor(this.threadFactory, 1, 1, 0L, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        assertTrue(executor.isShutdown());
+        assertFalse(executor.isTerminated());
+        try {
+            executor.execute(() -> fail("Task should not run"));
+            fail("Task should have been rejected");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        // Running tasks are not interrupted by shutdown()
+        assertFalse(executor.awaitTermination(100L, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+        assertEquals(1, executor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void shutdownNow() throws InterruptedException {
+        ManagedVirtualThreadExecutor executor = new ManagedVirtualThreadExecutor(this.threadFactory, 1, 1, 0L, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        executor.execute(() -> {
+            started.countDown();
+            // Ignore interruption until released, so that the waiting task cannot obtain a permit before shutdownNow() cancels it
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            }
+        });
+        assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+        Runnable waiting = () -> fail("Task should not run");
+        executor.execute(waiting);
+
+        List<Runnable> tasks = executor.shutdownNow();
+        assertEquals(1, tasks.size());
+        assertSame(waiting, tasks.get(0));
+        assertTrue(executor.isShutdown());
+
+        release.countDown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+        assertEquals(1, executor.getCompletedTaskCount());
+        assertEquals(0, executor.getQueueSize());
+    }
+
+    @Test
+    public void hungTasks() throws Exception {
+        ManagedVirtualThreadExecutor executor = new ManagedVirtualThreadExecutor(this.threadFactory, 1, 1, 1L, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<Void> running = new FutureTask<>(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        FutureTask<Void> waiting = new FutureTask<>(() -> null);
+        executor.execute(running);
+        assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+        executor.execute(waiting);
+        Thread.sleep(50L);
+
+        // Only started tasks can be hung
+        Map<String, Future<?>> hungTasks = executor.getHungTasks();
+        assertEquals(1, hungTasks.size());
+        assertEquals("test-1", hungTasks.keySet().iterator().next());
+        assertSame(running, hungTasks.get("test-1"));
+        assertEquals(1, executor.getHungThreadsCount());
+
+        // Cancelling a hung task interrupts its thread, which lets the waiting task run
+        running.cancel(true);
+        waiting.get(TIMEOUT, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+        assertTrue(executor.getHungTasks().isEmpty());
+    }
+
+    @Test
+    public void longRunningTasks() throws InterruptedException {
+        ManagedVirtualThreadExecutor executor = new ManagedVirtualThreadExecutor(this.threadFactory, 1, 1, 1L, true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(new FutureTask<>(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        }));
+        assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+        Thread.sleep(50L);
+
+        // Long running tasks are never considered hung
+        assertTrue(executor.getHungTasks().isEmpty());
+        assertEquals(0, executor.getHungThreadsCount());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+    }
+}
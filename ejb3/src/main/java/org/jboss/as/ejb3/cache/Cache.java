@@ -85,6 +85,22 @@ public interface Cache<K, V extends Identifiable<K>> extends Restartable, Affini
 
     int getTotalSize();
 
+    /**
+     * Returns the number of times an object was found by {@link #get(Object)}.
+     * @return a hit count
+     */
+    default long getHitCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of idle objects that were removed and destroyed to keep the cache within its maximum size.
+     * @return an eviction count
+     */
+    default long getEvictionCount() {
+        return 0;
+    }
+
     /**
      * Checks whether the supplied {@link Throwable} is remotable meaning it can be safely sent to the client over the wire.
      */
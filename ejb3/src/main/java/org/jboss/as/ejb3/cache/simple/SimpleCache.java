@@ -23,10 +23,13 @@ package org.jboss.as.ejb3.cache.simple;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -44,6 +47,11 @@ import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
 
 /**
  * Simple {@link Cache} implementation using in-memory storage and eager expiration.
+ * <p/>
+ * If a maximum size is specified, idle beans are evicted once the cache exceeds that size.
+ * The victim is the least frequently used bean amongst a small sample of the least recently used idle beans,
+ * where usage frequencies are periodically halved so that beans that were only popular in the past eventually become eligible.
+ * Beans that are in use are never evicted.
  *
  * @param <K> the cache key type
  * @param <V> the cache value type
@@ -51,19 +59,35 @@ import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
  */
 public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, Predicate<K> {
 
+    // The number of least recently used idle beans from which an eviction victim is chosen
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    // The number of releases, relative to the maximum size, after which usage frequencies are halved
+    private static final int AGING_FACTOR = 10;
+
     private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
     private final StatefulObjectFactory<V> factory;
     private final Supplier<K> identifierFactory;
     private final Duration timeout;
     private final ServerEnvironment environment;
     private final Scheduler<K, Instant> scheduler = new LocalScheduler<>(new LinkedScheduledEntries<>(), this, Duration.ZERO);
+    private final Integer maxSize;
+    // Idle beans in least recently used order, only maintained if this cache is bounded
+    private final Map<K, Entry<V>> idle = new LinkedHashMap<>();
+    private int releases = 0;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
     public SimpleCache(StatefulObjectFactory<V> factory, Supplier<K> identifierFactory, StatefulTimeoutInfo timeout, ServerEnvironment environment) {
+        this(factory, identifierFactory, timeout, environment, null);
+    }
+
+    public SimpleCache(StatefulObjectFactory<V> factory, Supplier<K> identifierFactory, StatefulTimeoutInfo timeout, ServerEnvironment environment, Integer maxSize) {
         this.factory = factory;
         this.identifierFactory = identifierFactory;
         // A value of -1 means the bean will never be removed due to timeout
         this.timeout = (timeout != null && timeout.getValue() >= 0) ? Duration.of(timeout.getValue(), timeout.getTimeUnit().toChronoUnit()) : null;
         this.environment = environment;
+        this.maxSize = maxSize;
     }
 
     @Override
@@ -78,6 +102,11 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
             this.factory.destroyInstance(entry.getValue().getValue());
         }
         this.entries.clear();
+        if (this.maxSize != null) {
+            synchronized (this.idle) {
+                this.idle.clear();
+            }
+        }
     }
 
     @Override
@@ -103,18 +132,26 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
         }
         V bean = this.factory.createInstance();
         this.entries.put(bean.getId(), new Entry<>(bean));
+        if (this.maxSize != null) {
+            // A new bean only becomes eligible for eviction once it is released
+            this.evict();
+        }
         return bean;
     }
 
     @Override
     public void discard(V value) {
-        this.entries.remove(value.getId());
+        Entry<V> entry = this.entries.remove(value.getId());
+        if (entry != null) {
+            this.forget(value.getId(), entry);
+        }
     }
 
     @Override
     public void remove(K key) {
         Entry<V> entry = this.entries.remove(key);
         if (entry != null) {
+            this.forget(key, entry);
             this.factory.destroyInstance(entry.getValue());
         }
     }
@@ -124,7 +161,9 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
         Entry<V> entry = this.entries.get(key);
         if (entry == null) return null;
         this.scheduler.cancel(key);
-        entry.use();
+        // An entry that was concurrently evicted can no longer be used
+        if (!entry.use()) return null;
+        this.hits.increment();
         return entry.getValue();
     }
 
@@ -137,16 +176,21 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
     public void release(V bean) {
         K id = bean.getId();
         Entry<V> entry = this.entries.get(id);
-        if (entry != null
-                && entry.done()
-                && this.timeout != null) {
-            if (!this.timeout.isZero()) {
-                this.scheduler.schedule(id, Instant.now().plus(this.timeout));
-            } else {
-                // The Jakarta Enterprise Beans specification allows a 0 timeout, which means the bean is immediately eligible
-                // for removal.
-                // However, removing it directly is faster than scheduling it for immediate removal.
-                remove(id);
+        if (entry != null && entry.done()) {
+            if (this.timeout != null) {
+                if (!this.timeout.isZero()) {
+                    this.scheduler.schedule(id, Instant.now().plus(this.timeout));
+                } else {
+                    // The Jakarta Enterprise Beans specification allows a 0 timeout, which means the bean is immediately eligible
+                    // for removal.
+                    // However, removing it directly is faster than scheduling it for immediate removal.
+                    remove(id);
+                    return;
+                }
+            }
+            if (this.maxSize != null) {
+                this.idle(id, entry);
+                this.evict();
             }
         }
     }
@@ -166,28 +210,123 @@ public class SimpleCache<K, V extends Identifiable<K>> implements Cache<K, V>, P
         return this.getCacheSize();
     }
 
+    @Override
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
     @Override
     public boolean test(K key) {
         this.remove(key);
         return true;
     }
 
+    /**
+     * Records the specified bean as the most recently used idle bean, and ages the usage frequencies of all beans periodically.
+     */
+    private void idle(K id, Entry<V> entry) {
+        synchronized (this.idle) {
+            // Re-insert to move the bean to the tail of the access order
+            this.idle.remove(id);
+            if (this.entries.get(id) != entry) return;
+            this.idle.put(id, entry);
+            entry.frequency += 1;
+            if (++this.releases >= this.maxSize * AGING_FACTOR) {
+                this.releases = 0;
+                for (Entry<V> value : this.entries.values()) {
+                    value.frequency >>>= 1;
+                }
+            }
+        }
+    }
+
+    private void forget(K id, Entry<V> entry) {
+        if (this.maxSize != null) {
+            synchronized (this.idle) {
+                this.idle.remove(id, entry);
+            }
+        }
+    }
+
+    /**
+     * Evicts idle beans until the size of this cache no longer exceeds its maximum size, or until no idle beans remain.
+     */
+    private void evict() {
+        while (this.entries.size() > this.maxSize) {
+            K key = null;
+            Entry<V> victim = null;
+            synchronized (this.idle) {
+                Iterator<Map.Entry<K, Entry<V>>> candidates = this.idle.entrySet().iterator();
+                int sampled = 0;
+                while (candidates.hasNext() && (sampled < EVICTION_SAMPLE_SIZE)) {
+                    Map.Entry<K, Entry<V>> candidate = candidates.next();
+                    Entry<V> entry = candidate.getValue();
+                    if (!entry.isIdle()) {
+                        // Bean is in use, it will be re-inserted when released
+                        candidates.remove();
+                        continue;
+                    }
+                    sampled += 1;
+                    if ((victim == null) || (entry.frequency < victim.frequency)) {
+                        key = candidate.getKey();
+                        victim = entry;
+                    }
+                }
+                if (victim == null) {
+                    // All beans are in use
+                    return;
+                }
+                this.idle.remove(key);
+                // If the victim was concurrently acquired, it will be re-inserted when released
+                if (!victim.evict()) continue;
+            }
+            if (this.entries.remove(key, victim)) {
+                this.scheduler.cancel(key);
+                this.evictions.increment();
+                this.factory.destroyInstance(victim.getValue());
+            }
+        }
+    }
+
     static class Entry<V> {
+        // Usage value of an evicted entry
+        private static final int EVICTED = Integer.MIN_VALUE;
+
         private final V value;
         private final AtomicInteger usage = new AtomicInteger();
+        // Approximate usage frequency, guarded by the idle map of the cache
+        int frequency = 0;
 
         Entry(V value) {
             this.value = value;
         }
 
-        void use() {
-            this.usage.incrementAndGet();
+        boolean use() {
+            int usage = this.usage.get();
+            while (usage != EVICTED) {
+                if (this.usage.compareAndSet(usage, usage + 1)) return true;
+                usage = this.usage.get();
+            }
+            return false;
         }
 
         boolean done() {
             return this.usage.decrementAndGet() == 0;
         }
 
+        boolean isIdle() {
+            return this.usage.get() == 0;
+        }
+
+        boolean evict() {
+            return this.usage.compareAndSet(0, EVICTED);
+        }
+
         V getValue() {
             return this.value;
         }
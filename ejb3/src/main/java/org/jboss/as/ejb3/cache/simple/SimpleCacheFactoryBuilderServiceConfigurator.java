@@ -26,17 +26,22 @@ import java.util.function.Consumer;
 
 import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
 import org.jboss.as.clustering.controller.ResourceServiceConfigurator;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ejb3.cache.CacheFactoryBuilder;
 import org.jboss.as.ejb3.cache.CacheFactoryBuilderServiceNameProvider;
 import org.jboss.as.ejb3.cache.Identifiable;
 import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
+import org.jboss.as.ejb3.subsystem.SimpleCacheFactoryResourceDefinition;
 import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.dmr.ModelNode;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.service.ServiceConfigurator;
 
 /**
  * Service that provides a simple {@link CacheFactoryBuilder}.
@@ -48,10 +53,20 @@ import org.jboss.msc.service.ServiceTarget;
  */
 public class SimpleCacheFactoryBuilderServiceConfigurator<K, V extends Identifiable<K>> extends CacheFactoryBuilderServiceNameProvider implements ResourceServiceConfigurator, CacheFactoryBuilder<K, V> {
 
+    private volatile Integer maxSize;
+
     public SimpleCacheFactoryBuilderServiceConfigurator(PathAddress address) {
         super(address.getLastElement().getValue());
     }
 
+    @Override
+    public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
+        // if the attribute is undefined, the cache is unbounded
+        ModelNode maxSize = SimpleCacheFactoryResourceDefinition.Attribute.MAX_SIZE.resolveModelAttribute(context, model);
+        this.maxSize = maxSize.isDefined() ? maxSize.asInt() : null;
+        return this;
+    }
+
     @Override
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceName name = this.getServiceName();
@@ -68,7 +83,7 @@ public class SimpleCacheFactoryBuilderServiceConfigurator<K, V extends Identifia
 
     @Override
     public CapabilityServiceConfigurator getServiceConfigurator(DeploymentUnit unit, StatefulComponentDescription description, ComponentConfiguration configuration) {
-        return new SimpleCacheFactoryServiceConfigurator<>(description);
+        return new SimpleCacheFactoryServiceConfigurator<>(description, this.maxSize);
     }
 
     @Override
@@ -51,11 +51,17 @@ import org.wildfly.clustering.service.SupplierDependency;
 public class SimpleCacheFactoryServiceConfigurator<K, V extends Identifiable<K>> extends SimpleServiceNameProvider implements CapabilityServiceConfigurator, CacheFactory<K, V> {
 
     private final StatefulComponentDescription componentDescription;
+    private final Integer maxSize;
     private final SupplierDependency<ServerEnvironment> environment = new ServiceSupplierDependency<>(ServerEnvironmentService.SERVICE_NAME);
 
     public SimpleCacheFactoryServiceConfigurator(StatefulComponentDescription description) {
+        this(description, null);
+    }
+
+    public SimpleCacheFactoryServiceConfigurator(StatefulComponentDescription description, Integer maxSize) {
         super(description.getCacheFactoryServiceName());
         this.componentDescription = description;
+        this.maxSize = maxSize;
     }
 
     @Override
@@ -69,6 +75,6 @@ public class SimpleCacheFactoryServiceConfigurator<K, V extends Identifiable<K>>
 
     @Override
     public Cache<K, V> createCache(Supplier<K> identifierFactory, StatefulObjectFactory<V> factory, PassivationListener<V> passivationListener) {
-        return new SimpleCache<>(factory, identifierFactory, this.componentDescription.getStatefulTimeout(), this.environment.get());
+        return new SimpleCache<>(factory, identifierFactory, this.componentDescription.getStatefulTimeout(), this.environment.get(), this.maxSize);
     }
 }
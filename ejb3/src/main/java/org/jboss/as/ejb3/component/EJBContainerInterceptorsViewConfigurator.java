@@ -49,6 +49,7 @@ import org.jboss.as.ee.component.ViewConfigurator;
 import org.jboss.as.ee.component.ViewDescription;
 import org.jboss.as.ee.component.interceptors.InterceptorClassDescription;
 import org.jboss.as.ee.component.interceptors.InterceptorOrder;
+import org.jboss.as.ee.component.interceptors.PassThroughInterceptor;
 import org.jboss.as.ee.component.interceptors.UserInterceptorFactory;
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.ee.utils.ClassLoadingUtils;
@@ -212,6 +213,9 @@ public class EJBContainerInterceptorsViewConfigurator implements ViewConfigurato
         return new InterceptorFactory() {
             @Override
             public Interceptor create(InterceptorFactoryContext context) {
+                if (interceptorFactories.isEmpty()) {
+                    return PassThroughInterceptor.INSTANCE;
+                }
                 final Interceptor[] interceptors = new Interceptor[interceptorFactories.size()];
                 final Iterator<InterceptorFactory> factories = interceptorFactories.iterator();
                 for (int i = 0; i < interceptors.length; i++) {
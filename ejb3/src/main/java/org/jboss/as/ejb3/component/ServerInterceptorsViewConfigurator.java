@@ -28,6 +28,7 @@ import org.jboss.as.ee.component.ViewConfiguration;
 import org.jboss.as.ee.component.ViewConfigurator;
 import org.jboss.as.ee.component.ViewDescription;
 import org.jboss.as.ee.component.interceptors.InterceptorOrder;
+import org.jboss.as.ee.component.interceptors.PassThroughInterceptor;
 import org.jboss.as.ee.component.interceptors.UserInterceptorFactory;
 import org.jboss.as.ejb3.interceptor.server.ServerInterceptorCache;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
@@ -83,6 +84,9 @@ public class ServerInterceptorsViewConfigurator implements ViewConfigurator {
         return new InterceptorFactory() {
             @Override
             public Interceptor create(InterceptorFactoryContext context) {
+                if (interceptorFactories.isEmpty()) {
+                    return PassThroughInterceptor.INSTANCE;
+                }
                 final Interceptor[] interceptors = new Interceptor[interceptorFactories.size()];
                 final Iterator<InterceptorFactory> factories = interceptorFactories.iterator();
                 for (int i = 0; i < interceptors.length; i++) {
@@ -25,9 +25,9 @@ package org.jboss.as.ejb3.component.interceptors;
 import java.util.Collections;
 import java.util.List;
 
+import org.jboss.as.ee.component.interceptors.ElidableInterceptor;
 import org.jboss.as.server.deployment.SetupAction;
 import org.jboss.invocation.ImmediateInterceptorFactory;
-import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.invocation.InterceptorFactory;
 
@@ -37,7 +37,7 @@ import org.jboss.invocation.InterceptorFactory;
  *
  * @author Stuart Douglas
  */
-public class AdditionalSetupInterceptor implements Interceptor {
+public class AdditionalSetupInterceptor implements ElidableInterceptor {
 
     private final SetupAction[] actions;
 
@@ -88,6 +88,11 @@ public class AdditionalSetupInterceptor implements Interceptor {
         return retValue;
     }
 
+    @Override
+    public boolean isElidable() {
+        return actions.length == 0;
+    }
+
     public static InterceptorFactory factory(final List<SetupAction> actions) {
         final AdditionalSetupInterceptor interceptor = new AdditionalSetupInterceptor(actions);
         return new ImmediateInterceptorFactory(interceptor);
@@ -31,6 +31,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
@@ -64,6 +65,10 @@ public class InvocationMetrics {
     private final AtomicLong concurrent = new AtomicLong(0);
     private final AtomicLong peakConcurrent = new AtomicLong(0);
 
+    private final AtomicLong pendingDispatches = new AtomicLong(0);
+    private final LongAdder dispatches = new LongAdder();
+    private final LongAdder dispatchTime = new LongAdder();
+
     private final ConcurrentMap<String, AtomicReference<Values>> methods = new ConcurrentHashMap<String, AtomicReference<Values>>();
 
     void finishInvocation(final Method method, final long invocationWaitTime, final long invocationExecutionTime) {
@@ -165,6 +170,35 @@ public class InvocationMetrics {
         return values.get().waitTime;
     }
 
+    /**
+     * Records a remote invocation that was queued for dispatch.
+     */
+    public void queueDispatch() {
+        pendingDispatches.incrementAndGet();
+    }
+
+    /**
+     * Records the dispatch of a previously queued remote invocation.
+     * @param dispatchTime the time, in milliseconds, the invocation spent waiting for dispatch
+     */
+    public void finishDispatch(final long dispatchTime) {
+        pendingDispatches.decrementAndGet();
+        dispatches.increment();
+        this.dispatchTime.add(dispatchTime);
+    }
+
+    public long getPendingDispatches() {
+        return pendingDispatches.get();
+    }
+
+    public long getDispatches() {
+        return dispatches.sum();
+    }
+
+    public long getDispatchTime() {
+        return dispatchTime.sum();
+    }
+
     void startInvocation() {
         final long v = concurrent.incrementAndGet();
         // concurrent might decrement here, but we take that missing peak for granted.
@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import java.rmi.RemoteException;
+
+import javax.ejb.ConcurrentAccessException;
+import javax.ejb.ConcurrentAccessTimeoutException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.ee.component.ComponentInstance;
+import org.jboss.as.ejb3.component.interceptors.AbstractEJBInterceptor;
+import org.jboss.as.ejb3.component.pool.PooledInstanceInterceptor;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.invocation.InterceptorContext;
+
+/**
+ * Associates all invocations of a message-driven bean within a delivery cycle of a batch transaction with the same pooled instance,
+ * such that the messages of a delivery cycle acquire an instance from the pool only once. The instance is returned to the pool when
+ * the delivery cycle ends, see {@link #releasePinnedInstance(TransactionSynchronizationRegistry)}, or when the transaction completes,
+ * so an instance is never held while a batch awaits further messages.
+ * Invocations outside of an active transaction are handled by {@link PooledInstanceInterceptor}.
+ */
+class DeliveryBatchPooledInstanceInterceptor extends AbstractEJBInterceptor {
+
+    // key of the pinned instance within the transaction, whose invocations all target the same message-driven bean
+    private static final Object KEY = new Object();
+
+    /**
+     * Returns the instance pinned to the current transaction, if any, to the pool.
+     * A subsequent invocation within the same transaction acquires another instance from the pool.
+     * @param tsr the transaction synchronization registry
+     */
+    static void releasePinnedInstance(TransactionSynchronizationRegistry tsr) {
+        if (tsr.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            final PinnedInstance pinned = (PinnedInstance) tsr.getResource(KEY);
+            if (pinned != null) {
+                pinned.release();
+            }
+        }
+    }
+
+    @Override
+    public Object processInvocation(InterceptorContext context) throws Exception {
+        final MessageDrivenComponent component = getComponent(context, MessageDrivenComponent.class);
+        final TransactionSynchronizationRegistry tsr = component.getTransactionSynchronizationRegistry();
+        if (tsr.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            return PooledInstanceInterceptor.INSTANCE.processInvocation(context);
+        }
+        PinnedInstance pinned = (PinnedInstance) tsr.getResource(KEY);
+        if (pinned == null) {
+            pinned = new PinnedInstance(component.getPool());
+            tsr.registerInterposedSynchronization(pinned);
+            tsr.putResource(KEY, pinned);
+        }
+        context.putPrivateData(ComponentInstance.class, pinned.get());
+        try {
+            return context.proceed();
+        } catch (Exception ex) {
+            // Detect app exception
+            if (component.getApplicationException(ex.getClass(), context.getMethod()) != null) {
+                // it's an application exception, just throw it back.
+                throw ex;
+            }
+            if (ex instanceof ConcurrentAccessTimeoutException || ex instanceof ConcurrentAccessException) {
+                throw ex;
+            }
+            if (ex instanceof RuntimeException || ex instanceof RemoteException) {
+                pinned.discard();
+            }
+            throw ex;
+        } catch (final Error e) {
+            pinned.discard();
+            throw e;
+        } catch (final Throwable t) {
+            pinned.discard();
+            throw new RuntimeException(t);
+        }
+    }
+
+    private static class PinnedInstance implements Synchronization {
+        private final Pool<MessageDrivenComponentInstance> pool;
+        private MessageDrivenComponentInstance instance;
+
+        PinnedInstance(Pool<MessageDrivenComponentInstance> pool) {
+            this.pool = pool;
+        }
+
+        MessageDrivenComponentInstance get() {
+            if (this.instance == null) {
+                this.instance = this.pool.get();
+            }
+            return this.instance;
+        }
+
+        void discard() {
+            if (this.instance != null) {
+                this.pool.discard(this.instance);
+                this.instance = null;
+            }
+        }
+
+        void release() {
+            if (this.instance != null) {
+                this.pool.release(this.instance);
+                this.instance = null;
+            }
+        }
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            this.release();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.component.messagedriven;
+
+import static java.security.AccessController.doPrivileged;
+
+import java.security.PrivilegedAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * Provides the scheduler, shared by all message-driven beans, that completes delivery batches whose timeout elapsed
+ * before they were filled.
+ */
+public class DeliveryBatchSchedulerService implements Service<ScheduledExecutorService> {
+
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("ejb3", "mdb-delivery-batch-scheduler");
+
+    private volatile ScheduledThreadPoolExecutor executor;
+
+    @Override
+    public void start(final StartContext context) throws StartException {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(Runtime.getRuntime().availableProcessors(), createThreadFactory());
+        executor.setRemoveOnCancelPolicy(true);
+        this.executor = executor;
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        // Message endpoints complete their pending batches on release, so any remaining tasks are obsolete
+        this.executor.shutdownNow();
+        this.executor = null;
+    }
+
+    @Override
+    public ScheduledExecutorService getValue() throws IllegalStateException, IllegalArgumentException {
+        return this.executor;
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        return doPrivileged(new PrivilegedAction<ThreadFactory>() {
+            @Override
+            public ThreadFactory run() {
+                return new JBossThreadFactory(new ThreadGroup("EJB MDB delivery batch"), Boolean.TRUE, null, "%G - %t", null, null);
+            }
+        });
+    }
+}
@@ -23,6 +23,9 @@ package org.jboss.as.ejb3.component.messagedriven;
 
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import javax.ejb.TransactionAttributeType;
@@ -38,6 +41,7 @@ import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
 import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.component.pool.PooledComponent;
 import org.jboss.as.ejb3.inflow.JBossMessageEndpointFactory;
+import org.jboss.as.ejb3.inflow.MessageDeliveryStatistics;
 import org.jboss.as.ejb3.inflow.MessageEndpointService;
 import org.jboss.as.ejb3.pool.Pool;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
@@ -77,6 +81,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
     private Endpoint endpoint;
     private String activationName;
     private volatile boolean suspended = false;
+    private final int deliveryBatchSize;
+    private final MessageDeliveryStatistics deliveryStatistics = new MessageDeliveryStatistics();
+    // completes partially filled delivery batches, shared by all message-driven beans, null if delivery is not batched
+    private final ScheduledExecutorService deliveryBatchScheduler;
 
     /**
      * Server activity that stops delivery before suspend starts.
@@ -148,6 +156,9 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         this.suspendController = ejbComponentCreateService.getSuspendControllerInjectedValue().getValue();
         this.activationSpec = activationSpec;
         this.activationName = activeResourceAdapterName + messageListenerInterface.getName();
+        this.deliveryBatchSize = ejbComponentCreateService.getDeliveryBatchSize();
+        this.deliveryBatchScheduler = ejbComponentCreateService.getDeliveryBatchScheduler();
+        final long deliveryBatchTimeout = ejbComponentCreateService.getDeliveryBatchTimeout();
         final ClassLoader componentClassLoader = doPrivileged(new GetClassLoaderAction(ejbComponentCreateService.getComponentClass()));
         final MessageEndpointService<?> service = new MessageEndpointService<Object>() {
             @Override
@@ -199,6 +210,29 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
             public ClassLoader getClassLoader() {
                 return componentClassLoader;
             }
+
+            @Override
+            public int getDeliveryBatchSize() {
+                return deliveryBatchSize;
+            }
+
+            @Override
+            public ScheduledFuture<?> scheduleBatchCompletion(Runnable task) {
+                if (deliveryBatchScheduler == null) {
+                    throw new RejectedExecutionException();
+                }
+                return deliveryBatchScheduler.schedule(task, deliveryBatchTimeout, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public void releaseDeliveryBatchInstance() {
+                DeliveryBatchPooledInstanceInterceptor.releasePinnedInstance(getTransactionSynchronizationRegistry());
+            }
+
+            @Override
+            public MessageDeliveryStatistics getDeliveryStatistics() {
+                return deliveryStatistics;
+            }
         };
         this.endpointFactory = new JBossMessageEndpointFactory(componentClassLoader, service, (Class<Object>) getComponentClass(), messageListenerInterface);
         this.started = false;
@@ -336,6 +370,14 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         return deliveryControllerName;
     }
 
+    public int getDeliveryBatchSize() {
+        return deliveryBatchSize;
+    }
+
+    public MessageDeliveryStatistics getDeliveryStatistics() {
+        return deliveryStatistics;
+    }
+
     @Override
     public AllowedMethodsInformation getAllowedMethodsInformation() {
         return isBeanManagedTransaction() ? MessageDrivenAllowedMethodsInformation.INSTANCE_BMT : MessageDrivenAllowedMethodsInformation.INSTANCE_CMT;
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.resource.ResourceException;
 import javax.resource.spi.ActivationSpec;
@@ -63,10 +64,13 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
     private final String resourceAdapterName;
     private final boolean deliveryActive;
     private final ServiceName deliveryControllerName;
+    private final int deliveryBatchSize;
+    private final long deliveryBatchTimeout;
     private final InjectedValue<ResourceAdapterRepository> resourceAdapterRepositoryInjectedValue = new InjectedValue<ResourceAdapterRepository>();
     private final InjectedValue<ResourceAdapter> resourceAdapterInjectedValue = new InjectedValue<ResourceAdapter>();
     private final InjectedValue<PoolConfig> poolConfig = new InjectedValue<PoolConfig>();
     private final InjectedValue<SuspendController> suspendControllerInjectedValue = new InjectedValue<>();
+    private final InjectedValue<ScheduledExecutorService> deliveryBatchSchedulerInjectedValue = new InjectedValue<>();
     private final ClassLoader moduleClassLoader;
 
     /**
@@ -81,6 +85,8 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         this.resourceAdapterName = componentDescription.getResourceAdapterName();
         this.deliveryControllerName = componentDescription.isDeliveryControlled()? componentDescription.getDeliveryControllerName(): null;
         this.deliveryActive = !componentDescription.isDeliveryControlled() && componentDescription.isDeliveryActive();
+        this.deliveryBatchSize = componentDescription.getDeliveryBatchSize();
+        this.deliveryBatchTimeout = componentDescription.getDeliveryBatchTimeout();
         // see MessageDrivenComponentDescription.<init>
         this.messageListenerInterface = messageListenerInterface;
 
@@ -244,6 +250,18 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         return this.poolConfig.getOptionalValue();
     }
 
+    int getDeliveryBatchSize() {
+        return this.deliveryBatchSize;
+    }
+
+    long getDeliveryBatchTimeout() {
+        return this.deliveryBatchTimeout;
+    }
+
+    ScheduledExecutorService getDeliveryBatchScheduler() {
+        return this.deliveryBatchSchedulerInjectedValue.getOptionalValue();
+    }
+
     public InjectedValue<PoolConfig> getPoolConfigInjector() {
         return this.poolConfig;
     }
@@ -268,6 +286,10 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         return suspendControllerInjectedValue;
     }
 
+    public InjectedValue<ScheduledExecutorService> getDeliveryBatchSchedulerInjectedValue() {
+        return deliveryBatchSchedulerInjectedValue;
+    }
+
     private String stripDotRarSuffix(final String raName) {
         if (raName == null) {
             return null;
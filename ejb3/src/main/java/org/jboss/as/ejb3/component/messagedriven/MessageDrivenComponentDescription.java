@@ -24,6 +24,7 @@ package org.jboss.as.ejb3.component.messagedriven;
 import static org.jboss.as.server.deployment.Attachments.CAPABILITY_SERVICE_SUPPORT;
 
 import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.ejb.MessageDrivenBean;
 import javax.ejb.TransactionManagementType;
@@ -80,10 +81,15 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
     private static final String STRICT_MAX_POOL_CONFIG_CAPABILITY_NAME = "org.wildfly.ejb3.pool-config";
     private static final String DEFAULT_MDB_POOL_CONFIG_CAPABILITY_NAME = "org.wildfly.ejb3.pool-config.mdb-default";
 
+    // Default time in milliseconds that a partially filled delivery batch remains uncommitted
+    private static final long DEFAULT_DELIVERY_BATCH_TIMEOUT = 100;
+
     private final Properties activationProps;
     private String resourceAdapterName;
     private boolean deliveryActive;
     private String[] deliveryGroups;
+    private int deliveryBatchSize = 1;
+    private long deliveryBatchTimeout = DEFAULT_DELIVERY_BATCH_TIMEOUT;
     private boolean clusteredSingleton;
     private String mdbPoolConfigName;
     private final String messageListenerInterfaceName;
@@ -199,6 +205,9 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
                     @Override
                     public void configureDependency(final ServiceBuilder<?> serviceBuilder, final MessageDrivenComponentCreateService mdbComponentCreateService) throws DeploymentUnitProcessingException {
                         serviceBuilder.addDependency(suspendControllerName, SuspendController.class, mdbComponentCreateService.getSuspendControllerInjectedValue());
+                        if (MessageDrivenComponentDescription.this.deliveryBatchSize > 1) {
+                            serviceBuilder.addDependency(DeliveryBatchSchedulerService.SERVICE_NAME, ScheduledExecutorService.class, mdbComponentCreateService.getDeliveryBatchSchedulerInjectedValue());
+                        }
                     }
                 });
             }
@@ -257,6 +266,28 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
         this.deliveryGroups = groupNames;
     }
 
+    /**
+     * Returns the maximum number of messages delivered within a single transaction, 1 if delivery is not batched.
+     */
+    public int getDeliveryBatchSize() {
+        return deliveryBatchSize;
+    }
+
+    public void setDeliveryBatchSize(int deliveryBatchSize) {
+        this.deliveryBatchSize = Math.max(1, deliveryBatchSize);
+    }
+
+    /**
+     * Returns the maximum time in milliseconds that a partially filled delivery batch remains uncommitted.
+     */
+    public long getDeliveryBatchTimeout() {
+        return deliveryBatchTimeout;
+    }
+
+    public void setDeliveryBatchTimeout(long deliveryBatchTimeout) {
+        this.deliveryBatchTimeout = deliveryBatchTimeout;
+    }
+
     public boolean isClusteredSingleton() {
         return clusteredSingleton;
     }
@@ -52,6 +52,10 @@ public class MessageDrivenComponentInstanceAssociatingFactory extends ComponentI
         }
         final MessageDrivenComponent mdbComponent = (MessageDrivenComponent) component;
         if (mdbComponent.getPool() != null) {
+            if (mdbComponent.getDeliveryBatchSize() > 1) {
+                // reuse the same instance for all messages of a delivery batch
+                return new DeliveryBatchPooledInstanceInterceptor();
+            }
             return PooledInstanceInterceptor.INSTANCE;
         } else {
             return NonPooledEJBComponentInstanceAssociatingInterceptor.INSTANCE;
@@ -25,6 +25,7 @@ package org.jboss.as.ejb3.component.pool;
 import org.jboss.as.ejb3.pool.Pool;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
 import org.jboss.as.ejb3.pool.strictmax.StrictMaxPool;
+import org.jboss.as.ejb3.pool.striped.StripedPool;
 
 import java.util.concurrent.TimeUnit;
 
@@ -46,15 +47,29 @@ public class StrictMaxPoolConfig extends PoolConfig {
 
     private volatile long timeout;
 
+    /**
+     * The number of stripes of a {@link StripedPool}, or 0 if a single {@link StrictMaxPool} should be used.
+     */
+    private volatile int stripes;
+
     public StrictMaxPoolConfig(final String poolName, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(poolName, maxSize, 0, timeout, timeUnit);
+    }
+
+    public StrictMaxPoolConfig(final String poolName, int maxSize, int stripes, long timeout, TimeUnit timeUnit) {
         super(poolName);
         this.maxPoolSize = maxSize;
+        this.stripes = stripes;
         this.timeout = timeout;
         this.timeoutUnit = timeUnit;
     }
 
     @Override
     public <T> Pool<T> createPool(final StatelessObjectFactory<T> statelessObjectFactory) {
+        int stripes = this.stripes;
+        if (stripes > 0) {
+            return new StripedPool<T>(statelessObjectFactory, this.maxPoolSize, stripes, this.timeout, this.timeoutUnit);
+        }
         return new StrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
     }
 
@@ -66,6 +81,14 @@ public class StrictMaxPoolConfig extends PoolConfig {
         this.maxPoolSize = maxPoolSize;
     }
 
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
     public TimeUnit getTimeoutUnit() {
         return timeoutUnit;
     }
@@ -87,6 +110,7 @@ public class StrictMaxPoolConfig extends PoolConfig {
         return "StrictMaxPoolConfig{" +
                 "name=" + this.poolName +
                 ", maxPoolSize=" + maxPoolSize +
+                ", stripes=" + stripes +
                 ", timeoutUnit=" + timeoutUnit +
                 ", timeout=" + timeout +
                 '}';
@@ -49,9 +49,13 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
 
 
     public StrictMaxPoolConfigService(final String poolName, int declaredMaxSize, Derive derive, long timeout, TimeUnit timeUnit) {
+        this(poolName, declaredMaxSize, derive, 0, timeout, timeUnit);
+    }
+
+    public StrictMaxPoolConfigService(final String poolName, int declaredMaxSize, Derive derive, int stripes, long timeout, TimeUnit timeUnit) {
         this.declaredMaxSize = declaredMaxSize;
         this.derive = derive;
-        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, timeout, timeUnit);
+        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, stripes, timeout, timeUnit);
     }
 
     @Override
@@ -98,6 +102,10 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
         poolConfig.setMaxPoolSize(max);
     }
 
+    public void setStripes(int stripes) {
+        poolConfig.setStripes(stripes);
+    }
+
     public void setTimeout(long timeout) {
         poolConfig.setTimeout(timeout);
     }
@@ -74,9 +74,9 @@ public class SingletonComponent extends SessionBeanComponent {
     private final Object creationLock = new Object();
 
     /**
-     * A spec compliant {@link EJBReadWriteLock}
+     * A spec compliant {@link EJBReadWriteLock}, or a {@link StripedReadWriteLock} for read-mostly singletons, if configured
      */
-    private final ReadWriteLock readWriteLock = new EJBReadWriteLock();
+    private final ReadWriteLock readWriteLock;
 
     /**
      * Construct a new instance.
@@ -94,6 +94,7 @@ public class SingletonComponent extends SessionBeanComponent {
         this.methodLockTypes = singletonComponentCreateService.getMethodApplicableLockTypes();
         this.methodAccessTimeouts = singletonComponentCreateService.getMethodApplicableAccessTimeouts();
         this.defaultAccessTimeoutProvider = singletonComponentCreateService.getDefaultAccessTimeoutService();
+        this.readWriteLock = singletonComponentCreateService.isStripedLock() ? new StripedReadWriteLock() : new EJBReadWriteLock();
     }
 
     @Override
@@ -39,12 +39,14 @@ import java.util.List;
 public class SingletonComponentCreateService extends SessionBeanComponentCreateService {
 
     private final boolean initOnStartup;
+    private final boolean stripedLock;
     private final List<ServiceName> dependsOn;
     private final InjectedValue<DefaultAccessTimeoutService> defaultAccessTimeoutService = new InjectedValue<DefaultAccessTimeoutService>();
 
     public SingletonComponentCreateService(final ComponentConfiguration componentConfiguration, final ApplicationExceptions ejbJarConfiguration, final boolean initOnStartup, final List<ServiceName> dependsOn) {
         super(componentConfiguration, ejbJarConfiguration);
         this.initOnStartup = initOnStartup;
+        this.stripedLock = ((SingletonComponentDescription) componentConfiguration.getComponentDescription()).isStripedLock();
         this.dependsOn = dependsOn;
     }
 
@@ -57,6 +59,10 @@ public class SingletonComponentCreateService extends SessionBeanComponentCreateS
         return this.initOnStartup;
     }
 
+    public boolean isStripedLock() {
+        return this.stripedLock;
+    }
+
     public DefaultAccessTimeoutService getDefaultAccessTimeoutService() {
         return defaultAccessTimeoutService.getValue();
     }
@@ -81,6 +81,11 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
      */
     private boolean initOnStartup;
 
+    /**
+     * Flag to indicate whether container-managed concurrency uses a reader-biased, striped lock
+     */
+    private boolean stripedLock;
+
     private final List<ServiceName> dependsOn = new ArrayList<ServiceName>();
 
     /**
@@ -197,6 +202,17 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
     }
 
+    /**
+     * Returns true if container-managed concurrency uses a {@link StripedReadWriteLock} instead of the default {@link EJBReadWriteLock}
+     */
+    public boolean isStripedLock() {
+        return this.stripedLock;
+    }
+
+    public void setStripedLock(final boolean stripedLock) {
+        this.stripedLock = stripedLock;
+    }
+
     @Override
     public SessionBeanType getSessionBeanType() {
         return SessionBeanComponentDescription.SessionBeanType.SINGLETON;
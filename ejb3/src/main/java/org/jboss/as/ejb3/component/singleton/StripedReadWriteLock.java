@@ -0,0 +1,264 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * A reader-biased implementation of {@link java.util.concurrent.locks.ReadWriteLock} for read-mostly singletons,
+ * which throws an {@link javax.ejb.IllegalLoopbackException} when a thread holding a read lock tries to obtain a write lock.
+ * <p/>
+ * Read locks are counted in a number of stripes, each on its own cache line, so that concurrent readers on different threads
+ * do not contend on a shared counter. A writer announces itself, which blocks new readers, and then waits for the read locks
+ * held in all stripes to be released. Like {@link EJBReadWriteLock}, read and write locks are reentrant, and the holder of
+ * the write lock may also obtain a read lock.
+ */
+public class StripedReadWriteLock implements ReadWriteLock {
+
+    // Number of longs between the counters of adjacent stripes, to avoid false sharing
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray readers;
+    private final int mask;
+    private final ReentrantLock writer = new ReentrantLock();
+    // Indicates that a writer holds, or is acquiring, the write lock
+    private volatile boolean writing = false;
+    // Used by writers to await release of read locks, and by readers to await release of the write lock
+    private final Object monitor = new Object();
+    // Number of read locks held by the current thread, mutated in place to avoid boxing and retained to avoid reallocation
+    private final ThreadLocal<int[]> readLockCount = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    public StripedReadWriteLock() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedReadWriteLock(int concurrency) {
+        int stripes = Integer.highestOneBit(Math.max(1, concurrency - 1) << 1);
+        this.mask = stripes - 1;
+        this.readers = new AtomicLongArray(stripes * PADDING);
+    }
+
+    @Override
+    public Lock readLock() {
+        return this.readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return this.writeLock;
+    }
+
+    private int stripe() {
+        // Spread the bits of the thread id, since threads are typically created in sequence
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & this.mask) * PADDING;
+    }
+
+    private long readLockCount() {
+        long count = 0;
+        for (int i = 0; i < this.readers.length(); i += PADDING) {
+            count += this.readers.get(i);
+        }
+        return count;
+    }
+
+    private void signal() {
+        synchronized (this.monitor) {
+            this.monitor.notifyAll();
+        }
+    }
+
+    private boolean acquireReadLock(long timeout) throws InterruptedException {
+        int[] count = this.readLockCount.get();
+        int stripe = this.stripe();
+        // A thread that already holds a lock must not wait for a pending writer, otherwise it would deadlock
+        if ((count[0] > 0) || this.writer.isHeldByCurrentThread()) {
+            this.readers.incrementAndGet(stripe);
+            count[0] += 1;
+            return true;
+        }
+        long deadline = System.nanoTime() + timeout;
+        while (true) {
+            if (!this.writing) {
+                this.readers.incrementAndGet(stripe);
+                // Re-check, since a writer may have announced itself concurrently
+                if (!this.writing) {
+                    count[0] += 1;
+                    return true;
+                }
+                this.readers.decrementAndGet(stripe);
+                this.signal();
+            }
+            synchronized (this.monitor) {
+                while (this.writing) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) return false;
+                    TimeUnit.NANOSECONDS.timedWait(this.monitor, remaining);
+                }
+            }
+        }
+    }
+
+    private void releaseReadLock() {
+        int[] count = this.readLockCount.get();
+        assert count[0] > 0 : "can't decrease, read lock is not held";
+        count[0] -= 1;
+        this.readers.decrementAndGet(this.stripe());
+        // Wake any writer waiting for read locks to be released
+        if (this.writing) {
+            this.signal();
+        }
+    }
+
+    private boolean acquireWriteLock(long timeout) throws InterruptedException {
+        this.checkLoopback();
+        long deadline = System.nanoTime() + timeout;
+        if (!this.writer.tryLock(timeout, TimeUnit.NANOSECONDS)) return false;
+        if (this.writer.getHoldCount() > 1) return true;
+        boolean acquired = false;
+        this.writing = true;
+        try {
+            synchronized (this.monitor) {
+                while (this.readLockCount() > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) return false;
+                    TimeUnit.NANOSECONDS.timedWait(this.monitor, remaining);
+                }
+            }
+            acquired = true;
+            return true;
+        } finally {
+            if (!acquired) {
+                this.writing = false;
+                this.writer.unlock();
+                this.signal();
+            }
+        }
+    }
+
+    private void releaseWriteLock() {
+        if (this.writer.getHoldCount() == 1) {
+            this.writing = false;
+            this.writer.unlock();
+            // Wake any readers waiting for the write lock to be released
+            this.signal();
+        } else {
+            this.writer.unlock();
+        }
+    }
+
+    /**
+     * Ensures that the current thread doesn't hold any read locks. If
+     * the thread holds any read locks, this method throws a {@link javax.ejb.IllegalLoopbackException}.
+     */
+    private void checkLoopback() {
+        int[] count = this.readLockCount.get();
+        if (count[0] > 0) {
+            throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+        }
+    }
+
+    private abstract static class AbstractLock implements Lock {
+
+        abstract boolean acquire(long timeout) throws InterruptedException;
+
+        @Override
+        public void lock() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        if (this.acquire(Long.MAX_VALUE)) return;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            while (!this.acquire(Long.MAX_VALUE)) {
+                // Keep waiting
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return this.acquire(0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return this.acquire(unit.toNanos(time));
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class ReadLock extends AbstractLock {
+        @Override
+        boolean acquire(long timeout) throws InterruptedException {
+            return StripedReadWriteLock.this.acquireReadLock(timeout);
+        }
+
+        @Override
+        public void unlock() {
+            StripedReadWriteLock.this.releaseReadLock();
+        }
+    }
+
+    private class WriteLock extends AbstractLock {
+        @Override
+        boolean acquire(long timeout) throws InterruptedException {
+            return StripedReadWriteLock.this.acquireWriteLock(timeout);
+        }
+
+        @Override
+        public void unlock() {
+            StripedReadWriteLock.this.releaseWriteLock();
+        }
+    }
+}
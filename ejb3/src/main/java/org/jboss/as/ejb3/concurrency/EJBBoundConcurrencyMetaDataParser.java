@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.concurrency;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaDataParser;
+import org.jboss.metadata.property.PropertyReplacer;
+
+/**
+ * Parser for EJBBoundConcurrencyMetaData components, namespace ejb-concurrency:1.0
+ */
+public class EJBBoundConcurrencyMetaDataParser extends AbstractEJBBoundMetaDataParser<EJBBoundConcurrencyMetaData> {
+
+    public static final String NAMESPACE_URI_1_0 = "urn:ejb-concurrency:1.0";
+
+    private static final String ROOT_ELEMENT_CONCURRENCY = "concurrency";
+    private static final String STRIPED_LOCK = "striped-lock";
+
+    public static final EJBBoundConcurrencyMetaDataParser INSTANCE = new EJBBoundConcurrencyMetaDataParser();
+
+    private EJBBoundConcurrencyMetaDataParser() {}
+
+    @Override
+    public EJBBoundConcurrencyMetaData parse(XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        // we only parse <concurrency> (root) element
+        if (!ROOT_ELEMENT_CONCURRENCY.equals(reader.getLocalName())) {
+            throw unexpectedElement(reader);
+        }
+        EJBBoundConcurrencyMetaData metaData = new EJBBoundConcurrencyMetaData();
+        processElements(metaData, reader, propertyReplacer);
+        return metaData;
+    }
+
+    @Override
+    protected void processElement(EJBBoundConcurrencyMetaData metaData, XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        final String namespaceURI = reader.getNamespaceURI();
+        final String localName = reader.getLocalName();
+        if (NAMESPACE_URI_1_0.equals(namespaceURI)) {
+            if (STRIPED_LOCK.equals(localName)) {
+                metaData.setStripedLock(Boolean.valueOf(getElementText(reader, propertyReplacer).trim()));
+            } else {
+                throw unexpectedElement(reader);
+            }
+        } else {
+            super.processElement(metaData, reader, propertyReplacer);
+        }
+    }
+}
@@ -35,7 +35,10 @@ import org.jboss.as.ee.metadata.MethodAnnotationAggregator;
 import org.jboss.as.ee.metadata.RuntimeAnnotationInformation;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.ejb3.component.singleton.SingletonComponentDescription;
 import org.jboss.as.ejb3.concurrency.AccessTimeoutDetails;
+import org.jboss.as.ejb3.concurrency.EJBBoundConcurrencyMetaData;
+import org.jboss.as.ejb3.deployment.EjbDeploymentAttachmentKeys;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.reflect.ClassReflectionIndex;
@@ -43,6 +46,7 @@ import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.invocation.proxy.MethodIdentifier;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodMetaData;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodsMetaData;
+import org.jboss.metadata.ejb.spec.EjbJarMetaData;
 import org.jboss.metadata.ejb.spec.NamedMethodMetaData;
 import org.jboss.metadata.ejb.spec.SessionBean31MetaData;
 import org.jboss.metadata.ejb.spec.SessionBeanMetaData;
@@ -90,6 +94,10 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
 
     protected void handleDeploymentDescriptor(final DeploymentUnit deploymentUnit, final DeploymentReflectionIndex deploymentReflectionIndex, final Class<?> componentClass, final SessionBeanComponentDescription componentConfiguration) throws DeploymentUnitProcessingException {
 
+        if (componentConfiguration instanceof SingletonComponentDescription) {
+            handleConcurrencyMetaData(deploymentUnit, (SingletonComponentDescription) componentConfiguration);
+        }
+
         if (componentConfiguration.getDescriptorData() == null) {
             return;
         }
@@ -127,6 +135,35 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
     }
 
 
+    /**
+     * Applies the jboss-ejb3.xml concurrency metadata of the bean, or else of all beans (*), to a singleton bean.
+     */
+    private void handleConcurrencyMetaData(final DeploymentUnit deploymentUnit, final SingletonComponentDescription componentConfiguration) {
+        final EjbJarMetaData ejbJarMetaData = deploymentUnit.getAttachment(EjbDeploymentAttachmentKeys.EJB_JAR_METADATA);
+        if (ejbJarMetaData == null || ejbJarMetaData.getAssemblyDescriptor() == null) {
+            return;
+        }
+        final List<EJBBoundConcurrencyMetaData> concurrencyMetaDatas = ejbJarMetaData.getAssemblyDescriptor().getAny(EJBBoundConcurrencyMetaData.class);
+        if (concurrencyMetaDatas == null) {
+            return;
+        }
+        Boolean stripedLock = null;
+        for (final EJBBoundConcurrencyMetaData concurrencyMetaData : concurrencyMetaDatas) {
+            if (concurrencyMetaData.isStripedLock() == null) {
+                continue;
+            }
+            if (componentConfiguration.getComponentName().equals(concurrencyMetaData.getEjbName())) {
+                stripedLock = concurrencyMetaData.isStripedLock();
+                break;
+            } else if ("*".equals(concurrencyMetaData.getEjbName())) {
+                stripedLock = concurrencyMetaData.isStripedLock();
+            }
+        }
+        if (stripedLock != null) {
+            componentConfiguration.setStripedLock(stripedLock);
+        }
+    }
+
     private Method resolveMethod(final DeploymentReflectionIndex index, final Class<?> currentClass, final Class<?> componentClass, final NamedMethodMetaData methodData) throws DeploymentUnitProcessingException {
         if (currentClass == null) {
             throw EjbLogger.ROOT_LOGGER.failToFindMethodWithParameterTypes(componentClass.getName(), methodData.getMethodName(), methodData.getMethodParams());
@@ -29,6 +29,7 @@ import org.jboss.as.ee.component.EEApplicationClasses;
 import org.jboss.as.ee.component.EEModuleClassDescription;
 import org.jboss.as.ee.metadata.ClassAnnotationInformation;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponentDescription;
+import org.jboss.as.ejb3.deliveryactive.metadata.EJBBoundMdbDeliveryBatchMetaData;
 import org.jboss.as.ejb3.deliveryactive.metadata.EJBBoundMdbDeliveryMetaData;
 import org.jboss.as.ejb3.deployment.EjbDeploymentAttachmentKeys;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -40,7 +41,8 @@ import org.jboss.metadata.ejb.spec.AssemblyDescriptorMetaData;
 import org.jboss.metadata.ejb.spec.EjbJarMetaData;
 
 /**
- * Handles the {@link org.jboss.ejb3.annotation.DeliveryActive} and {@link org.jboss.ejb3.annotation.DeliveryGroup} annotation merging
+ * Handles the {@link org.jboss.ejb3.annotation.DeliveryActive} and {@link org.jboss.ejb3.annotation.DeliveryGroup} annotation merging,
+ * as well as the delivery batch configuration of the deployment descriptor
  *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2013 Red Hat inc.
  * @author Flavia Rainone
@@ -113,6 +115,27 @@ public class MdbDeliveryMergingProcessor extends AbstractMergingProcessor<Messag
         else if (deliveryActive != null) {
             componentConfiguration.setDeliveryActive(deliveryActive);
         }
+
+        EJBBoundMdbDeliveryBatchMetaData deliveryBatch = null;
+        final List<EJBBoundMdbDeliveryBatchMetaData> deliveryBatchMetaDataList = assemblyDescriptor.getAny(EJBBoundMdbDeliveryBatchMetaData.class);
+        if (deliveryBatchMetaDataList != null) {
+            for (EJBBoundMdbDeliveryBatchMetaData deliveryBatchMetaData : deliveryBatchMetaDataList) {
+                if (ejbName.equals(deliveryBatchMetaData.getEjbName())) {
+                    deliveryBatch = deliveryBatchMetaData;
+                } else if ("*".equals(deliveryBatchMetaData.getEjbName()) && deliveryBatch == null) {
+                    // do not overwrite the bean specific configuration
+                    deliveryBatch = deliveryBatchMetaData;
+                }
+            }
+        }
+        if (deliveryBatch != null) {
+            if (deliveryBatch.getBatchSize() != null) {
+                componentConfiguration.setDeliveryBatchSize(deliveryBatch.getBatchSize());
+            }
+            if (deliveryBatch.getBatchTimeout() != null) {
+                componentConfiguration.setDeliveryBatchTimeout(deliveryBatch.getBatchTimeout());
+            }
+        }
     }
 
     private final String[] mergeDeliveryGroups(String[] deliveryGroups1, String[] deliveryGroups2) {
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.inflow;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the messages delivered to the endpoints of a message-driven bean.
+ */
+public class MessageDeliveryStatistics {
+    private final LongAdder deliveries = new LongAdder();
+    private final LongAdder overhead = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedDeliveries = new LongAdder();
+
+    void delivered() {
+        this.deliveries.increment();
+    }
+
+    void overhead(long nanos) {
+        this.overhead.add(nanos);
+    }
+
+    void batchCompleted(int size) {
+        this.batches.increment();
+        this.batchedDeliveries.add(size);
+    }
+
+    /**
+     * Returns the number of messages delivered.
+     */
+    public long getDeliveryCount() {
+        return this.deliveries.sum();
+    }
+
+    /**
+     * Returns the number of completed transactions that covered the delivery of messages.
+     */
+    public long getBatchCount() {
+        return this.batches.sum();
+    }
+
+    /**
+     * Returns the average number of messages delivered within a transaction.
+     */
+    public double getAverageBatchSize() {
+        long batches = this.batches.sum();
+        return (batches > 0) ? (double) this.batchedDeliveries.sum() / batches : 0;
+    }
+
+    /**
+     * Returns the average time in nanoseconds spent per message on delivery setup and completion, i.e. outside of the message listener.
+     */
+    public long getAverageOverhead() {
+        long deliveries = this.deliveries.sum();
+        return (deliveries > 0) ? this.overhead.sum() / deliveries : 0;
+    }
+}
@@ -28,6 +28,7 @@ import javax.resource.spi.endpoint.MessageEndpoint;
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
 import javax.transaction.InvalidTransactionException;
+import javax.transaction.NotSupportedException;
 import javax.transaction.RollbackException;
 import javax.transaction.Status;
 import javax.transaction.SystemException;
@@ -36,6 +37,8 @@ import javax.transaction.TransactionManager;
 import javax.transaction.xa.XAResource;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
@@ -49,27 +52,44 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
     private final Object delegate;
     private final XAResource xaRes;
     private final AtomicBoolean released = new AtomicBoolean(false);
+    private final int batchSize;
+    private final MessageDeliveryStatistics statistics;
 
     private Transaction currentTx;
     private ClassLoader previousClassLoader;
     private Transaction previousTx;
+    // number of messages delivered within the current transaction
+    private int batchCount;
+
+    // partially filled batch, suspended between delivery cycles until the next delivery, its scheduled completion or release
+    private Transaction deferredTx;
+    private int deferredCount;
+    private ScheduledFuture<?> deferredCompletion;
 
     MessageEndpointInvocationHandler(final MessageEndpointService service, final Object delegate, final XAResource xaResource) {
         this.service = service;
         this.delegate = delegate;
         this.xaRes = xaResource;
+        this.batchSize = service.getDeliveryBatchSize();
+        this.statistics = service.getDeliveryStatistics();
     }
 
     @Override
     public void afterDelivery() throws ResourceException {
+        final long start = System.nanoTime();
         final TransactionManager tm = getTransactionManager();
         try {
             if (currentTx != null) {
-                if (currentTx.getStatus() == Status.STATUS_MARKED_ROLLBACK)
-                    tm.rollback();
-                else
-                    tm.commit();
-                currentTx = null;
+                if ((batchSize > 1) && (batchCount < batchSize) && (currentTx.getStatus() == Status.STATUS_ACTIVE) && !released.get()) {
+                    // keep the transaction open for the messages of the next delivery cycles, without holding a bean instance
+                    service.releaseDeliveryBatchInstance();
+                    if (!deferBatch(tm)) {
+                        // the message-driven bean is being stopped
+                        completeTransaction(tm);
+                    }
+                } else {
+                    completeTransaction(tm);
+                }
             }
             if (previousTx != null) {
                 tm.resume(previousTx);
@@ -88,11 +108,13 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(previousClassLoader);
             previousClassLoader = null;
+            statistics.overhead(System.nanoTime() - start);
         }
     }
 
     @Override
     public void beforeDelivery(Method method) throws NoSuchMethodException, ResourceException {
+        final long start = System.nanoTime();
         // JCA 1.6 FR 13.5.6
         // The application server must set the thread context class loader to the endpoint
         // application class loader during the beforeDelivery call.
@@ -102,17 +124,157 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
             // TODO: in violation of JCA 1.6 FR 13.5.9?
             previousTx = tm.suspend();
             boolean isTransacted = service.isDeliveryTransacted(method);
-            if (isTransacted) {
-                tm.begin();
-                currentTx = tm.getTransaction();
-                if (xaRes != null)
-                    currentTx.enlistResource(xaRes);
+            final Transaction batchTx = takeDeferredBatch();
+            if (batchTx != null) {
+                tm.resume(batchTx);
+                currentTx = batchTx;
+                if (!isTransacted) {
+                    // a non-transacted delivery ends the batch
+                    completeTransaction(tm);
+                }
+            } else if (isTransacted) {
+                beginTransaction(tm);
             }
         } catch (Throwable t) {
             throw new ApplicationServerInternalException(t);
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(previousClassLoader);
+            statistics.overhead(System.nanoTime() - start);
+        }
+    }
+
+    private void beginTransaction(final TransactionManager tm) throws NotSupportedException, SystemException, RollbackException {
+        tm.begin();
+        currentTx = tm.getTransaction();
+        batchCount = 0;
+        if (xaRes != null)
+            currentTx.enlistResource(xaRes);
+    }
+
+    private void completeTransaction(final TransactionManager tm) throws SystemException, RollbackException, HeuristicMixedException, HeuristicRollbackException {
+        final Transaction tx = currentTx;
+        currentTx = null;
+        final int count = batchCount;
+        batchCount = 0;
+        if (count > 0) {
+            statistics.batchCompleted(count);
+        }
+        if (tx.getStatus() == Status.STATUS_MARKED_ROLLBACK)
+            tm.rollback();
+        else
+            tm.commit();
+    }
+
+    /**
+     * Suspends the current transaction until the next delivery cycle, scheduling its completion should no further message be delivered in time.
+     * @return false, if the completion of the batch could not be scheduled, leaving the current transaction associated with the calling thread
+     */
+    private synchronized boolean deferBatch(final TransactionManager tm) throws SystemException {
+        final ScheduledFuture<?> completion;
+        try {
+            completion = service.scheduleBatchCompletion(this::completeDeferredBatch);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        // the completion task cannot observe the batch before it is deferred, since it synchronizes on this handler
+        deferredTx = tm.suspend();
+        deferredCount = batchCount;
+        deferredCompletion = completion;
+        currentTx = null;
+        batchCount = 0;
+        return true;
+    }
+
+    /**
+     * Takes over the deferred batch, if any, for the next delivery cycle.
+     */
+    private synchronized Transaction takeDeferredBatch() {
+        if (deferredCompletion != null) {
+            deferredCompletion.cancel(false);
+            deferredCompletion = null;
+        }
+        final Transaction tx = deferredTx;
+        if (tx != null) {
+            batchCount = deferredCount;
+            deferredTx = null;
+        }
+        return tx;
+    }
+
+    /**
+     * Completes the deferred batch, if any, when no further message was delivered within the batch timeout, or on release.
+     * There is no resource adapter call to report a failure to, so a failure is logged, and the messages of the batch are left for redelivery.
+     */
+    private void completeDeferredBatch() {
+        final Transaction tx;
+        final int count;
+        synchronized (this) {
+            tx = deferredTx;
+            count = deferredCount;
+            deferredTx = null;
+            if (deferredCompletion != null) {
+                deferredCompletion.cancel(false);
+                deferredCompletion = null;
+            }
+        }
+        if (tx == null) return;
+
+        final long start = System.nanoTime();
+        final ClassLoader classLoader = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(getApplicationClassLoader());
+        try {
+            final TransactionManager tm = getTransactionManager();
+            final Transaction previous = tm.suspend();
+            try {
+                statistics.batchCompleted(count);
+                tm.resume(tx);
+                if (tx.getStatus() == Status.STATUS_MARKED_ROLLBACK)
+                    tm.rollback();
+                else
+                    tm.commit();
+            } finally {
+                if (previous != null) {
+                    tm.resume(previous);
+                }
+            }
+        } catch (Exception e) {
+            EjbLogger.ROOT_LOGGER.failedToCompleteDeliveryBatch(count, e);
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            statistics.overhead(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Called before the delivery of each message.
+     * Once the batch is full, it is completed and the message is delivered within a new transaction.
+     * If the batch could not be completed, the delivery of the message fails, reporting the failure to the resource adapter.
+     */
+    private void delivering() {
+        statistics.delivered();
+        if (currentTx == null) return;
+        if ((batchSize > 1) && (batchCount == batchSize)) {
+            final long start = System.nanoTime();
+            final TransactionManager tm = getTransactionManager();
+            final int count = batchCount;
+            Exception failure = null;
+            try {
+                completeTransaction(tm);
+            } catch (Exception e) {
+                failure = e;
+            }
+            try {
+                // subsequent messages of this delivery cycle are still delivered within a transaction
+                beginTransaction(tm);
+            } catch (Exception e) {
+                throw EjbLogger.ROOT_LOGGER.unexpectedError(e);
+            } finally {
+                statistics.overhead(System.nanoTime() - start);
+            }
+            if (failure != null) {
+                throw EjbLogger.ROOT_LOGGER.deliveryBatchCompletionFailed(count, failure);
+            }
         }
+        batchCount++;
     }
 
     @Override
@@ -134,6 +296,8 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         if (method.getDeclaringClass().equals(MessageEndpoint.class))
             return handle(method, args);
 
+        delivering();
+
         // TODO: Option A
         try {
             return method.invoke(delegate, args);
@@ -163,6 +327,9 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
 
         // TODO: tidy up outstanding delivery
 
+        // complete any batch awaiting further messages
+        completeDeferredBatch();
+
         service.release(delegate);
     }
 }
@@ -23,6 +23,7 @@ package org.jboss.as.ejb3.inflow;
 
 import javax.transaction.TransactionManager;
 import java.lang.reflect.Method;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -49,4 +50,29 @@ public interface MessageEndpointService<T> {
     ClassLoader getClassLoader();
 
     String getActivationName();
+
+    /**
+     * Returns the maximum number of messages that an endpoint delivers within a single transaction.
+     * A partially filled batch remains open across delivery cycles until it is full, its timeout elapses, or the endpoint is released.
+     *
+     * @return the batch size, 1 if delivery is not batched, in which case a transaction covers all messages delivered between beforeDelivery and afterDelivery
+     */
+    int getDeliveryBatchSize();
+
+    /**
+     * Schedules the completion of a partially filled delivery batch, once the batch timeout elapsed.
+     *
+     * @param task the task completing the batch
+     * @return the future of the scheduled task
+     * @throws java.util.concurrent.RejectedExecutionException if the completion could not be scheduled
+     */
+    ScheduledFuture<?> scheduleBatchCompletion(Runnable task);
+
+    /**
+     * Returns any bean instance associated with the transaction of the current delivery batch to the pool,
+     * such that no instance is held while the batch awaits further messages.
+     */
+    void releaseDeliveryBatchInstance();
+
+    MessageDeliveryStatistics getDeliveryStatistics();
 }
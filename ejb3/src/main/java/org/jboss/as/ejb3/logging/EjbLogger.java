@@ -3257,4 +3257,23 @@ public interface EjbLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 531, value = "No client mappings registry provider found for %s; using legacy provider based on static configuration")
     void legacyClientMappingsRegistryProviderInUse(String name);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 532, value = "Failed to run scheduled timer task %s")
+    void failedToRunScheduledTask(Object task, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 533, value = "Could not add the LAST_MODIFIED column to the timer table, timers will be refreshed from all rows of the table")
+    void incrementalTimerRefreshUnavailable(@Cause SQLException e);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 534, value = "Failed to dispatch remote invocation")
+    void failedToDispatchRemoteInvocation(@Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 535, value = "Failed to complete the transaction of a batch of %d delivered messages")
+    void failedToCompleteDeliveryBatch(int count, @Cause Throwable cause);
+
+    @Message(id = 536, value = "Failed to complete the transaction of a full batch of %d delivered messages")
+    EJBException deliveryBatchCompletionFailed(int count, @Cause Throwable cause);
 }
@@ -0,0 +1,227 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.pool.striped;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size, whose permits and idle instances are partitioned into a number of stripes.
+ * <p/>
+ * Each thread is affine to one stripe, so that concurrent invocations on different threads usually contend
+ * on different semaphores and queues. When the home stripe of a thread has no permits or idle instances left,
+ * they are stolen from the other stripes. Threads that find no permit on any stripe block on a shared hand-off
+ * semaphore, to which released permits are transferred while there are waiting threads. The sum of the permits
+ * over all stripes and the hand-off never exceeds the maximum size, so the pool enforces the same strict upper limit
+ * as {@link org.jboss.as.ejb3.pool.strictmax.StrictMaxPool}.
+ */
+public class StripedPool<T> extends AbstractPool<T> {
+
+    private final Stripe<T>[] stripes;
+    // permits handed off to waiting threads
+    private final Semaphore handoff = new Semaphore(0, false);
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final int mask;
+    private final int maxSize;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+
+    @SuppressWarnings("unchecked")
+    public StripedPool(StatelessObjectFactory<T> factory, int maxSize, int stripeCount, long timeout, TimeUnit timeUnit) {
+        super(factory);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        // Use a power of 2 number of stripes, such that each stripe has at least 1 permit
+        int count = Integer.highestOneBit(Math.max(1, Math.min(stripeCount, maxSize)));
+        this.mask = count - 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; ++i) {
+            // Distribute the remainder across the first stripes
+            this.stripes[i] = new Stripe<>((maxSize / count) + ((i < (maxSize % count)) ? 1 : 0));
+        }
+    }
+
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.homeStripe());
+
+        super.doRemove(ctx);
+    }
+
+    public int getCurrentSize() {
+        return getCreateCount() - getRemoveCount();
+    }
+
+    public int getAvailableCount() {
+        int available = this.handoff.availablePermits();
+        for (Stripe<T> stripe : this.stripes) {
+            available += stripe.permits.availablePermits();
+        }
+        return available;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public int getStripeCount() {
+        return this.stripes.length;
+    }
+
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    public T get() {
+        int home = this.homeIndex();
+        try {
+            if (!this.acquire(home)) {
+                throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+            }
+        } catch (InterruptedException e) {
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        }
+
+        // Prefer an idle instance of the home stripe, otherwise steal one from another stripe
+        for (int i = 0; i < this.stripes.length; ++i) {
+            T bean = this.stripes[(home + i) & this.mask].instances.poll();
+            if (bean != null) {
+                return bean;
+            }
+        }
+
+        T bean = null;
+        try {
+            // Pool is empty, create an instance
+            bean = create();
+        } finally {
+            if (bean == null) {
+                this.releasePermit(this.stripes[home]);
+            }
+        }
+        return bean;
+    }
+
+    public void release(T obj) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", this.getAvailableCount(), this.maxSize, this);
+        }
+
+        Stripe<T> stripe = this.homeStripe();
+        stripe.instances.add(obj);
+        this.releasePermit(stripe);
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.homeStripe());
+        super.doRemove(ctx);
+    }
+
+    public void start() {
+    }
+
+    public void stop() {
+        for (Stripe<T> stripe : this.stripes) {
+            for (T obj = stripe.instances.poll(); obj != null; obj = stripe.instances.poll()) {
+                destroy(obj);
+            }
+        }
+    }
+
+    /**
+     * Acquires a permit from the home stripe, or from any other stripe, otherwise waits up to the configured timeout
+     * for a permit to be handed off by a releasing thread.
+     */
+    private boolean acquire(int home) throws InterruptedException {
+        if (this.tryAcquire(home)) return true;
+
+        this.waiters.incrementAndGet();
+        try {
+            // Scan again, since a permit released before this thread was registered as waiter was not handed off
+            if (this.tryAcquire(home)) return true;
+            return this.handoff.tryAcquire(this.timeout, this.timeUnit);
+        } finally {
+            this.waiters.decrementAndGet();
+        }
+    }
+
+    private boolean tryAcquire(int home) {
+        for (int i = 0; i < this.stripes.length; ++i) {
+            if (this.stripes[(home + i) & this.mask].permits.tryAcquire()) {
+                return true;
+            }
+        }
+        // A permit may have been handed off to a waiting thread that timed out
+        return this.handoff.tryAcquire();
+    }
+
+    /**
+     * Releases a permit to the specified stripe, and transfers a permit to the hand-off if any thread is waiting.
+     * The permit is released before the waiters are checked, such that either a waiting thread finds it on its
+     * second scan, or the waiter is visible here.
+     */
+    private void releasePermit(Stripe<T> stripe) {
+        stripe.permits.release();
+        if ((this.waiters.get() > 0) && stripe.permits.tryAcquire()) {
+            this.handoff.release();
+        }
+    }
+
+    private Stripe<T> homeStripe() {
+        return this.stripes[this.homeIndex()];
+    }
+
+    private int homeIndex() {
+        // Spread the bits of the thread id, since pool threads are typically created in sequence
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    private static class Stripe<T> {
+        final Semaphore permits;
+        final Queue<T> instances = new ConcurrentLinkedQueue<>();
+
+        Stripe(int permits) {
+            this.permits = new Semaphore(permits, false);
+        }
+    }
+}
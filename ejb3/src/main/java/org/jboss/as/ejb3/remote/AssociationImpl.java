@@ -46,8 +46,10 @@ import org.jboss.as.ee.component.Component;
 import org.jboss.as.ee.component.ComponentIsStoppedException;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.EJBComponentUnavailableException;
 import org.jboss.as.ejb3.component.interceptors.CancellationFlag;
+import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
 import org.jboss.as.ejb3.component.session.SessionBeanComponent;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
 import org.jboss.as.ejb3.component.stateless.StatelessSessionComponent;
@@ -100,7 +102,9 @@ final class AssociationImpl implements Association, AutoCloseable {
     };
     private final DeploymentRepository deploymentRepository;
     private final Map<Integer, ClusterTopologyRegistrar> clusterTopologyRegistrars;
+    private final OrderedExecutor<SessionID> orderedExecutor = new OrderedExecutor<>();
     private volatile Executor executor;
+    private volatile boolean pipelined;
 
     AssociationImpl(final DeploymentRepository deploymentRepository, final List<Map.Entry<ProtocolSocketBinding, Registry<String, List<ClientMapping>>>> clientMappingRegistries) {
         this.deploymentRepository = deploymentRepository;
@@ -134,6 +138,45 @@ final class AssociationImpl implements Association, AutoCloseable {
             return CancelHandle.NULL;
         }
 
+        final CancellationFlag cancellationFlag = new CancellationFlag();
+
+        if (this.pipelined && !invocationRequest.getProtocol().equals("local")) {
+            // Unmarshal and invoke off the thread that received the request
+            final Component component = ejbDeploymentInformation.getEjbComponent();
+            final InvocationMetrics metrics = (component instanceof EJBComponent) ? ((EJBComponent) component).getInvocationMetrics() : null;
+            final long queued = System.currentTimeMillis();
+            if (metrics != null) metrics.queueDispatch();
+            final Executor executor = this.getPipelineExecutor(invocationRequest);
+            // The session of a request is only known once it is unmarshalled, so requests are unmarshalled concurrently
+            executor.execute(() -> {
+                if (metrics != null) metrics.finishDispatch(System.currentTimeMillis() - queued);
+                this.receiveInvocationRequest(invocationRequest, ejbDeploymentInformation, cancellationFlag, (sessionID, runnable, isAsync) -> {
+                    if (sessionID != null && !isAsync) {
+                        // Synchronous invocations on the same session execute one at a time, in the order they were unmarshalled,
+                        // rather than blocking threads of the pool on the lock of the stateful bean
+                        this.orderedExecutor.execute(sessionID, runnable, executor);
+                    } else {
+                        // Asynchronous invocations never queue behind the synchronous invocations of their session
+                        runnable.run();
+                    }
+                });
+            });
+            return cancellationFlag::cancel;
+        }
+
+        // invoke the method and write out the response, possibly on a separate thread
+        return this.receiveInvocationRequest(invocationRequest, ejbDeploymentInformation, cancellationFlag, (sessionID, runnable, isAsync) -> execute(invocationRequest, runnable, isAsync, false));
+    }
+
+    private CancelHandle receiveInvocationRequest(final InvocationRequest invocationRequest, final EjbDeploymentInformation ejbDeploymentInformation, final CancellationFlag cancellationFlag, final InvocationDispatcher dispatcher) {
+
+        final EJBIdentifier ejbIdentifier = invocationRequest.getEJBIdentifier();
+
+        final String appName = ejbIdentifier.getAppName();
+        final String moduleName = ejbIdentifier.getModuleName();
+        final String distinctName = ejbIdentifier.getDistinctName();
+        final String beanName = ejbIdentifier.getBeanName();
+
         final ClassLoader classLoader = ejbDeploymentInformation.getDeploymentClassLoader();
 
         ClassLoader originalTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
@@ -214,8 +257,6 @@ final class AssociationImpl implements Association, AutoCloseable {
             invocationRequest.writeProceedAsync();
         }
 
-        final CancellationFlag cancellationFlag = new CancellationFlag();
-
         Runnable runnable = () -> {
             if (! cancellationFlag.runIfNotCancelled()) {
                 if (! oneWay) invocationRequest.writeCancelResponse();
@@ -269,11 +310,15 @@ final class AssociationImpl implements Association, AutoCloseable {
                 EjbLogger.REMOTE_LOGGER.couldNotWriteMethodInvocation(ioe, invokedMethod, beanName, appName, moduleName, distinctName);
             }
         };
-        // invoke the method and write out the response, possibly on a separate thread
-        execute(invocationRequest, runnable, isAsync, false);
+        dispatcher.dispatch(actualLocator.isStateful() ? actualLocator.asStateful().getSessionId() : null, runnable, isAsync);
         return cancellationFlag::cancel;
     }
 
+    private Executor getPipelineExecutor(Request request) {
+        Executor executor = this.executor;
+        return (executor != null) ? executor : request.getRequestExecutor();
+    }
+
     private void updateAffinities(InvocationRequest invocationRequest, Map<String, Object> attachments, EJBLocator<?> ejbLocator, ComponentView componentView) {
         Affinity legacyAffinity = null;
         Affinity weakAffinity = null;
@@ -705,6 +750,14 @@ final class AssociationImpl implements Association, AutoCloseable {
         this.executor = executor;
     }
 
+    boolean isPipelined() {
+        return this.pipelined;
+    }
+
+    void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
     /**
      * Checks if this node is the last node in the cluster and sends a topology update to all connected clients if this is so
      * This should only be called when the node is known to be shutting down (and not just suspending)
@@ -714,4 +767,17 @@ final class AssociationImpl implements Association, AutoCloseable {
             registrar.sendTopologyUpdateIfLastNodeToLeave();
         }
     }
+
+    /**
+     * Dispatches the invocation of a remote request.
+     */
+    private interface InvocationDispatcher {
+        /**
+         * Dispatches the specified invocation task.
+         * @param sessionID the session of the invoked stateful bean, or null, if the invoked bean is not stateful
+         * @param task the invocation task
+         * @param isAsync indicates whether the invoked method is asynchronous
+         */
+        void dispatch(SessionID sessionID, Runnable task, boolean isAsync);
+    }
 }
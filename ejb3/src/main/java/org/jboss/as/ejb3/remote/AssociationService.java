@@ -208,6 +208,10 @@ public final class AssociationService implements Service<AssociationService> {
         this.value.setExecutor(executor);
     }
 
+    void setPipelined(boolean pipelined) {
+        this.value.setPipelined(pipelined);
+    }
+
     void sendTopologyUpdateIfLastNodeToLeave() {
         this.value.sendTopologyUpdateIfLastNodeToLeave();
     }
@@ -56,11 +56,19 @@ public class EJBRemoteConnectorService implements Service<Void> {
     private volatile Registration registration;
     private final OptionMap channelCreationOptions;
     private final Function<String, Boolean> classResolverFilter;
+    private final boolean pipelined;
 
     public EJBRemoteConnectorService(final OptionMap channelCreationOptions,
                                      final Function<String, Boolean> classResolverFilter) {
+        this(channelCreationOptions, classResolverFilter, false);
+    }
+
+    public EJBRemoteConnectorService(final OptionMap channelCreationOptions,
+                                     final Function<String, Boolean> classResolverFilter,
+                                     final boolean pipelined) {
         this.channelCreationOptions = channelCreationOptions;
         this.classResolverFilter = classResolverFilter;
+        this.pipelined = pipelined;
     }
 
     @Override
@@ -71,6 +79,7 @@ public class EJBRemoteConnectorService implements Service<Void> {
         if (executor != null) {
             associationService.setExecutor(executor);
         }
+        associationService.setPipelined(this.pipelined);
         RemoteEJBService remoteEJBService = RemoteEJBService.create(
             associationService.getAssociation(),
             remotingTransactionServiceInjectedValue.getValue(),
@@ -92,6 +101,7 @@ public class EJBRemoteConnectorService implements Service<Void> {
         final AssociationService associationService = associationServiceInjectedValue.getValue();
         associationService.sendTopologyUpdateIfLastNodeToLeave();
         associationService.setExecutor(null);
+        associationService.setPipelined(false);
         registration.close();
     }
 
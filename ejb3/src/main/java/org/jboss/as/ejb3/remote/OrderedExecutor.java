@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.remote;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * Executes tasks with the same key one at a time, in submission order, while tasks with different keys execute concurrently.
+ * Each key is associated with a lane that exists only while it has pending tasks, so idle keys consume no memory.
+ *
+ * @param <K> the key type
+ */
+final class OrderedExecutor<K> {
+
+    private final ConcurrentMap<K, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Submits the specified task for execution after all tasks previously submitted with the same key.
+     * @param key the ordering key
+     * @param task a task
+     * @param executor the executor used to start the lane of the key, if the lane is not already running
+     * @throws RejectedExecutionException if the executor rejected the lane of the key, in which case the task is discarded
+     */
+    void execute(K key, Runnable task, Executor executor) {
+        Lane lane = new Lane(key, task);
+        if (this.lanes.merge(key, lane, Lane::add) == lane) {
+            try {
+                executor.execute(lane);
+            } catch (RejectedExecutionException e) {
+                // Discard the rejected task and its lane, unless tasks were added to the lane concurrently.
+                // Those tasks were already accepted, so run them on the calling thread rather than abandon them.
+                lane.tasks.remove();
+                if (this.lanes.computeIfPresent(key, (k, l) -> l.tasks.isEmpty() ? null : l) != null) {
+                    lane.run();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys with pending tasks.
+     * @return a number of lanes
+     */
+    int getLaneCount() {
+        return this.lanes.size();
+    }
+
+    private class Lane implements Runnable {
+        private final K key;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        Lane(K key, Runnable task) {
+            this.key = key;
+            this.tasks.add(task);
+        }
+
+        // Only invoked by the merge function, thus while holding the lock of the key
+        Lane add(Lane lane) {
+            this.tasks.add(lane.tasks.remove());
+            return this;
+        }
+
+        @Override
+        public void run() {
+            Runnable task = this.tasks.peek();
+            while (task != null) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    // Never abandon the remaining tasks of this lane
+                    EjbLogger.REMOTE_LOGGER.failedToDispatchRemoteInvocation(e);
+                }
+                this.tasks.remove();
+                // Remove the lane, unless a task was added concurrently
+                task = (OrderedExecutor.this.lanes.computeIfPresent(this.key, (key, lane) -> lane.tasks.isEmpty() ? null : lane) != null) ? this.tasks.peek() : null;
+            }
+        }
+    }
+}
@@ -22,7 +22,12 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import java.util.function.ToLongFunction;
+
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.ServiceRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
@@ -33,8 +38,11 @@ import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.persistence.database.DatabaseTimerPersistence;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the database data store resource.
@@ -77,7 +85,29 @@ public class DatabaseDataStoreResourceDefinition extends SimpleResourceDefinitio
                     .setDefaultValue(ModelNode.TRUE)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { DATASOURCE_JNDI_NAME, DATABASE, PARTITION, REFRESH_INTERVAL, ALLOW_EXECUTION };
+    public static final SimpleAttributeDefinition INCREMENTAL_REFRESH =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.INCREMENTAL_REFRESH, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .build();
+
+    static final SimpleAttributeDefinition ROWS_SCANNED =
+            new SimpleAttributeDefinitionBuilder("rows-scanned", ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    static final SimpleAttributeDefinition CLAIMS_ATTEMPTED =
+            new SimpleAttributeDefinitionBuilder("claims-attempted", ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    static final SimpleAttributeDefinition CLAIMS_WON =
+            new SimpleAttributeDefinitionBuilder("claims-won", ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
+
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { DATASOURCE_JNDI_NAME, DATABASE, PARTITION, REFRESH_INTERVAL, ALLOW_EXECUTION, INCREMENTAL_REFRESH };
     private static final DatabaseDataStoreAdd ADD_HANDLER = new DatabaseDataStoreAdd(ATTRIBUTES);
     public static final DatabaseDataStoreResourceDefinition INSTANCE = new DatabaseDataStoreResourceDefinition();
 
@@ -93,6 +123,33 @@ public class DatabaseDataStoreResourceDefinition extends SimpleResourceDefinitio
         for (AttributeDefinition attr : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attr, null, new ReloadRequiredWriteAttributeHandler(attr));
         }
+        resourceRegistration.registerMetric(ROWS_SCANNED, new MetricHandler(DatabaseTimerPersistence::getRowsScanned));
+        resourceRegistration.registerMetric(CLAIMS_ATTEMPTED, new MetricHandler(DatabaseTimerPersistence::getClaimsAttempted));
+        resourceRegistration.registerMetric(CLAIMS_WON, new MetricHandler(DatabaseTimerPersistence::getClaimsWon));
+    }
+
+    private static class MetricHandler implements OperationStepHandler {
+        private final ToLongFunction<DatabaseTimerPersistence> metric;
+
+        MetricHandler(ToLongFunction<DatabaseTimerPersistence> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                context.addStep(new OperationStepHandler() {
+                    @Override
+                    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                        final ServiceName name = TimerServiceResourceDefinition.TIMER_PERSISTENCE_CAPABILITY.getCapabilityServiceName(context.getCurrentAddress());
+                        final ServiceController<?> controller = context.getServiceRegistry(false).getService(name);
+                        if (controller != null && controller.getValue() instanceof DatabaseTimerPersistence) {
+                            context.getResult().set(metric.applyAsLong((DatabaseTimerPersistence) controller.getValue()));
+                        }
+                    }
+                }, OperationContext.Stage.RUNTIME);
+            }
+        }
     }
 
 }
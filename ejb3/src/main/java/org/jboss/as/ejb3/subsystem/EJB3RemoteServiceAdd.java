@@ -110,6 +110,7 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         final List<ModelNode> connectorNameNodes = EJB3RemoteResourceDefinition.CONNECTORS.resolveModelAttribute(context, model).asList();
         final String threadPoolName = EJB3RemoteResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asString();
         final boolean executeInWorker = EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.resolveModelAttribute(context, model).asBoolean();
+        final boolean pipelineInvocations = EJB3RemoteResourceDefinition.PIPELINE_INVOCATIONS.resolveModelAttribute(context, model).asBoolean();
 
         final ServiceTarget target = context.getServiceTarget();
         final CapabilityServiceSupport support = context.getCapabilityServiceSupport();
@@ -147,7 +148,7 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         // Install the Jakarta Enterprise Beans remoting connector service which will listen for client connections on the remoting channel
         // TODO: Externalize (expose via management API if needed) the version and the marshalling strategy
         final EJBRemoteConnectorService ejbRemoteConnectorService = new EJBRemoteConnectorService(channelCreationOptions,
-                FilterSpecClassResolverFilter.getFilterForOperationContext(context));
+                FilterSpecClassResolverFilter.getFilterForOperationContext(context), pipelineInvocations);
         CapabilityServiceBuilder<?> builder = (CapabilityServiceBuilder<?>) context.getCapabilityServiceTarget()
                 .addCapability(EJB3RemoteResourceDefinition.EJB_REMOTE_CAPABILITY)
                 .setInstance(ejbRemoteConnectorService)
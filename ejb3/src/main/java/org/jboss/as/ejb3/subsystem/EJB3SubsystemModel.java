@@ -70,10 +70,13 @@ public interface EJB3SubsystemModel {
     String STATISTICS_ENABLED = "statistics-enabled";
 
     String FILE_DATA_STORE = "file-data-store";
+    String JOURNAL = "journal";
 
     String MAX_POOL_SIZE = "max-pool-size";
     String DERIVE_SIZE = "derive-size";
     String DERIVED_SIZE = "derived-size";
+    String SCHEDULER = "scheduler";
+    String STRIPES = "stripes";
 
     String STRICT_MAX_BEAN_INSTANCE_POOL = "strict-max-bean-instance-pool";
 
@@ -141,6 +144,7 @@ public interface EJB3SubsystemModel {
     String PARTITION  = "partition";
     String REFRESH_INTERVAL = "refresh-interval";
     String ALLOW_EXECUTION = "allow-execution";
+    String INCREMENTAL_REFRESH = "incremental-refresh";
 
     String STATIC_URLS = "static-urls";
 
@@ -161,6 +165,7 @@ public interface EJB3SubsystemModel {
     String BASE_EJB_THREAD_POOL_NAME = "ejb3";
     ServiceName BASE_THREAD_POOL_SERVICE_NAME = ThreadsServices.EXECUTOR.append(BASE_EJB_THREAD_POOL_NAME);
     String EXECUTE_IN_WORKER = "execute-in-worker";
+    String PIPELINE_INVOCATIONS = "pipeline-invocations";
 
     // Elytron integration
     String APPLICATION_SECURITY_DOMAIN = "application-security-domain";
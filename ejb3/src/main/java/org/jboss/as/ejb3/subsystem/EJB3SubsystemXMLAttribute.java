@@ -62,9 +62,12 @@ public enum EJB3SubsystemXMLAttribute {
 
     @Deprecated IDLE_TIMEOUT("idle-timeout"),
     @Deprecated IDLE_TIMEOUT_UNIT("idle-timeout-unit"),
+    INCREMENTAL_REFRESH("incremental-refresh"),
     INSTANCE_ACQUISITION_TIMEOUT("instance-acquisition-timeout"),
     INSTANCE_ACQUISITION_TIMEOUT_UNIT("instance-acquisition-timeout-unit"),
 
+    JOURNAL("journal"),
+
     KEEPALIVE_TIME("keepalive-time"),
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
@@ -85,13 +88,17 @@ public enum EJB3SubsystemXMLAttribute {
     PASSIVATION_DISABLED_CACHE_REF("passivation-disabled-cache-ref"),
     @Deprecated PASSIVATION_STORE_REF("passivation-store-ref"),
     PATH("path"),
+    PIPELINE_INVOCATIONS("pipeline-invocations"),
     POOL_NAME("pool-name"),
 
     RELATIVE_TO("relative-to"),
     RESOURCE_ADAPTER_NAME("resource-adapter-name"),
 
+    SCHEDULER("scheduler"),
+
     @Deprecated SESSIONS_PATH("sessions-path"),
     STATIC_URLS("static-urls"),
+    STRIPES("stripes"),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
 
     THREAD_POOL_NAME("thread-pool-name"),
@@ -371,6 +371,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
         writer.writeAttribute(EJB3SubsystemXMLAttribute.THREAD_POOL_NAME.getLocalName(), model.require(EJB3SubsystemModel.THREAD_POOL_NAME).asString());
 
         EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.marshallAsAttribute(model, writer);
+        EJB3RemoteResourceDefinition.PIPELINE_INVOCATIONS.marshallAsAttribute(model, writer);
         // write out any channel creation options
         if (model.hasDefined(CHANNEL_CREATION_OPTIONS)) {
             writeChannelCreationOptions(writer, model.get(CHANNEL_CREATION_OPTIONS));
@@ -514,6 +515,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
 
         StrictMaxPoolResourceDefinition.MAX_POOL_SIZE.marshallAsAttribute(strictMaxPoolModelNode, writer);
         StrictMaxPoolResourceDefinition.DERIVE_SIZE.marshallAsAttribute(strictMaxPoolModelNode, writer);
+        StrictMaxPoolResourceDefinition.STRIPES.marshallAsAttribute(strictMaxPoolModelNode, writer);
         StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT.marshallAsAttribute(strictMaxPoolModelNode, writer);
         StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT_UNIT.marshallAsAttribute(strictMaxPoolModelNode, writer);
     }
@@ -549,7 +551,9 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
                 writer.writeStartElement(EJB3SubsystemXMLElement.SIMPLE_CACHE.getLocalName());
                 ModelNode simpleCache = property.getValue();
                 writer.writeAttribute(EJB3SubsystemXMLAttribute.NAME.getLocalName(), property.getName());
-                // no attributes
+                for (Attribute attribute : EnumSet.allOf(SimpleCacheFactoryResourceDefinition.Attribute.class)) {
+                    attribute.getDefinition().getMarshaller().marshallAsAttribute(attribute.getDefinition(), simpleCache, false, writer);
+                }
                 writer.writeEndElement();
             }
         }
@@ -644,6 +648,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
 
         TimerServiceResourceDefinition.THREAD_POOL_NAME.marshallAsAttribute(timerServiceModel, writer);
         TimerServiceResourceDefinition.DEFAULT_DATA_STORE.marshallAsAttribute(timerServiceModel, writer);
+        TimerServiceResourceDefinition.SCHEDULER.marshallAsAttribute(timerServiceModel, writer);
 
         writer.writeStartElement(EJB3SubsystemXMLElement.DATA_STORES.getLocalName());
         writeFileDataStores(writer, timerServiceModel);
@@ -664,6 +669,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
                 DatabaseDataStoreResourceDefinition.PARTITION.marshallAsAttribute(store, writer);
                 DatabaseDataStoreResourceDefinition.REFRESH_INTERVAL.marshallAsAttribute(store, writer);
                 DatabaseDataStoreResourceDefinition.ALLOW_EXECUTION.marshallAsAttribute(store, writer);
+                DatabaseDataStoreResourceDefinition.INCREMENTAL_REFRESH.marshallAsAttribute(store, writer);
                 writer.writeEndElement();
             }
         }
@@ -678,6 +684,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
                 writer.writeAttribute(EJB3SubsystemXMLAttribute.NAME.getLocalName(), property.getName());
                 FileDataStoreResourceDefinition.PATH.marshallAsAttribute(store, writer);
                 FileDataStoreResourceDefinition.RELATIVE_TO.marshallAsAttribute(store, writer);
+                FileDataStoreResourceDefinition.JOURNAL.marshallAsAttribute(store, writer);
                 writer.writeEndElement();
             }
         }
@@ -28,6 +28,8 @@ import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
 import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
 import org.kohsuke.MetaInfServices;
@@ -68,5 +70,35 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         subsystemBuilder.rejectChildResource(EJB3SubsystemModel.SIMPLE_CACHE_PATH);
         // Reject ejb3/caches/distributable-cache element
         subsystemBuilder.rejectChildResource(EJB3SubsystemModel.DISTRIBUTABLE_CACHE_PATH);
+        // Reject ejb3/service=timer-service:scheduler attribute, if not the default
+        ResourceTransformationDescriptionBuilder timerService = subsystemBuilder.addChildResource(EJB3SubsystemModel.TIMER_SERVICE_PATH);
+        timerService.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(TimerServiceResourceDefinition.SCHEDULER.getDefaultValue()), TimerServiceResourceDefinition.SCHEDULER)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, TimerServiceResourceDefinition.SCHEDULER)
+                .end();
+        // Reject ejb3/service=timer-service/file-data-store=*:journal attribute, if not the default
+        timerService.addChildResource(EJB3SubsystemModel.FILE_DATA_STORE_PATH)
+                .getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(FileDataStoreResourceDefinition.JOURNAL.getDefaultValue()), FileDataStoreResourceDefinition.JOURNAL)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, FileDataStoreResourceDefinition.JOURNAL)
+                .end();
+        // Reject ejb3/service=timer-service/database-data-store=*:incremental-refresh attribute, if not the default
+        timerService.addChildResource(EJB3SubsystemModel.DATABASE_DATA_STORE_PATH)
+                .getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(DatabaseDataStoreResourceDefinition.INCREMENTAL_REFRESH.getDefaultValue()), DatabaseDataStoreResourceDefinition.INCREMENTAL_REFRESH)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, DatabaseDataStoreResourceDefinition.INCREMENTAL_REFRESH)
+                .end();
+        // Reject ejb3/strict-max-bean-instance-pool=*:stripes attribute, if defined
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH)
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, StrictMaxPoolResourceDefinition.STRIPES)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, StrictMaxPoolResourceDefinition.STRIPES)
+                .end();
+        // Reject ejb3/service=remote:pipeline-invocations attribute, if not the default
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.REMOTE_SERVICE_PATH)
+                .getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(EJB3RemoteResourceDefinition.PIPELINE_INVOCATIONS.getDefaultValue()), EJB3RemoteResourceDefinition.PIPELINE_INVOCATIONS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3RemoteResourceDefinition.PIPELINE_INVOCATIONS)
+                .end();
     }
 }
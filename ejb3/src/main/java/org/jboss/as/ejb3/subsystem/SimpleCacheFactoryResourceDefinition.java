@@ -21,9 +21,13 @@
  */
 package org.jboss.as.ejb3.subsystem;
 
-import java.util.function.UnaryOperator;
-
+import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.ejb3.cache.simple.SimpleCacheFactoryBuilderServiceConfigurator;
+import org.jboss.dmr.ModelType;
 
 /**
  * Defines a CacheFactoryBuilder instance which, during deployment, is used to configure, build and install a CacheFactory for the SFSB being deployed.
@@ -34,7 +38,29 @@ import org.jboss.as.ejb3.cache.simple.SimpleCacheFactoryBuilderServiceConfigurat
  */
 public class SimpleCacheFactoryResourceDefinition extends CacheFactoryResourceDefinition {
 
+    public enum Attribute implements org.jboss.as.clustering.controller.Attribute {
+        // if undefined, the number of beans held by the cache is unbounded
+        // only read when the cache factory service is configured, so a change requires the services of the resource to restart
+        MAX_SIZE(EJB3SubsystemModel.MAX_SIZE, ModelType.INT)
+        ;
+        private final AttributeDefinition definition;
+
+        Attribute(String name, ModelType type) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                    .setAllowExpression(true)
+                    .setRequired(false)
+                    .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+        }
+
+        @Override
+        public AttributeDefinition getDefinition() {
+            return this.definition;
+        }
+    }
+
     public SimpleCacheFactoryResourceDefinition() {
-        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, UnaryOperator.identity(), SimpleCacheFactoryBuilderServiceConfigurator::new);
+        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, new SimpleResourceDescriptorConfigurator<>(Attribute.class), SimpleCacheFactoryBuilderServiceConfigurator::new);
     }
 }
@@ -77,6 +77,12 @@ public class StrictMaxPoolResourceDefinition extends SimpleResourceDefinition {
                     .setAlternatives(EJB3SubsystemModel.MAX_POOL_SIZE)
                     .setFlags(AttributeAccess.Flag.RESTART_NONE)
                     .build();
+    public static final SimpleAttributeDefinition STRIPES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.STRIPES, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_NONE)
+                    .build();
     public static final SimpleAttributeDefinition INSTANCE_ACQUISITION_TIMEOUT =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.INSTANCE_ACQUISITION_TIMEOUT, ModelType.LONG, true)
                     .setXmlName(EJB3SubsystemXMLAttribute.INSTANCE_ACQUISITION_TIMEOUT.getLocalName())
@@ -98,7 +104,7 @@ public class StrictMaxPoolResourceDefinition extends SimpleResourceDefinition {
                     .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { MAX_POOL_SIZE, DERIVE_SIZE, INSTANCE_ACQUISITION_TIMEOUT, INSTANCE_ACQUISITION_TIMEOUT_UNIT };
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { MAX_POOL_SIZE, DERIVE_SIZE, STRIPES, INSTANCE_ACQUISITION_TIMEOUT, INSTANCE_ACQUISITION_TIMEOUT_UNIT };
     private static final StrictMaxPoolAdd ADD_HANDLER = new StrictMaxPoolAdd(ATTRIBUTES);
     public static final StrictMaxPoolResourceDefinition INSTANCE = new StrictMaxPoolResourceDefinition();
 
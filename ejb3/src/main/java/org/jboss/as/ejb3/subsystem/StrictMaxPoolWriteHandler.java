@@ -73,6 +73,9 @@ class StrictMaxPoolWriteHandler extends AbstractWriteAttributeHandler<Void> {
                 } else if (StrictMaxPoolResourceDefinition.DERIVE_SIZE.getName().equals(attributeName)) {
                     StrictMaxPoolConfigService.Derive derive = StrictMaxPoolResourceDefinition.parseDeriveSize(context, model);
                     smpc.setDerive(derive);
+                } else if (StrictMaxPoolResourceDefinition.STRIPES.getName().equals(attributeName)) {
+                    int stripes = StrictMaxPoolResourceDefinition.STRIPES.resolveModelAttribute(context, model).asInt(0);
+                    smpc.setStripes(stripes);
                 } else if (StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT.getName().equals(attributeName)) {
                     long timeout = StrictMaxPoolResourceDefinition.INSTANCE_ACQUISITION_TIMEOUT.resolveModelAttribute(context, model).asLong();
                     smpc.setTimeout(timeout);
@@ -22,10 +22,12 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static java.security.AccessController.doPrivileged;
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
-import java.util.Timer;
+import java.security.PrivilegedAction;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
@@ -34,6 +36,9 @@ import org.jboss.as.ejb3.deployment.processors.AroundTimeoutAnnotationParsingPro
 import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
+import org.jboss.as.ejb3.timerservice.scheduler.TimerScheduler;
+import org.jboss.as.ejb3.timerservice.scheduler.TimingWheelTimerScheduler;
+import org.jboss.as.ejb3.timerservice.scheduler.UtilTimerScheduler;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
@@ -43,6 +48,7 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
 
 /**
  * Adds the timer service
@@ -62,6 +68,7 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
 
         final String defaultDataStore = TimerServiceResourceDefinition.DEFAULT_DATA_STORE.resolveModelAttribute(context, model).asString();
         final String threadPoolName = TimerServiceResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asString();
+        final TimerServiceResourceDefinition.SchedulerType schedulerType = TimerServiceResourceDefinition.SchedulerType.fromValue(TimerServiceResourceDefinition.SCHEDULER.resolveModelAttribute(context, model).asString());
 
         final ServiceName threadPoolServiceName = context.getCapabilityServiceName(TimerServiceResourceDefinition.THREAD_POOL_CAPABILITY_NAME, threadPoolName, Executor.class);
 
@@ -76,27 +83,49 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
             }
         }, OperationContext.Stage.RUNTIME);
 
-        context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, new TimerValueService()).install();
+        context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, new TimerSchedulerService(schedulerType)).install();
     }
 
-    private static final class TimerValueService implements Service<Timer> {
+    private static final class TimerSchedulerService implements Service<TimerScheduler> {
 
-        private Timer timer;
+        private final TimerServiceResourceDefinition.SchedulerType type;
+        private TimerScheduler scheduler;
+
+        TimerSchedulerService(TimerServiceResourceDefinition.SchedulerType type) {
+            this.type = type;
+        }
 
         @Override
         public synchronized void start(final StartContext context) throws StartException {
-            timer = new Timer();
+            switch (type) {
+                case TIMING_WHEEL: {
+                    scheduler = new TimingWheelTimerScheduler(createThreadFactory());
+                    break;
+                }
+                default: {
+                    scheduler = new UtilTimerScheduler();
+                }
+            }
+        }
+
+        private static ThreadFactory createThreadFactory() {
+            return doPrivileged(new PrivilegedAction<ThreadFactory>() {
+                @Override
+                public ThreadFactory run() {
+                    return new JBossThreadFactory(new ThreadGroup("EJB timer wheel"), Boolean.TRUE, null, "%G - %t", null, null);
+                }
+            });
         }
 
         @Override
         public synchronized void stop(final StopContext context) {
-            timer.cancel();
-            timer = null;
+            scheduler.close();
+            scheduler = null;
         }
 
         @Override
-        public synchronized Timer getValue() throws IllegalStateException, IllegalArgumentException {
-            return timer;
+        public synchronized TimerScheduler getValue() throws IllegalStateException, IllegalArgumentException {
+            return scheduler;
         }
     }
 }
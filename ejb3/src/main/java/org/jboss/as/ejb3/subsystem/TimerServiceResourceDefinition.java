@@ -29,12 +29,15 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.scheduler.TimerScheduler;
 import org.jboss.as.threads.ThreadsServices;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 import java.util.concurrent.ExecutorService;
@@ -58,7 +61,7 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
 
     public static final String TIMER_SERVICE_CAPABILITY_NAME = "org.wildfly.ejb3.timer-service";
     public static final RuntimeCapability<Void> TIMER_SERVICE_CAPABILITY =
-            RuntimeCapability.Builder.of(TIMER_SERVICE_CAPABILITY_NAME, java.util.Timer.class).build();
+            RuntimeCapability.Builder.of(TIMER_SERVICE_CAPABILITY_NAME, TimerScheduler.class).build();
 
     static final SimpleAttributeDefinition THREAD_POOL_NAME =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.THREAD_POOL_NAME, ModelType.STRING, false)
@@ -74,7 +77,50 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                     .setCapabilityReference(TIMER_PERSISTENCE_CAPABILITY_NAME, TIMER_SERVICE_CAPABILITY)
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE };
+    static final SimpleAttributeDefinition SCHEDULER =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.SCHEDULER, ModelType.STRING)
+                    .setRequired(false)
+                    .setAllowExpression(true)
+                    .setDefaultValue(new ModelNode(SchedulerType.TIMER.toString()))
+                    .setValidator(EnumValidator.create(SchedulerType.class))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, SCHEDULER };
+
+    /**
+     * The type of scheduler used to schedule timer expirations.
+     */
+    enum SchedulerType {
+        /**
+         * A single {@link java.util.Timer}, i.e. a binary heap guarded by a single lock.
+         */
+        TIMER("timer"),
+        /**
+         * A hierarchical timing wheel with O(1) scheduling and cancellation.
+         */
+        TIMING_WHEEL("timing-wheel"),
+        ;
+        private final String value;
+
+        SchedulerType(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return this.value;
+        }
+
+        static SchedulerType fromValue(String value) {
+            for (SchedulerType type : values()) {
+                if (type.value.equals(value)) {
+                    return type;
+                }
+            }
+            return valueOf(value);
+        }
+    }
 
     private final PathManager pathManager;
 
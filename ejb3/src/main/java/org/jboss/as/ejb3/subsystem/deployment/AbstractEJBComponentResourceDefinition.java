@@ -103,6 +103,21 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
             .build();
 
+    private static final AttributeDefinition REMOTE_DISPATCHES = new SimpleAttributeDefinitionBuilder("remote-dispatches", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition REMOTE_DISPATCH_TIME = new SimpleAttributeDefinitionBuilder("remote-dispatch-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition REMOTE_PENDING_DISPATCHES = new SimpleAttributeDefinitionBuilder("remote-pending-dispatches", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     private static final AttributeDefinition METHODS = ObjectMapAttributeDefinition.Builder.of(
             "methods",
             ObjectTypeAttributeDefinition.Builder.of("complex", EXECUTION_TIME, INVOCATIONS, WAIT_TIME)
@@ -138,6 +153,16 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition CACHE_HIT_COUNT = new SimpleAttributeDefinitionBuilder("cache-hit-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition CACHE_EVICTION_COUNT = new SimpleAttributeDefinitionBuilder("cache-eviction-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     // Pool attributes
 
     public static final SimpleAttributeDefinition POOL_AVAILABLE_COUNT = new SimpleAttributeDefinitionBuilder("pool-available-count", ModelType.INT, false)
@@ -211,6 +236,18 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     context.getResult().set(((StatefulSessionComponent) component).getCache().getTotalSize());
                 }
             });
+            resourceRegistration.registerMetric(CACHE_HIT_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(((StatefulSessionComponent) component).getCache().getHitCount());
+                }
+            });
+            resourceRegistration.registerMetric(CACHE_EVICTION_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(((StatefulSessionComponent) component).getCache().getEvictionCount());
+                }
+            });
         }
 
         resourceRegistration.registerMetric(EXECUTION_TIME, new AbstractRuntimeMetricsHandler() {
@@ -237,6 +274,26 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 context.getResult().set(component.getInvocationMetrics().getWaitTime());
             }
         });
+        if (!componentType.equals(EJBComponentType.MESSAGE_DRIVEN)) {
+            resourceRegistration.registerMetric(REMOTE_DISPATCHES, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getInvocationMetrics().getDispatches());
+                }
+            });
+            resourceRegistration.registerMetric(REMOTE_DISPATCH_TIME, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getInvocationMetrics().getDispatchTime());
+                }
+            });
+            resourceRegistration.registerMetric(REMOTE_PENDING_DISPATCHES, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getInvocationMetrics().getPendingDispatches());
+                }
+            });
+        }
         resourceRegistration.registerMetric(METHODS, new AbstractRuntimeMetricsHandler() {
             @Override
             protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
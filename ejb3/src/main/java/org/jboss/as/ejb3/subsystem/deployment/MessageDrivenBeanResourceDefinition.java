@@ -23,13 +23,17 @@
 package org.jboss.as.ejb3.subsystem.deployment;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponent;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -63,6 +67,26 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    static final SimpleAttributeDefinition DELIVERY_BATCH_SIZE = new SimpleAttributeDefinitionBuilder("delivery-batch-size", ModelType.INT)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final AttributeDefinition DELIVERY_COUNT = new SimpleAttributeDefinitionBuilder("delivery-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition AVERAGE_DELIVERY_BATCH_SIZE = new SimpleAttributeDefinitionBuilder("average-delivery-batch-size", ModelType.DOUBLE)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final AttributeDefinition AVERAGE_DELIVERY_OVERHEAD = new SimpleAttributeDefinitionBuilder("average-delivery-overhead", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     static final String START_DELIVERY = "start-delivery";
     static final String STOP_DELIVERY = "stop-delivery";
 
@@ -79,6 +103,26 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
         registry.registerReadOnlyAttribute(MESSAGE_DESTINATION_TYPE, MessageDrivenBeanRuntimeHandler.INSTANCE);
         registry.registerReadOnlyAttribute(MESSAGE_DESTINATION_LINK, MessageDrivenBeanRuntimeHandler.INSTANCE);
         registry.registerReadOnlyAttribute(ACTIVATION_CONFIG, MessageDrivenBeanRuntimeHandler.INSTANCE);
+        registry.registerReadOnlyAttribute(DELIVERY_BATCH_SIZE, MessageDrivenBeanRuntimeHandler.INSTANCE);
+
+        registry.registerMetric(DELIVERY_COUNT, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                context.getResult().set(((MessageDrivenComponent) component).getDeliveryStatistics().getDeliveryCount());
+            }
+        });
+        registry.registerMetric(AVERAGE_DELIVERY_BATCH_SIZE, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                context.getResult().set(((MessageDrivenComponent) component).getDeliveryStatistics().getAverageBatchSize());
+            }
+        });
+        registry.registerMetric(AVERAGE_DELIVERY_OVERHEAD, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                context.getResult().set(((MessageDrivenComponent) component).getDeliveryStatistics().getAverageOverhead());
+            }
+        });
     }
 
     @Override
@@ -24,6 +24,7 @@ package org.jboss.as.ejb3.subsystem.deployment;
 
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.ACTIVATION_CONFIG;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_ACTIVE;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_BATCH_SIZE;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.MESSAGE_DESTINATION_LINK;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.MESSAGE_DESTINATION_TYPE;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.MESSAGING_TYPE;
@@ -62,6 +63,8 @@ public class MessageDrivenBeanRuntimeHandler extends AbstractEJBComponentRuntime
         final ModelNode result = context.getResult();
         if (DELIVERY_ACTIVE.getName().equals(attributeName)) {
             result.set(component.isDeliveryActive());
+        } else if (DELIVERY_BATCH_SIZE.getName().equals(attributeName)) {
+            result.set(component.getDeliveryBatchSize());
         } else if (MESSAGING_TYPE.getName().equals(attributeName)) {
             result.set(componentDescription.getMessageListenerInterfaceName());
         } else if (MESSAGE_DESTINATION_TYPE.getName().equals(attributeName)) {
@@ -22,12 +22,22 @@
 
 package org.jboss.as.ejb3.subsystem.deployment;
 
+import java.util.function.ToLongFunction;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.subsystem.EJB3Extension;
 import org.jboss.as.ejb3.subsystem.EJB3SubsystemModel;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 /**
  * {@link ResourceDefinition} for the timer-service resource for runtime ejb deployment.
@@ -36,6 +46,15 @@ import org.jboss.as.ejb3.subsystem.EJB3SubsystemModel;
  */
 public class TimerServiceResourceDefinition<T extends EJBComponent> extends SimpleResourceDefinition {
 
+    private static final SimpleAttributeDefinition EXPIRATION_COUNT = new SimpleAttributeDefinitionBuilder("expiration-count",
+            ModelType.LONG, true).setStorageRuntime().build();
+
+    private static final SimpleAttributeDefinition AVERAGE_EXPIRATION_LAG = new SimpleAttributeDefinitionBuilder("average-expiration-lag",
+            ModelType.LONG, true).setStorageRuntime().build();
+
+    private static final SimpleAttributeDefinition MAX_EXPIRATION_LAG = new SimpleAttributeDefinitionBuilder("max-expiration-lag",
+            ModelType.LONG, true).setStorageRuntime().build();
+
     private final AbstractEJBComponentRuntimeHandler<T> parentHandler;
     TimerServiceResourceDefinition(AbstractEJBComponentRuntimeHandler<T> parentHandler) {
         super(EJB3SubsystemModel.TIMER_SERVICE_PATH,
@@ -43,9 +62,40 @@ public class TimerServiceResourceDefinition<T extends EJBComponent> extends Simp
         this.parentHandler = parentHandler;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(EXPIRATION_COUNT, new MetricHandler(TimerServiceImpl::getExpirationCount));
+        resourceRegistration.registerMetric(AVERAGE_EXPIRATION_LAG, new MetricHandler(TimerServiceImpl::getAverageExpirationLag));
+        resourceRegistration.registerMetric(MAX_EXPIRATION_LAG, new MetricHandler(TimerServiceImpl::getMaxExpirationLag));
+    }
+
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         super.registerChildren(resourceRegistration);
         resourceRegistration.registerSubModel(new TimerResourceDefinition<T>(this.parentHandler));
     }
+
+    private class MetricHandler implements OperationStepHandler {
+        private final ToLongFunction<TimerServiceImpl> metric;
+
+        MetricHandler(ToLongFunction<TimerServiceImpl> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                context.addStep(new OperationStepHandler() {
+                    @Override
+                    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                        final T component = parentHandler.getComponent(context, operation);
+                        if (component.getTimerService() instanceof TimerServiceImpl) {
+                            context.getResult().set(metric.applyAsLong((TimerServiceImpl) component.getTimerService()));
+                        }
+                    }
+                }, OperationContext.Stage.RUNTIME);
+            }
+        }
+    }
 }
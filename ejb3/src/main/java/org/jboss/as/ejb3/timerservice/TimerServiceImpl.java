@@ -39,6 +39,8 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import javax.ejb.EJBException;
 import javax.ejb.ScheduleExpression;
 import javax.ejb.Timer;
@@ -63,6 +65,7 @@ import org.jboss.as.ejb3.subsystem.deployment.TimerServiceResource;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.jboss.as.ejb3.timerservice.persistence.database.DatabaseTimerPersistence;
 import org.jboss.as.ejb3.timerservice.schedule.CalendarBasedTimeout;
+import org.jboss.as.ejb3.timerservice.scheduler.TimerScheduler;
 import org.jboss.as.ejb3.timerservice.spi.TimedObjectInvoker;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.msc.service.Service;
@@ -99,7 +102,7 @@ public class TimerServiceImpl implements TimerService, Service<TimerService> {
 
     private final InjectedValue<ExecutorService> executorServiceInjectedValue = new InjectedValue<ExecutorService>();
 
-    private final InjectedValue<java.util.Timer> timerInjectedValue = new InjectedValue<java.util.Timer>();
+    private final InjectedValue<TimerScheduler> timerInjectedValue = new InjectedValue<TimerScheduler>();
 
     private final InjectedValue<TimedObjectInvoker> timedObjectInvoker = new InjectedValue<TimedObjectInvoker>();
 
@@ -119,9 +122,16 @@ public class TimerServiceImpl implements TimerService, Service<TimerService> {
     private final ConcurrentMap<String, TimerImpl> timers = new ConcurrentHashMap<>();
 
     /**
-     * Holds the {@link java.util.concurrent.Future} of each of the timer tasks that have been scheduled
+     * Holds the {@link Task} of each of the timer tasks that have been scheduled
      */
-    private final Map<String, java.util.TimerTask> scheduledTimerFutures = new HashMap<String, java.util.TimerTask>();
+    private final ConcurrentMap<String, Task> scheduledTimerFutures = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics of the lag between the scheduled expiration of a timer and the start of its timeout
+     */
+    private final LongAdder expirationCount = new LongAdder();
+    private final LongAdder totalExpirationLag = new LongAdder();
+    private final AtomicLong maxExpirationLag = new AtomicLong();
 
     /**
      * Key that is used to store timers that are waiting on transaction completion in the transaction local
@@ -895,71 +905,94 @@ public class TimerServiceImpl implements TimerService, Service<TimerService> {
      * Creates and schedules a {@link TimerTask} for the next timeout of the passed <code>timer</code>
      */
     protected void scheduleTimeout(TimerImpl timer, boolean newTimer) {
-        synchronized (scheduledTimerFutures) {
-            if (!newTimer && !scheduledTimerFutures.containsKey(timer.getId())) {
-                //this timer has been cancelled by another thread. We just return
-                return;
-            }
-
-            Date nextExpiration = timer.getNextExpiration();
-            if (nextExpiration == null) {
-                EJB3_TIMER_LOGGER.nextExpirationIsNull(timer);
-                return;
+        Date nextExpiration = timer.getNextExpiration();
+        if (nextExpiration == null) {
+            EJB3_TIMER_LOGGER.nextExpirationIsNull(timer);
+            return;
+        }
+        // create the timer task
+        final TimerTask timerTask = timer.getTimerTask();
+        // find out how long is it away from now
+        final long currentTime = System.currentTimeMillis();
+        long delay = nextExpiration.getTime() - currentTime;
+        long intervalDuration = timer.getInterval();
+        final ControlPoint controlPoint = ejbComponentInjectedValue.getValue().getControlPoint();
+        final Task task;
+        if (intervalDuration > 0) {
+            EJB3_TIMER_LOGGER.debugv("Scheduling timer {0} at fixed rate, starting at {1} milliseconds from now with repeated interval={2}",
+                    timer, delay, intervalDuration);
+            // if in past, then trigger immediately
+            if (delay < 0) {
+                delay = 0;
             }
-            // create the timer task
-            final TimerTask timerTask = timer.getTimerTask();
-            // find out how long is it away from now
-            final long currentTime = System.currentTimeMillis();
-            long delay = nextExpiration.getTime() - currentTime;
-            long intervalDuration = timer.getInterval();
-            final Task task = new Task(timerTask, ejbComponentInjectedValue.getValue().getControlPoint());
-            if (intervalDuration > 0) {
-                EJB3_TIMER_LOGGER.debugv("Scheduling timer {0} at fixed rate, starting at {1} milliseconds from now with repeated interval={2}",
-                        timer, delay, intervalDuration);
-                // if in past, then trigger immediately
-                if (delay < 0) {
-                    delay = 0;
-                }
-                // schedule the task
-                this.timerInjectedValue.getValue().scheduleAtFixedRate(task, delay, intervalDuration);
-                // maintain it in timerservice for future use (like cancellation)
-                this.scheduledTimerFutures.put(timer.getId(), task);
-            } else {
-                EJB3_TIMER_LOGGER.debugv("Scheduling a single action timer {0} starting at {1} milliseconds from now", timer, delay);
-                // if in past, then trigger immediately; if overdue by 5 minutes, set next expiration to current time
-                if (delay < 0) {
-                    if (delay < -300000) {
-                        timer.nextExpiration = new Date(currentTime);
-                    }
-                    delay = 0;
+            task = new Task(timerTask, controlPoint, currentTime + delay, intervalDuration);
+        } else {
+            EJB3_TIMER_LOGGER.debugv("Scheduling a single action timer {0} starting at {1} milliseconds from now", timer, delay);
+            // if in past, then trigger immediately; if overdue by 5 minutes, set next expiration to current time
+            if (delay < 0) {
+                if (delay < -300000) {
+                    timer.nextExpiration = new Date(currentTime);
                 }
-                // schedule the task
-                this.timerInjectedValue.getValue().schedule(task, delay);
-                // maintain it in timerservice for future use (like cancellation)
-                this.scheduledTimerFutures.put(timer.getId(), task);
+                delay = 0;
             }
+            task = new Task(timerTask, controlPoint, currentTime + delay, 0);
+        }
+        // maintain it in timerservice for future use (like cancellation)
+        if (newTimer) {
+            this.scheduledTimerFutures.put(timer.getId(), task);
+        } else if (this.scheduledTimerFutures.replace(timer.getId(), task) == null) {
+            //this timer has been cancelled by another thread. We just return
+            return;
         }
+        // schedule the task only once it is registered, so that a concurrent cancellation cannot leave it behind
+        final TimerScheduler scheduler = this.timerInjectedValue.getValue();
+        task.setScheduledTask((intervalDuration > 0) ? scheduler.scheduleAtFixedRate(task, delay, intervalDuration) : scheduler.schedule(task, delay));
     }
 
     /**
-     * Cancels any scheduled {@link java.util.concurrent.Future} corresponding to the passed <code>timer</code>
+     * Cancels any scheduled {@link Task} corresponding to the passed <code>timer</code>
      *
      * @param timer
      */
     protected void cancelTimeout(final TimerImpl timer) {
-        synchronized (this.scheduledTimerFutures) {
-            java.util.TimerTask timerTask = this.scheduledTimerFutures.remove(timer.getId());
-            if (timerTask != null) {
-                timerTask.cancel();
-            }
+        Task task = this.scheduledTimerFutures.remove(timer.getId());
+        if (task != null) {
+            task.cancel();
         }
     }
 
 
     public boolean isScheduled(final String tid) {
-        synchronized (this.scheduledTimerFutures) {
-            return this.scheduledTimerFutures.containsKey(tid);
-        }
+        return this.scheduledTimerFutures.containsKey(tid);
+    }
+
+    /**
+     * Returns the number of timer expirations whose timeout has started.
+     */
+    public long getExpirationCount() {
+        return this.expirationCount.sum();
+    }
+
+    /**
+     * Returns the average lag, in milliseconds, between the scheduled expiration of a timer and the start of its timeout.
+     */
+    public long getAverageExpirationLag() {
+        long count = this.expirationCount.sum();
+        return (count > 0) ? this.totalExpirationLag.sum() / count : 0;
+    }
+
+    /**
+     * Returns the maximum lag, in milliseconds, between the scheduled expiration of a timer and the start of its timeout.
+     */
+    public long getMaxExpirationLag() {
+        return this.maxExpirationLag.get();
+    }
+
+    private void recordExpirationLag(long expiration) {
+        long lag = Math.max(System.currentTimeMillis() - expiration, 0);
+        this.expirationCount.increment();
+        this.totalExpirationLag.add(lag);
+        this.maxExpirationLag.accumulateAndGet(lag, Math::max);
     }
 
     /**
@@ -1068,7 +1101,7 @@ public class TimerServiceImpl implements TimerService, Service<TimerService> {
         return executorServiceInjectedValue;
     }
 
-    public InjectedValue<java.util.Timer> getTimerInjectedValue() {
+    public InjectedValue<TimerScheduler> getTimerInjectedValue() {
         return timerInjectedValue;
     }
 
@@ -1209,7 +1242,7 @@ public class TimerServiceImpl implements TimerService, Service<TimerService> {
         }
     }
 
-    private class TaskPostPersist extends java.util.TimerTask {
+    private class TaskPostPersist implements Runnable {
         private final TimerImpl timer;
         private long delta = 0;
         private long nextExpirationPristine = 0;
@@ -1261,33 +1294,64 @@ public class TimerServiceImpl implements TimerService, Service<TimerService> {
         }
     }
 
-    private class Task extends java.util.TimerTask {
+    private class Task implements Runnable {
 
         private final TimerTask delegate;
         private final ControlPoint controlPoint;
+        private final long interval;
         /**
          * This is true if a task is queued up to be run by the request controller,
          * used to stop timer tasks banking up when the container is suspended.
          */
         private volatile boolean queued = false;
+        private volatile TimerScheduler.ScheduledTask scheduledTask;
+        private volatile boolean cancelled = false;
+        /**
+         * The scheduled expiration of the next run of this task, only accessed by the scheduler.
+         */
+        private long expiration;
 
-        public Task(final TimerTask delegate, ControlPoint controlPoint) {
+        public Task(final TimerTask delegate, ControlPoint controlPoint, long expiration, long interval) {
             this.delegate = delegate;
             this.controlPoint = controlPoint;
+            this.expiration = expiration;
+            this.interval = interval;
+        }
+
+        void setScheduledTask(TimerScheduler.ScheduledTask scheduledTask) {
+            this.scheduledTask = scheduledTask;
+            // the task may have been cancelled while it was being scheduled
+            if (this.cancelled) {
+                scheduledTask.cancel();
+            }
         }
 
         @Override
         public void run() {
+            if (this.cancelled) {
+                return;
+            }
+            final long expiration = this.expiration;
+            if (this.interval > 0) {
+                this.expiration = expiration + this.interval;
+            }
             final ExecutorService executor = executorServiceInjectedValue.getOptionalValue();
             if (executor != null) {
                 if (controlPoint == null) {
-                    executor.submit(delegate);
+                    executor.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            recordExpirationLag(expiration);
+                            delegate.run();
+                        }
+                    });
                 } else if (!queued) {
                     queued = true;
                     controlPoint.queueTask(new Runnable() {
                         @Override
                         public void run() {
                             queued = false;
+                            recordExpirationLag(expiration);
                             delegate.run();
                         }
                     }, executor, -1, null, false);
@@ -1297,10 +1361,11 @@ public class TimerServiceImpl implements TimerService, Service<TimerService> {
             }
         }
 
-        @Override
         public boolean cancel() {
+            this.cancelled = true;
             delegate.cancel();
-            return super.cancel();
+            TimerScheduler.ScheduledTask scheduledTask = this.scheduledTask;
+            return (scheduledTask != null) && scheduledTask.cancel();
         }
     }
 
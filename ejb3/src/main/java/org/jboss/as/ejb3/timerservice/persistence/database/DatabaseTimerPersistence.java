@@ -56,10 +56,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 import javax.ejb.ScheduleExpression;
 import javax.sql.DataSource;
@@ -76,6 +77,7 @@ import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
 import org.jboss.as.ejb3.timerservice.TimerState;
 import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.scheduler.TimerScheduler;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.marshalling.InputStreamByteInput;
@@ -109,7 +111,9 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
     private final InjectedValue<ModuleLoader> moduleLoader = new InjectedValue<ModuleLoader>();
     private final Map<String, TimerChangeListener> changeListeners = Collections.synchronizedMap(new HashMap<String, TimerChangeListener>());
 
-    private final InjectedValue<java.util.Timer> timerInjectedValue = new InjectedValue<java.util.Timer>();
+    private final InjectedValue<TimerScheduler> timerInjectedValue = new InjectedValue<TimerScheduler>();
+    /** Executes the refresh, which performs blocking database access and therefore must not run on the scheduler thread*/
+    private final InjectedValue<ExecutorService> executorInjectedValue = new InjectedValue<ExecutorService>();
 
     private final Map<String, Set<String>> knownTimerIds = new HashMap<>();
 
@@ -123,12 +127,25 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
     private final int refreshInterval;
     /** Flag whether this instance should execute persistent timers*/
     private final boolean allowExecution;
+    /** Flag whether a refresh should only load the timers modified since the previous refresh*/
+    private final boolean incrementalRefresh;
+    /** Whether the timer table has a LAST_MODIFIED column that is maintained by this instance*/
+    private volatile boolean versioned;
+    /** Timers modified after this time (in millis) are loaded by the next incremental refresh, or null if the next refresh must be full*/
+    private volatile Long refreshWatermark;
+    private final LongAdder rowsScanned = new LongAdder();
+    private final LongAdder claimsAttempted = new LongAdder();
+    private final LongAdder claimsWon = new LongAdder();
+    /** Pending {@link #shouldRun(TimerImpl)} claims, that the next claiming thread executes as a single batch*/
+    private final List<Claim> pendingClaims = new ArrayList<>();
+    private boolean claiming;
     private volatile ManagedReference managedReference;
     private volatile DataSource dataSource;
     private volatile Properties sql;
     private MarshallerFactory factory;
     private MarshallingConfiguration configuration;
     private RefreshTask refreshTask;
+    private TimerScheduler.ScheduledTask scheduledRefreshTask;
 
     /** Names for the different SQL commands stored in the properties*/
     private static final String CREATE_TABLE = "create-table";
@@ -140,6 +157,19 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
+    private static final String CREATE_TIMER_VERSIONED = "create-timer-versioned";
+    private static final String CREATE_AUTO_TIMER_VERSIONED = "create-auto-timer-versioned";
+    private static final String UPDATE_TIMER_VERSIONED = "update-timer-versioned";
+    private static final String UPDATE_RUNNING_VERSIONED = "update-running-versioned";
+    private static final String LOAD_CHANGED_TIMERS = "load-changed-timers";
+    private static final String CHECK_LAST_MODIFIED = "check-last-modified";
+    private static final String ADD_LAST_MODIFIED = "add-last-modified";
+    /** The column that must exist for incremental refresh*/
+    private static final String LAST_MODIFIED_COLUMN = "LAST_MODIFIED";
+    /** The table that stores the timers*/
+    private static final String TIMER_TABLE = "JBOSS_EJB_TIMER";
+    /** Every this many refreshes, an incremental refresh loads all timers, to detect timers that were removed by other nodes*/
+    private static final int FULL_REFRESH_PERIOD = 10;
     /** The format for scheduler start and end date*/
     private static final String SCHEDULER_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     /** Pattern to pickout MSSQL */
@@ -167,12 +197,31 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
     private final long clearTimerInfoCacheBeyond = TimeUnit.MINUTES.toMillis(Long.parseLong(
             WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.clearTimerInfoCacheBeyond", "15")));
 
+    /**
+     * System property {@code jboss.ejb.timer.database.refreshOverlap}
+     * to configure the overlap window (in seconds) of incremental refreshes.
+     * The default value is 30 seconds.
+     * <p>
+     * The LAST_MODIFIED column is written using the clock of the modifying node, so an incremental refresh loads the timers
+     * modified since the start of the previous refresh, minus this window, or minus the refresh interval if that is longer.
+     * The window must therefore exceed the maximum clock skew between the nodes sharing the timer table,
+     * plus the longest time a transaction that modifies a timer may take to commit.
+     * Modifications missed nevertheless are picked up by the periodic full refresh.
+     */
+    private final long refreshOverlap = TimeUnit.SECONDS.toMillis(Long.parseLong(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.refreshOverlap", "30")));
+
     public DatabaseTimerPersistence(final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution) {
+        this(database, partition, nodeName, refreshInterval, allowExecution, false);
+    }
+
+    public DatabaseTimerPersistence(final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution, boolean incrementalRefresh) {
         this.database = database;
         this.partition = partition;
         this.nodeName = nodeName;
         this.refreshInterval = refreshInterval;
         this.allowExecution = allowExecution;
+        this.incrementalRefresh = incrementalRefresh;
     }
 
     @Override
@@ -187,15 +236,28 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
         investigateDialect();
         loadSqlProperties();
         checkDatabase();
+        versioned = incrementalRefresh && checkLastModified();
+        refreshWatermark = null;
         refreshTask = new RefreshTask();
         if (refreshInterval > 0) {
-            timerInjectedValue.getValue().schedule(refreshTask, refreshInterval, refreshInterval);
+            final RefreshTask task = refreshTask;
+            final ExecutorService executor = executorInjectedValue.getOptionalValue();
+            scheduledRefreshTask = timerInjectedValue.getValue().scheduleWithFixedDelay((executor == null) ? task : () -> {
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    EjbLogger.EJB3_TIMER_LOGGER.debugf(e, "Skipped refresh of timers, as the executor rejected it");
+                }
+            }, refreshInterval, refreshInterval);
         }
     }
 
     @Override
     public synchronized void stop(final StopContext context) {
-        refreshTask.cancel();
+        if (scheduledRefreshTask != null) {
+            scheduledRefreshTask.cancel();
+            scheduledRefreshTask = null;
+        }
         knownTimerIds.clear();
         managedReference.release();
         managedReference = null;
@@ -320,12 +382,20 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
     }
 
     private void adjustCreateAutoTimerStatement(final String fromDummyTable) {
-        final String insertQuery = sql.getProperty(CREATE_AUTO_TIMER);
+        adjustCreateAutoTimerStatement(CREATE_AUTO_TIMER, fromDummyTable);
+        adjustCreateAutoTimerStatement(CREATE_AUTO_TIMER_VERSIONED, fromDummyTable);
+    }
+
+    private void adjustCreateAutoTimerStatement(final String key, final String fromDummyTable) {
+        final String insertQuery = sql.getProperty(key);
+        if (insertQuery == null) {
+            return;
+        }
         final int whereNotExists = insertQuery.indexOf("WHERE NOT EXISTS");
         if (whereNotExists > 0) {
             StringBuilder sb = new StringBuilder(insertQuery.substring(0, whereNotExists));
             sb.append(fromDummyTable).append("WHERE NOT EXISTS").append(insertQuery.substring(whereNotExists + 16));
-            sql.setProperty(CREATE_AUTO_TIMER, sb.toString());
+            sql.setProperty(key, sb.toString());
         }
     }
 
@@ -378,6 +448,71 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
         }
     }
 
+    /**
+     * Checks whether the timer table has the LAST_MODIFIED column required for incremental refresh, and adds it if necessary.
+     *
+     * @return true, if the column exists or was added
+     */
+    private boolean checkLastModified() {
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        Statement statement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = dataSource.getConnection();
+            try {
+                preparedStatement = connection.prepareStatement(sql.getProperty(CHECK_LAST_MODIFIED));
+                preparedStatement.setString(1, "NON-EXISTENT");
+                resultSet = preparedStatement.executeQuery();
+                return true;
+            } catch (SQLException e) {
+                //only alter the table if the query failed because the column does not exist
+                if (!isLastModifiedMissing(connection)) {
+                    throw e;
+                }
+                for (final String update : sql.getProperty(ADD_LAST_MODIFIED).split(";")) {
+                    try {
+                        statement = connection.createStatement();
+                        statement.executeUpdate(update);
+                    } finally {
+                        safeClose(statement);
+                    }
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            EjbLogger.EJB3_TIMER_LOGGER.incrementalTimerRefreshUnavailable(e);
+            return false;
+        } finally {
+            safeClose(resultSet);
+            safeClose(preparedStatement);
+            safeClose(connection);
+        }
+    }
+
+    /**
+     * Verifies, using the database metadata, that the timer table exists but lacks the LAST_MODIFIED column.
+     */
+    private static boolean isLastModifiedMissing(final Connection connection) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        // unquoted identifiers are stored in upper or lower case, depending on the database
+        for (String table : new String[] { TIMER_TABLE, TIMER_TABLE.toLowerCase(Locale.ENGLISH) }) {
+            boolean tableFound = false;
+            try (ResultSet columns = metaData.getColumns(null, null, table, null)) {
+                while (columns.next()) {
+                    tableFound = true;
+                    if (LAST_MODIFIED_COLUMN.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                        return false;
+                    }
+                }
+            }
+            if (tableFound) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Loads a timer from database by its id and timed object id.
      *
@@ -430,7 +565,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
             return;
         }
 
-        String createTimer = sql.getProperty(CREATE_TIMER);
+        String createTimer = sql.getProperty(versioned ? CREATE_TIMER_VERSIONED : CREATE_TIMER);
         Connection connection = null;
         PreparedStatement statement = null;
         try {
@@ -440,6 +575,9 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
             connection = dataSource.getConnection();
             statement = connection.prepareStatement(createTimer);
             statementParameters(timerEntity, statement);
+            if (versioned) {
+                statement.setLong(27, System.currentTimeMillis());
+            }
             statement.execute();
 
             if (isClearTimerInfoCache(timerEntity)) {
@@ -476,17 +614,21 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
                 synchronized (this) {
                     knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
                 }
-                String updateTimer = sql.getProperty(UPDATE_TIMER);
+                String updateTimer = sql.getProperty(versioned ? UPDATE_TIMER_VERSIONED : UPDATE_TIMER);
                 statement = connection.prepareStatement(updateTimer);
                 statement.setTimestamp(1, timestamp(timerEntity.getNextExpiration()));
                 statement.setTimestamp(2, timestamp(timerEntity.getPreviousRun()));
                 statement.setString(3, timerEntity.getState().name());
                 setNodeName(timerEntity.getState(), statement, 4);
+                int index = 5;
+                if (versioned) {
+                    statement.setLong(index++, System.currentTimeMillis());
+                }
                 // WHERE CLAUSE
-                statement.setString(5, timerEntity.getTimedObjectId());
-                statement.setString(6, timerEntity.getId());
-                statement.setString(7, partition);
-                statement.setString(8, nodeName);   // only persist if this node or empty
+                statement.setString(index++, timerEntity.getTimedObjectId());
+                statement.setString(index++, timerEntity.getId());
+                statement.setString(index++, partition);
+                statement.setString(index, nodeName);   // only persist if this node or empty
                 statement.execute();
             }
         } catch (SQLException e) {
@@ -499,29 +641,125 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
 
     @Override
     public boolean shouldRun(TimerImpl timer) {
-        final ContextTransactionManager tm = ContextTransactionManager.getInstance();
         if (!allowExecution) {
             //timers never execute on this node
             return false;
         }
-        String loadTimer = sql.getProperty(UPDATE_RUNNING);
+        claimsAttempted.increment();
+        final Claim claim = new Claim(timer);
+        final List<Claim> claims;
+        boolean interrupted = false;
+        synchronized (pendingClaims) {
+            pendingClaims.add(claim);
+            // while another thread is claiming, queue up behind it, so that the next claiming thread executes all pending claims at once
+            while (claiming && !claim.done) {
+                try {
+                    pendingClaims.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (claim.done) {
+                claims = null;
+            } else {
+                claiming = true;
+                claims = new ArrayList<>(pendingClaims);
+                pendingClaims.clear();
+            }
+        }
+        if (claims != null) {
+            try {
+                if (claims.size() == 1 || !claimAll(claims)) {
+                    for (Claim pending : claims) {
+                        pending.won = claim(pending.timer);
+                    }
+                }
+            } finally {
+                synchronized (pendingClaims) {
+                    for (Claim pending : claims) {
+                        pending.done = true;
+                    }
+                    claiming = false;
+                    pendingClaims.notifyAll();
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (claim.won) {
+            claimsWon.increment();
+        }
+        return claim.won;
+    }
+
+    /**
+     * Claims the execution of multiple timers within a single transaction, using a JDBC batch.
+     *
+     * @return false, if the outcome of each claim could not be determined, and the timers should be claimed individually
+     */
+    private boolean claimAll(final List<Claim> claims) {
+        final ContextTransactionManager tm = ContextTransactionManager.getInstance();
         Connection connection = null;
         PreparedStatement statement = null;
         try {
             tm.begin();
             try {
                 connection = dataSource.getConnection();
-                statement = connection.prepareStatement(loadTimer);
-                statement.setString(1, TimerState.IN_TIMEOUT.name());
-                setNodeName(TimerState.IN_TIMEOUT, statement, 2);
-                statement.setString(3, timer.getId());
-                statement.setString(4, TimerState.IN_TIMEOUT.name());
-                statement.setString(5, TimerState.RETRY_TIMEOUT.name());
-                if (timer.getNextExpiration() == null) {
-                    statement.setTimestamp(6, null);
-                } else {
-                    statement.setTimestamp(6, timestamp(timer.getNextExpiration()));
+                statement = connection.prepareStatement(sql.getProperty(versioned ? UPDATE_RUNNING_VERSIONED : UPDATE_RUNNING));
+                for (Claim claim : claims) {
+                    claimParameters(claim.timer, statement);
+                    statement.addBatch();
+                }
+                int[] affected = statement.executeBatch();
+                if (affected.length != claims.size()) {
+                    tm.rollback();
+                    return false;
+                }
+                for (int result : affected) {
+                    if (result < 0) {
+                        // SUCCESS_NO_INFO or EXECUTE_FAILED
+                        tm.rollback();
+                        return false;
+                    }
                 }
+                tm.commit();
+                for (int i = 0; i < affected.length; ++i) {
+                    claims.get(i).won = affected[i] == 1;
+                }
+                return true;
+            } catch (SQLException e) {
+                tm.rollback();
+                EjbLogger.EJB3_TIMER_LOGGER.debugf(e, "Batched claim of %d timers failed, claiming them individually", claims.size());
+                return false;
+            }
+        } catch (SystemException | SecurityException | IllegalStateException | RollbackException | HeuristicMixedException | HeuristicRollbackException | NotSupportedException e) {
+            try {
+                if (tm.getTransaction() != null) {
+                    tm.rollback();
+                }
+            } catch (IllegalStateException | SecurityException | SystemException rbe) {
+                EjbLogger.EJB3_TIMER_LOGGER.timerUpdateFailedAndRollbackNotPossible(rbe);
+            }
+            EjbLogger.EJB3_TIMER_LOGGER.debugf(e, "Batched claim of %d timers failed, claiming them individually", claims.size());
+            return false;
+        } finally {
+            safeClose(statement);
+            safeClose(connection);
+        }
+    }
+
+    private boolean claim(TimerImpl timer) {
+        final ContextTransactionManager tm = ContextTransactionManager.getInstance();
+        String loadTimer = sql.getProperty(versioned ? UPDATE_RUNNING_VERSIONED : UPDATE_RUNNING);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        try {
+            tm.begin();
+            try {
+                connection = dataSource.getConnection();
+                statement = connection.prepareStatement(loadTimer);
+                claimParameters(timer, statement);
             } catch (SQLException e) {
                 try {
                     tm.rollback();
@@ -555,6 +793,45 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
         }
     }
 
+    private void claimParameters(final TimerImpl timer, final PreparedStatement statement) throws SQLException {
+        statement.setString(1, TimerState.IN_TIMEOUT.name());
+        setNodeName(TimerState.IN_TIMEOUT, statement, 2);
+        int index = 3;
+        if (versioned) {
+            // the claim changes the state of the timer, which other nodes must see on their next incremental refresh
+            statement.setLong(index++, System.currentTimeMillis());
+        }
+        statement.setString(index++, timer.getId());
+        statement.setString(index++, TimerState.IN_TIMEOUT.name());
+        statement.setString(index++, TimerState.RETRY_TIMEOUT.name());
+        if (timer.getNextExpiration() == null) {
+            statement.setTimestamp(index, null);
+        } else {
+            statement.setTimestamp(index, timestamp(timer.getNextExpiration()));
+        }
+    }
+
+    /**
+     * @return the number of timer rows read from the database, by refreshes and by loading the active timers of a timed object
+     */
+    public long getRowsScanned() {
+        return rowsScanned.sum();
+    }
+
+    /**
+     * @return the number of attempts by this node to claim the execution of a timer
+     */
+    public long getClaimsAttempted() {
+        return claimsAttempted.sum();
+    }
+
+    /**
+     * @return the number of attempts by this node to claim the execution of a timer, that were successful
+     */
+    public long getClaimsWon() {
+        return claimsWon.sum();
+    }
+
     @Override
     public synchronized void timerUndeployed(final String timedObjectId) {
         knownTimerIds.remove(timedObjectId);
@@ -584,6 +861,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
             resultSet = statement.executeQuery();
             final List<Holder> timers = new ArrayList<>();
             while (resultSet.next()) {
+                rowsScanned.increment();
                 String timerId = null;
                 try {
                     timerId = resultSet.getString(1);
@@ -795,7 +1073,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
     }
 
     private void addAutoTimer(final CalendarTimer timer) {
-        String createTimer = sql.getProperty(CREATE_AUTO_TIMER);
+        String createTimer = sql.getProperty(versioned ? CREATE_AUTO_TIMER_VERSIONED : CREATE_AUTO_TIMER);
         Connection connection = null;
         PreparedStatement statement = null;
         final String timerInfoString = serialize(timer.getTimerInfo());
@@ -830,33 +1108,37 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
             statement.setString(18, timeoutMethodParam);
             statement.setBoolean(19, true);
             statement.setString(20, partition);
+            int index = 21;
+            if (versioned) {
+                statement.setLong(index++, System.currentTimeMillis());
+            }
 
             // where clause
-            statement.setString(21, timer.getTimedObjectId());
-            statement.setString(22, exp.getSecond());
-            statement.setString(23, exp.getMinute());
-            statement.setString(24, exp.getHour());
-            statement.setString(25, exp.getDayOfWeek());
-            statement.setString(26, exp.getDayOfMonth());
-            statement.setString(27, exp.getMonth());
-            statement.setString(28, exp.getYear());
+            statement.setString(index++, timer.getTimedObjectId());
+            statement.setString(index++, exp.getSecond());
+            statement.setString(index++, exp.getMinute());
+            statement.setString(index++, exp.getHour());
+            statement.setString(index++, exp.getDayOfWeek());
+            statement.setString(index++, exp.getDayOfMonth());
+            statement.setString(index++, exp.getMonth());
+            statement.setString(index++, exp.getYear());
 
-            statement.setString(29, startDateString);
-            statement.setString(30, startDateString);
+            statement.setString(index++, startDateString);
+            statement.setString(index++, startDateString);
 
-            statement.setString(31, endDateString);
-            statement.setString(32, endDateString);
+            statement.setString(index++, endDateString);
+            statement.setString(index++, endDateString);
 
-            statement.setString(33, exp.getTimezone());
-            statement.setString(34, exp.getTimezone());
+            statement.setString(index++, exp.getTimezone());
+            statement.setString(index++, exp.getTimezone());
 
-            statement.setString(35, timeoutMethodClassName);
-            statement.setString(36, timeoutMethod.getName());
+            statement.setString(index++, timeoutMethodClassName);
+            statement.setString(index++, timeoutMethod.getName());
 
-            statement.setString(37, timeoutMethodParam);
-            statement.setString(38, timeoutMethodParam);
+            statement.setString(index++, timeoutMethodParam);
+            statement.setString(index++, timeoutMethodParam);
 
-            statement.setString(39, partition);
+            statement.setString(index, partition);
 
             int affectedRows = statement.executeUpdate();
             if (affectedRows < 1) {
@@ -1021,18 +1303,27 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
         return moduleLoader;
     }
 
-    public InjectedValue<Timer> getTimerInjectedValue() {
+    public InjectedValue<TimerScheduler> getTimerInjectedValue() {
         return timerInjectedValue;
     }
 
-    private class RefreshTask extends TimerTask {
+    public InjectedValue<ExecutorService> getExecutorInjectedValue() {
+        return executorInjectedValue;
+    }
+
+    private class RefreshTask implements Runnable {
 
         private volatile AtomicBoolean running = new AtomicBoolean();
+        private int count;
 
         @Override
         public void run() {
             if (running.compareAndSet(false, true)) {
                 try {
+                    final long start = System.currentTimeMillis();
+                    // periodically load all timers, as timers removed by other nodes cannot be detected incrementally
+                    final Long since = (versioned && (count++ % FULL_REFRESH_PERIOD != 0)) ? refreshWatermark : null;
+                    boolean refreshed = true;
                     Set<String> timedObjects;
                     synchronized (DatabaseTimerPersistence.this) {
                         timedObjects = new HashSet<>(knownTimerIds.keySet());
@@ -1042,82 +1333,121 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service<Datab
                         if (listener == null) {
                             continue;
                         }
-                        final Set<String> existing;
-                        synchronized (DatabaseTimerPersistence.this) {
-                            existing = new HashSet<>(knownTimerIds.get(timedObjectId));
-                        }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
-                        Connection connection = null;
-                        PreparedStatement statement = null;
-                        ResultSet resultSet = null;
-                        try {
-                            connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
-                            statement.setString(1, timedObjectId);
-                            statement.setString(2, partition);
-                            resultSet = statement.executeQuery();
-                            final TimerServiceImpl timerService = listener.getTimerService();
-                            while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
-                                                listener.timerAdded(holder.timer);
-                                            }
-                                        }
-                                    } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
-                                                }
-                                            }
+                        refreshed &= refresh(timedObjectId, listener, since);
+                    }
+                    if (versioned) {
+                        // if any timed object could not be refreshed, the next refresh must load all timers
+                        refreshWatermark = refreshed ? start - Math.max(refreshOverlap, refreshInterval) : null;
+                    }
+                } finally {
+                    running.set(false);
+                }
+            }
+
+        }
+
+        /**
+         * Synchronizes the timers of a timed object with the database.
+         *
+         * @param since if not null, only the timers modified after this time are loaded, and removed timers are not detected
+         * @return true, if the timers were refreshed
+         */
+        private boolean refresh(final String timedObjectId, final TimerChangeListener listener, final Long since) {
+            final Set<String> existing;
+            synchronized (DatabaseTimerPersistence.this) {
+                Set<String> ids = knownTimerIds.get(timedObjectId);
+                if (ids == null) {
+                    return true;
+                }
+                existing = new HashSet<>(ids);
+            }
+            String loadTimer = sql.getProperty(since == null ? LOAD_ALL_TIMERS : LOAD_CHANGED_TIMERS);
+            Connection connection = null;
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                connection = dataSource.getConnection();
+                statement = connection.prepareStatement(loadTimer);
+                statement.setString(1, timedObjectId);
+                statement.setString(2, partition);
+                if (since != null) {
+                    statement.setLong(3, since);
+                }
+                resultSet = statement.executeQuery();
+                final TimerServiceImpl timerService = listener.getTimerService();
+                while (resultSet.next()) {
+                    rowsScanned.increment();
+                    String id = null;
+                    try {
+                        id = resultSet.getString(1);
+                        if (!existing.remove(id)) {
+                            final Holder holder = timerFromResult(resultSet, timerService, id, null);
+                            if(holder != null) {
+                                synchronized (DatabaseTimerPersistence.this) {
+                                    knownTimerIds.get(timedObjectId).add(id);
+                                    listener.timerAdded(holder.timer);
+                                }
+                            }
+                        } else {
+                            TimerImpl oldTimer = timerService.getTimer(id);
+                            // if it is already in memory but it is not in sync we have a problem
+                            // remove and add -> the probable cause is db glitch
+                            boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+
+                            // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+                            if (invalidMemoryTimer) {
+                                TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
+                                boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
+                                if (validDBTimer) {
+                                    final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
+                                    if (holder != null) {
+                                        synchronized (DatabaseTimerPersistence.this) {
+                                            knownTimerIds.get(timedObjectId).add(id);
+                                            listener.timerSync(oldTimer, holder.timer);
                                         }
                                     }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
                                 }
                             }
+                        }
+                    } catch (Exception e) {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
+                    }
+                }
 
-                            synchronized (DatabaseTimerPersistence.this) {
-                                Set<String> timers = knownTimerIds.get(timedObjectId);
-                                for (String timer : existing) {
-                                    TimerImpl timer1 = timerService.getTimer(timer);
-                                    if (timer1 != null && timer1.getState() != TimerState.CREATED) {
-                                        timers.remove(timer);
-                                        listener.timerRemoved(timer);
-                                    }
-                                }
+                if (since == null) {
+                    synchronized (DatabaseTimerPersistence.this) {
+                        Set<String> timers = knownTimerIds.get(timedObjectId);
+                        for (String timer : existing) {
+                            TimerImpl timer1 = timerService.getTimer(timer);
+                            if (timer1 != null && timer1.getState() != TimerState.CREATED) {
+                                timers.remove(timer);
+                                listener.timerRemoved(timer);
                             }
-                        } catch (SQLException e) {
-                            EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
-                        } finally {
-                            safeClose(resultSet);
-                            safeClose(statement);
-                            safeClose(connection);
                         }
                     }
-                } finally {
-                    running.set(false);
                 }
+                return true;
+            } catch (SQLException e) {
+                EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
+                return false;
+            } finally {
+                safeClose(resultSet);
+                safeClose(statement);
+                safeClose(connection);
             }
+        }
+    }
 
+    /**
+     * A pending claim of the execution of a timer, see {@link #shouldRun(TimerImpl)}.
+     */
+    private static final class Claim {
+        final TimerImpl timer;
+        boolean won;
+        boolean done;
+
+        Claim(TimerImpl timer) {
+            this.timer = timer;
         }
     }
 
@@ -85,8 +85,10 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
     private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
 
     private final boolean createIfNotExists;
+    private final boolean useJournal;
     private MarshallerFactory factory;
     private MarshallingConfiguration configuration;
+    private TimerJournalCodec codec;
     private final InjectedValue<TransactionSynchronizationRegistry> transactionSynchronizationRegistry = new InjectedValue<TransactionSynchronizationRegistry>();
     private final InjectedValue<ModuleLoader> moduleLoader = new InjectedValue<ModuleLoader>();
     private final InjectedValue<PathManager> pathManager = new InjectedValue<PathManager>();
@@ -97,13 +99,22 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
 
     private final ConcurrentMap<String, Lock> locks = new ConcurrentHashMap<String, Lock>();
     private final ConcurrentMap<String, String> directories = new ConcurrentHashMap<String, String>();
+    private final ConcurrentMap<String, TimerJournal> journals = new ConcurrentHashMap<String, TimerJournal>();
 
     public FileTimerPersistence(final boolean createIfNotExists, final String path, final String pathRelativeTo) {
+        this(createIfNotExists, path, pathRelativeTo, false);
+    }
+
+    /**
+     * @param journal if true, timers are stored in an append-only journal per timed object, rather than in one XML file per timer
+     */
+    public FileTimerPersistence(final boolean createIfNotExists, final String path, final String pathRelativeTo, final boolean journal) {
         final SecurityManager sm = System.getSecurityManager();
         if (sm != null) {
             sm.checkPermission(FILE_PERMISSION);
         }
         this.createIfNotExists = createIfNotExists;
+        this.useJournal = journal;
         this.path = path;
         this.pathRelativeTo = pathRelativeTo;
     }
@@ -130,6 +141,7 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
 
         this.configuration = configuration;
         this.factory = factory;
+        this.codec = new TimerJournalCodec(factory, configuration);
         if (pathRelativeTo != null) {
             callbackHandle = pathManager.getValue().registerCallback(pathRelativeTo, PathManager.ReloadServerCallback.create(), PathManager.Event.UPDATED, PathManager.Event.REMOVED);
         }
@@ -150,6 +162,10 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
 
     @Override
     public void stop(final StopContext context) {
+        for (TimerJournal journal : journals.values()) {
+            journal.close();
+        }
+        journals.clear();
         locks.clear();
         directories.clear();
         if (callbackHandle != null) {
@@ -157,6 +173,7 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
         }
         factory = null;
         configuration = null;
+        codec = null;
     }
 
     @Override
@@ -201,6 +218,7 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
 
     private void persistTimer(final TimerImpl timer, boolean newTimer) {
         final Lock lock = getLock(timer.getTimedObjectId());
+        long position = 0;
         try {
             final int status = ContextTransactionManager.getInstance().getStatus();
             if (status == Status.STATUS_MARKED_ROLLBACK || status == Status.STATUS_ROLLEDBACK ||
@@ -213,6 +231,10 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
             if (status == Status.STATUS_NO_TRANSACTION ||
                     status == Status.STATUS_UNKNOWN || isBeforeCompletion()
                     || status == Status.STATUS_COMMITTED) {
+                if (useJournal) {
+                    position = journalTimer(timer, newTimer);
+                    return;
+                }
                 Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                 if (timer.getState() == TimerState.CANCELED ||
                         timer.getState() == TimerState.EXPIRED) {
@@ -239,6 +261,40 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
             throw new RuntimeException(e);
         } finally {
             lock.unlock();
+            // Flush outside of the lock, so that concurrent writers share a single flush
+            syncJournal(timer.getTimedObjectId(), position);
+        }
+    }
+
+    /**
+     * Appends the state of a timer to the journal of its timed object. Should be called under lock.
+     *
+     * @return the journal position to sync, or 0 if nothing was appended
+     */
+    private long journalTimer(final TimerImpl timer, final boolean newTimer) {
+        final TimerJournal journal = getJournal(timer.getTimedObjectId(), timer.getTimerService());
+        try {
+            if (timer.getState() == TimerState.CANCELED ||
+                    timer.getState() == TimerState.EXPIRED) {
+                return journal.remove(timer.getId());
+            } else if (newTimer || journal.contains(timer.getId())) {
+                //if it is not a new timer and is not in the journal then it has
+                //been removed by another thread.
+                return journal.put(timer.getId(), codec.encode(timer));
+            }
+            return 0;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void syncJournal(final String timedObjectId, final long position) {
+        if (position > 0) {
+            final TimerJournal journal = journals.get(timedObjectId);
+            //if the journal is gone, it was closed, which flushes it
+            if (journal != null) {
+                journal.sync(position);
+            }
         }
     }
 
@@ -253,6 +309,10 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
             lock.lock();
             locks.remove(timedObjectId);
             directories.remove(timedObjectId);
+            final TimerJournal journal = journals.remove(timedObjectId);
+            if (journal != null) {
+                journal.close();
+            }
         } finally {
             lock.unlock();
         }
@@ -331,7 +391,63 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
      * @return The timers for the object
      */
     private Map<String, TimerImpl> getTimers(final String timedObjectId, final TimerServiceImpl timerService) {
-        return loadTimersFromFile(timedObjectId, timerService);
+        return useJournal ? loadTimersFromJournal(timedObjectId, timerService) : loadTimersFromFile(timedObjectId, timerService);
+    }
+
+    private Map<String, TimerImpl> loadTimersFromJournal(String timedObjectId, TimerServiceImpl timerService) {
+        final TimerJournal journal = getJournal(timedObjectId, timerService);
+        final ClassLoader classLoader = timerService.getTimedObjectInvoker().getValue().getClassLoader();
+        final Map<String, TimerImpl> timers = new HashMap<>();
+        for (byte[] record : journal.records()) {
+            try {
+                final TimerImpl timer = codec.decode(record, timerService, classLoader);
+                if (timer != null) {
+                    timers.put(timer.getId(), timer);
+                }
+            } catch (Exception e) {
+                EJB3_TIMER_LOGGER.failToRestoreTimersFromFile(new File(getDirectory(timedObjectId)), e);
+            }
+        }
+        return timers;
+    }
+
+    /**
+     * Gets the journal of the timed object, replaying it if necessary. Should be called under lock.
+     * If the timed object has no journal yet, any timers in the XML format are imported into a new journal.
+     * The XML files are only deleted once the journal exists with all imported timers, so an interrupted import is simply repeated.
+     */
+    private TimerJournal getJournal(final String timedObjectId, final TimerServiceImpl timerService) {
+        TimerJournal journal = journals.get(timedObjectId);
+        if (journal == null) {
+            final File directory = new File(getDirectory(timedObjectId));
+            try {
+                if (TimerJournal.exists(directory)) {
+                    journal = new TimerJournal(directory, TimerJournal.DEFAULT_SEGMENT_SIZE);
+                } else {
+                    final Map<String, TimerImpl> timers = loadTimersFromFile(timedObjectId, timerService);
+                    final List<byte[]> records = new ArrayList<>(timers.size());
+                    for (TimerImpl timer : timers.values()) {
+                        records.add(codec.encode(timer));
+                    }
+                    journal = TimerJournal.create(directory, TimerJournal.DEFAULT_SEGMENT_SIZE, records);
+                    EJB3_TIMER_LOGGER.debugf("Imported %d timers of %s into timer journal", timers.size(), timedObjectId);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            //the journal is authoritative, so the XML files would only be imported again
+            //this also removes the XML files left behind by an import that was interrupted after the journal was created
+            final File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (file.getName().endsWith(".xml")) {
+                        file.delete();
+                    }
+                }
+            }
+            journals.put(timedObjectId, journal);
+        }
+        return journal;
     }
 
     private Map<String, TimerImpl> loadTimersFromFile(String timedObjectId, TimerServiceImpl timerService) {
@@ -455,9 +571,12 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
                     if (timer == null) {
                         return null;
                     }
+                    long position = 0;
                     try {
                         lock.lock();
-                        if (status == Status.STATUS_COMMITTED) {
+                        if (status == Status.STATUS_COMMITTED && useJournal) {
+                            position = journalTimer(timer, newTimer);
+                        } else if (status == Status.STATUS_COMMITTED) {
                             final Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                             if (timer.getState() == TimerState.CANCELED ||
                                     timer.getState() == TimerState.EXPIRED) {
@@ -472,6 +591,8 @@ public class FileTimerPersistence implements TimerPersistence, Service<FileTimer
                         }
                     } finally {
                         lock.unlock();
+                        //group commit: transactions completing concurrently share a single flush of the journal
+                        syncJournal(timer.getTimedObjectId(), position);
                     }
                     return null;
                 }
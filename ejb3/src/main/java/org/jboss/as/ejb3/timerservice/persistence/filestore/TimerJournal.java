@@ -0,0 +1,414 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the persistent timers of a single timed object, written to a sequence of memory-mapped segment files.
+ * <p/>
+ * Each segment contains a sequence of records of the form:
+ * <pre>
+ * record := size:int checksum:int type:byte body:byte[size - 9]
+ * </pre>
+ * where the body of a record starts with the modified UTF-8 encoded id of its timer. A size of 0 marks the end of a segment,
+ * and a record whose checksum does not match is the torn tail of an interrupted write, which ends the replay of its segment.
+ * <p/>
+ * Appending a record only writes to the mapped segment. Durability is provided by {@link #sync(long)}, which flushes all records
+ * appended so far with a single force, so that concurrent committers share the cost of one flush.
+ * <p/>
+ * When a segment is full and less than half of the bytes in the log belong to live timers, the live records are compacted into
+ * a new segment, which starts with a reset record and is only moved into place once complete. Any older segment is then obsolete.
+ * Compaction is also triggered, without waiting for the segment to fill, as soon as the obsolete bytes exceed both the live bytes
+ * and half a segment, and when a journal is opened whose obsolete bytes exceed that threshold.
+ * <p/>
+ * A journal created by {@link #create(File, int, Collection)} becomes visible atomically, with all of its initial records.
+ */
+final class TimerJournal implements AutoCloseable {
+
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte RESET = 3;
+
+    private final File directory;
+    private final int segmentSize;
+    // The body of the most recent record of each live timer
+    private final Map<String, byte[]> records = new HashMap<>();
+    // Segment files, oldest first
+    private final Deque<File> segments = new ArrayDeque<>();
+    private final Object syncLock = new Object();
+
+    private long sequence;
+    private MappedByteBuffer buffer;
+    private long liveBytes;
+    private long totalBytes;
+    private long position;
+    private volatile long synced;
+
+    TimerJournal(File directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        deleteTemporarySegments(directory);
+        this.replay();
+    }
+
+    /**
+     * Creates a new journal containing the specified records.
+     * The records are written and forced to a temporary segment, which is only moved into place once complete,
+     * so that the journal either does not exist, or exists with all of the specified records, even after a crash.
+     *
+     * @param bodies the encoded timers, each starting with its id
+     */
+    static TimerJournal create(File directory, int segmentSize, Collection<byte[]> bodies) throws IOException {
+        long length = HEADER_SIZE;
+        for (byte[] body : bodies) {
+            length += HEADER_SIZE + body.length;
+        }
+        deleteTemporarySegments(directory);
+        File temporary = segment(directory, 1, TEMPORARY_SUFFIX);
+        MappedByteBuffer buffer = map(temporary, Math.max(segmentSize, length));
+        write(buffer, RESET, EMPTY);
+        for (byte[] body : bodies) {
+            write(buffer, PUT, body);
+        }
+        buffer.force();
+        Files.move(temporary.toPath(), segment(directory, 1, SEGMENT_SUFFIX).toPath(), StandardCopyOption.ATOMIC_MOVE);
+        force(directory);
+        return new TimerJournal(directory, segmentSize);
+    }
+
+    /**
+     * Indicates whether the specified directory already contains a timer journal.
+     */
+    static boolean exists(File directory) {
+        return !findSegments(directory).isEmpty();
+    }
+
+    synchronized boolean contains(String id) {
+        return this.records.containsKey(id);
+    }
+
+    /**
+     * Returns the bodies of the records of all live timers.
+     */
+    synchronized Collection<byte[]> records() {
+        return new ArrayList<>(this.records.values());
+    }
+
+    /**
+     * Appends the state of a timer.
+     *
+     * @param id the timer id
+     * @param body the encoded timer, starting with its id
+     * @return the position to pass to {@link #sync(long)}
+     */
+    synchronized long put(String id, byte[] body) throws IOException {
+        byte[] previous = this.records.put(id, body);
+        this.liveBytes += HEADER_SIZE + body.length - ((previous != null) ? HEADER_SIZE + previous.length : 0);
+        return this.append(PUT, body);
+    }
+
+    /**
+     * Appends the removal of a timer, if it is live.
+     *
+     * @param id the timer id
+     * @return the position to pass to {@link #sync(long)}
+     */
+    synchronized long remove(String id) throws IOException {
+        byte[] previous = this.records.remove(id);
+        if (previous == null) {
+            return this.position;
+        }
+        this.liveBytes -= HEADER_SIZE + previous.length;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(id);
+        }
+        return this.append(REMOVE, bytes.toByteArray());
+    }
+
+    /**
+     * Makes all records up to the specified position durable.
+     * A caller that finds a flush in progress waits for it, and then flushes on behalf of all records appended in the meantime.
+     *
+     * @param position a position returned by {@link #put(String, byte[])} or {@link #remove(String)}
+     */
+    void sync(long position) {
+        if (this.synced >= position) return;
+        synchronized (this.syncLock) {
+            if (this.synced >= position) return;
+            MappedByteBuffer buffer;
+            long target;
+            synchronized (this) {
+                buffer = this.buffer;
+                target = this.position;
+            }
+            if (buffer != null) {
+                buffer.force();
+            }
+            this.synced = target;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.buffer != null) {
+            this.buffer.force();
+            this.buffer = null;
+        }
+        this.records.clear();
+        this.segments.clear();
+    }
+
+    private long append(byte type, byte[] body) throws IOException {
+        if (this.buffer == null) {
+            throw new IOException(this.directory.getPath());
+        }
+        int size = HEADER_SIZE + body.length;
+        if ((this.buffer.remaining() < size) || this.isCompactable()) {
+            this.roll(size);
+        }
+        write(this.buffer, type, body);
+        this.totalBytes += size;
+        this.position += size;
+        return this.position;
+    }
+
+    /**
+     * Switches to a new segment with room for at least the specified number of bytes, compacting the log if mostly obsolete.
+     * The previous segment is forced first, so that {@link #sync(long)} only ever needs to force the current segment.
+     */
+    private void roll(int size) throws IOException {
+        if (this.buffer != null) {
+            this.buffer.force();
+        }
+        this.sequence += 1;
+        File file = segment(this.directory, this.sequence, SEGMENT_SUFFIX);
+        if (this.liveBytes < this.totalBytes / 2) {
+            long length = HEADER_SIZE + this.liveBytes;
+            File temporary = segment(this.directory, this.sequence, TEMPORARY_SUFFIX);
+            MappedByteBuffer buffer = map(temporary, Math.max(this.segmentSize, length + size));
+            write(buffer, RESET, EMPTY);
+            for (byte[] body : this.records.values()) {
+                write(buffer, PUT, body);
+            }
+            buffer.force();
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            force(this.directory);
+            // The reset record makes older segments obsolete, even if they cannot be deleted yet
+            for (File segment : this.segments) {
+                segment.delete();
+            }
+            this.segments.clear();
+            this.buffer = buffer;
+            this.totalBytes = length;
+        } else {
+            this.buffer = map(file, Math.max(this.segmentSize, size));
+        }
+        this.segments.add(file);
+    }
+
+    private void replay() throws IOException {
+        boolean clean = false;
+        for (Map.Entry<Long, File> entry : findSegments(this.directory).entrySet()) {
+            File file = entry.getValue();
+            MappedByteBuffer buffer = map(file, file.length());
+            if ((buffer.limit() >= HEADER_SIZE) && (buffer.get(Integer.BYTES + Integer.BYTES) == RESET)) {
+                for (File segment : this.segments) {
+                    segment.delete();
+                }
+                this.segments.clear();
+            }
+            clean = this.replay(buffer);
+            this.sequence = entry.getKey();
+            this.segments.add(file);
+            this.buffer = buffer;
+        }
+        if (!clean || this.isCompactable()) {
+            // Never append after a torn record
+            this.roll(0);
+        }
+    }
+
+    /**
+     * Indicates whether the obsolete bytes of the log justify compacting it before the current segment is full.
+     */
+    private boolean isCompactable() {
+        long obsoleteBytes = this.totalBytes - this.liveBytes;
+        return (obsoleteBytes > this.segmentSize / 2) && (obsoleteBytes > this.liveBytes);
+    }
+
+    /**
+     * Applies the records of a segment, leaving the buffer positioned after the last valid record.
+     *
+     * @return false, if the segment ends with a torn record
+     */
+    private boolean replay(ByteBuffer buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= HEADER_SIZE) {
+            int start = buffer.position();
+            int size = buffer.getInt();
+            if (size == 0) {
+                buffer.position(start);
+                return true;
+            }
+            int checksum = buffer.getInt();
+            if ((size < HEADER_SIZE) || (size - Integer.BYTES - Integer.BYTES > buffer.remaining())) {
+                buffer.position(start);
+                return false;
+            }
+            byte type = buffer.get();
+            byte[] body = new byte[size - HEADER_SIZE];
+            buffer.get(body);
+            crc.reset();
+            crc.update(type);
+            crc.update(body, 0, body.length);
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(start);
+                return false;
+            }
+            this.totalBytes += size;
+            switch (type) {
+                case PUT: {
+                    byte[] previous = this.records.put(id(body), body);
+                    this.liveBytes += size - ((previous != null) ? HEADER_SIZE + previous.length : 0);
+                    break;
+                }
+                case REMOVE: {
+                    byte[] previous = this.records.remove(id(body));
+                    if (previous != null) {
+                        this.liveBytes -= HEADER_SIZE + previous.length;
+                    }
+                    break;
+                }
+                case RESET: {
+                    this.records.clear();
+                    this.liveBytes = 0;
+                    this.totalBytes = size;
+                    break;
+                }
+                default: {
+                    buffer.position(start);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void write(ByteBuffer buffer, byte type, byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(body, 0, body.length);
+        buffer.putInt(HEADER_SIZE + body.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(type);
+        buffer.put(body);
+    }
+
+    private static String id(byte[] body) throws IOException {
+        return new DataInputStream(new ByteArrayInputStream(body)).readUTF();
+    }
+
+    private static SortedMap<Long, File> findSegments(File directory) {
+        SortedMap<Long, File> segments = new TreeMap<>();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+                    } catch (NumberFormatException e) {
+                        // Not a segment
+                    }
+                }
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Deletes the temporary segments left behind by an interrupted creation or compaction.
+     */
+    private static void deleteTemporarySegments(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(TEMPORARY_SUFFIX)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    private static File segment(File directory, long sequence, String suffix) {
+        return new File(directory, SEGMENT_PREFIX + sequence + suffix);
+    }
+
+    /**
+     * Makes a rename within the specified directory durable, where the platform supports forcing a directory.
+     */
+    private static void force(File directory) {
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on this platform
+        }
+    }
+
+    private static MappedByteBuffer map(File file, long size) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, raf.length()));
+        }
+    }
+}
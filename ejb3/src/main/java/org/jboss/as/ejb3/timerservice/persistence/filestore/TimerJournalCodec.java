@@ -0,0 +1,205 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import javax.ejb.ScheduleExpression;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.marshalling.ByteBufferInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+
+/**
+ * Binary encoding of persistent timers for the {@link TimerJournal}.
+ * Stores the same state as {@link EjbTimerXmlPersister}, prefixed by the timer id.
+ */
+final class TimerJournalCodec {
+
+    private static final byte TIMER = 0;
+    private static final byte CALENDAR_TIMER = 1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final MarshallerFactory factory;
+    private final MarshallingConfiguration configuration;
+
+    TimerJournalCodec(MarshallerFactory factory, MarshallingConfiguration configuration) {
+        this.factory = factory;
+        this.configuration = configuration;
+    }
+
+    byte[] encode(TimerImpl timer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(timer.getId());
+            output.writeUTF(timer.getTimedObjectId());
+            output.writeUTF(timer.getState().name());
+            writeDate(output, timer.getInitialExpiration());
+            writeDate(output, timer.getNextExpiration());
+            writeDate(output, timer.getPreviousRun());
+            if (timer instanceof CalendarTimer) {
+                CalendarTimer calendarTimer = (CalendarTimer) timer;
+                ScheduleExpression schedule = calendarTimer.getScheduleExpression();
+                output.writeByte(CALENDAR_TIMER);
+                output.writeUTF(schedule.getSecond());
+                output.writeUTF(schedule.getMinute());
+                output.writeUTF(schedule.getHour());
+                output.writeUTF(schedule.getDayOfWeek());
+                output.writeUTF(schedule.getDayOfMonth());
+                output.writeUTF(schedule.getMonth());
+                output.writeUTF(schedule.getYear());
+                writeDate(output, schedule.getStart());
+                writeDate(output, schedule.getEnd());
+                writeString(output, schedule.getTimezone());
+                output.writeBoolean(calendarTimer.isAutoTimer());
+                if (calendarTimer.isAutoTimer()) {
+                    Method method = calendarTimer.getTimeoutMethod();
+                    output.writeUTF(method.getDeclaringClass().getName());
+                    output.writeUTF(method.getName());
+                    Class<?>[] parameterTypes = method.getParameterTypes();
+                    output.writeByte(parameterTypes.length);
+                    for (Class<?> parameterType : parameterTypes) {
+                        output.writeUTF(parameterType.getName());
+                    }
+                }
+            } else {
+                output.writeByte(TIMER);
+                output.writeLong(timer.getInterval());
+            }
+            Serializable info = timer.getTimerInfo();
+            if (info != null) {
+                ByteArrayOutputStream marshalled = new ByteArrayOutputStream();
+                try (Marshaller marshaller = this.factory.createMarshaller(this.configuration)) {
+                    marshaller.start(new OutputStreamByteOutput(marshalled));
+                    marshaller.writeObject(info);
+                    marshaller.finish();
+                }
+                output.writeInt(marshalled.size());
+                marshalled.writeTo(output);
+            } else {
+                output.writeInt(-1);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a timer.
+     *
+     * @return the timer, or null if the timeout method of an auto timer no longer exists
+     */
+    TimerImpl decode(byte[] body, TimerServiceImpl timerService, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(body));
+        String id = input.readUTF();
+        String timedObjectId = input.readUTF();
+        TimerState state = TimerState.valueOf(input.readUTF());
+        Date initialDate = readDate(input);
+        Date nextDate = readDate(input);
+        Date previousRun = readDate(input);
+        TimerImpl.Builder builder;
+        if (input.readByte() == CALENDAR_TIMER) {
+            ScheduleExpression schedule = new ScheduleExpression()
+                    .second(input.readUTF())
+                    .minute(input.readUTF())
+                    .hour(input.readUTF())
+                    .dayOfWeek(input.readUTF())
+                    .dayOfMonth(input.readUTF())
+                    .month(input.readUTF())
+                    .year(input.readUTF())
+                    .start(readDate(input))
+                    .end(readDate(input))
+                    .timezone(readString(input));
+            CalendarTimer.Builder calendarBuilder = CalendarTimer.builder();
+            calendarBuilder.setScheduleExpression(schedule);
+            if (input.readBoolean()) {
+                String declaringClass = input.readUTF();
+                String methodName = input.readUTF();
+                String[] parameterTypes = new String[input.readByte()];
+                for (int i = 0; i < parameterTypes.length; ++i) {
+                    parameterTypes[i] = input.readUTF();
+                }
+                Method method = CalendarTimer.getTimeoutMethod(new TimeoutMethod(declaringClass, methodName, parameterTypes), classLoader);
+                if (method == null) {
+                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, null);
+                    return null;
+                }
+                calendarBuilder.setAutoTimer(true).setTimeoutMethod(method);
+            }
+            builder = calendarBuilder;
+        } else {
+            builder = TimerImpl.builder().setRepeatInterval(input.readLong());
+        }
+        int infoLength = input.readInt();
+        if (infoLength >= 0) {
+            try (Unmarshaller unmarshaller = this.factory.createUnmarshaller(this.configuration)) {
+                unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(body, body.length - input.available(), infoLength)));
+                builder.setInfo((Serializable) unmarshaller.readObject());
+            }
+        }
+        return builder.setId(id)
+                .setTimedObjectId(timedObjectId)
+                .setTimerState(state)
+                .setInitialDate(initialDate)
+                .setNextDate(nextDate)
+                .setPreviousRun(previousRun)
+                .setPersistent(true)
+                .build(timerService);
+    }
+
+    private static void writeDate(DataOutput output, Date date) throws IOException {
+        output.writeLong((date != null) ? date.getTime() : NO_DATE);
+    }
+
+    private static Date readDate(DataInput input) throws IOException {
+        long time = input.readLong();
+        return (time != NO_DATE) ? new Date(time) : null;
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
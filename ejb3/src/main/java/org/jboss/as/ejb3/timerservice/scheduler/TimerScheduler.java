@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+/**
+ * Schedules the tasks of the timer service, i.e. the timeouts of {@link javax.ejb.Timer}s and any related housekeeping tasks.
+ * Scheduled tasks are expected to complete quickly, e.g. by handing off the actual work to an executor.
+ */
+public interface TimerScheduler extends AutoCloseable {
+
+    /**
+     * Schedules the specified task for a single execution after the specified delay.
+     * @param task a task
+     * @param delay the delay, in milliseconds, before the task is to be executed
+     * @return a handle for the scheduled task
+     */
+    ScheduledTask schedule(Runnable task, long delay);
+
+    /**
+     * Schedules the specified task for repeated fixed-rate execution, beginning after the specified delay.
+     * @param task a task
+     * @param delay the delay, in milliseconds, before the task is first executed
+     * @param period the time, in milliseconds, between successive task executions
+     * @return a handle for the scheduled task
+     */
+    ScheduledTask scheduleAtFixedRate(Runnable task, long delay, long period);
+
+    /**
+     * Schedules the specified task for repeated fixed-delay execution, beginning after the specified delay.
+     * @param task a task
+     * @param delay the delay, in milliseconds, before the task is first executed
+     * @param period the time, in milliseconds, between the completion of an execution and the start of the next
+     * @return a handle for the scheduled task
+     */
+    ScheduledTask scheduleWithFixedDelay(Runnable task, long delay, long period);
+
+    /**
+     * Removes any cancelled tasks, if the implementation does not already do so upon cancellation.
+     */
+    default void purge() {
+    }
+
+    /**
+     * Cancels all scheduled tasks and releases any resources of this scheduler.
+     */
+    @Override
+    void close();
+
+    /**
+     * A handle for a scheduled task.
+     */
+    interface ScheduledTask {
+        /**
+         * Cancels any future execution of this task.
+         * @return true, if a future execution was prevented, false otherwise
+         */
+        boolean cancel();
+    }
+}
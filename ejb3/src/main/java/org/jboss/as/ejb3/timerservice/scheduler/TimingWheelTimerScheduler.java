@@ -0,0 +1,328 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link TimerScheduler} backed by a hierarchical timing wheel.
+ * <p>
+ * Each level of the wheel consists of {@value #WHEEL_SIZE} slots, where a slot of level <em>n</em> spans
+ * {@value #WHEEL_SIZE}<sup>n</sup> ticks.  A scheduled task is placed into the slot of the lowest level that covers its deadline,
+ * and is cascaded into lower levels as its deadline approaches.
+ * Thus scheduling and cancelling a task are O(1) operations, unlike the O(log n) operations of a {@link java.util.Timer}.
+ * </p>
+ * <p>
+ * Scheduling and cancellation are lock-free; new and cancelled tasks are handed off to a single wheel thread,
+ * which owns the wheel and executes expired tasks.  Unlike a {@link java.util.Timer}, a task that throws does not terminate the wheel thread.
+ * </p>
+ */
+public class TimingWheelTimerScheduler implements TimerScheduler, Runnable {
+
+    public static final long DEFAULT_TICK_DURATION = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 6;
+    // Largest tick delta that can be represented by the wheel
+    private static final long MAX_DELTA = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final Entry[][] wheel = new Entry[LEVELS][WHEEL_SIZE];
+    private final Queue<Entry> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cancelled = new ConcurrentLinkedQueue<>();
+    private final long tickDuration;
+    private final long origin = System.nanoTime();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile boolean idle = false;
+
+    // Guarded by wheel thread
+    private long tick = 0;
+    private int size = 0;
+
+    public TimingWheelTimerScheduler(ThreadFactory threadFactory) {
+        this(threadFactory, DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * Creates a new timing wheel scheduler.
+     * @param threadFactory creates the wheel thread
+     * @param tickDuration the duration, in nanoseconds, of a tick, i.e. the resolution of the wheel
+     */
+    public TimingWheelTimerScheduler(ThreadFactory threadFactory, long tickDuration) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException(Long.toString(tickDuration));
+        }
+        this.tickDuration = tickDuration;
+        for (Entry[] slots : this.wheel) {
+            for (int i = 0; i < WHEEL_SIZE; ++i) {
+                slots[i] = new Entry(null, 0, 0, false, null);
+            }
+        }
+        this.thread = threadFactory.newThread(this);
+        this.thread.start();
+    }
+
+    @Override
+    public ScheduledTask schedule(Runnable task, long delay) {
+        return this.add(new Entry(task, this.deadline(delay), 0, true, this.cancelled));
+    }
+
+    @Override
+    public ScheduledTask scheduleAtFixedRate(Runnable task, long delay, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(Long.toString(period));
+        }
+        return this.add(new Entry(task, this.deadline(delay), TimeUnit.MILLISECONDS.toNanos(period), true, this.cancelled));
+    }
+
+    @Override
+    public ScheduledTask scheduleWithFixedDelay(Runnable task, long delay, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(Long.toString(period));
+        }
+        return this.add(new Entry(task, this.deadline(delay), TimeUnit.MILLISECONDS.toNanos(period), false, this.cancelled));
+    }
+
+    @Override
+    public void close() {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        try {
+            this.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long deadline(long delay) {
+        return System.nanoTime() - this.origin + TimeUnit.MILLISECONDS.toNanos(Math.max(delay, 0));
+    }
+
+    private Entry add(Entry entry) {
+        this.scheduled.add(entry);
+        // Only wake the wheel thread if it is waiting indefinitely
+        if (this.idle) {
+            LockSupport.unpark(this.thread);
+        }
+        return entry;
+    }
+
+    @Override
+    public void run() {
+        while (this.running) {
+            long current = (System.nanoTime() - this.origin) / this.tickDuration;
+            this.removeCancelled();
+            if (this.size == 0) {
+                // Nothing to cascade or expire, skip directly to the current tick
+                this.tick = Math.max(this.tick, current);
+            }
+            this.addScheduled();
+            while (this.running && (this.tick <= current)) {
+                this.advance(this.tick++);
+            }
+            if (this.size == 0) {
+                this.idle = true;
+                // Re-check, in case a task was scheduled before we were flagged as idle
+                if (this.scheduled.isEmpty() && this.running) {
+                    LockSupport.park(this);
+                }
+                this.idle = false;
+            } else {
+                long delay = (this.tick * this.tickDuration) - (System.nanoTime() - this.origin);
+                if (delay > 0) {
+                    LockSupport.parkNanos(this, delay);
+                }
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        Entry entry = this.cancelled.poll();
+        while (entry != null) {
+            if (entry.prev != null) {
+                entry.unlink();
+                this.size -= 1;
+            }
+            entry = this.cancelled.poll();
+        }
+    }
+
+    private void addScheduled() {
+        Entry entry = this.scheduled.poll();
+        while (entry != null) {
+            if (entry.state == Entry.ACTIVE) {
+                this.place(entry, this.tick);
+            }
+            entry = this.scheduled.poll();
+        }
+    }
+
+    private void advance(long tick) {
+        // Cascade the entries of any higher level slot whose span starts at this tick
+        for (int level = LEVELS - 1; level > 0; --level) {
+            int shift = WHEEL_BITS * level;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                Entry entry = this.detach(level, (int) (tick >>> shift) & WHEEL_MASK);
+                while (entry != null) {
+                    Entry next = entry.next;
+                    entry.next = null;
+                    if (entry.state == Entry.ACTIVE) {
+                        this.place(entry, tick);
+                    }
+                    entry = next;
+                }
+            }
+        }
+        Entry entry = this.detach(0, (int) tick & WHEEL_MASK);
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            if (entry.tick(this.tickDuration) > tick) {
+                // Deadline exceeded the span of the wheel when placed
+                this.place(entry, tick);
+            } else {
+                this.expire(entry, tick);
+            }
+            entry = next;
+        }
+    }
+
+    private void expire(Entry entry, long tick) {
+        boolean repeat = entry.period > 0;
+        if (repeat ? entry.state == Entry.ACTIVE : Entry.STATE_UPDATER.compareAndSet(entry, Entry.ACTIVE, Entry.EXPIRED)) {
+            try {
+                entry.task.run();
+            } catch (Throwable e) {
+                EJB3_TIMER_LOGGER.failedToRunScheduledTask(entry.task, e);
+            }
+            if (repeat && (entry.state == Entry.ACTIVE)) {
+                entry.deadline = (entry.fixedRate ? entry.deadline : (System.nanoTime() - this.origin)) + entry.period;
+                // Schedule no earlier than the next tick
+                this.place(entry, tick + 1);
+            }
+        }
+    }
+
+    /**
+     * Detaches the entries of the specified slot.
+     * @return the first detached entry, whose remaining entries are linked via {@link Entry#next}.
+     */
+    private Entry detach(int level, int index) {
+        Entry head = this.wheel[level][index];
+        Entry first = head.next;
+        if (first == head) return null;
+        head.prev.next = null;
+        head.next = head;
+        head.prev = head;
+        for (Entry entry = first; entry != null; entry = entry.next) {
+            entry.prev = null;
+            this.size -= 1;
+        }
+        return first;
+    }
+
+    private void place(Entry entry, long current) {
+        long deadline = Math.max(entry.tick(this.tickDuration), current);
+        long delta = Math.min(deadline - current, MAX_DELTA);
+        int level = 0;
+        while ((level < LEVELS - 1) && (delta >= (1L << (WHEEL_BITS * (level + 1))))) {
+            level += 1;
+        }
+        int index = (int) ((current + delta) >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+        entry.link(this.wheel[level][index]);
+        this.size += 1;
+    }
+
+    private static class Entry implements ScheduledTask {
+        static final int ACTIVE = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+        static final AtomicIntegerFieldUpdater<Entry> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        final Runnable task;
+        final long period;
+        final boolean fixedRate;
+        final Queue<Entry> cancelled;
+        // Deadline in nanoseconds relative to origin; guarded by wheel thread
+        long deadline;
+        volatile int state = ACTIVE;
+        // Slot links, guarded by wheel thread
+        Entry prev;
+        Entry next;
+
+        Entry(Runnable task, long deadline, long period, boolean fixedRate, Queue<Entry> cancelled) {
+            this.task = task;
+            this.fixedRate = fixedRate;
+            this.cancelled = cancelled;
+            this.deadline = deadline;
+            this.period = period;
+            // Sentinel entries are self-linked
+            if (task == null) {
+                this.prev = this;
+                this.next = this;
+            }
+        }
+
+        long tick(long tickDuration) {
+            // Round up, such that a task never expires early
+            return (this.deadline + tickDuration - 1) / tickDuration;
+        }
+
+        void link(Entry head) {
+            this.prev = head.prev;
+            this.next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        void unlink() {
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+            this.prev = null;
+            this.next = null;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (STATE_UPDATER.compareAndSet(this, ACTIVE, CANCELLED)) {
+                this.cancelled.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(this.task);
+        }
+    }
+}
@@ -44,7 +44,6 @@ import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.MethodIntf;
 import org.jboss.as.ejb3.component.MethodIntfHelper;
 import org.jboss.as.ejb3.logging.EjbLogger;
-import org.jboss.invocation.ImmediateInterceptorFactory;
 import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.invocation.InterceptorFactory;
@@ -66,8 +65,14 @@ import org.wildfly.transaction.client.ContextTransactionManager;
  */
 public class CMTTxInterceptor implements Interceptor {
 
-    public static final InterceptorFactory FACTORY = new ImmediateInterceptorFactory(new CMTTxInterceptor());
+    /**
+     * Creates an interceptor per interceptor chain, i.e. per view method, so that each caches the transaction policy
+     * of its own method.
+     */
+    public static final InterceptorFactory FACTORY = context -> new CMTTxInterceptor();
 
+    // The transaction policy resolved by the most recent invocation
+    private volatile TransactionPolicy policy;
 
     /**
      * The <code>endTransaction</code> method ends a transaction and
@@ -131,14 +136,20 @@ public class CMTTxInterceptor implements Interceptor {
 
     public Object processInvocation(InterceptorContext invocation) throws Exception {
         final EJBComponent component = (EJBComponent) invocation.getPrivateData(Component.class);
+        final TransactionPolicy policy = this.getTransactionPolicy(invocation, component);
 
         final ContextTransactionManager tm = ContextTransactionManager.getInstance();
+        if (policy.isJoinable()) {
+            // Fast path: joining the caller's transaction neither begins a transaction nor changes the timeout
+            final Transaction tx = tm.getTransaction();
+            if (tx != null) {
+                return invokeInCallerTx(invocation, tx, component);
+            }
+        }
         final int oldTimeout = tm.getTransactionTimeout();
         try {
-            final MethodIntf methodIntf = MethodIntfHelper.of(invocation);
-            final Method method = invocation.getMethod();
-            final TransactionAttributeType attr = component.getTransactionAttributeType(methodIntf, method);
-            final int timeoutInSeconds = component.getTransactionTimeout(methodIntf, method);
+            final TransactionAttributeType attr = policy.getTransactionAttributeType();
+            final int timeoutInSeconds = policy.getTransactionTimeout();
 
             switch (attr) {
                 case MANDATORY:
@@ -148,8 +159,7 @@ public class CMTTxInterceptor implements Interceptor {
                 case NOT_SUPPORTED:
                     return notSupported(invocation, component);
                 case REQUIRED:
-                    final ComponentView view = invocation.getPrivateData(ComponentView.class);
-                    if (view != null && view.isAsynchronous(method)) {
+                    if (policy.isAsynchronous()) {
                         // EJB 3.2 4.5.3 Transactions
                         // The client’s transaction context does not propagate with an asynchronous method invocation. From the
                         // Bean Provider’s point of view, there is never a transaction context flowing in from the client. This
@@ -171,6 +181,25 @@ public class CMTTxInterceptor implements Interceptor {
         }
     }
 
+    /**
+     * Returns the transaction policy of the invoked method, which is only resolved against the component's
+     * transaction attributes if it differs from the one of the previous invocation.
+     */
+    TransactionPolicy getTransactionPolicy(final InterceptorContext invocation, final EJBComponent component) {
+        final Method method = invocation.getMethod();
+        // Set for invocations without a view, e.g. timer invocations
+        final MethodIntf attachedMethodIntf = invocation.getPrivateData(MethodIntf.class);
+        TransactionPolicy policy = this.policy;
+        if (policy == null || !policy.appliesTo(method, attachedMethodIntf)) {
+            final MethodIntf methodIntf = MethodIntfHelper.of(invocation);
+            final ComponentView view = invocation.getPrivateData(ComponentView.class);
+            final boolean asynchronous = view != null && view.isAsynchronous(method);
+            policy = new TransactionPolicy(method, attachedMethodIntf, component.getTransactionAttributeType(methodIntf, method), component.getTransactionTimeout(methodIntf, method), asynchronous);
+            this.policy = policy;
+        }
+        return policy;
+    }
+
     protected Object invokeInImportedTx(InterceptorContext invocation, EJBComponent component) throws Exception {
         Transaction tx;
         try {
@@ -448,4 +477,51 @@ public class CMTTxInterceptor implements Interceptor {
             return invokeInCallerTx(invocation, tx, component);
         }
     }
+
+    /**
+     * The resolved transaction attribute and timeout of a method.
+     */
+    static final class TransactionPolicy {
+        private final Method method;
+        private final MethodIntf attachedMethodIntf;
+        private final TransactionAttributeType transactionAttributeType;
+        private final int transactionTimeout;
+        private final boolean asynchronous;
+        private final boolean joinable;
+
+        TransactionPolicy(final Method method, final MethodIntf attachedMethodIntf, final TransactionAttributeType transactionAttributeType, final int transactionTimeout, final boolean asynchronous) {
+            this.method = method;
+            this.attachedMethodIntf = attachedMethodIntf;
+            this.transactionAttributeType = transactionAttributeType;
+            this.transactionTimeout = transactionTimeout;
+            this.asynchronous = asynchronous;
+            // An explicit timeout of a REQUIRED method also applies to any transaction begun further down the call,
+            // so such invocations must take the regular path, which sets and restores the timeout
+            this.joinable = (transactionAttributeType == TransactionAttributeType.MANDATORY) || (transactionAttributeType == TransactionAttributeType.SUPPORTS)
+                    || (transactionAttributeType == TransactionAttributeType.REQUIRED && !asynchronous && transactionTimeout == -1);
+        }
+
+        boolean appliesTo(final Method method, final MethodIntf attachedMethodIntf) {
+            return this.method == method && this.attachedMethodIntf == attachedMethodIntf;
+        }
+
+        TransactionAttributeType getTransactionAttributeType() {
+            return this.transactionAttributeType;
+        }
+
+        int getTransactionTimeout() {
+            return this.transactionTimeout;
+        }
+
+        boolean isAsynchronous() {
+            return this.asynchronous;
+        }
+
+        /**
+         * Indicates whether an invocation within a caller's transaction simply joins that transaction.
+         */
+        boolean isJoinable() {
+            return this.joinable;
+        }
+    }
 }
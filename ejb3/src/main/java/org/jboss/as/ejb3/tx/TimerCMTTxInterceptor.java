@@ -22,7 +22,6 @@
 package org.jboss.as.ejb3.tx;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
-import org.jboss.invocation.ImmediateInterceptorFactory;
 import org.jboss.invocation.InterceptorFactory;
 
 /**
@@ -33,7 +32,7 @@ import org.jboss.invocation.InterceptorFactory;
  */
 public class TimerCMTTxInterceptor extends CMTTxInterceptor {
 
-    public static final InterceptorFactory FACTORY = new ImmediateInterceptorFactory(new TimerCMTTxInterceptor());
+    public static final InterceptorFactory FACTORY = context -> new TimerCMTTxInterceptor();
 
     protected void ourTxRolledBack() {
         throw EjbLogger.ROOT_LOGGER.timerInvocationRolledBack();
@@ -0,0 +1,191 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.cache.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.jboss.as.ejb3.cache.Cache;
+import org.jboss.as.ejb3.cache.Identifiable;
+import org.jboss.as.ejb3.cache.StatefulObjectFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SimpleCache}.
+ */
+public class SimpleCacheTestCase {
+
+    @Test
+    public void unbounded() {
+        MockFactory factory = new MockFactory();
+        Cache<UUID, MockBean> cache = new SimpleCache<>(factory, UUID::randomUUID, null, null);
+        cache.start();
+        try {
+            for (int i = 0; i < 10; ++i) {
+                this.invoke(cache, cache.create());
+            }
+            assertEquals(10, cache.getCacheSize());
+            assertEquals(10, cache.getHitCount());
+            assertEquals(0, cache.getEvictionCount());
+            assertTrue(factory.destroyed.isEmpty());
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void evictLeastFrequentlyUsed() {
+        MockFactory factory = new MockFactory();
+        Cache<UUID, MockBean> cache = new SimpleCache<>(factory, UUID::randomUUID, null, null, 2);
+        cache.start();
+        try {
+            MockBean frequent = cache.create();
+            this.invoke(cache, frequent);
+            MockBean infrequent = cache.create();
+            this.invoke(cache, infrequent);
+            // Although less recently used, this bean is used more frequently
+            this.invoke(cache, frequent);
+            this.invoke(cache, frequent);
+
+            MockBean bean = cache.create();
+            this.invoke(cache, bean);
+
+            assertEquals(2, cache.getCacheSize());
+            assertEquals(1, cache.getEvictionCount());
+            assertFalse(cache.contains(infrequent.getId()));
+            assertNull(cache.get(infrequent.getId()));
+            assertEquals(List.of(infrequent), factory.destroyed);
+            assertTrue(cache.contains(frequent.getId()));
+            assertTrue(cache.contains(bean.getId()));
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        MockFactory factory = new MockFactory();
+        Cache<UUID, MockBean> cache = new SimpleCache<>(factory, UUID::randomUUID, null, null, 2);
+        cache.start();
+        try {
+            MockBean older = cache.create();
+            this.invoke(cache, older);
+            MockBean newer = cache.create();
+            this.invoke(cache, newer);
+
+            MockBean bean = cache.create();
+
+            assertEquals(2, cache.getCacheSize());
+            assertEquals(List.of(older), factory.destroyed);
+            assertTrue(cache.contains(newer.getId()));
+            // A new bean is not eligible for eviction until released
+            assertTrue(cache.contains(bean.getId()));
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void doNotEvictBeansInUse() {
+        MockFactory factory = new MockFactory();
+        Cache<UUID, MockBean> cache = new SimpleCache<>(factory, UUID::randomUUID, null, null, 1);
+        cache.start();
+        try {
+            MockBean first = cache.create();
+            assertSame(first, cache.get(first.getId()));
+            MockBean second = cache.create();
+            assertSame(second, cache.get(second.getId()));
+
+            // Both beans are in use, so the cache temporarily exceeds its maximum size
+            assertEquals(2, cache.getCacheSize());
+            assertEquals(0, cache.getEvictionCount());
+
+            cache.release(first);
+
+            assertEquals(1, cache.getCacheSize());
+            assertEquals(List.of(first), factory.destroyed);
+            assertNotNull(cache.get(second.getId()));
+            cache.release(second);
+            cache.release(second);
+            assertEquals(1, cache.getCacheSize());
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void removeEvictionCandidate() {
+        MockFactory factory = new MockFactory();
+        Cache<UUID, MockBean> cache = new SimpleCache<>(factory, UUID::randomUUID, null, null, 1);
+        cache.start();
+        try {
+            MockBean removed = cache.create();
+            this.invoke(cache, removed);
+            cache.remove(removed.getId());
+
+            MockBean bean = cache.create();
+            this.invoke(cache, bean);
+
+            assertEquals(1, cache.getCacheSize());
+            assertEquals(0, cache.getEvictionCount());
+            assertEquals(List.of(removed), factory.destroyed);
+        } finally {
+            cache.stop();
+        }
+    }
+
+    private void invoke(Cache<UUID, MockBean> cache, MockBean bean) {
+        assertSame(bean, cache.get(bean.getId()));
+        cache.release(bean);
+    }
+
+    static class MockBean implements Identifiable<UUID> {
+        private final UUID id = UUID.randomUUID();
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+    }
+
+    static class MockFactory implements StatefulObjectFactory<MockBean> {
+        final List<MockBean> destroyed = new ArrayList<>();
+
+        @Override
+        public MockBean createInstance() {
+            return new MockBean();
+        }
+
+        @Override
+        public void destroyInstance(MockBean instance) {
+            this.destroyed.add(instance);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import javax.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.StripedReadWriteLock;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedReadWriteLock}
+ */
+public class StripedReadWriteLockTest {
+
+    private StripedReadWriteLock lock;
+    private ExecutorService executor;
+
+    @Before
+    public void beforeTest() {
+        this.lock = new StripedReadWriteLock(4);
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void afterTest() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void testIllegalLoopBack() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            this.lock.writeLock().tryLock(1, TimeUnit.SECONDS);
+            Assert.fail("Unexpected acquired write lock");
+        } catch (IllegalLoopbackException e) {
+            // expected
+        } finally {
+            readLock.unlock();
+        }
+        // Once the read lock is released, the write lock can be obtained
+        Assert.assertTrue(this.lock.writeLock().tryLock(1, TimeUnit.SECONDS));
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            Future<Boolean> result = this.executor.submit(() -> this.lock.readLock().tryLock(100, TimeUnit.MILLISECONDS));
+            Assert.assertFalse("Unexpected obtained a read lock", result.get());
+        } finally {
+            writeLock.unlock();
+        }
+        Future<Boolean> result = this.executor.submit(() -> {
+            boolean locked = this.lock.readLock().tryLock(1, TimeUnit.SECONDS);
+            if (locked) {
+                this.lock.readLock().unlock();
+            }
+            return locked;
+        });
+        Assert.assertTrue(result.get());
+    }
+
+    @Test
+    public void testWriteTimeout() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            Future<Boolean> result = this.executor.submit(() -> this.lock.writeLock().tryLock(100, TimeUnit.MILLISECONDS));
+            Assert.assertFalse("Unexpected obtained a write lock", result.get());
+            // A writer that timed out must not block subsequent readers
+            Future<Boolean> reader = this.executor.submit(() -> {
+                boolean locked = this.lock.readLock().tryLock(1, TimeUnit.SECONDS);
+                if (locked) {
+                    this.lock.readLock().unlock();
+                }
+                return locked;
+            });
+            Assert.assertTrue(reader.get());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        CountDownLatch locked = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable reader = () -> {
+            this.lock.readLock().lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        };
+        Future<?> first = this.executor.submit(reader);
+        Future<?> second = this.executor.submit(reader);
+        Assert.assertTrue("Read locks are not shared", locked.await(1, TimeUnit.SECONDS));
+        release.countDown();
+        first.get();
+        second.get();
+    }
+
+    @Test
+    public void testReentrantReadWithPendingWriter() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        Future<Boolean> writer = this.executor.submit(() -> {
+            boolean locked = this.lock.writeLock().tryLock(5, TimeUnit.SECONDS);
+            if (locked) {
+                this.lock.writeLock().unlock();
+            }
+            return locked;
+        });
+        // Give the writer a chance to announce itself
+        Thread.sleep(100);
+        // A nested read lock of the same thread must not wait for the pending writer
+        Assert.assertTrue(readLock.tryLock(100, TimeUnit.MILLISECONDS));
+        readLock.unlock();
+        readLock.unlock();
+        Assert.assertTrue(writer.get());
+    }
+
+    @Test
+    public void testSameThreadCanGetWriteThenReadLock() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            Assert.assertTrue(this.lock.readLock().tryLock(1, TimeUnit.SECONDS));
+            this.lock.readLock().unlock();
+            // write lock is reentrant
+            Assert.assertTrue(writeLock.tryLock(1, TimeUnit.SECONDS));
+            writeLock.unlock();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void testMutualExclusion() throws Exception {
+        AtomicInteger readers = new AtomicInteger();
+        AtomicInteger writers = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        Runnable task = () -> {
+            for (int i = 0; i < 1000; ++i) {
+                boolean write = (i % 10) == 0;
+                Lock lock = write ? this.lock.writeLock() : this.lock.readLock();
+                lock.lock();
+                try {
+                    if (write) {
+                        if ((writers.incrementAndGet() != 1) || (readers.get() != 0)) violations.incrementAndGet();
+                        writers.decrementAndGet();
+                    } else {
+                        readers.incrementAndGet();
+                        if (writers.get() != 0) violations.incrementAndGet();
+                        readers.decrementAndGet();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        };
+        Future<?>[] futures = new Future<?>[8];
+        for (int i = 0; i < futures.length; ++i) {
+            futures[i] = this.executor.submit(task);
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(0, violations.get());
+    }
+}
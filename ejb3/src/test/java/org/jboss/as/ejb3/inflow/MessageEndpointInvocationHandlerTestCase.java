@@ -0,0 +1,284 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.inflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.ejb.EJBException;
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAResource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit test for batched message delivery of {@link MessageEndpointInvocationHandler}.
+ */
+public class MessageEndpointInvocationHandlerTestCase {
+
+    private final MessageEndpointService<Object> service = mock(MessageEndpointService.class);
+    private final TransactionManager tm = mock(TransactionManager.class);
+    private final Transaction tx = mock(Transaction.class);
+    private final ScheduledFuture<?> completion = mock(ScheduledFuture.class);
+    private final MessageDeliveryStatistics statistics = new MessageDeliveryStatistics();
+    private final AtomicInteger delivered = new AtomicInteger();
+    private final Runnable listener = this.delivered::incrementAndGet;
+    // transaction associated with the calling thread
+    private final AtomicReference<Transaction> associated = new AtomicReference<>();
+    private Method method;
+
+    @Before
+    public void init() throws Exception {
+        this.method = Runnable.class.getMethod("run");
+        when(this.service.getTransactionManager()).thenReturn(this.tm);
+        when(this.service.getClassLoader()).thenReturn(this.getClass().getClassLoader());
+        when(this.service.isDeliveryTransacted(this.method)).thenReturn(true);
+        when(this.service.getDeliveryStatistics()).thenReturn(this.statistics);
+        doAnswer(invocation -> this.completion).when(this.service).scheduleBatchCompletion(any());
+        doAnswer(invocation -> {
+            this.associated.set(this.tx);
+            return null;
+        }).when(this.tm).begin();
+        doAnswer(invocation -> this.associated.get()).when(this.tm).getTransaction();
+        doAnswer(invocation -> this.associated.getAndSet(null)).when(this.tm).suspend();
+        doAnswer(invocation -> {
+            this.associated.set(invocation.getArgument(0));
+            return null;
+        }).when(this.tm).resume(any());
+        doAnswer(invocation -> this.associated.getAndSet(null)).when(this.tm).commit();
+        doAnswer(invocation -> this.associated.getAndSet(null)).when(this.tm).rollback();
+        when(this.tx.getStatus()).thenReturn(Status.STATUS_ACTIVE);
+    }
+
+    private MessageEndpointInvocationHandler createHandler(int batchSize, XAResource xaResource) {
+        when(this.service.getDeliveryBatchSize()).thenReturn(batchSize);
+        return new MessageEndpointInvocationHandler(this.service, this.listener, xaResource);
+    }
+
+    private void deliver(MessageEndpointInvocationHandler handler, int messages) throws Throwable {
+        handler.beforeDelivery(this.method);
+        for (int i = 0; i < messages; ++i) {
+            handler.invoke(null, this.method, null);
+        }
+        handler.afterDelivery();
+    }
+
+    private Runnable scheduledCompletion() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.service).scheduleBatchCompletion(task.capture());
+        return task.getValue();
+    }
+
+    @Test
+    public void testUnbatchedDelivery() throws Throwable {
+        MessageEndpointInvocationHandler handler = this.createHandler(1, null);
+
+        deliver(handler, 1);
+        deliver(handler, 1);
+
+        verify(this.tm, times(2)).begin();
+        verify(this.tm, times(2)).commit();
+        verify(this.service, never()).scheduleBatchCompletion(any());
+        assertEquals(2, this.delivered.get());
+        assertEquals(2, this.statistics.getDeliveryCount());
+        assertEquals(2, this.statistics.getBatchCount());
+        assertEquals(1d, this.statistics.getAverageBatchSize(), 0d);
+    }
+
+    @Test
+    public void testUnbatchedDeliveryCycle() throws Throwable {
+        MessageEndpointInvocationHandler handler = this.createHandler(1, null);
+
+        // Without batching, a transaction covers all messages of a delivery cycle, as before
+        deliver(handler, 3);
+
+        verify(this.tm, times(1)).begin();
+        verify(this.tm, times(1)).commit();
+        assertEquals(3, this.statistics.getDeliveryCount());
+        assertEquals(1, this.statistics.getBatchCount());
+        assertEquals(3d, this.statistics.getAverageBatchSize(), 0d);
+    }
+
+    @Test
+    public void testBatchSpansDeliveryCycles() throws Throwable {
+        MessageEndpointInvocationHandler handler = this.createHandler(3, null);
+
+        // A partially filled batch awaits the next delivery cycle, without holding a bean instance
+        deliver(handler, 1);
+
+        verify(this.tm, times(1)).begin();
+        verify(this.tm, never()).commit();
+        verify(this.service).releaseDeliveryBatchInstance();
+        assertEquals(null, this.associated.get());
+
+        deliver(handler, 1);
+
+        verify(this.completion).cancel(false);
+        verify(this.tm).resume(this.tx);
+        verify(this.tm, never()).commit();
+
+        // The third message fills the batch, which afterDelivery then completes
+        deliver(handler, 1);
+
+        verify(this.tm, times(1)).begin();
+        verify(this.tm, times(1)).commit();
+        assertEquals(3, this.delivered.get());
+        assertEquals(1, this.statistics.getBatchCount());
+        assertEquals(3d, this.statistics.getAverageBatchSize(), 0d);
+    }
+
+    @Test
+    public void testBatchTimeout() throws Throwable {
+        MessageEndpointInvocationHandler handler = this.createHandler(3, null);
+
+        deliver(handler, 2);
+
+        verify(this.tm, never()).commit();
+
+        // No further message within the batch timeout
+        this.scheduledCompletion().run();
+
+        verify(this.tm).resume(this.tx);
+        verify(this.tm, times(1)).commit();
+        assertEquals(1, this.statistics.getBatchCount());
+        assertEquals(2d, this.statistics.getAverageBatchSize(), 0d);
+
+        // The next delivery cycle begins a new batch
+        deliver(handler, 1);
+
+        verify(this.tm, times(2)).begin();
+    }
+
+    @Test
+    public void testRejectedBatchCompletion() throws Throwable {
+        doThrow(new RejectedExecutionException()).when(this.service).scheduleBatchCompletion(any());
+        MessageEndpointInvocationHandler handler = this.createHandler(3, null);
+
+        // A batch that cannot be deferred is completed by afterDelivery
+        deliver(handler, 1);
+
+        verify(this.tm, times(1)).commit();
+        // only to suspend the caller's transaction, if any, in beforeDelivery
+        verify(this.tm, times(1)).suspend();
+    }
+
+    @Test
+    public void testFullBatch() throws Throwable {
+        MessageEndpointInvocationHandler handler = this.createHandler(3, null);
+
+        deliver(handler, 3);
+
+        verify(this.tm, times(1)).begin();
+        verify(this.tm, times(1)).commit();
+        verify(this.service, never()).scheduleBatchCompletion(any());
+        assertEquals(3, this.delivered.get());
+        assertEquals(1, this.statistics.getBatchCount());
+        assertEquals(3d, this.statistics.getAverageBatchSize(), 0d);
+    }
+
+    @Test
+    public void testBatchSizeLimit() throws Throwable {
+        XAResource xaResource = mock(XAResource.class);
+        MessageEndpointInvocationHandler handler = this.createHandler(2, xaResource);
+
+        // Batches of 2 and 2 messages, the last message awaits the next delivery cycle
+        deliver(handler, 5);
+
+        verify(this.tm, times(3)).begin();
+        verify(this.tm, times(2)).commit();
+        verify(this.tx, times(3)).enlistResource(xaResource);
+        assertEquals(5, this.delivered.get());
+        assertEquals(5, this.statistics.getDeliveryCount());
+        assertEquals(2, this.statistics.getBatchCount());
+    }
+
+    @Test
+    public void testFullBatchCompletionFailure() throws Throwable {
+        MessageEndpointInvocationHandler handler = this.createHandler(2, null);
+        doThrow(new RollbackException()).when(this.tm).commit();
+
+        handler.beforeDelivery(this.method);
+        handler.invoke(null, this.method, null);
+        handler.invoke(null, this.method, null);
+
+        // The failure to commit the full batch is reported to the resource adapter
+        assertThrows(EJBException.class, () -> handler.invoke(null, this.method, null));
+
+        // The delivery cycle continues within a new transaction
+        verify(this.tm, times(2)).begin();
+        assertEquals(2, this.delivered.get());
+    }
+
+    @Test
+    public void testRollback() throws Throwable {
+        when(this.tx.getStatus()).thenReturn(Status.STATUS_MARKED_ROLLBACK);
+        MessageEndpointInvocationHandler handler = this.createHandler(3, null);
+
+        // A batch marked for rollback is not deferred
+        deliver(handler, 2);
+
+        verify(this.tm).rollback();
+        verify(this.tm, never()).commit();
+        verify(this.service, never()).scheduleBatchCompletion(any());
+        assertEquals(1, this.statistics.getBatchCount());
+    }
+
+    @Test
+    public void testRelease() throws Throwable {
+        MessageEndpointInvocationHandler handler = this.createHandler(3, null);
+
+        deliver(handler, 1);
+
+        verify(this.tm, never()).commit();
+
+        // Release completes the batch awaiting further messages
+        handler.release();
+
+        verify(this.tm, times(1)).commit();
+        verify(this.completion).cancel(false);
+        verify(this.service).release(any());
+
+        // Scheduled completion finds nothing left to complete
+        this.scheduledCompletion().run();
+
+        verify(this.tm, times(1)).commit();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+  *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.pool.striped;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StripedPool}.
+ */
+public class StripedPoolUnitTestCase {
+
+    @Test
+    public void test() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedPool<>(factory, 10, 4, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        assertEquals(10, pool.getAvailableCount());
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        assertEquals(0, pool.getAvailableCount());
+        assertEquals(10, pool.getCurrentSize());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        assertEquals(10, pool.getAvailableCount());
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testStripeCount() {
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        // Rounded down to a power of 2
+        assertEquals(4, new StripedPool<>(factory, 10, 6, 1, TimeUnit.SECONDS).getStripeCount());
+        // No more stripes than permits
+        assertEquals(2, new StripedPool<>(factory, 3, 16, 1, TimeUnit.SECONDS).getStripeCount());
+        assertEquals(1, new StripedPool<>(factory, 1, 16, 1, TimeUnit.SECONDS).getStripeCount());
+    }
+
+    /**
+     * More threads than the pool size.
+     */
+    @Test
+    public void testMultiThread() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        final Pool<MockBean> pool = new StripedPool<>(factory, 10, 8, 60, TimeUnit.SECONDS);
+        pool.start();
+
+        final AtomicInteger used = new AtomicInteger(0);
+        final AtomicInteger inUse = new AtomicInteger(0);
+        final AtomicInteger maxInUse = new AtomicInteger(0);
+        final CountDownLatch in = new CountDownLatch(1);
+        final CountDownLatch ready = new CountDownLatch(10);
+
+        Callable<Void> task = new Callable<Void>() {
+            public Void call() throws Exception {
+                MockBean bean = pool.get();
+                maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                ready.countDown();
+                in.await();
+                inUse.decrementAndGet();
+                pool.release(bean);
+
+                used.incrementAndGet();
+
+                return null;
+            }
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        Future<?>[] results = new Future<?>[20];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = service.submit(task);
+        }
+
+        ready.await(120, TimeUnit.SECONDS);
+        in.countDown();
+
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+
+        service.shutdown();
+
+        pool.stop();
+
+        assertEquals(20, used.intValue());
+        assertTrue(maxInUse.get() <= 10);
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testTooMany() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedPool<>(factory, 10, 4, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testDiscard() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedPool<>(factory, 2, 2, 1, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean bean = pool.get();
+        pool.discard(bean);
+
+        assertEquals(2, pool.getAvailableCount());
+        assertEquals(0, pool.getCurrentSize());
+
+        pool.stop();
+
+        assertEquals(1, MockBean.getPostConstructs());
+        assertEquals(1, MockBean.getPreDestroys());
+    }
+
+    /**
+     * A thread waiting for a permit acquires a permit released to another stripe without waiting for the timeout.
+     */
+    @Test
+    public void testHandOff() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        final Pool<MockBean> pool = new StripedPool<>(factory, 2, 2, 60, TimeUnit.SECONDS);
+        pool.start();
+
+        MockBean first = pool.get();
+        MockBean second = pool.get();
+        assertEquals(0, pool.getAvailableCount());
+
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            Future<MockBean> waiting = service.submit(pool::get);
+            // Release from a thread whose home stripe may differ from that of the waiting thread
+            service.submit(() -> pool.release(first)).get(5, TimeUnit.SECONDS);
+            MockBean bean = waiting.get(5, TimeUnit.SECONDS);
+            pool.release(bean);
+        } finally {
+            service.shutdown();
+        }
+        pool.release(second);
+
+        assertEquals(2, pool.getAvailableCount());
+        pool.stop();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OrderedExecutor}.
+ */
+public class OrderedExecutorTestCase {
+
+    @Test
+    public void sameKeyExecutesInOrder() throws InterruptedException {
+        OrderedExecutor<String> ordered = new OrderedExecutor<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            int count = 1000;
+            List<Integer> results = new CopyOnWriteArrayList<>();
+            AtomicInteger concurrent = new AtomicInteger();
+            AtomicBoolean overlapped = new AtomicBoolean();
+            CountDownLatch done = new CountDownLatch(count);
+            for (int i = 0; i < count; ++i) {
+                int value = i;
+                ordered.execute("session", () -> {
+                    if (concurrent.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    results.add(value);
+                    concurrent.decrementAndGet();
+                    done.countDown();
+                }, executor);
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertFalse(overlapped.get());
+            for (int i = 0; i < count; ++i) {
+                assertEquals(i, results.get(i).intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void differentKeysExecuteConcurrently() throws InterruptedException {
+        OrderedExecutor<String> ordered = new OrderedExecutor<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            Runnable task = () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            ordered.execute("first", task, executor);
+            ordered.execute("second", task, executor);
+            // Both tasks must be running at the same time
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertEquals(2, ordered.getLaneCount());
+            release.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        // Lanes are removed once drained
+        assertEquals(0, ordered.getLaneCount());
+    }
+
+    @Test
+    public void failedTaskDoesNotBlockLane() throws InterruptedException {
+        OrderedExecutor<String> ordered = new OrderedExecutor<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch done = new CountDownLatch(1);
+            ordered.execute("session", () -> {
+                throw new IllegalStateException();
+            }, executor);
+            ordered.execute("session", done::countDown, executor);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejectedLaneIsRemoved() throws InterruptedException {
+        OrderedExecutor<String> ordered = new OrderedExecutor<>();
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException();
+        };
+        AtomicBoolean executed = new AtomicBoolean();
+        try {
+            ordered.execute("session", () -> executed.set(true), rejecting);
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        assertFalse(executed.get());
+        assertEquals(0, ordered.getLaneCount());
+
+        // A subsequent task for the same key must start a new lane
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch done = new CountDownLatch(1);
+            ordered.execute("session", done::countDown, executor);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, ordered.getLaneCount());
+    }
+}
@@ -150,6 +150,16 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
             config.addFailedAttribute(subsystemAddress.append(PathElement.pathElement(EJB3SubsystemModel.SIMPLE_CACHE, "simple-cache")), FailedOperationTransformationConfig.REJECTED_RESOURCE);
             // reject the resource /subsystem=ejb3/distributable-cache
             config.addFailedAttribute(subsystemAddress.append(PathElement.pathElement(EJB3SubsystemModel.DISTRIBUTABLE_CACHE, "distributable-cache")), FailedOperationTransformationConfig.REJECTED_RESOURCE);
+            // reject the attribute /subsystem=ejb3/service=timer-service:scheduler
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(TimerServiceResourceDefinition.SCHEDULER));
+            // reject the attribute /subsystem=ejb3/service=timer-service/file-data-store=*:journal
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH, PathElement.pathElement(EJB3SubsystemModel.FILE_DATA_STORE, "file-data-store")), new FailedOperationTransformationConfig.NewAttributesConfig(FileDataStoreResourceDefinition.JOURNAL));
+            // reject the attribute /subsystem=ejb3/service=timer-service/database-data-store=*:incremental-refresh
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH, PathElement.pathElement(EJB3SubsystemModel.DATABASE_DATA_STORE, "database-data-store")), new FailedOperationTransformationConfig.NewAttributesConfig(DatabaseDataStoreResourceDefinition.INCREMENTAL_REFRESH));
+            // reject the attribute /subsystem=ejb3/strict-max-bean-instance-pool=*:stripes
+            config.addFailedAttribute(subsystemAddress.append(PathElement.pathElement(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL, "mdb-strict-max-pool")), new FailedOperationTransformationConfig.NewAttributesConfig(StrictMaxPoolResourceDefinition.STRIPES));
+            // reject the attribute /subsystem=ejb3/service=remote:pipeline-invocations
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.REMOTE_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(EJB3RemoteResourceDefinition.PIPELINE_INVOCATIONS));
         }
         return config;
     }
@@ -163,4 +163,19 @@ public class DatabaseTimerPersistenceTestCase {
         Assert.assertEquals("sybase", field.get(object));
     }
 
+    @Test
+    public void versionedAutoTimerStatementTest() throws Exception {
+        final Field sqlField = object.getClass().getDeclaredField("sql");
+        sqlField.setAccessible(true);
+        final Properties testSqlProperties = (Properties) sqlField.get(object);
+        testSqlProperties.setProperty("create-auto-timer", "INSERT INTO T SELECT ? WHERE NOT EXISTS (SELECT 1)");
+        testSqlProperties.setProperty("create-auto-timer-versioned", "INSERT INTO T SELECT ?, ? WHERE NOT EXISTS (SELECT 1)");
+
+        field.set(object, "oracleTest");
+        method.invoke(object);
+        Assert.assertEquals("oracle", field.get(object));
+        Assert.assertEquals("INSERT INTO T SELECT ? FROM DUAL WHERE NOT EXISTS (SELECT 1)", testSqlProperties.getProperty("create-auto-timer"));
+        Assert.assertEquals("INSERT INTO T SELECT ?, ? FROM DUAL WHERE NOT EXISTS (SELECT 1)", testSqlProperties.getProperty("create-auto-timer-versioned"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimerJournal}.
+ */
+public class TimerJournalTestCase {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        this.directory = Files.createTempDirectory("timer-journal").toFile();
+    }
+
+    @After
+    public void deleteDirectory() {
+        for (File file : this.directory.listFiles()) {
+            file.delete();
+        }
+        this.directory.delete();
+    }
+
+    @Test
+    public void replay() throws IOException {
+        Assert.assertFalse(TimerJournal.exists(this.directory));
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            journal.sync(journal.put("a", record("a", 1)));
+            journal.sync(journal.put("b", record("b", 2)));
+            journal.sync(journal.put("a", record("a", 3)));
+            journal.sync(journal.remove("b"));
+            journal.sync(journal.put("c", record("c", 4)));
+        }
+        Assert.assertTrue(TimerJournal.exists(this.directory));
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            Assert.assertTrue(journal.contains("a"));
+            Assert.assertFalse(journal.contains("b"));
+            Assert.assertTrue(journal.contains("c"));
+            Assert.assertEquals(2, journal.records().size());
+            // Appends continue after the replayed records
+            journal.sync(journal.put("d", record("d", 5)));
+        }
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            Assert.assertEquals(3, journal.records().size());
+            Assert.assertTrue(journal.contains("d"));
+        }
+    }
+
+    @Test
+    public void compact() throws IOException {
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            journal.put("live", record("live", 0));
+            // Overwrite the same timers across many segments
+            for (int i = 0; i < 1000; ++i) {
+                String id = Integer.toString(i % 10);
+                journal.put(id, record(id, i));
+                if (i % 3 == 0) {
+                    journal.remove(id);
+                }
+            }
+            journal.sync(journal.put("last", record("last", 0)));
+        }
+        Assert.assertTrue(segments().size() <= 2);
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            Set<String> expected = new HashSet<>();
+            expected.add("live");
+            expected.add("last");
+            for (int i = 990; i < 1000; ++i) {
+                if (i % 3 != 0) {
+                    expected.add(Integer.toString(i % 10));
+                }
+            }
+            for (String id : expected) {
+                Assert.assertTrue(id, journal.contains(id));
+            }
+            Assert.assertEquals(expected.size(), journal.records().size());
+        }
+    }
+
+    @Test
+    public void create() throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        records.add(record("a", 1));
+        records.add(record("b", 2));
+        try (TimerJournal journal = TimerJournal.create(this.directory, SEGMENT_SIZE, records)) {
+            Assert.assertEquals(2, journal.records().size());
+            journal.sync(journal.put("c", record("c", 3)));
+        }
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            Assert.assertTrue(journal.contains("a"));
+            Assert.assertTrue(journal.contains("b"));
+            Assert.assertTrue(journal.contains("c"));
+        }
+    }
+
+    @Test
+    public void interruptedCreate() throws IOException {
+        // A creation that was interrupted before the segment was moved into place leaves no journal behind
+        File temporary = new File(this.directory, "journal-1.tmp");
+        Files.write(temporary.toPath(), record("a", 1));
+        Assert.assertFalse(TimerJournal.exists(this.directory));
+        Assert.assertTrue(segments().isEmpty());
+        // Querying the journal leaves the directory untouched
+        Assert.assertTrue(temporary.exists());
+
+        // Opening the journal deletes the leftover temporary segment
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            Assert.assertTrue(journal.records().isEmpty());
+        }
+        Assert.assertFalse(temporary.exists());
+    }
+
+    @Test
+    public void compactBeforeSegmentIsFull() throws IOException {
+        int size = 9 + record("a", 0).length;
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE * 4)) {
+            // Overwrite a single timer until the obsolete records exceed half a segment, while the segment is far from full
+            for (int i = 0; i < (SEGMENT_SIZE * 3) / size; ++i) {
+                journal.put("a", record("a", i));
+            }
+            journal.sync(journal.put("b", record("b", 0)));
+        }
+        // The compacted segment replaced the original one, and starts with a reset record
+        Assert.assertEquals(1, segments().size());
+        try (RandomAccessFile file = new RandomAccessFile(segments().iterator().next(), "r")) {
+            file.seek(8);
+            Assert.assertEquals(3, file.read());
+        }
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE * 4)) {
+            Assert.assertEquals(2, journal.records().size());
+        }
+    }
+
+    @Test
+    public void tornRecord() throws IOException {
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            journal.put("a", record("a", 1));
+            journal.sync(journal.put("b", record("b", 2)));
+        }
+        // Corrupt the last byte of the second record
+        File segment = segments().iterator().next();
+        int end = 2 * (9 + record("a", 1).length);
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(end - 1);
+            file.write(0x7F);
+        }
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            Assert.assertTrue(journal.contains("a"));
+            Assert.assertFalse(journal.contains("b"));
+            journal.sync(journal.put("c", record("c", 3)));
+        }
+        try (TimerJournal journal = new TimerJournal(this.directory, SEGMENT_SIZE)) {
+            Assert.assertTrue(journal.contains("a"));
+            Assert.assertFalse(journal.contains("b"));
+            Assert.assertTrue(journal.contains("c"));
+        }
+    }
+
+    private Set<File> segments() {
+        Set<File> segments = new HashSet<>();
+        for (File file : this.directory.listFiles()) {
+            if (file.getName().endsWith(".log")) {
+                segments.add(file);
+            }
+        }
+        return segments;
+    }
+
+    private static byte[] record(String id, int value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(id);
+            output.writeInt(value);
+            output.write(new byte[32]);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimingWheelTimerScheduler}.
+ */
+public class TimingWheelTimerSchedulerTestCase {
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void schedule() throws InterruptedException {
+        try (TimingWheelTimerScheduler scheduler = new TimingWheelTimerScheduler(Thread::new, TICK)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            long start = System.nanoTime();
+            scheduler.schedule(latch::countDown, 50);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            // Must never expire early
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    @Test
+    public void scheduleAcrossLevels() throws InterruptedException {
+        // Delays spanning several levels of the wheel
+        try (TimingWheelTimerScheduler scheduler = new TimingWheelTimerScheduler(Thread::new, TICK)) {
+            long[] delays = new long[] { 0, 1, 63, 64, 65, 200, 4095, 4097 };
+            CountDownLatch latch = new CountDownLatch(delays.length);
+            for (long delay : delays) {
+                long start = System.nanoTime();
+                scheduler.schedule(() -> {
+                    if (System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(delay)) {
+                        latch.countDown();
+                    }
+                }, delay);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        try (TimingWheelTimerScheduler scheduler = new TimingWheelTimerScheduler(Thread::new, TICK)) {
+            AtomicInteger count = new AtomicInteger();
+            TimerScheduler.ScheduledTask task = scheduler.schedule(count::incrementAndGet, 100);
+            assertTrue(task.cancel());
+            assertFalse(task.cancel());
+            CountDownLatch latch = new CountDownLatch(1);
+            scheduler.schedule(latch::countDown, 200);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(0, count.get());
+        }
+    }
+
+    @Test
+    public void scheduleAtFixedRate() throws InterruptedException {
+        try (TimingWheelTimerScheduler scheduler = new TimingWheelTimerScheduler(Thread::new, TICK)) {
+            CountDownLatch latch = new CountDownLatch(5);
+            AtomicInteger count = new AtomicInteger();
+            TimerScheduler.ScheduledTask task = scheduler.scheduleAtFixedRate(() -> {
+                count.incrementAndGet();
+                latch.countDown();
+            }, 10, 20);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(task.cancel());
+            int executions = count.get();
+            Thread.sleep(100);
+            // At most one execution could have been in progress during cancellation
+            assertTrue(count.get() <= executions + 1);
+        }
+    }
+
+    @Test
+    public void failingTask() throws InterruptedException {
+        try (TimingWheelTimerScheduler scheduler = new TimingWheelTimerScheduler(Thread::new, TICK)) {
+            scheduler.schedule(() -> {
+                throw new IllegalStateException();
+            }, 0);
+            CountDownLatch latch = new CountDownLatch(1);
+            scheduler.schedule(latch::countDown, 10);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.tx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+
+import javax.ejb.TransactionAttributeType;
+
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.MethodIntf;
+import org.jboss.invocation.InterceptorContext;
+import org.junit.Test;
+
+/**
+ * Unit test for the transaction policy caching of {@link CMTTxInterceptor}.
+ */
+public class CMTTxInterceptorTestCase {
+
+    @Test
+    public void testPolicyIsResolvedOnce() throws Exception {
+        Method method = Runnable.class.getMethod("run");
+        EJBComponent component = mock(EJBComponent.class);
+        ComponentView view = mock(ComponentView.class);
+        when(view.getPrivateData(MethodIntf.class)).thenReturn(MethodIntf.LOCAL);
+        when(component.getTransactionAttributeType(MethodIntf.LOCAL, method)).thenReturn(TransactionAttributeType.REQUIRED);
+        when(component.getTransactionTimeout(MethodIntf.LOCAL, method)).thenReturn(-1);
+
+        CMTTxInterceptor interceptor = new CMTTxInterceptor();
+        InterceptorContext context = new InterceptorContext();
+        context.setMethod(method);
+        context.putPrivateData(ComponentView.class, view);
+
+        CMTTxInterceptor.TransactionPolicy policy = interceptor.getTransactionPolicy(context, component);
+        assertEquals(TransactionAttributeType.REQUIRED, policy.getTransactionAttributeType());
+        assertEquals(-1, policy.getTransactionTimeout());
+        assertFalse(policy.isAsynchronous());
+        assertTrue(policy.isJoinable());
+
+        assertSame(policy, interceptor.getTransactionPolicy(context, component));
+        verify(component, times(1)).getTransactionAttributeType(MethodIntf.LOCAL, method);
+        verify(component, times(1)).getTransactionTimeout(MethodIntf.LOCAL, method);
+    }
+
+    @Test
+    public void testPolicyIsResolvedForAttachedMethodIntf() throws Exception {
+        Method method = Runnable.class.getMethod("run");
+        EJBComponent component = mock(EJBComponent.class);
+        when(component.getTransactionAttributeType(MethodIntf.BEAN, method)).thenReturn(TransactionAttributeType.SUPPORTS);
+        when(component.getTransactionAttributeType(MethodIntf.TIMER, method)).thenReturn(TransactionAttributeType.REQUIRES_NEW);
+        when(component.getTransactionTimeout(MethodIntf.BEAN, method)).thenReturn(-1);
+        when(component.getTransactionTimeout(MethodIntf.TIMER, method)).thenReturn(-1);
+
+        CMTTxInterceptor interceptor = new CMTTxInterceptor();
+        InterceptorContext context = new InterceptorContext();
+        context.setMethod(method);
+
+        CMTTxInterceptor.TransactionPolicy policy = interceptor.getTransactionPolicy(context, component);
+        assertEquals(TransactionAttributeType.SUPPORTS, policy.getTransactionAttributeType());
+        assertTrue(policy.isJoinable());
+
+        context.putPrivateData(MethodIntf.class, MethodIntf.TIMER);
+        CMTTxInterceptor.TransactionPolicy timerPolicy = interceptor.getTransactionPolicy(context, component);
+        assertNotSame(policy, timerPolicy);
+        assertEquals(TransactionAttributeType.REQUIRES_NEW, timerPolicy.getTransactionAttributeType());
+        assertFalse(timerPolicy.isJoinable());
+    }
+
+    @Test
+    public void testJoinable() throws Exception {
+        Method method = Runnable.class.getMethod("run");
+        for (TransactionAttributeType type : TransactionAttributeType.values()) {
+            boolean joinable = (type == TransactionAttributeType.REQUIRED) || (type == TransactionAttributeType.SUPPORTS) || (type == TransactionAttributeType.MANDATORY);
+            assertEquals(type.name(), joinable, new CMTTxInterceptor.TransactionPolicy(method, null, type, -1, false).isJoinable());
+        }
+        // Explicit timeouts and asynchronous invocations of REQUIRED methods must not join
+        assertFalse(new CMTTxInterceptor.TransactionPolicy(method, null, TransactionAttributeType.REQUIRED, 10, false).isJoinable());
+        assertFalse(new CMTTxInterceptor.TransactionPolicy(method, null, TransactionAttributeType.REQUIRED, -1, true).isJoinable());
+        // Timeouts are irrelevant for SUPPORTS and MANDATORY
+        assertTrue(new CMTTxInterceptor.TransactionPolicy(method, null, TransactionAttributeType.SUPPORTS, 10, false).isJoinable());
+        assertTrue(new CMTTxInterceptor.TransactionPolicy(method, null, TransactionAttributeType.MANDATORY, 10, false).isJoinable());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Samples the values of the {@link WildFlyMetric}s of a scrape.
+ * <p>
+ * Instead of executing one read-attribute operation per metric, the read-attribute operations of the metrics
+ * are executed as the steps of a few composite operations, so that sampling thousands of metrics only goes
+ * through the model controller a few times.
+ */
+final class MetricSampler {
+
+    /**
+     * The maximum number of steps of a composite operation.
+     */
+    static final int MAX_STEPS = 1000;
+
+    private MetricSampler() {
+    }
+
+    /**
+     * Samples the values of the {@link WildFlyMetric}s among the given metrics.
+     *
+     * @param metrics the metrics
+     * @return the values of the sampled metrics, other metrics must be read individually
+     */
+    static Map<Metric, OptionalDouble> sample(Collection<Metric> metrics) {
+        Map<LocalModelControllerClient, List<WildFlyMetric>> batches = new IdentityHashMap<>();
+        for (Metric metric : metrics) {
+            if (metric instanceof WildFlyMetric) {
+                WildFlyMetric wildFlyMetric = (WildFlyMetric) metric;
+                batches.computeIfAbsent(wildFlyMetric.getModelControllerClient(), client -> new ArrayList<>()).add(wildFlyMetric);
+            }
+        }
+        Map<Metric, OptionalDouble> values = new IdentityHashMap<>();
+        for (Map.Entry<LocalModelControllerClient, List<WildFlyMetric>> batch : batches.entrySet()) {
+            List<WildFlyMetric> batchMetrics = batch.getValue();
+            for (int i = 0; i < batchMetrics.size(); i += MAX_STEPS) {
+                sample(batch.getKey(), batchMetrics.subList(i, Math.min(i + MAX_STEPS, batchMetrics.size())), values);
+            }
+        }
+        return values;
+    }
+
+    private static void sample(LocalModelControllerClient client, List<WildFlyMetric> metrics, Map<Metric, OptionalDouble> values) {
+        final ModelNode compositeOp = new ModelNode();
+        compositeOp.get(OP).set(COMPOSITE);
+        compositeOp.get(OP_ADDR).setEmptyList();
+        // a metric that can not be read must not prevent reading the other metrics
+        compositeOp.get(OPERATION_HEADERS, ROLLBACK_ON_RUNTIME_FAILURE).set(false);
+        ModelNode steps = compositeOp.get(STEPS);
+        for (WildFlyMetric metric : metrics) {
+            steps.add(metric.getReadAttributeOperation());
+        }
+        ModelNode response = client.execute(compositeOp);
+        ModelNode results = response.get(RESULT);
+        for (int i = 0; i < metrics.size(); i++) {
+            WildFlyMetric metric = metrics.get(i);
+            String step = "step-" + (i + 1);
+            ModelNode stepResponse = results.has(step) ? results.get(step) : null;
+            if (stepResponse != null && (SUCCESS.equals(stepResponse.get(OUTCOME).asStringOrNull()) || stepResponse.hasDefined(FAILURE_DESCRIPTION))) {
+                values.put(metric, metric.toValue(stepResponse));
+            } else {
+                // the whole composite operation failed (e.g. because the resource of another metric was removed)
+                values.put(metric, metric.getValue());
+            }
+        }
+    }
+}
@@ -27,6 +27,11 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -93,14 +98,25 @@ public class MetricsContextService implements Service {
                     return;
                 }
 
+                if (exchange.isInIoThread()) {
+                    // sampling the metrics and writing the response block
+                    exchange.dispatch(this);
+                    return;
+                }
+
                 WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
+                List<PrometheusExporter.Sample> samples;
                 metricRegistry.readLock();
                 try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
+                    samples = prometheusExporter.sample(metricRegistry);
                 } finally {
                     metricRegistry.unlock();
                 }
+                // do not hold the lock of the registry while the response is written to a possibly slow client
+                exchange.startBlocking();
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8))) {
+                    prometheusExporter.write(samples, writer);
+                }
             }
         });
         consumer.accept(this);
@@ -21,7 +21,11 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.Set;
@@ -31,40 +35,89 @@ import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
 public class PrometheusExporter {
 
-    private static final String LF = "\n";
+    private static final char LF = '\n';
 
     public String export(WildFlyMetricRegistry registry) {
+        StringBuilder out = new StringBuilder();
+        try {
+            export(registry, out);
+        } catch (IOException e) {
+            // never thrown by a StringBuilder
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the metrics of the registry in the Prometheus text format.
+     *
+     * @param registry the registry of the metrics, the caller must hold its read lock
+     * @param out the output
+     * @throws IOException if the output can not be written
+     */
+    public void export(WildFlyMetricRegistry registry, Appendable out) throws IOException {
+        write(sample(registry), out);
+    }
+
+    /**
+     * Samples the metrics of the registry.
+     * The values of the WildFly management metrics are sampled in bulk, and the returned samples no longer reference the registry,
+     * so that they can be written by {@link #write(List, Appendable)} after the read lock of the registry is released.
+     *
+     * @param registry the registry of the metrics, the caller must hold its read lock
+     * @return the samples of the metrics that returned a value
+     */
+    public List<Sample> sample(WildFlyMetricRegistry registry) {
         Set<String> alreadyExportedMetrics = new HashSet<String>();
 
-        StringBuilder out = new StringBuilder();
+        Map<Metric, OptionalDouble> sampledValues = MetricSampler.sample(registry.getMetrics().values());
 
+        List<Sample> samples = new ArrayList<>(sampledValues.size());
         for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
             MetricID metricID = entry.getKey();
             String metricName = metricID.getMetricName();
             MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
+            OptionalDouble metricValue = sampledValues.get(entry.getValue());
+            if (metricValue == null) {
+                metricValue = entry.getValue().getValue();
+            }
             // if the metric does not return a value, we skip printing the HELP and TYPE
             if (!metricValue.isPresent()) {
                 continue;
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
-            }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
+            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+            // the HELP and TYPE are only printed for the first sample of a metric
+            String description = alreadyExportedMetrics.add(metricName) ? metadata.getDescription() : null;
+            String type = metadata.getType().toString();
             // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
-            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
-            }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            String unitSuffix = (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) ? metadata.getBaseMetricUnit() : null;
+            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
+            samples.add(new Sample(prometheusMetricName, description, type, unitSuffix, metricID, scaledValue));
         }
+        return samples;
+    }
 
-        return out.toString();
+    /**
+     * Writes samples in the Prometheus text format. The output is appended as it is produced,
+     * so that no intermediate string is built for the whole scrape.
+     *
+     * @param samples the samples returned by {@link #sample(WildFlyMetricRegistry)}
+     * @param out the output
+     * @throws IOException if the output can not be written
+     */
+    public void write(List<Sample> samples, Appendable out) throws IOException {
+        for (Sample sample : samples) {
+            if (sample.description != null) {
+                out.append("# HELP ").append(sample.name).append(' ').append(sample.description).append(LF);
+                out.append("# TYPE ").append(sample.name).append(' ').append(sample.type).append(LF);
+            }
+            out.append(sample.name);
+            if (sample.unitSuffix != null) {
+                out.append('_').append(sample.unitSuffix);
+            }
+            appendTags(sample.metricID, out);
+            out.append(' ').append(Double.toString(sample.value)).append(LF);
+        }
     }
 
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
@@ -87,18 +140,50 @@ public class PrometheusExporter {
     }
 
     public static String getTagsAsAString(MetricID metricID) {
+        StringBuilder out = new StringBuilder();
+        try {
+            appendTags(metricID, out);
+        } catch (IOException e) {
+            // never thrown by a StringBuilder
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static void appendTags(MetricID metricID, Appendable out) throws IOException {
         MetricTag[] tags = metricID.getTags();
         if (tags.length == 0) {
-            return "";
+            return;
         }
-        StringBuilder out = new StringBuilder("{");
+        out.append('{');
         for (int i = 0; i < tags.length; i++) {
             if (i > 0) {
-                out.append(",");
+                out.append(',');
             }
             MetricTag tag = tags[i];
-            out.append(tag.getKey() + "=\"" + tag.getValue() + "\"");
+            out.append(tag.getKey()).append("=\"").append(tag.getValue()).append('"');
+        }
+        out.append('}');
+    }
+
+    /**
+     * The sampled value of a metric, together with everything needed to write it.
+     */
+    public static final class Sample {
+        private final String name;
+        private final String description;
+        private final String type;
+        private final String unitSuffix;
+        private final MetricID metricID;
+        private final double value;
+
+        Sample(String name, String description, String type, String unitSuffix, MetricID metricID, double value) {
+            this.name = name;
+            this.description = description;
+            this.type = type;
+            this.unitSuffix = unitSuffix;
+            this.metricID = metricID;
+            this.value = value;
         }
-        return out.append("}").toString();
     }
-}
\ No newline at end of file
+}
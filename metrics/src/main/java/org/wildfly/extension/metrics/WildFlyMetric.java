@@ -44,6 +44,7 @@ public class WildFlyMetric implements Metric {
     private LocalModelControllerClient modelControllerClient;
     private final PathAddress address;
     private final String attributeName;
+    private final ModelNode readAttributeOp;
 
     static {
         UNDEFINED.protect();
@@ -53,11 +54,31 @@ public class WildFlyMetric implements Metric {
         this.modelControllerClient = modelControllerClient;
         this.address = address;
         this.attributeName = attributeName;
+        // the operation is the same for every read, so build it only once
+        this.readAttributeOp = createReadAttributeOperation(address, attributeName);
     }
 
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        return toValue(modelControllerClient.execute(readAttributeOp.clone()));
+    }
+
+    LocalModelControllerClient getModelControllerClient() {
+        return modelControllerClient;
+    }
+
+    /**
+     * Returns the read-attribute operation that reads the value of this metric. The operation must not be modified.
+     */
+    ModelNode getReadAttributeOperation() {
+        return readAttributeOp;
+    }
+
+    /**
+     * Converts the response of the read-attribute operation of this metric to its value.
+     */
+    OptionalDouble toValue(ModelNode response) {
+        ModelNode result = readAttributeValue(response);
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -68,13 +89,16 @@ public class WildFlyMetric implements Metric {
         return OptionalDouble.empty();
     }
 
-    private ModelNode readAttributeValue(PathAddress address, String attributeName) {
+    private static ModelNode createReadAttributeOperation(PathAddress address, String attributeName) {
         final ModelNode readAttributeOp = new ModelNode();
         readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
         readAttributeOp.get(OP_ADDR).set(address.toModelNode());
         readAttributeOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
         readAttributeOp.get(NAME).set(attributeName);
-        ModelNode response = modelControllerClient.execute(readAttributeOp);
+        return readAttributeOp;
+    }
+
+    private ModelNode readAttributeValue(ModelNode response) {
         String error = getFailureDescription(response);
         if (error != null) {
             // [WFLY-11933] if the value can not be read if the management resource is not accessible due to RBAC,
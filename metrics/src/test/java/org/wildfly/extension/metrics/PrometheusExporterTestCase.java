@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+public class PrometheusExporterTestCase {
+
+    @Test
+    public void testExport() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        LocalModelControllerClient client = client(executions);
+
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        for (int i = 0; i < MetricSampler.MAX_STEPS + 1; i++) {
+            PathAddress address = PathAddress.pathAddress("subsystem", "test").append("resource", "r" + i);
+            registry.registerMetric(new WildFlyMetric(client, address, "value"), new WildFlyMetricMetadata("value", address, null, "A value", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+        }
+        PathAddress address = PathAddress.pathAddress("subsystem", "test");
+        registry.registerMetric(() -> OptionalDouble.of(2), new WildFlyMetricMetadata("requests", address, null, "Requests", MeasurementUnit.MILLISECONDS, MetricMetadata.Type.COUNTER));
+        registry.registerMetric(OptionalDouble::empty, new WildFlyMetricMetadata("missing", address, null, "Missing", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+
+        StringWriter writer = new StringWriter();
+        PrometheusExporter exporter = new PrometheusExporter();
+        exporter.export(registry, writer);
+        String output = writer.toString();
+
+        // the management metrics are read by a composite operation per MAX_STEPS metrics
+        assertEquals(2, executions.get());
+        assertEquals(exporter.export(registry), output);
+
+        // samples taken under the read lock are written once it is released
+        List<PrometheusExporter.Sample> samples;
+        registry.readLock();
+        try {
+            samples = exporter.sample(registry);
+        } finally {
+            registry.unlock();
+        }
+        StringWriter sampleWriter = new StringWriter();
+        exporter.write(samples, sampleWriter);
+        assertEquals(output, sampleWriter.toString());
+
+        String[] lines = output.split("\n");
+        assertEquals(2 + (MetricSampler.MAX_STEPS + 1) + 2 + 1, lines.length);
+        assertEquals("# HELP test_requests_total Requests", lines[0]);
+        assertEquals("# TYPE test_requests_total counter", lines[1]);
+        assertEquals("test_requests_total_seconds 0.002", lines[2]);
+        assertEquals("# HELP test_value A value", lines[3]);
+        assertEquals("# TYPE test_value gauge", lines[4]);
+        assertEquals("test_value{resource=\"r0\"} 0.0", lines[5]);
+    }
+
+    private static LocalModelControllerClient client(AtomicInteger executions) {
+        return (LocalModelControllerClient) Proxy.newProxyInstance(PrometheusExporterTestCase.class.getClassLoader(), new Class<?>[] { LocalModelControllerClient.class }, (proxy, method, args) -> {
+            if (!method.getName().equals("execute") || args.length != 1 || !(args[0] instanceof ModelNode)) {
+                throw new UnsupportedOperationException(method.toString());
+            }
+            executions.incrementAndGet();
+            ModelNode operation = (ModelNode) args[0];
+            ModelNode response = new ModelNode();
+            response.get(OUTCOME).set(SUCCESS);
+            if (operation.get(OP).asString().equals(COMPOSITE)) {
+                int step = 1;
+                for (ModelNode stepOperation : operation.get(STEPS).asList()) {
+                    response.get(RESULT, "step-" + step++).set(read(stepOperation));
+                }
+            } else {
+                response.set(read(operation));
+            }
+            return response;
+        });
+    }
+
+    private static ModelNode read(ModelNode operation) {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        String resource = PathAddress.pathAddress(operation.get("address")).getLastElement().getValue();
+        assertEquals("value", operation.get(NAME).asString());
+        response.get(RESULT).set(Integer.parseInt(resource.substring(1)));
+        return response;
+    }
+}
@@ -186,9 +186,35 @@ public class InMemoryNamingStore implements WritableNamingStore {
             final Name emptyName = new CompositeName("");
             return new NamingContext(emptyName, this, new Hashtable<String, Object>());
         }
+        final TreeNode node = find(name);
+        if (node != null) {
+            return node.binding.getObject();
+        }
         return root.accept(new LookupVisitor(name));
     }
 
+    /**
+     * Walks the tree along the components of the name, without allocating, and without locking since the children
+     * of a context node are replaced on write.
+     *
+     * @param name The entry name
+     * @return The node bound to the name, or {@code null} if a component of the name is not bound, or is not a context,
+     *         in which case the name must be resolved by a {@link LookupVisitor}
+     */
+    private TreeNode find(final Name name) {
+        TreeNode node = root;
+        for (int i = 0; i < name.size(); i++) {
+            if (!(node instanceof ContextNode)) {
+                return null;
+            }
+            node = ((ContextNode) node).children.get(name.get(i));
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
     @Override
     public Object lookup(Name name, boolean dereference) throws NamingException {
         // ignoring dereference arg, it's not relevant to this store impl
@@ -27,10 +27,16 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.naming.Binding;
 import javax.naming.CannotProceedException;
@@ -58,6 +64,9 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * @author Eduardo Martins
  */
 public class ServiceBasedNamingStore implements NamingStore {
+    /* The maximum number of resolved bindings cached by a store */
+    static final int MAX_CACHE_SIZE = 1024;
+
     private final Name EMPTY_NAME = new CompositeName();
     private Name baseName;
     private final ServiceRegistry serviceRegistry;
@@ -65,6 +74,15 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
 
+    /* The binder services resolved by previous lookups, invalidated whenever a binding is removed */
+    private final ConcurrentMap<Name, ResolvedBinding> resolvedBindings = new ConcurrentHashMap<>();
+    private final AtomicLong bindingsVersion = new AtomicLong();
+    /* The clock hand that selects the resolved binding to evict, guarded by the eviction lock */
+    private final Object evictionLock = new Object();
+    private Iterator<Map.Entry<Name, ResolvedBinding>> evictionHand;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
         this.serviceNameBase = serviceNameBase;
@@ -79,8 +97,20 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        final ResolvedBinding resolved = resolvedBindings.get(name);
+        if (resolved != null) {
+            cacheHits.increment();
+            resolved.reference();
+            return getValue(name, resolved.controller, dereference);
+        }
+        cacheMisses.increment();
+        final long version = bindingsVersion.get();
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
+        final ServiceController<?> controller = serviceRegistry.getService(lookupName);
+        Object obj = getValue(name, controller, dereference);
+        if (controller != null && boundServices.contains(lookupName)) {
+            cache(name, controller, version);
+        }
         if (obj == null) {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
@@ -123,9 +153,51 @@ public class ServiceBasedNamingStore implements NamingStore {
         return cpe;
     }
 
+    private void cache(final Name name, final ServiceController<?> controller, final long version) {
+        if (resolvedBindings.size() >= MAX_CACHE_SIZE) {
+            evict();
+        }
+        resolvedBindings.put((Name) name.clone(), new ResolvedBinding(controller));
+        // a binding was added or removed concurrently, the resolved binding may be stale
+        if (bindingsVersion.get() != version) {
+            resolvedBindings.clear();
+        }
+    }
+
+    /**
+     * Evicts a single resolved binding, approximating LRU with the clock algorithm:
+     * a binding that was looked up since the hand last passed it is skipped once.
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            // two passes suffice to find a binding that has not been looked up since the first one
+            for (int i = 0; i <= 2 * MAX_CACHE_SIZE; ++i) {
+                if (evictionHand == null || !evictionHand.hasNext()) {
+                    evictionHand = resolvedBindings.entrySet().iterator();
+                    if (!evictionHand.hasNext()) {
+                        return;
+                    }
+                }
+                final Map.Entry<Name, ResolvedBinding> entry = evictionHand.next();
+                if (!entry.getValue().clearReference()) {
+                    resolvedBindings.remove(entry.getKey(), entry.getValue());
+                    return;
+                }
+            }
+        }
+    }
+
+    private void invalidateResolvedBindings() {
+        bindingsVersion.incrementAndGet();
+        resolvedBindings.clear();
+    }
+
     private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        return getValue(name, serviceRegistry.getService(lookupName), dereference);
+    }
+
+    private Object getValue(final Object name, final ServiceController<?> controller, boolean dereference) throws NamingException {
         try {
-            final ServiceController<?> controller = serviceRegistry.getService(lookupName);
             if (controller != null) {
                 final Object object = controller.getValue();
                 if (dereference && object instanceof ManagedReferenceFactory) {
@@ -149,13 +221,13 @@ public class ServiceBasedNamingStore implements NamingStore {
                 return null;
             }
         } catch (IllegalStateException e) {
-            NameNotFoundException n = new NameNotFoundException(name);
+            NameNotFoundException n = new NameNotFoundException(name.toString());
             n.initCause(e);
             throw n;
         } catch (SecurityException ex) {
             throw ex;
         } catch (Throwable t) {
-            throw NamingLogger.ROOT_LOGGER.lookupError(t, name);
+            throw NamingLogger.ROOT_LOGGER.lookupError(t, name.toString());
         }
     }
 
@@ -257,6 +329,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        invalidateResolvedBindings();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -275,6 +348,30 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        invalidateResolvedBindings();
+    }
+
+    /**
+     * Returns the number of lookups of this store that were resolved from the cache of resolved bindings.
+     *
+     * @return the number of cache hits
+     */
+    public long getLookupCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns the number of lookups of this store that were not resolved from the cache of resolved bindings.
+     *
+     * @return the number of cache misses
+     */
+    public long getLookupCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /* The number of resolved bindings currently cached */
+    int getResolvedBindingCount() {
+        return resolvedBindings.size();
     }
 
     protected ServiceName buildServiceName(final Name name) {
@@ -367,4 +464,30 @@ public class ServiceBasedNamingStore implements NamingStore {
         }
         return new CompositeName();
     }
+
+    /* A cached binder service, with the reference bit of the clock algorithm */
+    private static final class ResolvedBinding {
+        final ServiceController<?> controller;
+        private volatile boolean referenced;
+
+        ResolvedBinding(final ServiceController<?> controller) {
+            this.controller = controller;
+        }
+
+        void reference() {
+            // avoid writing the shared field on every hit
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        /* Clears the reference bit, returning its previous value */
+        boolean clearReference() {
+            if (referenced) {
+                referenced = false;
+                return true;
+            }
+            return false;
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2022, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.naming.subsystem;
+
+import java.util.function.ToLongFunction;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.naming.ServiceBasedNamingStore;
+import org.jboss.as.naming.deployment.ContextNames;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads a metric of the lookup caches, summed over the naming stores of the java:, java:jboss, java:jboss/exported
+ * and java:global contexts.
+ */
+class LookupCacheMetricHandler implements OperationStepHandler {
+
+    static final LookupCacheMetricHandler HITS = new LookupCacheMetricHandler(ServiceBasedNamingStore::getLookupCacheHits);
+    static final LookupCacheMetricHandler MISSES = new LookupCacheMetricHandler(ServiceBasedNamingStore::getLookupCacheMisses);
+
+    private static final ServiceName[] NAMING_STORES = new ServiceName[] {
+            ContextNames.JAVA_CONTEXT_SERVICE_NAME,
+            ContextNames.JBOSS_CONTEXT_SERVICE_NAME,
+            ContextNames.EXPORTED_CONTEXT_SERVICE_NAME,
+            ContextNames.GLOBAL_CONTEXT_SERVICE_NAME,
+    };
+
+    private final ToLongFunction<ServiceBasedNamingStore> metric;
+
+    private LookupCacheMetricHandler(ToLongFunction<ServiceBasedNamingStore> metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final ServiceRegistry serviceRegistry = context.getServiceRegistry(false);
+                    long value = 0;
+                    for (ServiceName name : NAMING_STORES) {
+                        final ServiceController<?> controller = serviceRegistry.getService(name);
+                        if (controller != null && controller.getState() == ServiceController.State.UP) {
+                            final Object store = controller.getValue();
+                            if (store instanceof ServiceBasedNamingStore) {
+                                value += metric.applyAsLong((ServiceBasedNamingStore) store);
+                            }
+                        }
+                    }
+                    context.getResult().set(value);
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+    }
+}
@@ -25,6 +25,8 @@ package org.jboss.as.naming.subsystem;
 import java.util.EnumSet;
 
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
@@ -65,12 +67,27 @@ public class NamingSubsystemRootResourceDefinition extends SimpleResourceDefinit
             .setReplyValueType(ModelType.STRING)
             .build();
 
+    static final SimpleAttributeDefinition LOOKUP_CACHE_HITS = new SimpleAttributeDefinitionBuilder("lookup-cache-hits", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition LOOKUP_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("lookup-cache-misses", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
     NamingSubsystemRootResourceDefinition() {
         super(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, NamingExtension.SUBSYSTEM_NAME),
                 NamingExtension.getResourceDescriptionResolver(NamingExtension.SUBSYSTEM_NAME),
                 new NamingSubsystemAdd(), new NamingSubsystemRemove());
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration registration) {
+        super.registerAttributes(registration);
+        registration.registerMetric(LOOKUP_CACHE_HITS, LookupCacheMetricHandler.HITS);
+        registration.registerMetric(LOOKUP_CACHE_MISSES, LookupCacheMetricHandler.MISSES);
+    }
+
     @Override
     public void registerCapabilities(ManagementResourceRegistration registration) {
         super.registerCapabilities(registration);
@@ -33,6 +33,7 @@ import javax.naming.InvalidNameException;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
 import javax.naming.NameNotFoundException;
+import javax.naming.NotContextException;
 import javax.naming.Reference;
 import javax.naming.spi.ResolveResult;
 import java.util.Arrays;
@@ -78,6 +79,23 @@ public class InMemoryNamingStoreTestCase {
         assertEquals(object, result);
     }
 
+    @Test
+    public void testBindAndLookupNested() throws Exception {
+        final Object object = new Object();
+        nameStore.bind(new CompositeName("comp/env/test"), object, Object.class);
+        assertEquals(object, nameStore.lookup(new CompositeName("comp/env/test")));
+        assertTrue(nameStore.lookup(new CompositeName("comp/env")) instanceof NamingContext);
+        assertTrue(nameStore.lookup(new CompositeName("comp/env/")) instanceof NamingContext);
+        try {
+            nameStore.lookup(new CompositeName("comp/env/test/value"));
+            fail("Should have thrown and NotContextException");
+        } catch(NotContextException expected) {}
+        try {
+            nameStore.lookup(new CompositeName("comp/other"));
+            fail("Should have thrown and NameNotFoundException");
+        } catch(NameNotFoundException expected) {}
+    }
+
     @Test
     public void testLookupNameNotFound() throws Exception {
         try {
@@ -31,12 +31,14 @@ import javax.naming.CompositeName;
 import javax.naming.Context;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
 import javax.naming.NameParser;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -98,6 +100,47 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupCachedBinding() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "cached");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(1, store.getLookupCacheHits());
+        assertEquals(1, store.getLookupCacheMisses());
+
+        // removing the binding invalidates the cache
+        store.remove(bindingName);
+        container.getRequiredService(bindingName).setMode(ServiceController.Mode.REMOVE);
+        container.awaitStability();
+        try {
+            store.lookup(new CompositeName("foo/cached"));
+            fail("Should have thrown NameNotFoundException");
+        } catch (NameNotFoundException expected) {
+        }
+    }
+
+    @Test
+    public void testLookupCacheEviction() throws Exception {
+        final Object value = new Object();
+        for (int i = 0; i <= ServiceBasedNamingStore.MAX_CACHE_SIZE; i++) {
+            bindObject(ServiceName.JBOSS.append("evict", "b" + i), value);
+        }
+        // a binding that is looked up repeatedly survives the eviction of others
+        assertEquals(value, store.lookup(new CompositeName("evict/b0")));
+        for (int i = 1; i <= ServiceBasedNamingStore.MAX_CACHE_SIZE; i++) {
+            assertEquals(value, store.lookup(new CompositeName("evict/b" + i)));
+            assertEquals(value, store.lookup(new CompositeName("evict/b0")));
+        }
+        // the cache stays full, rather than being cleared when it overflows
+        assertEquals(ServiceBasedNamingStore.MAX_CACHE_SIZE, store.getResolvedBindingCount());
+        final long hits = store.getLookupCacheHits();
+        assertEquals(value, store.lookup(new CompositeName("evict/b0")));
+        assertEquals(hits + 1, store.getLookupCacheHits());
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -105,7 +105,9 @@ public class AbstractValidationUnitTest {
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-delivery-active_1_0.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-delivery-active_1_1.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-delivery-active_1_2.xsd");
+        EXCLUDED_SCHEMA_FILES.add("jboss-ejb-delivery-batch_1_0.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-clustering_1_1.xsd");
+        EXCLUDED_SCHEMA_FILES.add("jboss-ejb-concurrency_1_0.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-iiop_1_0.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-iiop_1_1.xsd");
         EXCLUDED_SCHEMA_FILES.add("jboss-ejb-iiop_1_2.xsd");
@@ -22,6 +22,8 @@
 
 package org.wildfly.extension.undertow;
 
+import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECONDS;
+import static org.jboss.as.controller.client.helpers.MeasurementUnit.PER_SECOND;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.SECONDS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
@@ -57,6 +59,8 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.clustering.web.container.SessionManagerExpirationStatistics;
+import org.wildfly.clustering.web.container.SessionManagerRemoteAccessStatistics;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
@@ -365,6 +369,41 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
                             result.set((int) sms.getHighestSessionCount());
                         }
                         break;
+                    case EXPIRATION_BACKLOG:
+                        if (sms instanceof SessionManagerExpirationStatistics) {
+                            result.set(((SessionManagerExpirationStatistics) sms).getExpirationBacklogSize());
+                        } else {
+                            result.set(0);
+                        }
+                        break;
+                    case EXPIRATION_DRAIN_RATE:
+                        if (sms instanceof SessionManagerExpirationStatistics) {
+                            result.set(((SessionManagerExpirationStatistics) sms).getExpirationDrainRate());
+                        } else {
+                            result.set(0d);
+                        }
+                        break;
+                    case EXPIRATION_RESCHEDULE_TIME:
+                        if (sms instanceof SessionManagerExpirationStatistics) {
+                            result.set(((SessionManagerExpirationStatistics) sms).getExpirationRescheduleTime());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case AVOIDED_REMOTE_READS:
+                        if (sms instanceof SessionManagerRemoteAccessStatistics) {
+                            result.set(((SessionManagerRemoteAccessStatistics) sms).getAvoidedRemoteReadCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case COALESCED_REMOTE_WRITES:
+                        if (sms instanceof SessionManagerRemoteAccessStatistics) {
+                            result.set(((SessionManagerRemoteAccessStatistics) sms).getCoalescedRemoteWriteCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
                     default:
                         throw new IllegalStateException(UndertowLogger.ROOT_LOGGER.unknownMetric(stat));
                 }
@@ -427,7 +466,23 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         MAX_ACTIVE_SESSIONS(new SimpleAttributeDefinitionBuilder("max-active-sessions", ModelType.INT)
                 .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
         HIGHEST_SESSION_COUNT(new SimpleAttributeDefinitionBuilder("highest-session-count", ModelType.INT)
-                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build());
+                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
+        EXPIRATION_BACKLOG(new SimpleAttributeDefinitionBuilder("expiration-backlog", ModelType.INT)
+                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
+        EXPIRATION_DRAIN_RATE(new SimpleAttributeDefinitionBuilder("expiration-drain-rate", ModelType.DOUBLE)
+                .setUndefinedMetricValue(new ModelNode(0d))
+                .setMeasurementUnit(PER_SECOND)
+                .setStorageRuntime()
+                .build()),
+        EXPIRATION_RESCHEDULE_TIME(new SimpleAttributeDefinitionBuilder("expiration-reschedule-time", ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0L))
+                .setMeasurementUnit(MILLISECONDS)
+                .setStorageRuntime()
+                .build()),
+        AVOIDED_REMOTE_READS(new SimpleAttributeDefinitionBuilder("avoided-remote-reads", ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0L)).setStorageRuntime().build()),
+        COALESCED_REMOTE_WRITES(new SimpleAttributeDefinitionBuilder("coalesced-remote-writes", ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0L)).setStorageRuntime().build());
 
         private static final Map<String, SessionStat> MAP = new HashMap<>();
 